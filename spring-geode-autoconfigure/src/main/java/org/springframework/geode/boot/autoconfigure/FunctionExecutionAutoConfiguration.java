@@ -21,16 +21,20 @@ import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.function.config.EnableGemfireFunctions;
 import org.springframework.data.gemfire.function.execution.GemfireFunctionOperations;
+import org.springframework.geode.function.aggregate.AggregateFunctionRegistrar;
 import org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar;
 
 /**
  * Spring Boot {@link EnableAutoConfiguration auto-configuration} enabling Apache Geode's Function Execution
  * functionality in a {@link GemFireCache} application.
  *
+ * Also registers the aggregate {@link org.apache.geode.cache.execute.Function Functions} on servers.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.GemFireCache
  * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
@@ -38,6 +42,7 @@ import org.springframework.geode.function.config.GemFireFunctionExecutionAutoCon
  * @see org.springframework.context.annotation.Import
  * @see org.springframework.data.gemfire.function.config.EnableGemfireFunctions
  * @see org.springframework.data.gemfire.function.config.EnableGemfireFunctionExecutions
+ * @see org.springframework.geode.function.aggregate.AggregateFunctionRegistrar
  * @see org.springframework.geode.function.config.GemFireFunctionExecutionAutoConfigurationRegistrar
  * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
@@ -52,4 +57,8 @@ import org.springframework.geode.function.config.GemFireFunctionExecutionAutoCon
 @SuppressWarnings("unused")
 public class FunctionExecutionAutoConfiguration {
 
+	@Bean
+	static AggregateFunctionRegistrar aggregateFunctionRegistrar() {
+		return new AggregateFunctionRegistrar();
+	}
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.io.Serializable;
+
+/**
+ * A small entity cached and persisted by the Inline Caching benchmarks.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @since 1.2.1
+ */
+public class Customer implements Serializable {
+
+	private static final long serialVersionUID = 4218962504165412263L;
+
+	private final Long id;
+
+	private final String name;
+
+	public Customer(Long id, String name) {
+		this.id = id;
+		this.name = name;
+	}
+
+	public Long getId() {
+		return this.id;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Customer [id = %1$d, name = %2$s]", getId(), getName());
+	}
+}
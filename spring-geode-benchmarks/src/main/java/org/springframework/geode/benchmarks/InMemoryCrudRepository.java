@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CrudRepository} stand-in storing entities in a {@link ConcurrentHashMap}, so that the benchmarks
+ * measure the overhead of Inline Caching rather than the latency of a backend data store.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see org.springframework.data.repository.CrudRepository
+ * @since 1.2.1
+ */
+public class InMemoryCrudRepository<T, ID> implements CrudRepository<T, ID> {
+
+	private final Function<T, ID> entityIdentifier;
+
+	private final Map<ID, T> entities = new ConcurrentHashMap<>();
+
+	public InMemoryCrudRepository(Function<T, ID> entityIdentifier) {
+
+		Assert.notNull(entityIdentifier, "Entity identifier is required");
+
+		this.entityIdentifier = entityIdentifier;
+	}
+
+	@Override
+	public long count() {
+		return this.entities.size();
+	}
+
+	@Override
+	public void delete(T entity) {
+		deleteById(this.entityIdentifier.apply(entity));
+	}
+
+	@Override
+	public void deleteAll() {
+		this.entities.clear();
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends T> entities) {
+		entities.forEach(this::delete);
+	}
+
+	@Override
+	public void deleteById(ID id) {
+		this.entities.remove(id);
+	}
+
+	@Override
+	public boolean existsById(ID id) {
+		return this.entities.containsKey(id);
+	}
+
+	@Override
+	public Iterable<T> findAll() {
+		return new ArrayList<>(this.entities.values());
+	}
+
+	@Override
+	public Iterable<T> findAllById(Iterable<ID> ids) {
+
+		List<T> entities = new ArrayList<>();
+
+		ids.forEach(id -> findById(id).ifPresent(entities::add));
+
+		return entities;
+	}
+
+	@Override
+	public Optional<T> findById(ID id) {
+		return Optional.ofNullable(this.entities.get(id));
+	}
+
+	@Override
+	public <S extends T> S save(S entity) {
+
+		this.entities.put(this.entityIdentifier.apply(entity), entity);
+
+		return entity;
+	}
+
+	@Override
+	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+
+		entities.forEach(this::save);
+
+		return entities;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs the {@link InlineCachingBenchmarks} once for each configured number of {@link Thread Threads},
+ * writing the results of each run to a JSON file named after the number of {@link Thread Threads}
+ * (e.g. {@literal inline-caching-4-threads.json}) so that runs of different releases can be compared.
+ *
+ * The runs are configured with the following System properties:
+ *
+ * <ul>
+ *     <li>{@literal benchmark.include} - regular expression selecting benchmark methods (default: all).</li>
+ *     <li>{@literal benchmark.results.dir} - directory of the result files
+ *     (default: {@literal build/reports/jmh}).</li>
+ *     <li>{@literal benchmark.threads} - comma-delimited numbers of {@link Thread Threads}
+ *     (default: {@literal 1,4,16}).</li>
+ * </ul>
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.runner.Runner
+ * @see org.springframework.geode.benchmarks.InlineCachingBenchmarks
+ * @since 1.2.1
+ */
+public class InlineCachingBenchmarkRunner {
+
+	protected static final String DEFAULT_RESULTS_DIRECTORY = "build/reports/jmh";
+	protected static final String DEFAULT_THREADS = "1,4,16";
+
+	protected static final String INCLUDE_PROPERTY = "benchmark.include";
+	protected static final String RESULTS_DIRECTORY_PROPERTY = "benchmark.results.dir";
+	protected static final String THREADS_PROPERTY = "benchmark.threads";
+
+	public static void main(String[] args) throws RunnerException {
+
+		File resultsDirectory = new File(System.getProperty(RESULTS_DIRECTORY_PROPERTY, DEFAULT_RESULTS_DIRECTORY));
+
+		resultsDirectory.mkdirs();
+
+		for (int threads : resolveThreads()) {
+			new Runner(newOptions(threads, resultsDirectory)).run();
+		}
+	}
+
+	static Options newOptions(int threads, File resultsDirectory) {
+
+		String include = System.getProperty(INCLUDE_PROPERTY);
+
+		String benchmarks = InlineCachingBenchmarks.class.getName()
+			.concat(StringUtils.hasText(include) ? ".*" + include.trim() : "");
+
+		File resultsFile = new File(resultsDirectory, String.format("inline-caching-%d-threads.json", threads));
+
+		return new OptionsBuilder()
+			.include(benchmarks)
+			.threads(threads)
+			.result(resultsFile.getAbsolutePath())
+			.resultFormat(ResultFormatType.JSON)
+			.build();
+	}
+
+	static List<Integer> resolveThreads() {
+
+		String threads = System.getProperty(THREADS_PROPERTY);
+
+		threads = StringUtils.hasText(threads) ? threads : DEFAULT_THREADS;
+
+		return Arrays.stream(StringUtils.commaDelimitedListToStringArray(threads))
+			.map(String::trim)
+			.map(Integer::valueOf)
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import org.springframework.data.gemfire.LocalRegionFactoryBean;
+import org.springframework.geode.cache.InlineCachingRegionConfigurer;
+import org.springframework.geode.cache.RepositoryRegionPreloader;
+
+/**
+ * JMH Benchmarks measuring the overhead the {@link org.springframework.geode.cache.RepositoryCacheLoader}
+ * and {@link org.springframework.geode.cache.RepositoryCacheWriter} configured by
+ * an {@link InlineCachingRegionConfigurer} add over direct {@link org.springframework.data.repository.CrudRepository}
+ * calls.
+ *
+ * Each {@literal region*} benchmark has a {@literal repository*} counterpart performing the same
+ * {@link org.springframework.data.repository.CrudRepository} work directly.  All benchmarks run against
+ * a {@literal LOCAL} {@link Region} in an in-process, peer {@link Cache} backed by an {@link InMemoryCrudRepository},
+ * and each {@link Thread} works on its own subset of keys for benchmarks that add or remove entries.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.benchmarks.InlineCachingBenchmarkRunner
+ * @see org.springframework.geode.cache.InlineCachingRegionConfigurer
+ * @since 1.2.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class InlineCachingBenchmarks {
+
+	protected static final int KEY_COUNT = 100000;
+
+	protected static final String REGION_NAME = "Customers";
+
+	private Cache cache;
+
+	private Customer[] customers;
+
+	private InMemoryCrudRepository<Customer, Long> repository;
+
+	private Region<Long, Customer> region;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+
+		this.cache = new CacheFactory()
+			.set("name", InlineCachingBenchmarks.class.getSimpleName())
+			.set("locators", "")
+			.set("log-level", "error")
+			.set("mcast-port", "0")
+			.create();
+
+		this.repository = new InMemoryCrudRepository<>(Customer::getId);
+		this.customers = new Customer[KEY_COUNT];
+
+		for (int index = 0; index < KEY_COUNT; index++) {
+			this.customers[index] = this.repository.save(new Customer((long) index, "Customer " + index));
+		}
+
+		LocalRegionFactoryBean<Long, Customer> regionFactoryBean = new LocalRegionFactoryBean<>();
+
+		regionFactoryBean.setBeanName(REGION_NAME);
+		regionFactoryBean.setCache(this.cache);
+		regionFactoryBean.setRegionConfigurers(new InlineCachingRegionConfigurer<>(this.repository,
+			Predicate.isEqual(REGION_NAME)));
+		regionFactoryBean.afterPropertiesSet();
+
+		this.region = regionFactoryBean.getObject();
+
+		for (Customer customer : this.customers) {
+			this.region.put(customer.getId(), customer, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		if (this.cache != null) {
+			this.cache.close();
+		}
+	}
+
+	@Benchmark
+	public Customer regionGetHit() {
+		return this.region.get(randomKey());
+	}
+
+	@Benchmark
+	public Customer repositoryFindById() {
+		return this.repository.findById(randomKey()).orElse(null);
+	}
+
+	// Removes the preloaded or previously loaded entry locally, without calling the CacheWriter, before the get
+	// so that every get misses and loads the entity from the Repository
+	@Benchmark
+	public Customer regionGetMissLoad(ThreadKeys keys) {
+
+		Long key = keys.next();
+
+		try {
+			this.region.localDestroy(key);
+		}
+		catch (EntryNotFoundException ignore) {
+		}
+
+		return this.region.get(key);
+	}
+
+	@Benchmark
+	public Customer regionPutWriteThrough(ThreadKeys keys) {
+
+		Customer customer = this.customers[(int) keys.next()];
+
+		this.region.put(customer.getId(), customer);
+
+		return customer;
+	}
+
+	@Benchmark
+	public Customer repositorySave(ThreadKeys keys) {
+		return this.repository.save(this.customers[(int) keys.next()]);
+	}
+
+	// Puts the entry without calling the CacheWriter, then destroys it, which deletes the entity with the Repository
+	@Benchmark
+	public Customer regionDestroy(ThreadKeys keys) {
+
+		Customer customer = this.customers[(int) keys.next()];
+
+		this.region.put(customer.getId(), customer, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+
+		return this.region.destroy(customer.getId());
+	}
+
+	@Benchmark
+	public Customer repositoryDeleteById(ThreadKeys keys) {
+
+		Customer customer = this.repository.save(this.customers[(int) keys.next()]);
+
+		this.repository.deleteById(customer.getId());
+
+		return customer;
+	}
+
+	private long randomKey() {
+		return ThreadLocalRandom.current().nextInt(KEY_COUNT);
+	}
+
+	/**
+	 * Cycles through the keys owned by a benchmark {@link Thread}, which are disjoint from the keys
+	 * of all other benchmark {@link Thread Threads}.
+	 */
+	@State(Scope.Thread)
+	public static class ThreadKeys {
+
+		private long firstKey;
+		private long nextKey;
+		private long stride;
+
+		@Setup(Level.Trial)
+		public void setup(ThreadParams threadParams) {
+
+			this.firstKey = threadParams.getThreadIndex();
+			this.nextKey = this.firstKey;
+			this.stride = threadParams.getThreadCount();
+		}
+
+		long next() {
+
+			long key = this.nextKey;
+
+			this.nextKey += this.stride;
+
+			if (this.nextKey >= KEY_COUNT) {
+				this.nextKey = this.firstKey;
+			}
+
+			return key;
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheLoaderException;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryCacheLoader} that collects cache misses across threads for a short window, or until
+ * a maximum batch size is reached, and resolves them with a single {@link CrudRepository#findAllById(Iterable)} call.
+ *
+ * The first thread to miss opens a batch and waits for the window to elapse, or the batch to fill, before it loads
+ * the batch on behalf of all waiting threads.  Each waiting thread then completes with the entity for its own key,
+ * as identified by the configured {@link Function entity identifier}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheLoader
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryCacheLoader
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class BatchingRepositoryCacheLoader<T, ID> extends RepositoryCacheLoader<T, ID> {
+
+	public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(5);
+
+	public static final int DEFAULT_MAXIMUM_BATCH_SIZE = 100;
+
+	private volatile int maximumBatchSize = DEFAULT_MAXIMUM_BATCH_SIZE;
+
+	private volatile long batchWindowInNanoseconds = DEFAULT_BATCH_WINDOW.toNanos();
+
+	private final Function<T, ID> entityIdentifier;
+
+	private final LongAdder batchCount = new LongAdder();
+
+	private final Object batchMonitor = new Object();
+
+	private Batch currentBatch;
+
+	/**
+	 * Constructs a new instance of {@link BatchingRepositoryCacheLoader} initialized with the given Spring Data
+	 * {@link CrudRepository} used to load entities in batches and the given {@link Function} used to resolve
+	 * the identifier of each loaded entity.
+	 *
+	 * @param repository {@link CrudRepository} used to load entities.
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of a loaded entity.
+	 * @throws IllegalArgumentException if {@link CrudRepository} or the {@link Function entity identifier}
+	 * is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 * @see java.util.function.Function
+	 */
+	public BatchingRepositoryCacheLoader(@NonNull CrudRepository<T, ID> repository,
+			@NonNull Function<T, ID> entityIdentifier) {
+
+		super(repository);
+
+		Assert.notNull(entityIdentifier, "Entity identifier Function is required");
+
+		this.entityIdentifier = entityIdentifier;
+	}
+
+	/**
+	 * Returns the number of batches loaded with the {@link CrudRepository}.
+	 *
+	 * @return the number of batches loaded with the {@link CrudRepository}.
+	 */
+	public long getBatchCount() {
+		return this.batchCount.sum();
+	}
+
+	/**
+	 * Returns the maximum amount of time a cache miss waits for other cache misses to join its batch.
+	 *
+	 * @return the batch window.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getBatchWindow() {
+		return Duration.ofNanos(this.batchWindowInNanoseconds);
+	}
+
+	protected @NonNull Function<T, ID> getEntityIdentifier() {
+		return this.entityIdentifier;
+	}
+
+	/**
+	 * Returns the maximum number of keys loaded in a single batch.
+	 *
+	 * @return the maximum number of keys loaded in a single batch.
+	 */
+	public int getMaximumBatchSize() {
+		return this.maximumBatchSize;
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of time a cache miss waits for other cache misses
+	 * to join its batch.
+	 *
+	 * @param batchWindow {@link Duration} of the batch window; {@literal null} resets the window to the default.
+	 * @return this {@link BatchingRepositoryCacheLoader}.
+	 * @throws IllegalArgumentException if the {@link Duration} is negative.
+	 * @see #getBatchWindow()
+	 */
+	public BatchingRepositoryCacheLoader<T, ID> withBatchWindow(@Nullable Duration batchWindow) {
+
+		batchWindow = batchWindow != null ? batchWindow : DEFAULT_BATCH_WINDOW;
+
+		Assert.isTrue(!batchWindow.isNegative(), String.format("Batch window [%s] must not be negative", batchWindow));
+
+		this.batchWindowInNanoseconds = batchWindow.toNanos();
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of keys loaded in a single batch.
+	 *
+	 * @param maximumBatchSize maximum number of keys loaded in a single batch.
+	 * @return this {@link BatchingRepositoryCacheLoader}.
+	 * @throws IllegalArgumentException if {@code maximumBatchSize} is less than {@literal 1}.
+	 * @see #getMaximumBatchSize()
+	 */
+	public BatchingRepositoryCacheLoader<T, ID> withMaximumBatchSize(int maximumBatchSize) {
+
+		Assert.isTrue(maximumBatchSize > 0,
+			String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.maximumBatchSize = maximumBatchSize;
+
+		return this;
+	}
+
+	@Override
+	protected T doLoad(ID key) {
+
+		Batch batch;
+		CompletableFuture<T> load;
+
+		boolean batchLeader = false;
+
+		synchronized (this.batchMonitor) {
+
+			if (this.currentBatch == null) {
+				this.currentBatch = new Batch();
+				batchLeader = true;
+			}
+
+			batch = this.currentBatch;
+			load = batch.loads.computeIfAbsent(key, it -> new CompletableFuture<>());
+
+			if (batch.loads.size() >= getMaximumBatchSize()) {
+				this.currentBatch = null;
+				this.batchMonitor.notifyAll();
+			}
+		}
+
+		if (batchLeader) {
+			awaitBatchWindow(batch);
+			loadBatch(batch);
+		}
+
+		return awaitLoad(key, load);
+	}
+
+	private void awaitBatchWindow(Batch batch) {
+
+		boolean interrupted = false;
+
+		synchronized (this.batchMonitor) {
+
+			long deadline = System.nanoTime() + this.batchWindowInNanoseconds;
+
+			for (long remaining = this.batchWindowInNanoseconds; this.currentBatch == batch && remaining > 0;
+					remaining = deadline - System.nanoTime()) {
+
+				try {
+					TimeUnit.NANOSECONDS.timedWait(this.batchMonitor, remaining);
+				}
+				catch (InterruptedException ignore) {
+					interrupted = true;
+					break;
+				}
+			}
+
+			if (this.currentBatch == batch) {
+				this.currentBatch = null;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void loadBatch(Batch batch) {
+
+		try {
+
+			Iterable<T> entities = doGuardedRepositoryOp(RepositoryOperationMetrics.LOAD_ALL_OPERATION,
+				() -> getRepository().findAllById(new ArrayList<>(batch.loads.keySet())));
+
+			this.batchCount.increment();
+
+			if (entities != null) {
+				for (T entity : entities) {
+					if (entity != null) {
+
+						CompletableFuture<T> load = batch.loads.get(getEntityIdentifier().apply(entity));
+
+						if (load != null) {
+							load.complete(entity);
+						}
+					}
+				}
+			}
+
+			batch.loads.values().forEach(load -> load.complete(null));
+		}
+		catch (Throwable cause) {
+			batch.loads.values().forEach(load -> load.completeExceptionally(cause));
+		}
+	}
+
+	private T awaitLoad(ID key, CompletableFuture<T> load) {
+
+		try {
+			return load.get();
+		}
+		catch (ExecutionException cause) {
+
+			Throwable loadFailure = cause.getCause();
+
+			if (loadFailure instanceof RuntimeException) {
+				throw (RuntimeException) loadFailure;
+			}
+
+			throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
+				key, getRepository().getClass().getName()), loadFailure);
+		}
+		catch (InterruptedException cause) {
+
+			Thread.currentThread().interrupt();
+
+			throw new CacheLoaderException(String.format("Interrupted while loading Entity [%s]", key), cause);
+		}
+	}
+
+	/**
+	 * A {@link Batch} of keys waiting to be loaded together by the {@link CacheLoader}.  Keys for which
+	 * no entity is found complete with {@literal null}.
+	 */
+	private final class Batch {
+
+		private final Map<ID, CompletableFuture<T>> loads = new LinkedHashMap<>();
+
+	}
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.CacheWriterException;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.geode.cache.support.RepositoryOperationRejectedException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryCacheWriter} that collects concurrent writes across threads for a short window, or until
+ * a maximum group size is reached, and commits them together with {@link CrudRepository#saveAll(Iterable)}.
+ *
+ * The first thread to write opens a group and waits for the window to elapse, or the group to fill, before it commits
+ * the group on behalf of all waiting threads.  Every thread blocks until its write has been committed, preserving
+ * write-through semantics.
+ *
+ * Writes are applied in the order they joined the group.  Consecutive saves are committed with a single
+ * {@link CrudRepository#saveAll(Iterable)} call.  Since {@link CrudRepository} does not support deleting by
+ * multiple IDs, deletes are applied with {@link CrudRepository#deleteById(Object)}.  When configured with
+ * a {@link PlatformTransactionManager}, the whole group is applied in a single transaction.
+ *
+ * The group is guarded by the bulkhead and circuit breaker, and recorded in the metrics, as a single
+ * {@link RepositoryOperationMetrics#COMMIT_OPERATION commit} operation.  If the group fails, the writes that were
+ * not applied, i.e. all writes of a group applied in a transaction, are committed one at a time so that each thread
+ * receives only the outcome of its own write.  If the group is rejected by the bulkhead or circuit breaker,
+ * every thread receives the rejection.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheWriter
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryCacheWriter
+ * @see org.springframework.transaction.PlatformTransactionManager
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class GroupCommitRepositoryCacheWriter<T, ID> extends RepositoryCacheWriter<T, ID> {
+
+	public static final Duration DEFAULT_COMMIT_WINDOW = Duration.ofMillis(2);
+
+	public static final int DEFAULT_MAXIMUM_GROUP_SIZE = 100;
+
+	private volatile int maximumGroupSize = DEFAULT_MAXIMUM_GROUP_SIZE;
+
+	private volatile long commitWindowInNanoseconds = DEFAULT_COMMIT_WINDOW.toNanos();
+
+	private final LongAdder commitCount = new LongAdder();
+	private final LongAdder failedCommitCount = new LongAdder();
+	private final LongAdder writeCount = new LongAdder();
+
+	private final Object groupMonitor = new Object();
+
+	private Group currentGroup;
+
+	private volatile TransactionTemplate transactionTemplate;
+
+	/**
+	 * Constructs a new instance of {@link GroupCommitRepositoryCacheWriter} initialized with the given Spring Data
+	 * {@link CrudRepository} used to commit groups of writes.
+	 *
+	 * @param repository {@link CrudRepository} used to commit groups of writes.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 */
+	public GroupCommitRepositoryCacheWriter(@NonNull CrudRepository<T, ID> repository) {
+		super(repository);
+	}
+
+	/**
+	 * Returns the number of groups committed with the {@link CrudRepository}.
+	 *
+	 * @return the number of groups committed with the {@link CrudRepository}.
+	 */
+	public long getCommitCount() {
+		return this.commitCount.sum();
+	}
+
+	/**
+	 * Returns the number of groups that failed to commit as a whole, the writes of which were committed
+	 * one at a time.
+	 *
+	 * @return the number of groups that failed to commit as a whole.
+	 */
+	public long getFailedCommitCount() {
+		return this.failedCommitCount.sum();
+	}
+
+	/**
+	 * Returns the maximum amount of time a write waits for other writes to join its group.
+	 *
+	 * @return the commit window.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getCommitWindow() {
+		return Duration.ofNanos(this.commitWindowInNanoseconds);
+	}
+
+	/**
+	 * Returns the maximum number of writes committed in a single group.
+	 *
+	 * @return the maximum number of writes committed in a single group.
+	 */
+	public int getMaximumGroupSize() {
+		return this.maximumGroupSize;
+	}
+
+	/**
+	 * Determines whether each group is applied in a single transaction.
+	 *
+	 * @return a boolean value indicating whether each group is applied in a single transaction.
+	 * @see #withTransactionManager(PlatformTransactionManager)
+	 */
+	public boolean isTransactional() {
+		return this.transactionTemplate != null;
+	}
+
+	/**
+	 * Returns the number of writes committed with the {@link CrudRepository}.
+	 *
+	 * @return the number of writes committed with the {@link CrudRepository}.
+	 */
+	public long getWriteCount() {
+		return this.writeCount.sum();
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of time a write waits for other writes to join its group.
+	 *
+	 * @param commitWindow {@link Duration} of the commit window; {@literal null} resets the window to the default.
+	 * @return this {@link GroupCommitRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if the {@link Duration} is negative.
+	 * @see #getCommitWindow()
+	 */
+	public GroupCommitRepositoryCacheWriter<T, ID> withCommitWindow(@Nullable Duration commitWindow) {
+
+		commitWindow = commitWindow != null ? commitWindow : DEFAULT_COMMIT_WINDOW;
+
+		Assert.isTrue(!commitWindow.isNegative(), String.format("Commit window [%s] must not be negative", commitWindow));
+
+		this.commitWindowInNanoseconds = commitWindow.toNanos();
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of writes committed in a single group.
+	 *
+	 * @param maximumGroupSize maximum number of writes committed in a single group.
+	 * @return this {@link GroupCommitRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if {@code maximumGroupSize} is less than {@literal 1}.
+	 * @see #getMaximumGroupSize()
+	 */
+	public GroupCommitRepositoryCacheWriter<T, ID> withMaximumGroupSize(int maximumGroupSize) {
+
+		Assert.isTrue(maximumGroupSize > 0,
+			String.format("Maximum group size [%d] must be greater than 0", maximumGroupSize));
+
+		this.maximumGroupSize = maximumGroupSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to apply each group in a single transaction managed by
+	 * the given {@link PlatformTransactionManager}.
+	 *
+	 * @param transactionManager {@link PlatformTransactionManager} of the backend data source accessed by
+	 * the {@link CrudRepository}; {@literal null} applies each group without a transaction.
+	 * @return this {@link GroupCommitRepositoryCacheWriter}.
+	 * @see org.springframework.transaction.PlatformTransactionManager
+	 */
+	public GroupCommitRepositoryCacheWriter<T, ID> withTransactionManager(
+			@Nullable PlatformTransactionManager transactionManager) {
+
+		this.transactionTemplate = transactionManager != null ? new TransactionTemplate(transactionManager) : null;
+
+		return this;
+	}
+
+	@Override
+	protected void doSave(T entity) {
+		commitInGroup(Write.save(entity));
+	}
+
+	@Override
+	protected void doDeleteById(ID key) {
+		commitInGroup(Write.delete(key));
+	}
+
+	private void commitInGroup(Write<T, ID> write) {
+
+		Group group;
+
+		boolean groupLeader = false;
+
+		synchronized (this.groupMonitor) {
+
+			if (this.currentGroup == null) {
+				this.currentGroup = new Group();
+				groupLeader = true;
+			}
+
+			group = this.currentGroup;
+			group.writes.add(write);
+
+			if (group.writes.size() >= getMaximumGroupSize()) {
+				this.currentGroup = null;
+				this.groupMonitor.notifyAll();
+			}
+		}
+
+		if (groupLeader) {
+			awaitCommitWindow(group);
+			commit(group);
+		}
+
+		awaitCommit(write);
+	}
+
+	private void awaitCommitWindow(Group group) {
+
+		boolean interrupted = false;
+
+		synchronized (this.groupMonitor) {
+
+			long deadline = System.nanoTime() + this.commitWindowInNanoseconds;
+
+			for (long remaining = this.commitWindowInNanoseconds; this.currentGroup == group && remaining > 0;
+					remaining = deadline - System.nanoTime()) {
+
+				try {
+					TimeUnit.NANOSECONDS.timedWait(this.groupMonitor, remaining);
+				}
+				catch (InterruptedException ignore) {
+					interrupted = true;
+					break;
+				}
+			}
+
+			if (this.currentGroup == group) {
+				this.currentGroup = null;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void commit(Group group) {
+
+		try {
+
+			doGuardedRepositoryOp(RepositoryOperationMetrics.COMMIT_OPERATION, () -> {
+				apply(group);
+				return null;
+			});
+
+			group.writes.forEach(write -> write.commit.complete(null));
+
+			this.commitCount.increment();
+			this.writeCount.add(group.writes.size());
+		}
+		catch (RepositoryOperationRejectedException cause) {
+			group.writes.forEach(write -> write.commit.completeExceptionally(cause));
+		}
+		catch (Throwable cause) {
+			this.failedCommitCount.increment();
+			commitOneAtATime(group);
+		}
+	}
+
+	private void apply(Group group) {
+
+		TransactionTemplate transactionTemplate = this.transactionTemplate;
+
+		if (transactionTemplate != null) {
+			try {
+				transactionTemplate.execute(status -> {
+					applyAll(group);
+					return null;
+				});
+			}
+			catch (RuntimeException | Error cause) {
+				group.appliedCount = 0;
+				throw cause;
+			}
+		}
+		else {
+			applyAll(group);
+		}
+	}
+
+	private void applyAll(Group group) {
+
+		List<T> entitiesToSave = new ArrayList<>(group.writes.size());
+
+		for (Write<T, ID> write : group.writes) {
+			if (write.isDelete()) {
+				saveAll(group, entitiesToSave);
+				getRepository().deleteById(write.key);
+				group.appliedCount++;
+			}
+			else {
+				entitiesToSave.add(write.entity);
+			}
+		}
+
+		saveAll(group, entitiesToSave);
+	}
+
+	private void saveAll(Group group, List<T> entities) {
+
+		if (!entities.isEmpty()) {
+			getRepository().saveAll(new ArrayList<>(entities));
+			group.appliedCount += entities.size();
+			entities.clear();
+		}
+	}
+
+	private void commitOneAtATime(Group group) {
+
+		List<Write<T, ID>> writes = group.writes;
+
+		for (int index = 0; index < writes.size(); index++) {
+
+			Write<T, ID> write = writes.get(index);
+
+			if (index < group.appliedCount) {
+				write.commit.complete(null);
+			}
+			else {
+				try {
+
+					if (write.isDelete()) {
+						doGuardedRepositoryOp(RepositoryOperationMetrics.DELETE_OPERATION, () -> {
+							getRepository().deleteById(write.key);
+							return null;
+						});
+					}
+					else {
+						doGuardedRepositoryOp(RepositoryOperationMetrics.SAVE_OPERATION,
+							() -> getRepository().save(write.entity));
+					}
+
+					write.commit.complete(null);
+
+					this.writeCount.increment();
+				}
+				catch (Throwable cause) {
+					write.commit.completeExceptionally(cause);
+				}
+			}
+		}
+	}
+
+	private void awaitCommit(Write<T, ID> write) {
+
+		try {
+			write.commit.get();
+		}
+		catch (ExecutionException cause) {
+
+			Object entity = write.isDelete() ? write.key : write.entity;
+
+			throw newCacheRuntimeException(() -> String.format(DATA_ACCESS_ERROR, entity), cause.getCause());
+		}
+		catch (InterruptedException cause) {
+
+			Thread.currentThread().interrupt();
+
+			throw new CacheWriterException("Interrupted while waiting for group of writes to commit", cause);
+		}
+	}
+
+	/**
+	 * A {@link Write} waiting to be committed by the {@link CacheWriter}; either a save of the entity
+	 * or a delete of the entity with the key.
+	 */
+	private static final class Write<T, ID> {
+
+		private static <T, ID> Write<T, ID> delete(ID key) {
+			return new Write<>(null, key, true);
+		}
+
+		private static <T, ID> Write<T, ID> save(T entity) {
+			return new Write<>(entity, null, false);
+		}
+
+		private final boolean delete;
+
+		private final CompletableFuture<Void> commit = new CompletableFuture<>();
+
+		private final T entity;
+		private final ID key;
+
+		private Write(@Nullable T entity, @Nullable ID key, boolean delete) {
+			this.entity = entity;
+			this.key = key;
+			this.delete = delete;
+		}
+
+		private boolean isDelete() {
+			return this.delete;
+		}
+	}
+
+	/**
+	 * A {@link Group} of writes committed together by the {@link CacheWriter}.
+	 */
+	private final class Group {
+
+		private final List<Write<T, ID>> writes = new ArrayList<>();
+
+		private int appliedCount;
+
+	}
+}
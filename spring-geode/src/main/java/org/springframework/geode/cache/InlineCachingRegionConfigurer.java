@@ -15,36 +15,97 @@
  */
 package org.springframework.geode.cache;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
 
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
+import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
+import org.springframework.data.gemfire.ResolvableRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.Bulkhead;
+import org.springframework.geode.cache.support.CircuitBreaker;
+import org.springframework.geode.cache.support.FrequencySketch;
+import org.springframework.geode.cache.support.HeapAwareAdmissionPolicy;
+import org.springframework.geode.cache.support.MicrometerRepositoryOperationMetrics;
+import org.springframework.geode.cache.support.NegativeResultCache;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * A {@link RegionConfigurer} implementation used to enable Inline Caching on a designated {@link Region}.
  *
+ * When {@link #withPreload(Function, int, int) preload} is enabled, the designated {@link Region Regions}
+ * are warmed with all entities from the {@link CrudRepository} once the Spring
+ * {@link org.springframework.context.ApplicationContext} has been refreshed.  Likewise, a
+ * {@link RefreshAheadCacheListener} is registered on the designated {@link Region Regions} at that time when
+ * {@link #withRefreshAhead(double, int) refresh-ahead} is enabled, as is a {@link StaleValueCacheListener}
+ * when {@link #withStaleWhileRevalidate(Duration, int) stale-while-revalidate} is enabled.  When
+ * {@link #withChangeDataCapture(Function) change data capture} is enabled, a {@link RepositoryChangePoller} is also
+ * started for each designated {@link Region} at that time and stopped when this configurer is destroyed.
+ *
+ * When Micrometer is on the classpath and the Spring container contains a single
+ * {@link io.micrometer.core.instrument.MeterRegistry}, all {@link CrudRepository} operations performed by
+ * the {@link CacheLoader} and {@link CacheWriter} are recorded in the {@link io.micrometer.core.instrument.MeterRegistry}
+ * unless {@link #withRepositoryOperationMetrics(Function) metrics} were configured explicitly.
+ *
  * @author John Blum
  * @see java.util.function.Predicate
  * @see org.apache.geode.cache.CacheLoader
  * @see org.apache.geode.cache.CacheWriter
  * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.BeanFactoryAware
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.context.ApplicationListener
  * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
  * @see org.springframework.geode.cache.RepositoryCacheLoaderRegionConfigurer
  * @see org.springframework.geode.cache.RepositoryCacheWriterRegionConfigurer
+ * @see org.springframework.geode.cache.RepositoryChangePoller
+ * @see org.springframework.geode.cache.RepositoryRegionPreloader
  * @since 1.1.0
  */
-public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
+public class InlineCachingRegionConfigurer<T, ID>
+		implements ApplicationListener<ContextRefreshedEvent>, BeanFactoryAware, DisposableBean, RegionConfigurer {
+
+	protected static final String MICROMETER_METER_REGISTRY_CLASS_NAME = "io.micrometer.core.instrument.MeterRegistry";
 
 	private final List<RegionConfigurer> regionConfigurers = new ArrayList<>();
 
@@ -61,6 +122,32 @@ public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
 		}
 	};
 
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, RepositoryChangePoller<T, ID, ?>> changePollers = new ConcurrentHashMap<>();
+
+	private final Map<String, ResolvableRegionFactoryBean<?, ?>> regionsToInitialize = new ConcurrentHashMap<>();
+
+	private final Predicate<String> regionBeanName;
+
+	private BeanFactory beanFactory;
+
+	private Function<String, RepositoryChangePoller<T, ID, ?>> changePollerResolver;
+
+	private volatile boolean repositoryOperationMetricsConfigured = false;
+
+	private RepositoryRegionPreloader<T, ID> regionPreloader;
+
+	private double refreshThreshold;
+
+	private int maximumConcurrentRefreshes;
+
+	private int overflowMaximumEntries;
+
+	private final RepositoryCacheLoaderRegionConfigurer<T, ID> repositoryCacheLoaderRegionConfigurer;
+
+	private final RepositoryCacheWriterRegionConfigurer<T, ID> repositoryCacheWriterRegionConfigurer;
+
 	/**
 	 * Constructs a new instance of {@link InlineCachingRegionConfigurer} initialized with
 	 * the given {@link CrudRepository} used for Inline Caching and {@link Predicate} used to identify
@@ -80,8 +167,13 @@ public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
 
 		regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
 
-		this.regionConfigurers.add(newRepositoryCacheLoaderRegionConfigurer(repository, regionBeanName));
-		this.regionConfigurers.add(newRepositoryCacheWriterRegionConfigurer(repository, regionBeanName));
+		this.regionBeanName = regionBeanName;
+
+		this.repositoryCacheLoaderRegionConfigurer = newRepositoryCacheLoaderRegionConfigurer(repository, regionBeanName);
+		this.repositoryCacheWriterRegionConfigurer = newRepositoryCacheWriterRegionConfigurer(repository, regionBeanName);
+
+		this.regionConfigurers.add(this.repositoryCacheLoaderRegionConfigurer);
+		this.regionConfigurers.add(this.repositoryCacheWriterRegionConfigurer);
 	}
 
 	/**
@@ -122,13 +214,825 @@ public class InlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
 		return new RepositoryCacheWriterRegionConfigurer<>(repository, regionBeanName);
 	}
 
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@Override
+	public void setBeanFactory(@Nullable BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	protected Optional<BeanFactory> getBeanFactory() {
+		return Optional.ofNullable(this.beanFactory);
+	}
+
+	protected @NonNull Predicate<String> getRegionBeanName() {
+		return this.regionBeanName;
+	}
+
+	/**
+	 * Returns the {@link RepositoryChangePoller} started for the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link RepositoryChangePoller}.
+	 * @see #withChangeDataCapture(Function)
+	 */
+	public Optional<RepositoryChangePoller<T, ID, ?>> getChangePoller(String regionBeanName) {
+		return Optional.ofNullable(regionBeanName).map(this.changePollers::get);
+	}
+
+	/**
+	 * Returns the {@link RepositoryRegionPreloader} used to warm the designated {@link Region Regions}.
+	 *
+	 * @return an {@link Optional} {@link RepositoryRegionPreloader}.
+	 * @see org.springframework.geode.cache.RepositoryRegionPreloader
+	 * @see #withPreload(Function, int, int)
+	 */
+	public Optional<RepositoryRegionPreloader<T, ID>> getRegionPreloader() {
+		return Optional.ofNullable(this.regionPreloader);
+	}
+
+	/**
+	 * Determines whether entries of the designated {@link Region Regions} are reloaded ahead of expiration.
+	 *
+	 * @return a boolean value indicating whether refresh-ahead is enabled.
+	 * @see #withRefreshAhead(double, int)
+	 */
+	protected boolean isRefreshAheadEnabled() {
+		return this.maximumConcurrentRefreshes > 0;
+	}
+
+	/**
+	 * Returns the {@link RepositoryCacheLoaderRegionConfigurer} used to register the {@link CacheLoader}.
+	 *
+	 * @return the {@link RepositoryCacheLoaderRegionConfigurer} used to register the {@link CacheLoader}.
+	 * @see org.springframework.geode.cache.RepositoryCacheLoaderRegionConfigurer
+	 */
+	protected RepositoryCacheLoaderRegionConfigurer<T, ID> getRepositoryCacheLoaderRegionConfigurer() {
+		return this.repositoryCacheLoaderRegionConfigurer;
+	}
+
+	/**
+	 * Returns the {@link RepositoryCacheWriterRegionConfigurer} used to register the {@link CacheWriter}.
+	 *
+	 * @return the {@link RepositoryCacheWriterRegionConfigurer} used to register the {@link CacheWriter}.
+	 * @see org.springframework.geode.cache.RepositoryCacheWriterRegionConfigurer
+	 */
+	protected RepositoryCacheWriterRegionConfigurer<T, ID> getRepositoryCacheWriterRegionConfigurer() {
+		return this.repositoryCacheWriterRegionConfigurer;
+	}
+
+	/**
+	 * Returns the write-behind {@link AsyncEventQueue} registered on the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link AsyncEventQueue} for the {@link Region}.
+	 * @see RepositoryCacheWriterRegionConfigurer#getWriteBehindQueue(String)
+	 */
+	public Optional<AsyncEventQueue> getWriteBehindQueue(@Nullable String regionBeanName) {
+		return getRepositoryCacheWriterRegionConfigurer().getWriteBehindQueue(regionBeanName);
+	}
+
+	/**
+	 * Builder method used to load cache misses in batches with {@link CrudRepository#findAllById(Iterable)}.
+	 *
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of a loaded entity;
+	 * {@literal null} disables batch loading.
+	 * @param batchWindow {@link Duration} a cache miss waits for other cache misses to join its batch.
+	 * @param maximumBatchSize maximum number of keys loaded in a single batch.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withBatchLoading(Function, Duration, int)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withBatchLoading(@Nullable Function<T, ID> entityIdentifier,
+			@Nullable Duration batchWindow, int maximumBatchSize) {
+
+		getRepositoryCacheLoaderRegionConfigurer().withBatchLoading(entityIdentifier, batchWindow, maximumBatchSize);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to guard the {@link CrudRepository} with a {@link BloomFilter}, per {@link Region},
+	 * of all existing keys so that loads for keys that definitely do not exist never access
+	 * the external data source.
+	 *
+	 * The {@link CacheLoader} and {@link CacheWriter} of a {@link Region} share the same {@link BloomFilter}
+	 * so that the keys of created entities are added to the filter.  The filter is rebuilt every
+	 * {@link RepositoryCacheLoaderRegionConfigurer#DEFAULT_BLOOM_FILTER_REBUILD_INTERVAL}.
+	 *
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability.
+	 * @param keys {@link Supplier} of a {@link Stream} of all existing keys.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see #withBloomFilter(long, double, Duration, Supplier)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withBloomFilter(long expectedKeys, double falsePositiveProbability,
+			@NonNull Supplier<Stream<ID>> keys) {
+
+		return withBloomFilter(expectedKeys, falsePositiveProbability,
+			RepositoryCacheLoaderRegionConfigurer.DEFAULT_BLOOM_FILTER_REBUILD_INTERVAL, keys);
+	}
+
+	/**
+	 * Builder method used to guard the {@link CrudRepository} with a {@link BloomFilter}, per {@link Region},
+	 * of all existing keys, rebuilt at the given interval so that keys created through other members or clients,
+	 * or directly in the external data source, are eventually loaded.
+	 *
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability.
+	 * @param rebuildInterval {@link Duration} between rebuilds; {@literal null} initializes the filter only once,
+	 * which is only safe when this application is the only writer of the external data source.
+	 * @param keys {@link Supplier} of a {@link Stream} of all existing keys.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withBloomFilter(long, double, Duration, Supplier)
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withBloomFilter(long expectedKeys, double falsePositiveProbability,
+			@Nullable Duration rebuildInterval, @NonNull Supplier<Stream<ID>> keys) {
+
+		RepositoryCacheLoaderRegionConfigurer<T, ID> cacheLoaderRegionConfigurer =
+			getRepositoryCacheLoaderRegionConfigurer()
+				.withBloomFilter(expectedKeys, falsePositiveProbability, rebuildInterval, keys);
+
+		getRepositoryCacheWriterRegionConfigurer().withBloomFilter(regionBeanName ->
+			cacheLoaderRegionConfigurer.resolveBloomFilter(regionBeanName).orElse(null));
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to warm the designated {@link Region Regions} with all entities from
+	 * the {@link CrudRepository} once the Spring {@link org.springframework.context.ApplicationContext}
+	 * has been refreshed.
+	 *
+	 * Entities are put into the {@link Region} in chunks without invoking the {@link CacheWriter}.  Up to
+	 * {@code parallelism} pages of {@code chunkSize} entities are read concurrently with
+	 * {@link PagingAndSortingRepository#findAll(Pageable)}.
+	 *
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @param chunkSize number of entities per page and {@link Region#putAll(Map, Object)}.
+	 * @param parallelism maximum number of pages read concurrently.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link CrudRepository} is not a {@link PagingAndSortingRepository},
+	 * the {@link Function entity identifier} is {@literal null}, or {@code chunkSize} or {@code parallelism}
+	 * is less than {@literal 1}.
+	 * @see org.springframework.geode.cache.RepositoryRegionPreloader
+	 * @see #withPreload(Function, Function, int, int)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withPreload(@NonNull Function<T, ID> entityIdentifier,
+			int chunkSize, int parallelism) {
+
+		CrudRepository<T, ID> repository = getRepositoryCacheLoaderRegionConfigurer().getRepository();
+
+		Assert.isTrue(repository instanceof PagingAndSortingRepository,
+			String.format("Repository [%s] must be a PagingAndSortingRepository to preload Regions",
+				repository.getClass().getName()));
+
+		return withPreload(((PagingAndSortingRepository<T, ID>) repository)::findAll, entityIdentifier,
+			chunkSize, parallelism);
+	}
+
+	/**
+	 * Builder method used to warm the designated {@link Region Regions} with all entities read, one {@link Slice}
+	 * at a time, by the given {@link Function} once the Spring {@link org.springframework.context.ApplicationContext}
+	 * has been refreshed.
+	 *
+	 * The {@link Function slice reader} is typically a query method of the {@link CrudRepository} returning
+	 * a {@link Slice}, such as {@code Slice<Customer> findAllBy(Pageable)}, which, unlike a
+	 * {@link org.springframework.data.domain.Page}, does not require a count query per read.
+	 *
+	 * @param sliceReader {@link Function} used to read a {@link Slice} of entities.
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @param chunkSize number of entities per {@link Slice} and {@link Region#putAll(Map, Object)}.
+	 * @param parallelism maximum number of {@link Slice Slices} read concurrently.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Function slice reader} or {@link Function entity identifier}
+	 * is {@literal null}, or {@code chunkSize} or {@code parallelism} is less than {@literal 1}.
+	 * @see org.springframework.geode.cache.RepositoryRegionPreloader
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withPreload(@NonNull Function<Pageable, ? extends Slice<T>> sliceReader,
+			@NonNull Function<T, ID> entityIdentifier, int chunkSize, int parallelism) {
+
+		this.regionPreloader = new RepositoryRegionPreloader<>(sliceReader, entityIdentifier)
+			.withChunkSize(chunkSize)
+			.withParallelism(parallelism);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to keep the designated {@link Region Regions} up-to-date with entities changed
+	 * in the external data source by other applications.
+	 *
+	 * The given {@link Function} is called with the bean name of each designated {@link Region} once the Spring
+	 * {@link org.springframework.context.ApplicationContext} has been refreshed and returns a new
+	 * {@link RepositoryChangePoller}, or {@literal null} to leave the {@link Region} as is.  Each
+	 * {@link RepositoryChangePoller} is {@link RepositoryChangePoller#start(Region) started} after the
+	 * {@link Region} has been preloaded.
+	 *
+	 * @param changePollerResolver {@link Function} returning a new {@link RepositoryChangePoller} for a {@link Region}
+	 * bean name; {@literal null} disables change data capture.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.RepositoryChangePoller
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withChangeDataCapture(
+			@Nullable Function<String, RepositoryChangePoller<T, ID, ?>> changePollerResolver) {
+
+		this.changePollerResolver = changePollerResolver;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to keep only the most recently used entities of the designated {@link Region Regions}
+	 * in memory and leave the remaining entities in the {@link CrudRepository}, which is the system of record.
+	 *
+	 * The {@link Region Regions} are configured with entry count LRU eviction and
+	 * the {@link EvictionAction#LOCAL_DESTROY local destroy} eviction action.  Eviction never writes to
+	 * the {@link CrudRepository}.  Created, updated and deleted entities are still written by the configured
+	 * {@link CacheWriter} (write-through) or write-behind {@link AsyncEventQueue}, so an evicted entity has already
+	 * been persisted and is loaded again by the {@link CacheLoader} on a cache miss.  Unchanged entities are skipped
+	 * only when {@link #withChangeDetection(Comparator) change detection} or
+	 * {@link #withContentHashChangeDetection(ToLongFunction) content hash change detection} is enabled.
+	 * With write-behind, an entity evicted before its queued write has been applied may be loaded in its previous
+	 * state until the write is applied.
+	 *
+	 * Apache Geode does not allow local destroy eviction on replicated {@link Region Regions}, which must hold every
+	 * entry, so overflow is only supported on partitioned, local and client {@link Region Regions}.
+	 *
+	 * @param maximumEntries maximum number of entries kept in memory per {@link Region}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code maximumEntries} is less than {@literal 1}.
+	 * @see org.apache.geode.cache.EvictionAttributes#createLRUEntryAttributes(int, EvictionAction)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withOverflowToRepository(int maximumEntries) {
+
+		Assert.isTrue(maximumEntries > 0, String.format("Maximum entries [%d] must be greater than 0", maximumEntries));
+
+		if (!isOverflowToRepositoryEnabled()) {
+
+			this.regionConfigurers.add(new RegionConfigurer() {
+
+				@Override
+				public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
+					if (getRegionBeanName().test(beanName)) {
+						bean.setEvictionAttributes(newOverflowEvictionAttributes());
+					}
+				}
+
+				@Override
+				public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
+					if (getRegionBeanName().test(beanName)) {
+
+						Assert.state(!isReplicated(bean), () -> String.format(
+							"Region [%s] is replicated and cannot overflow to the Repository;"
+								+ " use a partitioned Region", beanName));
+
+						bean.setEvictionAttributes(newOverflowEvictionAttributes());
+					}
+				}
+			});
+		}
+
+		this.overflowMaximumEntries = maximumEntries;
+
+		return this;
+	}
+
+	/**
+	 * Determines whether the designated {@link Region Regions} overflow to the {@link CrudRepository}.
+	 *
+	 * @return a boolean value indicating whether overflow to the {@link CrudRepository} is enabled.
+	 * @see #withOverflowToRepository(int)
+	 */
+	protected boolean isOverflowToRepositoryEnabled() {
+		return this.overflowMaximumEntries > 0;
+	}
+
+	private EvictionAttributes newOverflowEvictionAttributes() {
+		return EvictionAttributes.createLRUEntryAttributes(this.overflowMaximumEntries, EvictionAction.LOCAL_DESTROY);
+	}
+
+	private boolean isReplicated(PeerRegionFactoryBean<?, ?> bean) {
+
+		DataPolicy dataPolicy = bean.getDataPolicy();
+
+		RegionAttributes<?, ?> regionAttributes = bean.getAttributes();
+
+		RegionShortcut shortcut = bean.getShortcut();
+
+		return bean instanceof ReplicatedRegionFactoryBean
+			|| (dataPolicy != null && dataPolicy.withReplication())
+			|| (regionAttributes != null && regionAttributes.getDataPolicy() != null
+				&& regionAttributes.getDataPolicy().withReplication())
+			|| (shortcut != null && shortcut.name().startsWith("REPLICATE"));
+	}
+
+	/**
+	 * Builder method used to reload entries of the designated {@link Region Regions} that are still being read
+	 * once they pass the given fraction of the {@link Region Region's} entry time-to-live (TTL), so that readers
+	 * of hot keys never block on the {@link CacheLoader} after expiration.
+	 *
+	 * @param refreshThreshold fraction of the entry TTL, between {@literal 0} and {@literal 1}, exclusive,
+	 * after which an entry is reloaded.
+	 * @param maximumConcurrentRefreshes maximum number of entries reloaded concurrently per {@link Region}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code refreshThreshold} is not between {@literal 0} and {@literal 1},
+	 * or {@code maximumConcurrentRefreshes} is less than {@literal 1}.
+	 * @see org.springframework.geode.cache.RefreshAheadCacheListener
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withRefreshAhead(double refreshThreshold,
+			int maximumConcurrentRefreshes) {
+
+		Assert.isTrue(refreshThreshold > 0.0d && refreshThreshold < 1.0d,
+			String.format("Refresh threshold [%s] must be between 0 and 1", refreshThreshold));
+
+		Assert.isTrue(maximumConcurrentRefreshes > 0,
+			String.format("Maximum concurrent refreshes [%d] must be greater than 0", maximumConcurrentRefreshes));
+
+		this.refreshThreshold = refreshThreshold;
+		this.maximumConcurrentRefreshes = maximumConcurrentRefreshes;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to commit concurrent writes to the external data source together in groups
+	 * while preserving write-through semantics.
+	 *
+	 * @param commitWindow maximum amount of time a write waits for other writes to join its group.
+	 * @param maximumGroupSize maximum number of writes committed in a single group.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withGroupCommit(Duration, int)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withGroupCommit(@Nullable Duration commitWindow, int maximumGroupSize) {
+
+		getRepositoryCacheWriterRegionConfigurer().withGroupCommit(commitWindow, maximumGroupSize);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to commit concurrent writes to the external data source together in groups, each applied
+	 * in a single transaction, while preserving write-through semantics.
+	 *
+	 * @param commitWindow maximum amount of time a write waits for other writes to join its group.
+	 * @param maximumGroupSize maximum number of writes committed in a single group.
+	 * @param transactionManager {@link PlatformTransactionManager} of the external data source.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withGroupCommit(Duration, int, PlatformTransactionManager)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withGroupCommit(@Nullable Duration commitWindow, int maximumGroupSize,
+			@Nullable PlatformTransactionManager transactionManager) {
+
+		getRepositoryCacheWriterRegionConfigurer().withGroupCommit(commitWindow, maximumGroupSize, transactionManager);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to skip writing updates to the external data source for which the given {@link Comparator}
+	 * considers the new value equal to the old value.
+	 *
+	 * @param changeComparator {@link Comparator} returning {@literal 0} for an unchanged entity.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withChangeDetection(Comparator)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withChangeDetection(@Nullable Comparator<? super T> changeComparator) {
+
+		getRepositoryCacheWriterRegionConfigurer().withChangeDetection(changeComparator);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to skip writing updates to the external data source for which the given content hash
+	 * of the new value equals the content hash of the old value.
+	 *
+	 * @param contentHashFunction {@link ToLongFunction} computing a hash of the content of an entity.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withContentHashChangeDetection(ToLongFunction)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withContentHashChangeDetection(
+			@Nullable ToLongFunction<? super T> contentHashFunction) {
+
+		getRepositoryCacheWriterRegionConfigurer().withContentHashChangeDetection(contentHashFunction);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to remember, per {@link Region}, keys for which the {@link CrudRepository} returned
+	 * no entity so that repeated loads of missing keys do not access the external data source.
+	 *
+	 * The {@link CacheLoader} and {@link CacheWriter} of a {@link Region} share the same {@link NegativeResultCache}
+	 * so that a create invalidates the remembered key.
+	 *
+	 * @param maximumSize maximum number of keys remembered per {@link Region}.
+	 * @param timeToLive {@link Duration} after which a remembered key expires.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withNegativeResultCaching(int maximumSize,
+			@NonNull Duration timeToLive) {
+
+		Map<String, NegativeResultCache<ID>> negativeResultCaches = new ConcurrentHashMap<>();
+
+		Function<String, NegativeResultCache<ID>> negativeResultCacheResolver = regionBeanName ->
+			negativeResultCaches.computeIfAbsent(regionBeanName, it -> new NegativeResultCache<>(maximumSize, timeToLive));
+
+		getRepositoryCacheLoaderRegionConfigurer().withNegativeResultCaching(negativeResultCacheResolver);
+		getRepositoryCacheWriterRegionConfigurer().withNegativeResultCaching(negativeResultCacheResolver);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to limit the number of concurrent {@link CrudRepository} operations performed by
+	 * the {@link CacheLoader} and {@link CacheWriter} of each {@link Region} with a shared {@link Bulkhead}.
+	 *
+	 * @param maximumConcurrentCalls maximum number of concurrent operations per {@link Region}.
+	 * @param maximumWait {@link Duration} an operation waits for a permit before it is rejected;
+	 * {@literal null} does not wait.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.Bulkhead
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withBulkhead(int maximumConcurrentCalls,
+			@Nullable Duration maximumWait) {
+
+		Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+		Function<String, Bulkhead> bulkheadResolver = regionBeanName ->
+			bulkheads.computeIfAbsent(regionBeanName, it -> new Bulkhead(maximumConcurrentCalls, maximumWait));
+
+		getRepositoryCacheLoaderRegionConfigurer().withBulkhead(bulkheadResolver);
+		getRepositoryCacheWriterRegionConfigurer().withBulkhead(bulkheadResolver);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to guard the {@link CrudRepository} operations performed by the {@link CacheLoader}
+	 * and {@link CacheWriter} of each {@link Region} with a shared {@link CircuitBreaker}.
+	 *
+	 * @param failureThreshold number of consecutive failures after which the {@link CircuitBreaker} opens.
+	 * @param openDuration {@link Duration} the {@link CircuitBreaker} rejects operations before permitting
+	 * a trial operation.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.CircuitBreaker
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withCircuitBreaker(int failureThreshold,
+			@NonNull Duration openDuration) {
+
+		Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+		Function<String, CircuitBreaker> circuitBreakerResolver = regionBeanName ->
+			circuitBreakers.computeIfAbsent(regionBeanName, it -> new CircuitBreaker(failureThreshold, openDuration));
+
+		getRepositoryCacheLoaderRegionConfigurer().withCircuitBreaker(circuitBreakerResolver);
+		getRepositoryCacheWriterRegionConfigurer().withCircuitBreaker(circuitBreakerResolver);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to write updates of the designated {@link Region Regions} as partial updates of
+	 * the changed properties, with the {@link CrudRepository}, which must implement
+	 * the {@link org.springframework.geode.cache.support.PartialUpdateRepository} fragment.
+	 *
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link CrudRepository} is not
+	 * a {@link org.springframework.geode.cache.support.PartialUpdateRepository}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withPartialUpdates()
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withPartialUpdates() {
+
+		getRepositoryCacheWriterRegionConfigurer().withPartialUpdates();
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to stop caching entities loaded from the {@link CrudRepository} while the JVM heap
+	 * usage is at or above the given threshold, unless their key was requested more than once recently,
+	 * so that large one-off scans do not evict the hot set of the designated {@link Region Regions}.
+	 *
+	 * Loaded entities that are not admitted are still returned to the caller.  Each {@link Region} uses its own
+	 * {@link HeapAwareAdmissionPolicy} and {@link FrequencySketch}.  Only {@link Region Regions} whose data is
+	 * local, such as client {@link Region Regions}, remove entities that are not admitted; partitioned and
+	 * replicated {@link Region Regions} keep them.
+	 *
+	 * @param heapThresholdPercentage percentage of the maximum heap, between {@literal 0} and {@literal 100},
+	 * above which admission is restricted; typically the eviction heap percentage of the
+	 * {@link org.apache.geode.cache.control.ResourceManager}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code heapThresholdPercentage} is not between {@literal 0}
+	 * and {@literal 100}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withAdmissionPolicy(Function)
+	 * @see org.springframework.geode.cache.support.HeapAwareAdmissionPolicy
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withHeapAwareAdmission(float heapThresholdPercentage) {
+
+		Assert.isTrue(heapThresholdPercentage >= 0.0f && heapThresholdPercentage <= 100.0f,
+			String.format("Heap threshold percentage [%s] must be between 0 and 100", heapThresholdPercentage));
+
+		Map<String, HeapAwareAdmissionPolicy<ID>> admissionPolicies = new ConcurrentHashMap<>();
+
+		getRepositoryCacheLoaderRegionConfigurer().withAdmissionPolicy(regionBeanName ->
+			admissionPolicies.computeIfAbsent(regionBeanName, it ->
+				new HeapAwareAdmissionPolicy<ID>(heapThresholdPercentage).withFrequencySketch(new FrequencySketch<>())));
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to return the entity last loaded for a key when a load is rejected by
+	 * the {@link CircuitBreaker} or {@link Bulkhead}.
+	 *
+	 * @param maximumSize maximum number of entities remembered per {@link Region}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withStaleValueFallback(int)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withStaleValueFallback(int maximumSize) {
+
+		getRepositoryCacheLoaderRegionConfigurer().withStaleValueFallback(maximumSize);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to cap the time a cache miss waits for the {@link CrudRepository} when the last known
+	 * entity for the key is available.
+	 *
+	 * The values of expired and evicted entries, along with loaded entities, are remembered in a bounded
+	 * {@link org.springframework.geode.cache.support.StaleValueCache} per {@link Region}.  A load that does not
+	 * complete within the load timeout returns the remembered entity and continues in the background,
+	 * putting the reloaded entity into the {@link Region} when it completes.
+	 *
+	 * @param loadTimeout {@link Duration} a load waits for the {@link CrudRepository}.
+	 * @param maximumSize maximum number of entities remembered per {@link Region}.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Duration} is {@literal null}, zero or negative,
+	 * or {@code maximumSize} is less than {@literal 1}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withLoadTimeout(Duration)
+	 * @see org.springframework.geode.cache.StaleValueCacheListener
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withStaleWhileRevalidate(@NonNull Duration loadTimeout,
+			int maximumSize) {
+
+		Assert.notNull(loadTimeout, "Load timeout is required");
+		Assert.isTrue(maximumSize > 0, String.format("Maximum size [%d] must be greater than 0", maximumSize));
+
+		getRepositoryCacheLoaderRegionConfigurer()
+			.withLoadTimeout(loadTimeout)
+			.withStaleValueFallback(maximumSize);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link RepositoryOperationMetrics}
+	 * used to record the {@link CrudRepository} operations of the {@link CacheLoader} and {@link CacheWriter}
+	 * for a {@link Region} by {@link String bean name}.
+	 *
+	 * Configuring metrics explicitly, even {@literal null}, disables the automatic Micrometer instrumentation.
+	 *
+	 * @param repositoryOperationMetricsResolver {@link Function} resolving the {@link RepositoryOperationMetrics}
+	 * for a {@link Region}; {@literal null} disables recording.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.MicrometerRepositoryOperationMetrics#resolver(io.micrometer.core.instrument.MeterRegistry)
+	 * @see org.springframework.geode.cache.support.RepositoryOperationMetrics
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withRepositoryOperationMetrics(
+			@Nullable Function<String, RepositoryOperationMetrics> repositoryOperationMetricsResolver) {
+
+		getRepositoryCacheLoaderRegionConfigurer().withRepositoryOperationMetrics(repositoryOperationMetricsResolver);
+		getRepositoryCacheWriterRegionConfigurer().withRepositoryOperationMetrics(repositoryOperationMetricsResolver);
+
+		this.repositoryOperationMetricsConfigured = true;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to coalesce concurrent loads for the same key into a single {@link CrudRepository} call.
+	 *
+	 * @param loadCoalescingEnabled boolean value indicating whether load coalescing is enabled.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withLoadCoalescing(boolean)
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withLoadCoalescing(boolean loadCoalescingEnabled) {
+
+		getRepositoryCacheLoaderRegionConfigurer().withLoadCoalescing(loadCoalescingEnabled);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to write {@link Region} values to the external data source asynchronously, in batches,
+	 * from a local, memory-mapped {@link org.springframework.geode.cache.support.WriteAheadJournal} configured with
+	 * the given {@link JournaledWriteBehindSettings}.
+	 *
+	 * Journaled writes that were not flushed before the JVM stopped are replayed on startup.  Unlike
+	 * {@link #withWriteBehind(WriteBehindSettings)}, journaled write-behind is available to client {@link Region Regions}.
+	 *
+	 * @param journaledWriteBehindSettings {@link JournaledWriteBehindSettings} used to configure the journal;
+	 * {@literal null} disables journaled write-behind.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withJournaledWriteBehind(JournaledWriteBehindSettings)
+	 * @see org.springframework.geode.cache.JournaledWriteBehindSettings
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withJournaledWriteBehind(
+			@Nullable JournaledWriteBehindSettings journaledWriteBehindSettings) {
+
+		getRepositoryCacheWriterRegionConfigurer().withJournaledWriteBehind(journaledWriteBehindSettings);
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to write {@link Region} values to the external data source asynchronously, in batches,
+	 * using an {@link AsyncEventQueue} configured with the given {@link WriteBehindSettings}.
+	 *
+	 * @param writeBehindSettings {@link WriteBehindSettings} used to configure the {@link AsyncEventQueue};
+	 * {@literal null} disables write-behind.
+	 * @return this {@link InlineCachingRegionConfigurer}.
+	 * @see RepositoryCacheWriterRegionConfigurer#withWriteBehind(WriteBehindSettings)
+	 * @see org.springframework.geode.cache.WriteBehindSettings
+	 */
+	public InlineCachingRegionConfigurer<T, ID> withWriteBehind(@Nullable WriteBehindSettings writeBehindSettings) {
+
+		getRepositoryCacheWriterRegionConfigurer().withWriteBehind(writeBehindSettings);
+
+		return this;
+	}
+
 	@Override
 	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
+		configureRepositoryOperationMetrics();
 		this.compositeRegionConfigurer.configure(beanName, bean);
+		registerForInitialization(beanName, bean);
 	}
 
 	@Override
 	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
+		configureRepositoryOperationMetrics();
 		this.compositeRegionConfigurer.configure(beanName, bean);
+		registerForInitialization(beanName, bean);
+	}
+
+	/**
+	 * Records {@link CrudRepository} operations with Micrometer when metrics were not configured explicitly,
+	 * Micrometer is on the classpath and the {@link BeanFactory} contains a single
+	 * {@link io.micrometer.core.instrument.MeterRegistry}.
+	 *
+	 * @see org.springframework.geode.cache.support.MicrometerRepositoryOperationMetrics
+	 */
+	protected void configureRepositoryOperationMetrics() {
+
+		if (!this.repositoryOperationMetricsConfigured) {
+
+			this.repositoryOperationMetricsConfigured = true;
+
+			if (ClassUtils.isPresent(MICROMETER_METER_REGISTRY_CLASS_NAME, getClass().getClassLoader())) {
+				MicrometerRepositoryOperationMetrics.resolver(getBeanFactory().orElse(null)).ifPresent(resolver -> {
+					getRepositoryCacheLoaderRegionConfigurer().withRepositoryOperationMetrics(resolver);
+					getRepositoryCacheWriterRegionConfigurer().withRepositoryOperationMetrics(resolver);
+				});
+			}
+		}
+	}
+
+	private void registerForInitialization(String beanName, ResolvableRegionFactoryBean<?, ?> bean) {
+
+		boolean initializationRequired = getRegionPreloader().isPresent() || isRefreshAheadEnabled()
+			|| getRepositoryCacheLoaderRegionConfigurer().isStaleValueCacheEnabled()
+			|| this.changePollerResolver != null;
+
+		if (initializationRequired && getRegionBeanName().test(beanName)) {
+			this.regionsToInitialize.put(beanName, bean);
+		}
+	}
+
+	/**
+	 * Registers the {@link RefreshAheadCacheListener} and {@link StaleValueCacheListener} on, then preloads
+	 * and starts the {@link RepositoryChangePoller} for, each designated {@link Region} that has not yet
+	 * been initialized.
+	 *
+	 * @param event {@link ContextRefreshedEvent} signaling that all {@link Region Regions} have been created.
+	 * @see #registerRefreshAhead(Region)
+	 * @see #registerStaleValueCapture(String, Region)
+	 * @see #preload(String, Region)
+	 * @see #startChangeDataCapture(String, Region)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		for (String beanName : this.regionsToInitialize.keySet()) {
+
+			ResolvableRegionFactoryBean<?, ?> regionFactoryBean = this.regionsToInitialize.remove(beanName);
+
+			Region<ID, T> region = regionFactoryBean != null ? (Region<ID, T>) regionFactoryBean.getRegion() : null;
+
+			if (region != null) {
+				registerRefreshAhead(region);
+				registerStaleValueCapture(beanName, region);
+				preload(beanName, region);
+				startChangeDataCapture(beanName, region);
+			}
+		}
+	}
+
+	/**
+	 * Registers a new {@link RefreshAheadCacheListener} on the given {@link Region} when refresh-ahead is enabled.
+	 *
+	 * Entities are reloaded through the {@link RepositoryCacheLoader} of the {@link Region}, when present.
+	 *
+	 * @param region {@link Region} on which to register the {@link RefreshAheadCacheListener}.
+	 * @see org.springframework.geode.cache.RefreshAheadCacheListener
+	 */
+	@SuppressWarnings("unchecked")
+	protected void registerRefreshAhead(Region<ID, T> region) {
+
+		if (isRefreshAheadEnabled()) {
+
+			CacheLoader<ID, T> cacheLoader = region.getAttributes() != null
+				? region.getAttributes().getCacheLoader()
+				: null;
+
+			RefreshAheadCacheListener<T, ID> refreshAheadCacheListener = cacheLoader instanceof RepositoryCacheLoader
+				? new RefreshAheadCacheListener<>((RepositoryCacheLoader<T, ID>) cacheLoader, this.refreshThreshold,
+					this.maximumConcurrentRefreshes)
+				: new RefreshAheadCacheListener<>(getRepositoryCacheLoaderRegionConfigurer().getRepository(),
+					this.refreshThreshold, this.maximumConcurrentRefreshes);
+
+			region.getAttributesMutator().addCacheListener(refreshAheadCacheListener);
+		}
+	}
+
+	/**
+	 * Registers a new {@link StaleValueCacheListener} on the given {@link Region} when the {@link CacheLoader}
+	 * of the {@link Region} remembers last known entities.
+	 *
+	 * @param beanName {@link String} containing the bean name of the {@link Region}.
+	 * @param region {@link Region} on which to register the {@link StaleValueCacheListener}.
+	 * @see org.springframework.geode.cache.StaleValueCacheListener
+	 */
+	protected void registerStaleValueCapture(String beanName, Region<ID, T> region) {
+
+		getRepositoryCacheLoaderRegionConfigurer().resolveStaleValueCache(beanName).ifPresent(staleValueCache ->
+			region.getAttributesMutator().addCacheListener(new StaleValueCacheListener<>(staleValueCache)));
+	}
+
+	/**
+	 * Preloads the given {@link Region} when preload is enabled.
+	 *
+	 * A {@link Region} that fails to preload is logged and left to be populated by the {@link CacheLoader}.
+	 *
+	 * @param beanName {@link String} containing the bean name of the {@link Region}.
+	 * @param region {@link Region} to preload.
+	 * @see org.springframework.geode.cache.RepositoryRegionPreloader#preload(Region)
+	 */
+	protected void preload(String beanName, Region<ID, T> region) {
+
+		getRegionPreloader().ifPresent(regionPreloader -> {
+			try {
+				regionPreloader.preload(region);
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn(String.format("Failed to preload Region [%s]", beanName), cause);
+			}
+		});
+	}
+
+	/**
+	 * Starts a {@link RepositoryChangePoller} for the given {@link Region} when change data capture is enabled.
+	 *
+	 * @param beanName {@link String} containing the bean name of the {@link Region}.
+	 * @param region {@link Region} kept up-to-date with changes in the external data source.
+	 * @see org.springframework.geode.cache.RepositoryChangePoller#start(Region)
+	 */
+	protected void startChangeDataCapture(String beanName, Region<ID, T> region) {
+
+		Optional.ofNullable(this.changePollerResolver)
+			.map(changePollerResolver -> changePollerResolver.apply(beanName))
+			.ifPresent(changePoller -> {
+				this.changePollers.put(beanName, changePoller);
+				changePoller.start(region);
+			});
+	}
+
+	/**
+	 * Stops all {@link RepositoryChangePoller RepositoryChangePollers} started by this configurer.
+	 */
+	@Override
+	public void destroy() {
+
+		this.changePollers.values().forEach(RepositoryChangePoller::close);
+		this.changePollers.clear();
 	}
 }
@@ -0,0 +1,794 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.geode.cache.CacheWriter;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.geode.cache.support.RepositoryOperationRejectedException;
+import org.springframework.geode.cache.support.WriteAheadJournal;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RepositoryCacheWriter} that writes {@link org.apache.geode.cache.Region} values to the backend data source
+ * asynchronously (i.e. write-behind), recording each write in a local {@link WriteAheadJournal} before returning.
+ *
+ * Journaled writes are flushed to the {@link CrudRepository} in batches by a background {@link Thread}, at the
+ * configured {@link #getFlushInterval() flush interval}.  Consecutive saves are written with a single
+ * {@link CrudRepository#saveAll(Iterable)} call and deletes with {@link CrudRepository#deleteById(Object)}.
+ * Once a batch has been written, its writes are acknowledged in the {@link WriteAheadJournal}.
+ *
+ * When a batch fails, its writes are retried one at a time so that a single failing write does not hold back
+ * the writes around it.  A write that fails is retried at the next flush, up to the configured
+ * {@link #getMaximumAttempts() maximum number of attempts}, after which it is skipped and passed to
+ * the {@link #withDeadLetterHandler(BiConsumer) dead letter handler}.  Writes rejected by the bulkhead
+ * or circuit breaker do not count as attempts, since they never reached the {@link CrudRepository}.
+ *
+ * The number of pending writes and the number of journal segments are bounded.  When either bound is reached,
+ * {@link org.apache.geode.cache.Region} operations block until flushes make room, and fail if no room is made
+ * within the configured {@link #getBackpressureTimeout() backpressure timeout}.
+ *
+ * Writes that were journaled but not flushed when the JVM stopped are replayed when this {@link CacheWriter}
+ * is constructed with the same {@link WriteAheadJournal} directory.  This makes write-behind available to client
+ * applications, which cannot use server-side {@link org.apache.geode.cache.asyncqueue.AsyncEventQueue AsyncEventQueues}.
+ *
+ * Entities and keys are serialized with Java serialization unless other
+ * {@link #withSerialization(Serializer, Deserializer) serialization} is configured.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheWriter
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryCacheWriter
+ * @see org.springframework.geode.cache.support.WriteAheadJournal
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class JournaledRepositoryCacheWriter<T, ID> extends RepositoryCacheWriter<T, ID> {
+
+	public static final Duration DEFAULT_BACKPRESSURE_TIMEOUT = Duration.ofSeconds(5);
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+	public static final int DEFAULT_MAXIMUM_ATTEMPTS = 3;
+	public static final int DEFAULT_MAXIMUM_BATCH_SIZE = 100;
+	public static final int DEFAULT_MAXIMUM_PENDING_WRITES = 100000;
+	public static final int DEFAULT_MAXIMUM_SEGMENT_COUNT = 64;
+
+	protected static final byte DELETE_RECORD_TYPE = 'D';
+	protected static final byte SAVE_RECORD_TYPE = 'S';
+
+	private volatile boolean closed = false;
+
+	private volatile int maximumAttempts = DEFAULT_MAXIMUM_ATTEMPTS;
+	private volatile int maximumBatchSize = DEFAULT_MAXIMUM_BATCH_SIZE;
+	private volatile int maximumPendingWrites = DEFAULT_MAXIMUM_PENDING_WRITES;
+	private volatile int maximumSegmentCount = DEFAULT_MAXIMUM_SEGMENT_COUNT;
+
+	private int pendingWriteCount = 0;
+
+	private volatile long backpressureTimeoutInNanoseconds = DEFAULT_BACKPRESSURE_TIMEOUT.toNanos();
+	private volatile long flushIntervalInNanoseconds = DEFAULT_FLUSH_INTERVAL.toNanos();
+
+	private volatile BiConsumer<Object, RuntimeException> deadLetterHandler = (value, cause) -> { };
+
+	private final LongAdder deadLetteredWriteCount = new LongAdder();
+	private final LongAdder failedFlushCount = new LongAdder();
+	private final LongAdder flushCount = new LongAdder();
+	private final LongAdder flushedWriteCount = new LongAdder();
+	private final LongAdder rejectedWriteCount = new LongAdder();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Object flushMonitor = new Object();
+	private final Object journalMonitor = new Object();
+
+	private final Queue<Write> pendingWrites = new ConcurrentLinkedQueue<>();
+
+	private final ScheduledExecutorService flushScheduler;
+
+	private volatile Deserializer<Object> deserializer = new DefaultDeserializer();
+
+	private volatile Serializer<Object> serializer = new DefaultSerializer();
+
+	private final WriteAheadJournal journal;
+
+	/**
+	 * Constructs a new instance of {@link JournaledRepositoryCacheWriter} initialized with the given Spring Data
+	 * {@link CrudRepository} used to flush writes and the {@link WriteAheadJournal} in which writes are recorded.
+	 *
+	 * Unacknowledged writes recovered from the {@link WriteAheadJournal} are flushed first.
+	 *
+	 * @param repository {@link CrudRepository} used to flush writes.
+	 * @param journal {@link WriteAheadJournal} in which writes are recorded.
+	 * @throws IllegalArgumentException if the {@link CrudRepository} or {@link WriteAheadJournal} is {@literal null}.
+	 * @see org.springframework.geode.cache.support.WriteAheadJournal
+	 */
+	public JournaledRepositoryCacheWriter(@NonNull CrudRepository<T, ID> repository,
+			@NonNull WriteAheadJournal journal) {
+
+		super(repository);
+
+		Assert.notNull(journal, "WriteAheadJournal is required");
+
+		this.journal = journal;
+
+		ScheduledThreadPoolExecutor flushScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+			Thread thread = new Thread(runnable, "Journaled Write-Behind Flusher");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		flushScheduler.setRemoveOnCancelPolicy(true);
+
+		this.flushScheduler = flushScheduler;
+
+		scheduleFlush();
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the maximum amount of time a {@link org.apache.geode.cache.Region} operation waits for room
+	 * in the {@link WriteAheadJournal} when the pending writes or journal segments are at their bounds.
+	 *
+	 * @return the backpressure timeout.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getBackpressureTimeout() {
+		return Duration.ofNanos(this.backpressureTimeoutInNanoseconds);
+	}
+
+	/**
+	 * Returns the number of writes that failed the {@link #getMaximumAttempts() maximum number of attempts}
+	 * and were skipped.
+	 *
+	 * @return the number of dead lettered writes.
+	 */
+	public long getDeadLetteredWriteCount() {
+		return this.deadLetteredWriteCount.sum();
+	}
+
+	/**
+	 * Returns the number of flushes that failed and were retried.
+	 *
+	 * @return the number of failed flushes.
+	 */
+	public long getFailedFlushCount() {
+		return this.failedFlushCount.sum();
+	}
+
+	/**
+	 * Returns the number of batches flushed to the {@link CrudRepository}.
+	 *
+	 * @return the number of flushed batches.
+	 */
+	public long getFlushCount() {
+		return this.flushCount.sum();
+	}
+
+	/**
+	 * Returns the number of writes flushed to the {@link CrudRepository}.
+	 *
+	 * @return the number of flushed writes.
+	 */
+	public long getFlushedWriteCount() {
+		return this.flushedWriteCount.sum();
+	}
+
+	/**
+	 * Returns the amount of time between flushes of journaled writes to the {@link CrudRepository}.
+	 *
+	 * @return the flush interval.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getFlushInterval() {
+		return Duration.ofNanos(this.flushIntervalInNanoseconds);
+	}
+
+	public @NonNull WriteAheadJournal getJournal() {
+		return this.journal;
+	}
+
+	/**
+	 * Returns the maximum number of times a write is attempted before it is skipped.
+	 *
+	 * @return the maximum number of attempts of a write.
+	 */
+	public int getMaximumAttempts() {
+		return this.maximumAttempts;
+	}
+
+	/**
+	 * Returns the maximum number of writes flushed in a single batch.
+	 *
+	 * @return the maximum number of writes flushed in a single batch.
+	 */
+	public int getMaximumBatchSize() {
+		return this.maximumBatchSize;
+	}
+
+	/**
+	 * Returns the maximum number of journaled writes pending a flush to the {@link CrudRepository}.
+	 *
+	 * @return the maximum number of pending writes.
+	 */
+	public int getMaximumPendingWrites() {
+		return this.maximumPendingWrites;
+	}
+
+	/**
+	 * Returns the maximum number of segments held by the {@link WriteAheadJournal}.
+	 *
+	 * @return the maximum number of journal segments.
+	 */
+	public int getMaximumSegmentCount() {
+		return this.maximumSegmentCount;
+	}
+
+	/**
+	 * Returns the number of journaled writes that have not yet been flushed to the {@link CrudRepository}.
+	 *
+	 * @return the number of pending writes.
+	 */
+	public int getPendingWriteCount() {
+
+		synchronized (this.journalMonitor) {
+			return this.pendingWriteCount;
+		}
+	}
+
+	/**
+	 * Returns the number of writes that failed because no room was made in the {@link WriteAheadJournal}
+	 * within the {@link #getBackpressureTimeout() backpressure timeout}.
+	 *
+	 * @return the number of rejected writes.
+	 */
+	public long getRejectedWriteCount() {
+		return this.rejectedWriteCount.sum();
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of time a {@link org.apache.geode.cache.Region} operation
+	 * waits for room in the {@link WriteAheadJournal}.
+	 *
+	 * @param backpressureTimeout {@link Duration} to wait; {@literal null} resets the timeout to the default.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if the {@link Duration} is negative.
+	 * @see #getBackpressureTimeout()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withBackpressureTimeout(@Nullable Duration backpressureTimeout) {
+
+		backpressureTimeout = backpressureTimeout != null ? backpressureTimeout : DEFAULT_BACKPRESSURE_TIMEOUT;
+
+		Assert.isTrue(!backpressureTimeout.isNegative(),
+			String.format("Backpressure timeout [%s] must not be negative", backpressureTimeout));
+
+		this.backpressureTimeoutInNanoseconds = backpressureTimeout.toNanos();
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the handler of writes that failed
+	 * the {@link #getMaximumAttempts() maximum number of attempts}.
+	 *
+	 * The handler is called from the flush {@link Thread} with the entity of a failed save, or the key
+	 * of a failed delete, and the last failure.  By default, dead lettered writes are logged and counted.
+	 *
+	 * @param deadLetterHandler {@link BiConsumer} handling dead lettered writes; {@literal null} resets the handler
+	 * to the default.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @see #getDeadLetteredWriteCount()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withDeadLetterHandler(
+			@Nullable BiConsumer<Object, RuntimeException> deadLetterHandler) {
+
+		this.deadLetterHandler = deadLetterHandler != null ? deadLetterHandler : (value, cause) -> { };
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the amount of time between flushes of journaled writes.
+	 *
+	 * @param flushInterval {@link Duration} between flushes; {@literal null} resets the interval to the default.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if the {@link Duration} is zero or negative.
+	 * @see #getFlushInterval()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withFlushInterval(@Nullable Duration flushInterval) {
+
+		flushInterval = flushInterval != null ? flushInterval : DEFAULT_FLUSH_INTERVAL;
+
+		Assert.isTrue(!(flushInterval.isZero() || flushInterval.isNegative()),
+			String.format("Flush interval [%s] must be greater than 0", flushInterval));
+
+		this.flushIntervalInNanoseconds = flushInterval.toNanos();
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of times a write is attempted before it is skipped.
+	 *
+	 * @param maximumAttempts maximum number of attempts of a write.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if {@code maximumAttempts} is less than {@literal 1}.
+	 * @see #getMaximumAttempts()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withMaximumAttempts(int maximumAttempts) {
+
+		Assert.isTrue(maximumAttempts > 0,
+			String.format("Maximum attempts [%d] must be greater than 0", maximumAttempts));
+
+		this.maximumAttempts = maximumAttempts;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of writes flushed in a single batch.
+	 *
+	 * @param maximumBatchSize maximum number of writes flushed in a single batch.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if {@code maximumBatchSize} is less than {@literal 1}.
+	 * @see #getMaximumBatchSize()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withMaximumBatchSize(int maximumBatchSize) {
+
+		Assert.isTrue(maximumBatchSize > 0,
+			String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.maximumBatchSize = maximumBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of journaled writes pending a flush.
+	 *
+	 * @param maximumPendingWrites maximum number of pending writes.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if {@code maximumPendingWrites} is less than {@literal 1}.
+	 * @see #getMaximumPendingWrites()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withMaximumPendingWrites(int maximumPendingWrites) {
+
+		Assert.isTrue(maximumPendingWrites > 0,
+			String.format("Maximum pending writes [%d] must be greater than 0", maximumPendingWrites));
+
+		this.maximumPendingWrites = maximumPendingWrites;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of segments held by the {@link WriteAheadJournal}.
+	 *
+	 * At least {@literal 2} segments are required, since the segment being appended to is only deleted once full.
+	 *
+	 * @param maximumSegmentCount maximum number of journal segments.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if {@code maximumSegmentCount} is less than {@literal 2}.
+	 * @see #getMaximumSegmentCount()
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withMaximumSegmentCount(int maximumSegmentCount) {
+
+		Assert.isTrue(maximumSegmentCount > 1,
+			String.format("Maximum segment count [%d] must be greater than 1", maximumSegmentCount));
+
+		this.maximumSegmentCount = maximumSegmentCount;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Serializer} and {@link Deserializer} used to record entities
+	 * and keys in the {@link WriteAheadJournal}.
+	 *
+	 * Recovered writes are deserialized lazily, at the first flush, so serialization configured immediately after
+	 * construction also applies to recovered writes.
+	 *
+	 * @param serializer {@link Serializer} used to record entities and keys.
+	 * @param deserializer {@link Deserializer} used to read recorded entities and keys.
+	 * @return this {@link JournaledRepositoryCacheWriter}.
+	 * @throws IllegalArgumentException if the {@link Serializer} or {@link Deserializer} is {@literal null}.
+	 */
+	public JournaledRepositoryCacheWriter<T, ID> withSerialization(@NonNull Serializer<Object> serializer,
+			@NonNull Deserializer<Object> deserializer) {
+
+		Assert.notNull(serializer, "Serializer is required");
+		Assert.notNull(deserializer, "Deserializer is required");
+
+		this.serializer = serializer;
+		this.deserializer = deserializer;
+
+		return this;
+	}
+
+	@Override
+	protected void doSave(T entity) {
+		journal(SAVE_RECORD_TYPE, entity);
+	}
+
+	@Override
+	protected void doDeleteById(ID key) {
+		journal(DELETE_RECORD_TYPE, key);
+	}
+
+	private void journal(byte recordType, Object value) {
+
+		try {
+
+			ByteArrayOutputStream payload = new ByteArrayOutputStream();
+
+			payload.write(recordType);
+
+			this.serializer.serialize(value, payload);
+
+			byte[] record = payload.toByteArray();
+
+			synchronized (this.journalMonitor) {
+
+				awaitJournalCapacity();
+
+				this.pendingWrites.add(new Write(getJournal().append(record), recordType, value));
+				this.pendingWriteCount++;
+			}
+		}
+		catch (Throwable cause) {
+
+			if (cause instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+
+			throw newCacheRuntimeException(() -> String.format("Failed to journal write of [%s]", value), cause);
+		}
+	}
+
+	// must be called while holding the journalMonitor
+	private void awaitJournalCapacity() throws InterruptedException, TimeoutException {
+
+		long timeout = System.nanoTime() + this.backpressureTimeoutInNanoseconds;
+
+		while (!this.closed && isJournalFull()) {
+
+			long remainingNanoseconds = timeout - System.nanoTime();
+
+			if (remainingNanoseconds <= 0L) {
+
+				this.rejectedWriteCount.increment();
+
+				throw new TimeoutException(String.format(
+					"Journal is full with [%1$d] pending writes in [%2$d] segments",
+						this.pendingWriteCount, getJournal().getSegmentCount()));
+			}
+
+			TimeUnit.NANOSECONDS.timedWait(this.journalMonitor, remainingNanoseconds);
+		}
+	}
+
+	private boolean isJournalFull() {
+
+		return this.pendingWriteCount >= getMaximumPendingWrites()
+			|| getJournal().getSegmentCount() >= getMaximumSegmentCount();
+	}
+
+	private void scheduleFlush() {
+
+		if (!this.closed) {
+			try {
+				this.flushScheduler.schedule(this::flushAndReschedule,
+					this.flushIntervalInNanoseconds, TimeUnit.NANOSECONDS);
+			}
+			catch (RejectedExecutionException ignore) {
+				// closed
+			}
+		}
+	}
+
+	private void flushAndReschedule() {
+
+		try {
+			flush();
+		}
+		catch (Throwable cause) {
+			getLogger().warn("Failed to flush journaled writes; retrying at next flush", cause);
+		}
+		finally {
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * Flushes all pending journaled writes to the {@link CrudRepository}, in batches, and acknowledges them
+	 * in the {@link WriteAheadJournal}.
+	 *
+	 * @throws RuntimeException if a write fails, or is rejected, and has attempts left; the write and all
+	 * subsequent writes remain pending.
+	 */
+	public void flush() {
+
+		synchronized (this.flushMonitor) {
+
+			recoverJournaledWrites();
+
+			getJournal().sync();
+
+			for (List<Write> batch = nextBatch(); !batch.isEmpty(); batch = nextBatch()) {
+
+				try {
+					write(batch);
+					complete(batch, batch.size());
+				}
+				catch (RepositoryOperationRejectedException cause) {
+					this.failedFlushCount.increment();
+					throw cause;
+				}
+				catch (RuntimeException cause) {
+					this.failedFlushCount.increment();
+					writeOneAtATime(batch);
+				}
+			}
+		}
+	}
+
+	private void writeOneAtATime(List<Write> batch) {
+
+		int completedWriteCount = 0;
+		int writtenCount = 0;
+
+		try {
+			for (Write write : batch) {
+
+				try {
+					write(Collections.singletonList(write));
+					writtenCount++;
+				}
+				catch (RepositoryOperationRejectedException cause) {
+					throw cause;
+				}
+				catch (RuntimeException cause) {
+
+					if (++write.attempts < getMaximumAttempts()) {
+						throw cause;
+					}
+
+					deadLetter(write, cause);
+				}
+
+				completedWriteCount++;
+			}
+		}
+		finally {
+			complete(batch, completedWriteCount, writtenCount);
+		}
+	}
+
+	private void deadLetter(Write write, RuntimeException cause) {
+
+		getLogger().error(String.format("Skipping journaled write [%1$d] of [%2$s] after [%3$d] failed attempts",
+			write.sequence, write.value, write.attempts), cause);
+
+		this.deadLetteredWriteCount.increment();
+
+		try {
+			this.deadLetterHandler.accept(write.value, cause);
+		}
+		catch (RuntimeException handlerFailure) {
+			getLogger().warn(String.format("Failed to handle dead lettered write [%d]", write.sequence),
+				handlerFailure);
+		}
+	}
+
+	private void complete(List<Write> batch, int writeCount) {
+		complete(batch, writeCount, writeCount);
+	}
+
+	// the first completedWriteCount writes of the batch were written or dead lettered
+	private void complete(List<Write> batch, int completedWriteCount, int writtenCount) {
+
+		if (completedWriteCount > 0) {
+
+			synchronized (this.journalMonitor) {
+
+				for (int count = completedWriteCount; count > 0; count--) {
+					this.pendingWrites.poll();
+				}
+
+				this.pendingWriteCount -= completedWriteCount;
+
+				try {
+					getJournal().acknowledge(batch.get(completedWriteCount - 1).sequence);
+				}
+				catch (IOException cause) {
+					getLogger().warn("Failed to acknowledge flushed writes in the journal", cause);
+				}
+
+				this.journalMonitor.notifyAll();
+			}
+
+			this.flushCount.increment();
+			this.flushedWriteCount.add(writtenCount);
+		}
+	}
+
+	private void recoverJournaledWrites() {
+
+		List<WriteAheadJournal.Record> records = getJournal().recover();
+
+		if (!records.isEmpty()) {
+
+			List<Write> recoveredWrites = new ArrayList<>(records.size());
+
+			for (WriteAheadJournal.Record record : records) {
+
+				byte[] payload = record.getPayload();
+
+				try {
+					recoveredWrites.add(new Write(record.getSequence(), payload[0],
+						this.deserializer.deserialize(new ByteArrayInputStream(payload, 1, payload.length - 1))));
+				}
+				catch (IOException | RuntimeException cause) {
+					getLogger().error(String.format("Discarding unreadable journaled write [%d]",
+						record.getSequence()), cause);
+				}
+			}
+
+			synchronized (this.journalMonitor) {
+				recoveredWrites.addAll(this.pendingWrites);
+				this.pendingWrites.clear();
+				this.pendingWrites.addAll(recoveredWrites);
+				this.pendingWriteCount = recoveredWrites.size();
+			}
+
+			getLogger().info("Recovered [{}] journaled writes", recoveredWrites.size());
+		}
+	}
+
+	private List<Write> nextBatch() {
+
+		List<Write> batch = new ArrayList<>();
+
+		for (Iterator<Write> iterator = this.pendingWrites.iterator();
+				iterator.hasNext() && batch.size() < getMaximumBatchSize(); ) {
+
+			batch.add(iterator.next());
+		}
+
+		return batch;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void write(List<Write> batch) {
+
+		List<T> entitiesToSave = new ArrayList<>(batch.size());
+
+		for (Write write : batch) {
+			if (write.isDelete()) {
+				saveAll(entitiesToSave);
+				doGuardedRepositoryOp(RepositoryOperationMetrics.DELETE_OPERATION, () -> {
+					getRepository().deleteById((ID) write.value);
+					return null;
+				});
+			}
+			else {
+				entitiesToSave.add((T) write.value);
+			}
+		}
+
+		saveAll(entitiesToSave);
+	}
+
+	private void saveAll(List<T> entities) {
+
+		if (!entities.isEmpty()) {
+
+			List<T> entitiesToSave = new ArrayList<>(entities);
+
+			doGuardedRepositoryOp(RepositoryOperationMetrics.SAVE_ALL_OPERATION,
+				() -> getRepository().saveAll(entitiesToSave));
+
+			entities.clear();
+		}
+	}
+
+	/**
+	 * Stops the background flush, makes a final attempt to flush pending writes and closes
+	 * the {@link WriteAheadJournal}.  Writes that could not be flushed are replayed when the journal is reopened.
+	 */
+	@Override
+	public void close() {
+
+		if (!this.closed) {
+
+			this.closed = true;
+			this.flushScheduler.shutdownNow();
+
+			synchronized (this.journalMonitor) {
+				this.journalMonitor.notifyAll();
+			}
+
+			try {
+				flush();
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn("Failed to flush journaled writes on close; writes will be replayed on restart", cause);
+			}
+			finally {
+				getJournal().close();
+			}
+		}
+	}
+
+	/**
+	 * A journaled {@link Write}; either a save of an entity or a delete of the entity with a key.
+	 */
+	private static final class Write {
+
+		private final byte type;
+
+		private final long sequence;
+
+		private final Object value;
+
+		private int attempts;
+
+		private Write(long sequence, byte type, Object value) {
+			this.sequence = sequence;
+			this.type = type;
+			this.value = value;
+		}
+
+		private boolean isDelete() {
+			return this.type == DELETE_RECORD_TYPE;
+		}
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.WriteAheadJournal;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link JournaledWriteBehindSettings} class encapsulates the configuration of a
+ * {@link JournaledRepositoryCacheWriter}, which writes {@link org.apache.geode.cache.Region} values
+ * to a backend data source asynchronously, in batches, from a local {@link WriteAheadJournal}.
+ *
+ * Each {@link org.apache.geode.cache.Region} is journaled in its own subdirectory of the configured directory,
+ * named after the {@link org.apache.geode.cache.Region} bean.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.cache.JournaledRepositoryCacheWriter
+ * @see org.springframework.geode.cache.support.WriteAheadJournal
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class JournaledWriteBehindSettings {
+
+	/**
+	 * Factory method used to construct a new instance of {@link JournaledWriteBehindSettings} journaling
+	 * to the given directory with the default settings.
+	 *
+	 * @param directory {@link Path} to the directory containing the journal of each {@link org.apache.geode.cache.Region}.
+	 * @return a new instance of {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if the directory is {@literal null}.
+	 */
+	public static JournaledWriteBehindSettings create(@NonNull Path directory) {
+		return new JournaledWriteBehindSettings(directory);
+	}
+
+	private Duration backpressureTimeout = JournaledRepositoryCacheWriter.DEFAULT_BACKPRESSURE_TIMEOUT;
+	private Duration flushInterval = JournaledRepositoryCacheWriter.DEFAULT_FLUSH_INTERVAL;
+
+	private int maximumAttempts = JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_ATTEMPTS;
+	private int maximumBatchSize = JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_BATCH_SIZE;
+	private int maximumPendingWrites = JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_PENDING_WRITES;
+	private int maximumSegmentCount = JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_SEGMENT_COUNT;
+	private int segmentSize = WriteAheadJournal.DEFAULT_SEGMENT_SIZE;
+
+	private final Path directory;
+
+	private WriteAheadJournal.FsyncPolicy fsyncPolicy = WriteAheadJournal.FsyncPolicy.PERIODIC;
+
+	private JournaledWriteBehindSettings(@NonNull Path directory) {
+
+		Assert.notNull(directory, "Directory is required");
+
+		this.directory = directory;
+	}
+
+	public @NonNull Duration getBackpressureTimeout() {
+		return this.backpressureTimeout;
+	}
+
+	public @NonNull Path getDirectory() {
+		return this.directory;
+	}
+
+	public @NonNull Duration getFlushInterval() {
+		return this.flushInterval;
+	}
+
+	public @NonNull WriteAheadJournal.FsyncPolicy getFsyncPolicy() {
+		return this.fsyncPolicy;
+	}
+
+	public int getMaximumAttempts() {
+		return this.maximumAttempts;
+	}
+
+	public int getMaximumBatchSize() {
+		return this.maximumBatchSize;
+	}
+
+	public int getMaximumPendingWrites() {
+		return this.maximumPendingWrites;
+	}
+
+	public int getMaximumSegmentCount() {
+		return this.maximumSegmentCount;
+	}
+
+	public int getSegmentSize() {
+		return this.segmentSize;
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of time a {@link org.apache.geode.cache.Region} operation
+	 * waits for room in the journal when the pending writes or journal segments are at their bounds.
+	 *
+	 * @param backpressureTimeout {@link Duration} to wait; {@literal null} resets the timeout to the default.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if the {@link Duration} is negative.
+	 * @see #getBackpressureTimeout()
+	 */
+	public @NonNull JournaledWriteBehindSettings withBackpressureTimeout(@Nullable Duration backpressureTimeout) {
+
+		backpressureTimeout = backpressureTimeout != null ? backpressureTimeout
+			: JournaledRepositoryCacheWriter.DEFAULT_BACKPRESSURE_TIMEOUT;
+
+		Assert.isTrue(!backpressureTimeout.isNegative(),
+			String.format("Backpressure timeout [%s] must not be negative", backpressureTimeout));
+
+		this.backpressureTimeout = backpressureTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the amount of time between flushes of journaled writes
+	 * to the backend data source.
+	 *
+	 * @param flushInterval {@link Duration} between flushes; {@literal null} resets the interval to the default.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if the {@link Duration} is zero or negative.
+	 * @see #getFlushInterval()
+	 */
+	public @NonNull JournaledWriteBehindSettings withFlushInterval(@Nullable Duration flushInterval) {
+
+		flushInterval = flushInterval != null ? flushInterval : JournaledRepositoryCacheWriter.DEFAULT_FLUSH_INTERVAL;
+
+		Assert.isTrue(!(flushInterval.isZero() || flushInterval.isNegative()),
+			String.format("Flush interval [%s] must be greater than 0", flushInterval));
+
+		this.flushInterval = flushInterval;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure when journaled writes are forced to the storage device.
+	 *
+	 * @param fsyncPolicy {@link WriteAheadJournal.FsyncPolicy}; {@literal null} resets the policy
+	 * to {@link WriteAheadJournal.FsyncPolicy#PERIODIC}.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @see #getFsyncPolicy()
+	 */
+	public @NonNull JournaledWriteBehindSettings withFsyncPolicy(@Nullable WriteAheadJournal.FsyncPolicy fsyncPolicy) {
+
+		this.fsyncPolicy = fsyncPolicy != null ? fsyncPolicy : WriteAheadJournal.FsyncPolicy.PERIODIC;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of times a journaled write is attempted before it is skipped.
+	 *
+	 * @param maximumAttempts {@link Integer} specifying the maximum number of attempts of a write.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code maximumAttempts} is less than {@literal 1}.
+	 * @see #getMaximumAttempts()
+	 */
+	public @NonNull JournaledWriteBehindSettings withMaximumAttempts(int maximumAttempts) {
+
+		Assert.isTrue(maximumAttempts > 0,
+			String.format("Maximum attempts [%d] must be greater than 0", maximumAttempts));
+
+		this.maximumAttempts = maximumAttempts;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of journaled writes flushed in a single batch.
+	 *
+	 * @param maximumBatchSize {@link Integer} specifying the maximum number of writes in a batch.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code maximumBatchSize} is less than {@literal 1}.
+	 * @see #getMaximumBatchSize()
+	 */
+	public @NonNull JournaledWriteBehindSettings withMaximumBatchSize(int maximumBatchSize) {
+
+		Assert.isTrue(maximumBatchSize > 0,
+			String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.maximumBatchSize = maximumBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of journaled writes pending a flush.
+	 *
+	 * @param maximumPendingWrites {@link Integer} specifying the maximum number of pending writes.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code maximumPendingWrites} is less than {@literal 1}.
+	 * @see #getMaximumPendingWrites()
+	 */
+	public @NonNull JournaledWriteBehindSettings withMaximumPendingWrites(int maximumPendingWrites) {
+
+		Assert.isTrue(maximumPendingWrites > 0,
+			String.format("Maximum pending writes [%d] must be greater than 0", maximumPendingWrites));
+
+		this.maximumPendingWrites = maximumPendingWrites;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of segment files held by the journal.
+	 *
+	 * @param maximumSegmentCount {@link Integer} specifying the maximum number of journal segments.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code maximumSegmentCount} is less than {@literal 2}.
+	 * @see #getMaximumSegmentCount()
+	 */
+	public @NonNull JournaledWriteBehindSettings withMaximumSegmentCount(int maximumSegmentCount) {
+
+		Assert.isTrue(maximumSegmentCount > 1,
+			String.format("Maximum segment count [%d] must be greater than 1", maximumSegmentCount));
+
+		this.maximumSegmentCount = maximumSegmentCount;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the size in bytes of each journal segment file.
+	 *
+	 * @param segmentSize {@link Integer} specifying the segment size in bytes.
+	 * @return this {@link JournaledWriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code segmentSize} is less than {@literal 1}.
+	 * @see #getSegmentSize()
+	 */
+	public @NonNull JournaledWriteBehindSettings withSegmentSize(int segmentSize) {
+
+		Assert.isTrue(segmentSize > 0, String.format("Segment size [%d] must be greater than 0", segmentSize));
+
+		this.segmentSize = segmentSize;
+
+		return this;
+	}
+
+	/**
+	 * Constructs a new {@link JournaledRepositoryCacheWriter} for the {@link org.apache.geode.cache.Region}
+	 * identified by the given {@link String bean name}, configured with these {@link JournaledWriteBehindSettings}.
+	 *
+	 * @param <T> {@link Class type} of the persistent entity.
+	 * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+	 * @param repository {@link CrudRepository} used to flush journaled writes.
+	 * @param regionBeanName {@link String} containing the bean name of the {@link org.apache.geode.cache.Region}.
+	 * @return a new {@link JournaledRepositoryCacheWriter}.
+	 * @throws UncheckedIOException if the {@link WriteAheadJournal} cannot be opened.
+	 */
+	public <T, ID> JournaledRepositoryCacheWriter<T, ID> newRepositoryCacheWriter(
+			@NonNull CrudRepository<T, ID> repository, @NonNull String regionBeanName) {
+
+		Path journalDirectory = getDirectory().resolve(regionBeanName);
+
+		try {
+			return new JournaledRepositoryCacheWriter<>(repository,
+					new WriteAheadJournal(journalDirectory, getSegmentSize(), getFsyncPolicy()))
+				.withBackpressureTimeout(getBackpressureTimeout())
+				.withFlushInterval(getFlushInterval())
+				.withMaximumAttempts(getMaximumAttempts())
+				.withMaximumBatchSize(getMaximumBatchSize())
+				.withMaximumPendingWrites(getMaximumPendingWrites())
+				.withMaximumSegmentCount(getMaximumSegmentCount());
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException(String.format("Failed to open journal [%1$s] for Region [%2$s]",
+				journalDirectory, regionBeanName), cause);
+		}
+	}
+}
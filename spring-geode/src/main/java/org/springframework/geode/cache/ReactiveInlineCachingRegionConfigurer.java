@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+
+import org.springframework.data.gemfire.PeerRegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RegionConfigurer} implementation used to enable Inline Caching on a designated {@link Region}
+ * backed by a Spring Data {@link ReactiveCrudRepository}.
+ *
+ * Registers a {@link ReactiveRepositoryCacheLoader} and a {@link ReactiveRepositoryCacheWriter} on the designated
+ * {@link Region Regions}.  When {@link #withWriteBehind(WriteBehindSettings) write-behind} is enabled, peer
+ * {@link Region Regions} are configured with an {@link AsyncEventQueue} and a {@link ReactiveRepositoryAsyncEventListener}
+ * in place of the {@link ReactiveRepositoryCacheWriter}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see java.util.function.Predicate
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.InlineCachingRegionConfigurer
+ * @see org.springframework.geode.cache.ReactiveRepositoryAsyncEventListener
+ * @see org.springframework.geode.cache.ReactiveRepositoryCacheLoader
+ * @see org.springframework.geode.cache.ReactiveRepositoryCacheWriter
+ * @since 1.2.1
+ */
+public class ReactiveInlineCachingRegionConfigurer<T, ID> implements RegionConfigurer {
+
+	protected static final String WRITE_BEHIND_QUEUE_ID_SUFFIX = "ReactiveRepositoryWriteBehindQueue";
+
+	private int maximumConcurrency = ReactiveRepositoryAsyncEventListener.DEFAULT_MAXIMUM_CONCURRENCY;
+
+	private Duration timeout;
+
+	private final Map<String, AsyncEventQueue> writeBehindQueues = new ConcurrentHashMap<>();
+
+	private final Predicate<String> regionBeanName;
+
+	private final ReactiveCrudRepository<T, ID> repository;
+
+	private WriteBehindSettings writeBehindSettings;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveInlineCachingRegionConfigurer} initialized with
+	 * the given {@link ReactiveCrudRepository} used for Inline Caching and {@link Predicate} used to identify
+	 * the target {@link Region} on which the {@link CacheLoader} and {@link CacheWriter} will be registered.
+	 *
+	 * @param repository Spring Data {@link ReactiveCrudRepository} used for Inline Caching between a {@link Region}
+	 * and external data source.
+	 * @param regionBeanName {@link Predicate} identifying the target {@link Region} on which to enable Inline Caching.
+	 * @throws IllegalArgumentException if {@link ReactiveCrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+	 * @see java.util.function.Predicate
+	 */
+	public ReactiveInlineCachingRegionConfigurer(@NonNull ReactiveCrudRepository<T, ID> repository,
+			@Nullable Predicate<String> regionBeanName) {
+
+		Assert.notNull(repository, "ReactiveCrudRepository is required");
+
+		this.repository = repository;
+		this.regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
+	}
+
+	protected @NonNull Predicate<String> getRegionBeanName() {
+		return this.regionBeanName;
+	}
+
+	protected @NonNull ReactiveCrudRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the maximum amount of time the {@link CacheLoader} and {@link CacheWriter} wait for
+	 * a {@link ReactiveCrudRepository} operation to complete.
+	 *
+	 * @return an {@link Optional} {@link Duration timeout}.
+	 * @see #withTimeout(Duration)
+	 */
+	public Optional<Duration> getTimeout() {
+		return Optional.ofNullable(this.timeout);
+	}
+
+	/**
+	 * Returns the write-behind {@link AsyncEventQueue} registered on the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link AsyncEventQueue} for the {@link Region}.
+	 */
+	public Optional<AsyncEventQueue> getWriteBehindQueue(@Nullable String regionBeanName) {
+		return Optional.ofNullable(regionBeanName).map(this.writeBehindQueues::get);
+	}
+
+	/**
+	 * Returns the configured {@link WriteBehindSettings} if write-behind is enabled.
+	 *
+	 * @return an {@link Optional} {@link WriteBehindSettings}.
+	 * @see #withWriteBehind(WriteBehindSettings)
+	 */
+	public Optional<WriteBehindSettings> getWriteBehindSettings() {
+		return Optional.ofNullable(this.writeBehindSettings);
+	}
+
+	/**
+	 * Determines whether {@link Region} values are written to the backend data source asynchronously.
+	 *
+	 * @return a boolean value indicating whether write-behind is enabled.
+	 * @see #getWriteBehindSettings()
+	 */
+	public boolean isWriteBehindEnabled() {
+		return getWriteBehindSettings().isPresent();
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of entities saved concurrently by
+	 * the {@link ReactiveRepositoryAsyncEventListener} when write-behind is enabled.
+	 *
+	 * @param maximumConcurrency maximum number of entities saved concurrently.
+	 * @return this {@link ReactiveInlineCachingRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code maximumConcurrency} is less than {@literal 1}.
+	 * @see ReactiveRepositoryAsyncEventListener#withMaximumConcurrency(int)
+	 */
+	public ReactiveInlineCachingRegionConfigurer<T, ID> withMaximumConcurrency(int maximumConcurrency) {
+
+		Assert.isTrue(maximumConcurrency > 0,
+			String.format("Maximum concurrency [%d] must be greater than 0", maximumConcurrency));
+
+		this.maximumConcurrency = maximumConcurrency;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of time the {@link CacheLoader} and {@link CacheWriter}
+	 * wait for a {@link ReactiveCrudRepository} operation to complete.
+	 *
+	 * @param timeout {@link Duration} to wait; {@literal null} waits indefinitely.
+	 * @return this {@link ReactiveInlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.ReactiveRepositoryCacheLoaderWriterSupport#withTimeout(Duration)
+	 */
+	public ReactiveInlineCachingRegionConfigurer<T, ID> withTimeout(@Nullable Duration timeout) {
+
+		Assert.isTrue(timeout == null || !(timeout.isNegative() || timeout.isZero()),
+			String.format("Timeout [%s] must be greater than 0", timeout));
+
+		this.timeout = timeout;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to write {@link Region} values to the backend data source asynchronously, in batches,
+	 * using an {@link AsyncEventQueue} configured with the given {@link WriteBehindSettings}.
+	 *
+	 * Client {@link Region Regions} cannot host an {@link AsyncEventQueue} and therefore continue to write-through.
+	 *
+	 * @param writeBehindSettings {@link WriteBehindSettings} used to configure the {@link AsyncEventQueue};
+	 * {@literal null} disables write-behind.
+	 * @return this {@link ReactiveInlineCachingRegionConfigurer}.
+	 * @see org.springframework.geode.cache.WriteBehindSettings
+	 */
+	public ReactiveInlineCachingRegionConfigurer<T, ID> withWriteBehind(@Nullable WriteBehindSettings writeBehindSettings) {
+
+		this.writeBehindSettings = writeBehindSettings;
+
+		return this;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
+
+		if (getRegionBeanName().test(beanName)) {
+			ClientRegionFactoryBean<ID, T> clientRegionFactoryBean = (ClientRegionFactoryBean<ID, T>) bean;
+
+			clientRegionFactoryBean.setCacheLoader(newReactiveRepositoryCacheLoader());
+			clientRegionFactoryBean.setCacheWriter(newReactiveRepositoryCacheWriter());
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
+
+		if (getRegionBeanName().test(beanName)) {
+
+			PeerRegionFactoryBean<ID, T> peerRegionFactoryBean = (PeerRegionFactoryBean<ID, T>) bean;
+
+			peerRegionFactoryBean.setCacheLoader(newReactiveRepositoryCacheLoader());
+
+			if (isWriteBehindEnabled()) {
+				bean.setAsyncEventQueues(new AsyncEventQueue[] { resolveWriteBehindQueue(beanName, bean.getCache()) });
+			}
+			else {
+				peerRegionFactoryBean.setCacheWriter(newReactiveRepositoryCacheWriter());
+			}
+		}
+	}
+
+	/**
+	 * Resolves the write-behind {@link AsyncEventQueue} for the {@link Region} identified by the given
+	 * {@link String bean name}, creating the {@link AsyncEventQueue} if it does not already exist.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @param gemfireCache {@link GemFireCache} used to create the {@link AsyncEventQueue}.
+	 * @return the write-behind {@link AsyncEventQueue} for the {@link Region}.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is not a peer {@link Cache}.
+	 * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+	 */
+	protected AsyncEventQueue resolveWriteBehindQueue(String regionBeanName, GemFireCache gemfireCache) {
+
+		Assert.isInstanceOf(Cache.class, gemfireCache,
+			String.format("A peer Cache is required to create a write-behind queue for Region [%s]", regionBeanName));
+
+		Cache cache = (Cache) gemfireCache;
+
+		String queueId = regionBeanName + WRITE_BEHIND_QUEUE_ID_SUFFIX;
+
+		AsyncEventQueue queue = cache.getAsyncEventQueue(queueId);
+
+		if (queue == null) {
+
+			AsyncEventQueueFactory queueFactory = cache.createAsyncEventQueueFactory();
+
+			getWriteBehindSettings().ifPresent(settings -> settings.configure(queueFactory));
+
+			queue = queueFactory.create(queueId, newReactiveRepositoryAsyncEventListener());
+		}
+
+		this.writeBehindQueues.put(regionBeanName, queue);
+
+		return queue;
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveRepositoryAsyncEventListener} adapting
+	 * the {@link ReactiveCrudRepository} as an {@link org.apache.geode.cache.asyncqueue.AsyncEventListener}
+	 * for write-behind.
+	 *
+	 * @return a new {@link ReactiveRepositoryAsyncEventListener}.
+	 * @see org.springframework.geode.cache.ReactiveRepositoryAsyncEventListener
+	 */
+	protected ReactiveRepositoryAsyncEventListener<T, ID> newReactiveRepositoryAsyncEventListener() {
+		return new ReactiveRepositoryAsyncEventListener<>(getRepository()).withMaximumConcurrency(this.maximumConcurrency);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveRepositoryCacheLoader} adapting
+	 * the {@link ReactiveCrudRepository} as a {@link CacheLoader}.
+	 *
+	 * @return a new {@link ReactiveRepositoryCacheLoader}.
+	 * @see org.springframework.geode.cache.ReactiveRepositoryCacheLoader
+	 */
+	protected ReactiveRepositoryCacheLoader<T, ID> newReactiveRepositoryCacheLoader() {
+		return new ReactiveRepositoryCacheLoader<>(getRepository()).withTimeout(this.timeout);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveRepositoryCacheWriter} adapting
+	 * the {@link ReactiveCrudRepository} as a {@link CacheWriter}.
+	 *
+	 * @return a new {@link ReactiveRepositoryCacheWriter}.
+	 * @see org.springframework.geode.cache.ReactiveRepositoryCacheWriter
+	 */
+	protected ReactiveRepositoryCacheWriter<T, ID> newReactiveRepositoryCacheWriter() {
+		return new ReactiveRepositoryCacheWriter<>(getRepository()).withTimeout(this.timeout);
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * An {@link AsyncEventListener} implementation backed by a Spring Data {@link ReactiveCrudRepository} used to
+ * asynchronously write (i.e. write-behind) batches of cache entries (i.e. entities) to a backend, external data source
+ * using a non-blocking driver.
+ *
+ * Each batch is written by a single reactive pipeline.  Consecutive creates and updates are reduced to the last value
+ * per key and saved concurrently, up to the {@link #getMaximumConcurrency() maximum concurrency}, with the pipeline's
+ * own backpressure bounding the number of outstanding saves.  Destroys are applied in between, preserving the order
+ * of operations on each key.  Events caused by loads, evictions and expirations are ignored.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventListener
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @see reactor.core.publisher.Flux
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ReactiveRepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
+
+	public static final int DEFAULT_MAXIMUM_CONCURRENCY = 16;
+
+	protected static final String BATCH_WRITE_FAILURE_MESSAGE = RepositoryAsyncEventListener.BATCH_WRITE_FAILURE_MESSAGE;
+
+	private final AtomicLong batchCount = new AtomicLong(0L);
+	private final AtomicLong eventCount = new AtomicLong(0L);
+	private final AtomicLong failedBatchCount = new AtomicLong(0L);
+
+	private volatile int maximumConcurrency = DEFAULT_MAXIMUM_CONCURRENCY;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ReactiveCrudRepository<T, ID> repository;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveRepositoryAsyncEventListener} initialized with the given
+	 * Spring Data {@link ReactiveCrudRepository} used to write batches of {@link AsyncEvent AsyncEvents}
+	 * to a backend data source.
+	 *
+	 * @param repository {@link ReactiveCrudRepository} used to write {@link AsyncEvent AsyncEvents}.
+	 * @throws IllegalArgumentException if {@link ReactiveCrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+	 */
+	public ReactiveRepositoryAsyncEventListener(@NonNull ReactiveCrudRepository<T, ID> repository) {
+
+		Assert.notNull(repository, "Repository is required");
+
+		this.repository = repository;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	public @NonNull ReactiveCrudRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the number of batches successfully written to the backend data source.
+	 *
+	 * @return the number of batches successfully written to the backend data source.
+	 */
+	public long getBatchCount() {
+		return this.batchCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link AsyncEvent AsyncEvents} successfully written to the backend data source.
+	 *
+	 * @return the number of {@link AsyncEvent AsyncEvents} successfully written to the backend data source.
+	 */
+	public long getEventCount() {
+		return this.eventCount.get();
+	}
+
+	/**
+	 * Returns the number of batches that failed to be written to the backend data source and will be redelivered
+	 * by the {@link AsyncEventQueue}.
+	 *
+	 * @return the number of batches that failed to be written to the backend data source.
+	 */
+	public long getFailedBatchCount() {
+		return this.failedBatchCount.get();
+	}
+
+	/**
+	 * Returns the maximum number of entities saved concurrently by the reactive pipeline.
+	 *
+	 * @return the maximum number of entities saved concurrently.
+	 */
+	public int getMaximumConcurrency() {
+		return this.maximumConcurrency;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of entities saved concurrently by the reactive pipeline.
+	 *
+	 * @param maximumConcurrency maximum number of entities saved concurrently.
+	 * @return this {@link ReactiveRepositoryAsyncEventListener}.
+	 * @throws IllegalArgumentException if {@code maximumConcurrency} is less than {@literal 1}.
+	 * @see #getMaximumConcurrency()
+	 */
+	public ReactiveRepositoryAsyncEventListener<T, ID> withMaximumConcurrency(int maximumConcurrency) {
+
+		Assert.isTrue(maximumConcurrency > 0,
+			String.format("Maximum concurrency [%d] must be greater than 0", maximumConcurrency));
+
+		this.maximumConcurrency = maximumConcurrency;
+
+		return this;
+	}
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public boolean processEvents(@Nullable List<AsyncEvent> events) {
+
+		if (events == null || events.isEmpty()) {
+			return true;
+		}
+
+		try {
+
+			List<Mono<Void>> writes = new ArrayList<>();
+
+			Map<ID, T> entitiesToSave = new LinkedHashMap<>();
+
+			for (AsyncEvent<ID, T> event : (List<AsyncEvent<ID, T>>) (List<?>) events) {
+
+				Operation operation = event.getOperation();
+
+				if (isIgnorable(operation) || RepositoryRegionPreloader.isPreload(event.getCallbackArgument())) {
+					continue;
+				}
+
+				if (operation.isCreate() || operation.isUpdate()) {
+					entitiesToSave.put(event.getKey(), event.getDeserializedValue());
+				}
+				else if (operation.isDestroy()) {
+
+					ID key = event.getKey();
+
+					entitiesToSave.remove(key);
+					writes.add(saveAll(entitiesToSave));
+					writes.add(Mono.defer(() -> getRepository().deleteById(key)));
+				}
+			}
+
+			writes.add(saveAll(entitiesToSave));
+
+			Flux.concat(writes).then().block();
+
+			this.batchCount.incrementAndGet();
+			this.eventCount.addAndGet(events.size());
+
+			return true;
+		}
+		catch (Throwable cause) {
+
+			this.failedBatchCount.incrementAndGet();
+
+			getLogger().warn(String.format(BATCH_WRITE_FAILURE_MESSAGE,
+				events.size(), getRepository().getClass().getName()), cause);
+
+			return false;
+		}
+	}
+
+	/**
+	 * Determines whether the {@link AsyncEvent} for the given {@link Operation} does not need to be written to
+	 * the backend data source.
+	 *
+	 * @param operation {@link Operation} of the {@link AsyncEvent}.
+	 * @return a boolean value indicating whether the {@link AsyncEvent} can be ignored.
+	 * @see RepositoryAsyncEventListener#isIgnorable(Operation)
+	 */
+	protected boolean isIgnorable(@Nullable Operation operation) {
+
+		return operation == null
+			|| operation.isLoad()
+			|| operation.isEviction()
+			|| operation.isExpiration();
+	}
+
+	private Mono<Void> saveAll(Map<ID, T> entities) {
+
+		if (entities.isEmpty()) {
+			return Mono.empty();
+		}
+
+		List<T> entitiesToSave = new ArrayList<>(entities.values());
+
+		entities.clear();
+
+		return Flux.fromIterable(entitiesToSave)
+			.flatMap(getRepository()::save, getMaximumConcurrency())
+			.then();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.LoaderHelper;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.geode.cache.support.ReactiveRepositoryCacheLoaderWriterSupport;
+import org.springframework.lang.NonNull;
+
+/**
+ * A {@link CacheLoader} implementation backed by a Spring Data {@link ReactiveCrudRepository} used to load an entity
+ * from an external data source using a non-blocking driver.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheLoader
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.support.ReactiveRepositoryCacheLoaderWriterSupport
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ReactiveRepositoryCacheLoader<T, ID> extends ReactiveRepositoryCacheLoaderWriterSupport<T, ID> {
+
+	protected static final String CACHE_LOAD_EXCEPTION_MESSAGE = RepositoryCacheLoader.CACHE_LOAD_EXCEPTION_MESSAGE;
+
+	public ReactiveRepositoryCacheLoader(@NonNull ReactiveCrudRepository<T, ID> repository) {
+		super(repository);
+	}
+
+	@Override
+	public T load(LoaderHelper<ID, T> helper) throws CacheLoaderException {
+
+		ID key = helper.getKey();
+
+		try {
+			return await(getRepository().findById(key));
+		}
+		catch (Exception cause) {
+			throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
+				key, getRepository().getClass().getName()), cause);
+		}
+	}
+
+	@Override
+	protected CacheRuntimeException newCacheRuntimeException(Supplier<String> messageSupplier, Throwable cause) {
+		return new CacheLoaderException(messageSupplier.get(), cause);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.CacheWriterException;
+import org.apache.geode.cache.EntryEvent;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.geode.cache.support.ReactiveRepositoryCacheLoaderWriterSupport;
+import org.springframework.lang.NonNull;
+
+/**
+ * A {@link CacheWriter} implementation backed by a Spring Data {@link ReactiveCrudRepository} used to persist
+ * a cache entry (i.e. entity) to a backend, external data source using a non-blocking driver.
+ *
+ * Entries put into the cache by a {@link RepositoryRegionPreloader} or {@link RefreshAheadCacheListener} originate
+ * from the backend data source and are not written back.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheWriter
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.support.ReactiveRepositoryCacheLoaderWriterSupport
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ReactiveRepositoryCacheWriter<T, ID> extends ReactiveRepositoryCacheLoaderWriterSupport<T, ID> {
+
+	public ReactiveRepositoryCacheWriter(@NonNull ReactiveCrudRepository<T, ID> repository) {
+		super(repository);
+	}
+
+	@Override
+	public void beforeCreate(EntryEvent<ID, T> event) throws CacheWriterException {
+		save(event);
+	}
+
+	@Override
+	public void beforeUpdate(EntryEvent<ID, T> event) throws CacheWriterException {
+		save(event);
+	}
+
+	@Override
+	public void beforeDestroy(EntryEvent<ID, T> event) throws CacheWriterException {
+
+		ID key = event.getKey();
+
+		doRepositoryOp(key, () -> getRepository().deleteById(key));
+	}
+
+	private void save(EntryEvent<ID, T> event) {
+
+		if (!RepositoryRegionPreloader.isPreload(event.getCallbackArgument())) {
+
+			T newValue = event.getNewValue();
+
+			doRepositoryOp(newValue, () -> getRepository().save(newValue));
+		}
+	}
+
+	@Override
+	protected CacheRuntimeException newCacheRuntimeException(Supplier<String> messageSupplier, Throwable cause) {
+		return new CacheWriterException(messageSupplier.get(), cause);
+	}
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CacheListener} that asynchronously reloads an entry from a Spring Data {@link CrudRepository}
+ * before the entry expires, provided the entry is still being read.
+ *
+ * When an entry is created or updated, a check is scheduled after the configured {@link #getRefreshThreshold()
+ * fraction} of the {@link Region Region's} entry time-to-live (TTL).  If the entry has been accessed since it was
+ * last modified, the entity is reloaded on a bounded pool of {@link Thread Threads} and put into the {@link Region},
+ * which restarts the TTL.  Readers continue to see the current value while the refresh runs.  Entries that are
+ * no longer being read are left to expire.
+ *
+ * Entities are reloaded with {@link RepositoryCacheLoader#doLoad(Object)}, and are therefore subject to the same
+ * bulkhead, circuit breaker and metrics as the {@link RepositoryCacheLoader} of the {@link Region}.  At most
+ * {@link #MAXIMUM_SCHEDULED_REFRESHES} checks are scheduled at a time; further checks are dropped and counted as
+ * {@link #getRejectedRefreshCount() rejected}.  Refreshes of a partitioned {@link Region} are scheduled on
+ * the primary of the entry, regardless of the member on which the entry was put.
+ *
+ * Refresh-ahead requires entry statistics, which Apache Geode enables whenever entry expiration is configured.
+ * Refreshed entities are put with the {@link RepositoryRegionPreloader#PRELOAD_CALLBACK_ARGUMENT} so that they
+ * are not written back to the {@link CrudRepository}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.repository.CrudRepository
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class RefreshAheadCacheListener<T, ID> extends CacheListenerAdapter<ID, T> {
+
+	public static final double DEFAULT_REFRESH_THRESHOLD = 0.75d;
+
+	public static final int DEFAULT_MAXIMUM_CONCURRENT_REFRESHES = 2;
+
+	protected static final int MAXIMUM_QUEUED_REFRESHES = 1024;
+	protected static final int MAXIMUM_SCHEDULED_REFRESHES = 65536;
+
+	private final AtomicInteger scheduledRefreshCount = new AtomicInteger(0);
+
+	private final double refreshThreshold;
+
+	private final RepositoryCacheLoader<T, ID> cacheLoader;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final LongAdder refreshCount = new LongAdder();
+	private final LongAdder rejectedRefreshCount = new LongAdder();
+
+	private final ScheduledExecutorService refreshScheduler;
+
+	private final Set<ID> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
+	private final ThreadPoolExecutor refreshExecutor;
+
+	/**
+	 * Constructs a new instance of {@link RefreshAheadCacheListener} initialized with the given Spring Data
+	 * {@link CrudRepository} used to reload entities, the {@link #DEFAULT_REFRESH_THRESHOLD default refresh threshold}
+	 * and {@link #DEFAULT_MAXIMUM_CONCURRENT_REFRESHES default maximum number of concurrent refreshes}.
+	 *
+	 * @param repository {@link CrudRepository} used to reload entities.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}.
+	 * @see #RefreshAheadCacheListener(CrudRepository, double, int)
+	 */
+	public RefreshAheadCacheListener(@NonNull CrudRepository<T, ID> repository) {
+		this(repository, DEFAULT_REFRESH_THRESHOLD, DEFAULT_MAXIMUM_CONCURRENT_REFRESHES);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RefreshAheadCacheListener} initialized with the given Spring Data
+	 * {@link CrudRepository} used to reload entities, the fraction of the entry TTL after which an entry that is
+	 * still being read is reloaded, and the maximum number of entries reloaded concurrently.
+	 *
+	 * @param repository {@link CrudRepository} used to reload entities.
+	 * @param refreshThreshold fraction of the entry TTL, between {@literal 0} and {@literal 1}, exclusive,
+	 * after which an entry is reloaded.
+	 * @param maximumConcurrentRefreshes maximum number of entries reloaded concurrently.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}, {@code refreshThreshold}
+	 * is not between {@literal 0} and {@literal 1}, or {@code maximumConcurrentRefreshes} is less than {@literal 1}.
+	 */
+	public RefreshAheadCacheListener(@NonNull CrudRepository<T, ID> repository, double refreshThreshold,
+			int maximumConcurrentRefreshes) {
+
+		this(newRepositoryCacheLoader(repository), refreshThreshold, maximumConcurrentRefreshes);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RefreshAheadCacheListener} initialized with the given
+	 * {@link RepositoryCacheLoader} used to reload entities, the fraction of the entry TTL after which an entry
+	 * that is still being read is reloaded, and the maximum number of entries reloaded concurrently.
+	 *
+	 * @param cacheLoader {@link RepositoryCacheLoader} used to reload entities.
+	 * @param refreshThreshold fraction of the entry TTL, between {@literal 0} and {@literal 1}, exclusive,
+	 * after which an entry is reloaded.
+	 * @param maximumConcurrentRefreshes maximum number of entries reloaded concurrently.
+	 * @throws IllegalArgumentException if {@link RepositoryCacheLoader} is {@literal null}, {@code refreshThreshold}
+	 * is not between {@literal 0} and {@literal 1}, or {@code maximumConcurrentRefreshes} is less than {@literal 1}.
+	 * @see org.springframework.geode.cache.RepositoryCacheLoader
+	 */
+	public RefreshAheadCacheListener(@NonNull RepositoryCacheLoader<T, ID> cacheLoader, double refreshThreshold,
+			int maximumConcurrentRefreshes) {
+
+		Assert.notNull(cacheLoader, "RepositoryCacheLoader is required");
+
+		Assert.isTrue(refreshThreshold > 0.0d && refreshThreshold < 1.0d,
+			String.format("Refresh threshold [%s] must be between 0 and 1", refreshThreshold));
+
+		Assert.isTrue(maximumConcurrentRefreshes > 0,
+			String.format("Maximum concurrent refreshes [%d] must be greater than 0", maximumConcurrentRefreshes));
+
+		this.cacheLoader = cacheLoader;
+		this.refreshThreshold = refreshThreshold;
+
+		ScheduledThreadPoolExecutor refreshScheduler =
+			new ScheduledThreadPoolExecutor(1, newThreadFactory("Refresh-Ahead Scheduler"));
+
+		refreshScheduler.setRemoveOnCancelPolicy(true);
+
+		this.refreshScheduler = refreshScheduler;
+
+		this.refreshExecutor = new ThreadPoolExecutor(maximumConcurrentRefreshes, maximumConcurrentRefreshes,
+			60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAXIMUM_QUEUED_REFRESHES),
+			newThreadFactory("Refresh-Ahead Loader"));
+
+		this.refreshExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	private static <T, ID> RepositoryCacheLoader<T, ID> newRepositoryCacheLoader(
+			@NonNull CrudRepository<T, ID> repository) {
+
+		Assert.notNull(repository, "CrudRepository is required");
+
+		return new RepositoryCacheLoader<>(repository);
+	}
+
+	private static ThreadFactory newThreadFactory(String threadName) {
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, threadName);
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the number of entries reloaded ahead of expiration.
+	 *
+	 * @return the number of entries reloaded ahead of expiration.
+	 */
+	public long getRefreshCount() {
+		return this.refreshCount.sum();
+	}
+
+	/**
+	 * Returns the fraction of the entry TTL after which an entry that is still being read is reloaded.
+	 *
+	 * @return the refresh threshold.
+	 */
+	public double getRefreshThreshold() {
+		return this.refreshThreshold;
+	}
+
+	/**
+	 * Returns the number of refreshes that were skipped because too many refreshes were already scheduled or queued.
+	 *
+	 * @return the number of rejected refreshes.
+	 */
+	public long getRejectedRefreshCount() {
+		return this.rejectedRefreshCount.sum();
+	}
+
+	/**
+	 * Returns the number of checks currently scheduled to determine whether an entry is refreshed.
+	 *
+	 * @return the number of scheduled refresh checks.
+	 */
+	public int getScheduledRefreshCount() {
+		return this.scheduledRefreshCount.get();
+	}
+
+	protected @NonNull RepositoryCacheLoader<T, ID> getCacheLoader() {
+		return this.cacheLoader;
+	}
+
+	protected @NonNull CrudRepository<T, ID> getRepository() {
+		return getCacheLoader().getRepository();
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<ID, T> event) {
+		scheduleRefresh(event);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<ID, T> event) {
+		scheduleRefresh(event);
+	}
+
+	/**
+	 * Returns the delay, in milliseconds, after which an entry of the given {@link Region} is considered
+	 * for refresh, or {@literal 0} if entries in the {@link Region} do not expire.
+	 *
+	 * @param region {@link Region} containing the entry.
+	 * @return the refresh delay in milliseconds.
+	 */
+	protected long getRefreshDelayInMilliseconds(@Nullable Region<ID, T> region) {
+
+		ExpirationAttributes entryTimeToLive = region != null ? region.getAttributes().getEntryTimeToLive() : null;
+
+		int timeToLiveInSeconds = entryTimeToLive != null ? entryTimeToLive.getTimeout() : 0;
+
+		return Math.round(TimeUnit.SECONDS.toMillis(timeToLiveInSeconds) * getRefreshThreshold());
+	}
+
+	/**
+	 * Determines whether the entry of the given {@link EntryEvent} is refreshed by this member.
+	 *
+	 * An entry of a partitioned {@link Region} is refreshed by the primary of its bucket, to which a put on
+	 * any other member is forwarded.  Otherwise, the entry is refreshed by the member on which it was put.
+	 *
+	 * @param event {@link EntryEvent} of the created or updated entry.
+	 * @return a boolean value indicating whether this member refreshes the entry.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)
+	 */
+	protected boolean isRefreshedLocally(@NonNull EntryEvent<ID, T> event) {
+
+		Region<ID, T> region = event.getRegion();
+
+		if (region != null && PartitionRegionHelper.isPartitionedRegion(region)) {
+
+			RegionService regionService = region.getRegionService();
+
+			DistributedMember primaryMember = PartitionRegionHelper.getPrimaryMemberForKey(region, event.getKey());
+
+			return regionService instanceof Cache
+				&& ((Cache) regionService).getDistributedSystem().getDistributedMember().equals(primaryMember);
+		}
+
+		return !event.isOriginRemote();
+	}
+
+	private void scheduleRefresh(EntryEvent<ID, T> event) {
+
+		if (event != null && isRefreshedLocally(event)) {
+
+			Region<ID, T> region = event.getRegion();
+
+			long refreshDelay = getRefreshDelayInMilliseconds(region);
+
+			if (refreshDelay > 0) {
+
+				ID key = event.getKey();
+
+				if (this.scheduledRefreshCount.incrementAndGet() > MAXIMUM_SCHEDULED_REFRESHES) {
+					this.scheduledRefreshCount.decrementAndGet();
+					this.rejectedRefreshCount.increment();
+					return;
+				}
+
+				try {
+					this.refreshScheduler.schedule(() -> {
+						try {
+							refreshIfRead(region, key, refreshDelay);
+						}
+						finally {
+							this.scheduledRefreshCount.decrementAndGet();
+						}
+					}, refreshDelay, TimeUnit.MILLISECONDS);
+				}
+				catch (RejectedExecutionException closed) {
+					this.scheduledRefreshCount.decrementAndGet();
+				}
+			}
+		}
+	}
+
+	void refreshIfRead(Region<ID, T> region, ID key, long refreshDelay) {
+
+		Region.Entry<ID, T> entry = region.getEntry(key);
+
+		if (isReadSinceModifiedAndDue(entry, refreshDelay) && this.refreshesInFlight.add(key)) {
+			try {
+				this.refreshExecutor.execute(() -> refresh(region, key));
+			}
+			catch (RejectedExecutionException cause) {
+				this.refreshesInFlight.remove(key);
+				this.rejectedRefreshCount.increment();
+			}
+		}
+	}
+
+	private boolean isReadSinceModifiedAndDue(@Nullable Region.Entry<ID, T> entry, long refreshDelay) {
+
+		if (entry != null && !entry.isDestroyed()) {
+			try {
+
+				CacheStatistics statistics = entry.getStatistics();
+
+				long lastModifiedTime = statistics.getLastModifiedTime();
+
+				// An entry modified since this refresh was scheduled has its own refresh scheduled
+				return System.currentTimeMillis() - lastModifiedTime >= refreshDelay
+					&& statistics.getLastAccessedTime() > lastModifiedTime;
+			}
+			catch (StatisticsDisabledException ignore) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+	private void refresh(Region<ID, T> region, ID key) {
+
+		try {
+
+			T entity = getCacheLoader().doLoad(key);
+
+			if (entity != null && !region.isDestroyed()) {
+				region.put(key, entity, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+				this.refreshCount.increment();
+			}
+		}
+		catch (Throwable cause) {
+			getLogger().warn(String.format("Failed to refresh entry with key [%1$s] in Region [%2$s]",
+				key, region.getFullPath()), cause);
+		}
+		finally {
+			this.refreshesInFlight.remove(key);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.refreshScheduler.shutdownNow();
+		this.refreshExecutor.shutdownNow();
+	}
+}
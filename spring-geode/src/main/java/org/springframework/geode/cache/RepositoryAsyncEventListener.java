@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.NegativeResultCache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AsyncEventListener} implementation backed by a Spring Data {@link CrudRepository} used to asynchronously
+ * write (i.e. write-behind) batches of cache entries (i.e. entities) to a backend, external data source.
+ *
+ * Consecutive creates and updates in a batch are written with a single {@link CrudRepository#saveAll(Iterable)}
+ * call while destroys are applied in between, preserving the order of operations in the batch.  Events caused by
+ * loads, evictions and expirations are ignored since they do not represent a change to the backend data source.
+ *
+ * Since no {@link org.apache.geode.cache.CacheWriter} is registered on a write-behind
+ * {@link org.apache.geode.cache.Region}, the keys of written entities are added to the {@link BloomFilter}
+ * and evicted from the {@link NegativeResultCache}, if configured, once the entities have been written
+ * to the backend data source.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventListener
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.support.BloomFilter
+ * @see org.springframework.geode.cache.support.NegativeResultCache
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
+
+	protected static final String BATCH_WRITE_FAILURE_MESSAGE =
+		"Failed to write batch of [%d] event(s) with Repository [%s]; the batch will be redelivered";
+
+	private final AtomicLong batchCount = new AtomicLong(0L);
+	private final AtomicLong eventCount = new AtomicLong(0L);
+	private final AtomicLong failedBatchCount = new AtomicLong(0L);
+
+	private BloomFilter<ID> bloomFilter;
+
+	private final CrudRepository<T, ID> repository;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private NegativeResultCache<ID> negativeResultCache;
+
+	/**
+	 * Constructs a new instance of {@link RepositoryAsyncEventListener} initialized with the given Spring Data
+	 * {@link CrudRepository} used to write batches of {@link AsyncEvent AsyncEvents} to a backend data source.
+	 *
+	 * @param repository {@link CrudRepository} used to write {@link AsyncEvent AsyncEvents}.
+	 * @throws IllegalArgumentException if {@link CrudRepository} is {@literal null}.
+	 * @see org.springframework.data.repository.CrudRepository
+	 */
+	public RepositoryAsyncEventListener(@NonNull CrudRepository<T, ID> repository) {
+
+		Assert.notNull(repository, "Repository is required");
+
+		this.repository = repository;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	public @NonNull CrudRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the {@link BloomFilter} to which the keys of written entities are added.
+	 *
+	 * @return an {@link Optional} {@link BloomFilter}.
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	public Optional<BloomFilter<ID>> getBloomFilter() {
+		return Optional.ofNullable(this.bloomFilter);
+	}
+
+	/**
+	 * Returns the {@link NegativeResultCache} from which the keys of written entities are evicted.
+	 *
+	 * @return an {@link Optional} {@link NegativeResultCache}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	public Optional<NegativeResultCache<ID>> getNegativeResultCache() {
+		return Optional.ofNullable(this.negativeResultCache);
+	}
+
+	/**
+	 * Returns the number of batches successfully written to the backend data source.
+	 *
+	 * @return the number of batches successfully written to the backend data source.
+	 */
+	public long getBatchCount() {
+		return this.batchCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link AsyncEvent AsyncEvents} successfully written to the backend data source.
+	 *
+	 * @return the number of {@link AsyncEvent AsyncEvents} successfully written to the backend data source.
+	 */
+	public long getEventCount() {
+		return this.eventCount.get();
+	}
+
+	/**
+	 * Returns the number of batches that failed to be written to the backend data source and will be redelivered
+	 * by the {@link AsyncEventQueue}.
+	 *
+	 * @return the number of batches that failed to be written to the backend data source.
+	 */
+	public long getFailedBatchCount() {
+		return this.failedBatchCount.get();
+	}
+
+	/**
+	 * Builder method used to configure the {@link BloomFilter} shared with the {@link RepositoryCacheLoader},
+	 * to which the keys of entities written to the backend data source are added.
+	 *
+	 * @param bloomFilter {@link BloomFilter} of existing keys; may be {@literal null}.
+	 * @return this {@link RepositoryAsyncEventListener}.
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	public RepositoryAsyncEventListener<T, ID> with(@Nullable BloomFilter<ID> bloomFilter) {
+
+		this.bloomFilter = bloomFilter;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link NegativeResultCache} shared with the {@link RepositoryCacheLoader},
+	 * from which the keys of entities written to the backend data source are evicted.
+	 *
+	 * @param negativeResultCache {@link NegativeResultCache} of missing keys; may be {@literal null}.
+	 * @return this {@link RepositoryAsyncEventListener}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	public RepositoryAsyncEventListener<T, ID> with(@Nullable NegativeResultCache<ID> negativeResultCache) {
+
+		this.negativeResultCache = negativeResultCache;
+
+		return this;
+	}
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public boolean processEvents(@Nullable List<AsyncEvent> events) {
+
+		if (events == null || events.isEmpty()) {
+			return true;
+		}
+
+		List<T> entitiesToSave = new ArrayList<>(events.size());
+		List<ID> keysToSave = new ArrayList<>(events.size());
+
+		try {
+			for (AsyncEvent<ID, T> event : (List<AsyncEvent<ID, T>>) (List<?>) events) {
+
+				Operation operation = event.getOperation();
+
+				if (isIgnorable(operation) || RepositoryRegionPreloader.isPreload(event.getCallbackArgument())) {
+					continue;
+				}
+
+				if (operation.isCreate() || operation.isUpdate()) {
+					entitiesToSave.add(event.getDeserializedValue());
+					keysToSave.add(event.getKey());
+				}
+				else if (operation.isDestroy()) {
+					saveAll(entitiesToSave, keysToSave);
+					deleteById(event.getKey());
+				}
+			}
+
+			saveAll(entitiesToSave, keysToSave);
+
+			this.batchCount.incrementAndGet();
+			this.eventCount.addAndGet(events.size());
+
+			return true;
+		}
+		catch (Throwable cause) {
+
+			this.failedBatchCount.incrementAndGet();
+
+			getLogger().warn(String.format(BATCH_WRITE_FAILURE_MESSAGE,
+				events.size(), getRepository().getClass().getName()), cause);
+
+			return false;
+		}
+	}
+
+	/**
+	 * Determines whether the {@link AsyncEvent} for the given {@link Operation} does not need to be written to
+	 * the backend data source.
+	 *
+	 * Loads originate from the backend data source while evictions and expirations only remove data from the cache.
+	 *
+	 * @param operation {@link Operation} of the {@link AsyncEvent}.
+	 * @return a boolean value indicating whether the {@link AsyncEvent} can be ignored.
+	 * @see org.apache.geode.cache.Operation
+	 */
+	protected boolean isIgnorable(@Nullable Operation operation) {
+
+		return operation == null
+			|| operation.isLoad()
+			|| operation.isEviction()
+			|| operation.isExpiration();
+	}
+
+	private void saveAll(List<T> entities, List<ID> keys) {
+
+		if (!entities.isEmpty()) {
+			getRepository().saveAll(new ArrayList<>(entities));
+			entities.clear();
+			keys.forEach(this::written);
+			keys.clear();
+		}
+	}
+
+	private void written(ID key) {
+
+		if (key != null) {
+			getBloomFilter().ifPresent(bloomFilter -> bloomFilter.put(key));
+			getNegativeResultCache().ifPresent(negativeResultCache -> negativeResultCache.evict(key));
+		}
+	}
+
+	private void deleteById(ID id) {
+		getRepository().deleteById(id);
+	}
+}
@@ -15,19 +15,69 @@
  */
 package org.springframework.geode.cache;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheLoaderException;
 import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryNotFoundException;
 import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.geode.cache.support.RepositoryOperationRejectedException;
+import org.springframework.geode.cache.support.StaleValueCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * A {@link CacheLoader} implementation backed by a Spring Data {@link CrudRepository} used to load an entity
  * from an external data source.
  *
+ * When load coalescing is enabled, concurrent loads for the same key in this JVM share a single, in-flight
+ * {@link CrudRepository#findById(Object)} call and all receive its result.
+ *
+ * When a {@link org.springframework.geode.cache.support.NegativeResultCache} is configured, keys for which
+ * no entity was found are remembered and subsequent loads for those keys return {@literal null}
+ * without accessing the {@link CrudRepository}.  Likewise, when a {@link org.springframework.geode.cache.support.BloomFilter}
+ * is configured, loads for keys the filter reports as absent return {@literal null} without accessing
+ * the {@link CrudRepository}.
+ *
+ * When a {@link org.springframework.geode.cache.support.CircuitBreaker} or
+ * {@link org.springframework.geode.cache.support.Bulkhead} rejects a load, the load fails fast with
+ * a {@link CacheLoaderException}.  If a {@link StaleValueCache} is configured, the last known entity for the key
+ * is returned instead.
+ *
+ * When a load timeout is configured along with a {@link StaleValueCache}, a load for a key with a last known entity
+ * waits at most the load timeout for the {@link CrudRepository}.  If the {@link CrudRepository} has not answered
+ * by then, the last known entity is returned while the load continues in the background and, when it completes,
+ * replaces the last known entity in the {@link Region}, or removes it when the entity no longer exists, unless
+ * the entry was written in the meantime.
+ *
+ * When an admission policy is configured, an entity loaded for a key the policy does not admit is returned
+ * to the caller, but is locally destroyed in the {@link Region} right after the load, since a {@link CacheLoader}
+ * cannot prevent Apache Geode from caching the value it returns.  Only {@link Region Regions} whose data is local,
+ * such as client {@link Region Regions}, remove entities that are not admitted; partitioned and replicated
+ * {@link Region Regions} keep them, because removing them would destroy the entry on every member.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.CacheLoader
  * @see org.springframework.data.repository.CrudRepository
@@ -37,17 +87,322 @@ import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSuppor
 @SuppressWarnings("unused")
 public class RepositoryCacheLoader<T, ID> extends RepositoryCacheLoaderWriterSupport<T, ID> {
 
+  public static final int DEFAULT_MAXIMUM_CONCURRENT_REVALIDATIONS = 4;
+
+  protected static final int MAXIMUM_QUEUED_EVICTIONS = 1024;
+  protected static final int MAXIMUM_QUEUED_REVALIDATIONS = 1024;
+
   protected static final String CACHE_LOAD_EXCEPTION_MESSAGE = "Error while loading Entity [%s] with Repository [%s]";
 
+  private volatile boolean loadCoalescingEnabled = false;
+
+  private final ConcurrentMap<ID, CompletableFuture<T>> inFlightLoads = new ConcurrentHashMap<>();
+
+  private final LongAdder coalescedLoadCount = new LongAdder();
+  private final LongAdder rejectedAdmissionCount = new LongAdder();
+  private final LongAdder revalidationCount = new LongAdder();
+  private final LongAdder staleLoadCount = new LongAdder();
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private volatile Duration loadTimeout;
+
+  private volatile Predicate<? super ID> admissionPolicy;
+
+  private volatile StaleValueCache<ID, T> staleValueCache;
+
+  private volatile ThreadPoolExecutor admissionExecutor;
+  private volatile ThreadPoolExecutor revalidationExecutor;
+
   public RepositoryCacheLoader(CrudRepository<T, ID> repository) {
     super(repository);
   }
 
+  /**
+   * Returns the policy deciding whether an entity loaded for a key is kept in the {@link Region}.
+   *
+   * @return an {@link Optional} admission policy.
+   * @see #withAdmissionPolicy(Predicate)
+   */
+  public Optional<Predicate<? super ID>> getAdmissionPolicy() {
+    return Optional.ofNullable(this.admissionPolicy);
+  }
+
+  /**
+   * Returns the number of loads that were satisfied by joining an in-flight load for the same key
+   * rather than calling the {@link CrudRepository}.
+   *
+   * @return the number of {@link CrudRepository} calls saved by load coalescing.
+   * @see #withLoadCoalescing(boolean)
+   */
+  public long getCoalescedLoadCount() {
+    return this.coalescedLoadCount.sum();
+  }
+
+  protected Logger getLogger() {
+    return this.logger;
+  }
+
+  /**
+   * Returns the maximum amount of time a load for a key with a last known entity waits for the {@link CrudRepository}.
+   *
+   * @return an {@link Optional} load timeout.
+   * @see #withLoadTimeout(Duration)
+   */
+  public Optional<Duration> getLoadTimeout() {
+    return Optional.ofNullable(this.loadTimeout);
+  }
+
+  /**
+   * Returns the number of loaded entities that were returned to the caller but not kept in the {@link Region}
+   * because the admission policy rejected their key.
+   *
+   * @return the number of rejected admissions.
+   * @see #withAdmissionPolicy(Predicate)
+   */
+  public long getRejectedAdmissionCount() {
+    return this.rejectedAdmissionCount.sum();
+  }
+
+  /**
+   * Returns the number of stale entities replaced in, or removed from, the {@link Region} by loads that completed
+   * in the background after the load timeout.
+   *
+   * @return the number of background reloads that refreshed the {@link Region}.
+   * @see #withLoadTimeout(Duration)
+   */
+  public long getRevalidationCount() {
+    return this.revalidationCount.sum();
+  }
+
+  /**
+   * Returns the number of loads that were satisfied with a stale value, either because the load was rejected
+   * or because the {@link CrudRepository} did not answer within the load timeout.
+   *
+   * @return the number of loads satisfied with a stale value.
+   * @see #withStaleValueCache(StaleValueCache)
+   */
+  public long getStaleLoadCount() {
+    return this.staleLoadCount.sum();
+  }
+
+  /**
+   * Returns the {@link StaleValueCache} of last known entities used to answer loads that were rejected
+   * or timed out.
+   *
+   * @return an {@link Optional} {@link StaleValueCache}.
+   * @see org.springframework.geode.cache.support.StaleValueCache
+   */
+  public Optional<StaleValueCache<ID, T>> getStaleValueCache() {
+    return Optional.ofNullable(this.staleValueCache);
+  }
+
+  /**
+   * Determines whether concurrent loads for the same key are coalesced into a single {@link CrudRepository} call.
+   *
+   * @return a boolean value indicating whether load coalescing is enabled.
+   * @see #withLoadCoalescing(boolean)
+   */
+  public boolean isLoadCoalescingEnabled() {
+    return this.loadCoalescingEnabled;
+  }
+
+  /**
+   * Builder method used to configure the policy deciding whether an entity loaded from the {@link CrudRepository}
+   * for a key is kept in the {@link Region}.
+   *
+   * An entity for a key the policy rejects is returned to the caller and then locally destroyed in
+   * the {@link Region}, on a separate {@link Thread}, unless the {@link Region} entry no longer holds
+   * the instance returned by the load, for example because it was updated or reloaded in the meantime.
+   * The removal is not written to the backend data source.  Partitioned and replicated {@link Region Regions}
+   * keep entities that are not admitted, since they cannot be removed without destroying the entry on every member.
+   *
+   * @param admissionPolicy {@link Predicate} admitting the {@link ID key} of a loaded entity;
+   * {@literal null} keeps all loaded entities.
+   * @return this {@link RepositoryCacheLoader}.
+   * @see org.springframework.geode.cache.support.HeapAwareAdmissionPolicy
+   * @see java.util.function.Predicate
+   */
+  public RepositoryCacheLoader<T, ID> withAdmissionPolicy(@Nullable Predicate<? super ID> admissionPolicy) {
+
+    if (admissionPolicy != null && this.admissionExecutor == null) {
+      this.admissionExecutor = newAdmissionExecutor();
+    }
+
+    this.admissionPolicy = admissionPolicy;
+
+    return this;
+  }
+
+  /**
+   * Builder method used to enable or disable load coalescing.
+   *
+   * @param loadCoalescingEnabled boolean value indicating whether load coalescing is enabled.
+   * @return this {@link RepositoryCacheLoader}.
+   * @see #isLoadCoalescingEnabled()
+   */
+  public RepositoryCacheLoader<T, ID> withLoadCoalescing(boolean loadCoalescingEnabled) {
+
+    this.loadCoalescingEnabled = loadCoalescingEnabled;
+
+    return this;
+  }
+
+  /**
+   * Builder method used to enable the stale value fallback, which returns the entity last loaded for a key
+   * when the {@link org.springframework.geode.cache.support.CircuitBreaker} or
+   * {@link org.springframework.geode.cache.support.Bulkhead} rejects a load.
+   *
+   * Up to the given number of entities are remembered; the least recently used entities are discarded first.
+   *
+   * @param maximumSize maximum number of entities remembered.
+   * @return this {@link RepositoryCacheLoader}.
+   * @throws IllegalArgumentException if {@code maximumSize} is less than {@literal 1}.
+   * @see #withStaleValueCache(StaleValueCache)
+   */
+  public RepositoryCacheLoader<T, ID> withStaleValueFallback(int maximumSize) {
+    return withStaleValueCache(new StaleValueCache<>(maximumSize));
+  }
+
+  /**
+   * Builder method used to configure the {@link StaleValueCache} of last known entities used to answer loads
+   * that were rejected or timed out.
+   *
+   * Entities loaded by this {@link CacheLoader} are recorded in the {@link StaleValueCache}.
+   *
+   * @param staleValueCache {@link StaleValueCache} to use; {@literal null} disables stale values.
+   * @return this {@link RepositoryCacheLoader}.
+   * @see org.springframework.geode.cache.support.StaleValueCache
+   */
+  public RepositoryCacheLoader<T, ID> withStaleValueCache(@Nullable StaleValueCache<ID, T> staleValueCache) {
+
+    this.staleValueCache = staleValueCache;
+
+    return this;
+  }
+
+  /**
+   * Builder method used to configure the maximum amount of time a load for a key with a last known entity
+   * waits for the {@link CrudRepository} before the last known entity is returned.
+   *
+   * Loads that exceed the timeout continue in the background, on a bounded pool of {@link Thread Threads}.
+   * When they complete, the loaded entity replaces the stale entity in the {@link Region}, or the stale entity
+   * is locally destroyed when the entity no longer exists, but only while the {@link Region} entry still holds
+   * the stale entity, so that entities written in the meantime are kept.  The load timeout has no effect
+   * unless a {@link StaleValueCache} is configured.
+   *
+   * @param loadTimeout {@link Duration} of the load timeout; {@literal null} disables the timeout.
+   * @return this {@link RepositoryCacheLoader}.
+   * @throws IllegalArgumentException if the {@link Duration} is zero or negative.
+   * @see #withStaleValueCache(StaleValueCache)
+   */
+  public RepositoryCacheLoader<T, ID> withLoadTimeout(@Nullable Duration loadTimeout) {
+
+    Assert.isTrue(loadTimeout == null || !(loadTimeout.isZero() || loadTimeout.isNegative()),
+        String.format("Load timeout [%s] must be greater than 0", loadTimeout));
+
+    if (loadTimeout != null && this.revalidationExecutor == null) {
+      this.revalidationExecutor = newRevalidationExecutor();
+    }
+
+    this.loadTimeout = loadTimeout;
+
+    return this;
+  }
+
+  private ThreadPoolExecutor newAdmissionExecutor() {
+
+    ThreadPoolExecutor admissionExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(MAXIMUM_QUEUED_EVICTIONS), runnable -> {
+
+          Thread thread = new Thread(runnable, "Rejected Admission Evictor");
+
+          thread.setDaemon(true);
+
+          return thread;
+        });
+
+    admissionExecutor.allowCoreThreadTimeOut(true);
+
+    return admissionExecutor;
+  }
+
+  private ThreadPoolExecutor newRevalidationExecutor() {
+
+    ThreadPoolExecutor revalidationExecutor = new ThreadPoolExecutor(DEFAULT_MAXIMUM_CONCURRENT_REVALIDATIONS,
+        DEFAULT_MAXIMUM_CONCURRENT_REVALIDATIONS, 60L, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(MAXIMUM_QUEUED_REVALIDATIONS), runnable -> {
+
+          Thread thread = new Thread(runnable, "Stale-While-Revalidate Loader");
+
+          thread.setDaemon(true);
+
+          return thread;
+        });
+
+    revalidationExecutor.allowCoreThreadTimeOut(true);
+
+    return revalidationExecutor;
+  }
+
   @Override
   public T load(LoaderHelper<ID, T> helper) throws CacheLoaderException {
 
     try {
-      return getRepository().findById(helper.getKey()).orElse(null);
+
+      ID key = helper.getKey();
+
+      if (getNegativeResultCache().filter(negativeResultCache -> negativeResultCache.contains(key)).isPresent()) {
+        return null;
+      }
+
+      if (getBloomFilter().filter(bloomFilter -> !bloomFilter.mightContain(key)).isPresent()) {
+        return null;
+      }
+
+      StaleValueCache<ID, T> staleValueCache = this.staleValueCache;
+
+      Duration loadTimeout = this.loadTimeout;
+
+      T entity;
+
+      try {
+
+        T staleEntity = loadTimeout != null && staleValueCache != null ? staleValueCache.get(key) : null;
+
+        entity = staleEntity != null
+            ? doLoadWithinTimeout(helper, key, staleEntity, loadTimeout)
+            : doUnboundedLoad(key);
+      }
+      catch (RepositoryOperationRejectedException cause) {
+
+        T staleEntity = staleValueCache != null ? staleValueCache.get(key) : null;
+
+        if (staleEntity != null) {
+          this.staleLoadCount.increment();
+          return staleEntity;
+        }
+
+        throw cause;
+      }
+
+      if (entity == null) {
+        getNegativeResultCache().ifPresent(negativeResultCache -> negativeResultCache.put(key));
+      }
+      else {
+
+        if (staleValueCache != null) {
+          staleValueCache.put(key, entity);
+        }
+
+        Predicate<? super ID> admissionPolicy = this.admissionPolicy;
+
+        if (admissionPolicy != null && !admissionPolicy.test(key)) {
+          rejectAdmission(helper.getRegion(), key, entity);
+        }
+      }
+
+      return entity;
     }
     catch (Exception cause) {
       throw newCacheRuntimeException(() -> String.format(CACHE_LOAD_EXCEPTION_MESSAGE,
@@ -55,6 +410,225 @@ public class RepositoryCacheLoader<T, ID> extends RepositoryCacheLoaderWriterSup
     }
   }
 
+  /**
+   * Loads the entity identified by the given {@link ID key} from the {@link CrudRepository}.
+   *
+   * @param key {@link ID key} identifying the entity to load.
+   * @return the loaded entity or {@literal null} if no entity exists with the given {@link ID key}.
+   */
+  protected T doLoad(ID key) {
+    return doGuardedRepositoryOp(RepositoryOperationMetrics.LOAD_OPERATION,
+        () -> getRepository().findById(key).orElse(null));
+  }
+
+  private T doUnboundedLoad(ID key) throws Exception {
+    return isLoadCoalescingEnabled() ? doCoalescedLoad(key) : doLoad(key);
+  }
+
+  private T doLoadWithinTimeout(LoaderHelper<ID, T> helper, ID key, T staleEntity, Duration loadTimeout)
+      throws Exception {
+
+    CompletableFuture<T> load = new CompletableFuture<>();
+
+    try {
+      this.revalidationExecutor.execute(() -> {
+        try {
+          load.complete(doUnboundedLoad(key));
+        }
+        catch (Throwable cause) {
+          load.completeExceptionally(cause);
+        }
+      });
+    }
+    catch (RejectedExecutionException ignore) {
+      return doUnboundedLoad(key);
+    }
+
+    try {
+      return awaitLoad(load, loadTimeout);
+    }
+    catch (TimeoutException ignore) {
+
+      Region<ID, T> region = helper.getRegion();
+
+      load.whenComplete((entity, cause) -> revalidate(region, key, staleEntity, entity, cause));
+
+      this.staleLoadCount.increment();
+
+      return staleEntity;
+    }
+  }
+
+  // The stale entity is in the Region only once the timed out load returns it, and is replaced, or removed when
+  // the entity no longer exists, only while the entry still holds that instance, so newer writes are kept
+  private void revalidate(@Nullable Region<ID, T> region, ID key, T staleEntity, @Nullable T entity,
+      @Nullable Throwable cause) {
+
+    if (cause != null) {
+      getLogger().warn(String.format("Failed to reload entity with key [%s] after load timeout", key), cause);
+    }
+    else {
+
+      getStaleValueCache().ifPresent(staleValueCache -> {
+        if (entity != null) {
+          staleValueCache.put(key, entity);
+        }
+        else {
+          staleValueCache.evict(key);
+        }
+      });
+
+      if (region != null && !region.isDestroyed()) {
+        try {
+
+          Region.Entry<ID, T> entry = region.getEntry(key);
+
+          if (entry != null && entry.getValue() == staleEntity) {
+
+            if (entity != null) {
+              region.put(key, entity, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+            }
+            else {
+              region.localDestroy(key, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+            }
+
+            this.revalidationCount.increment();
+          }
+        }
+        catch (EntryNotFoundException ignore) {
+        }
+        catch (RuntimeException failure) {
+          getLogger().warn(String.format("Failed to revalidate entity with key [%1$s] in Region [%2$s]",
+              key, region.getFullPath()), failure);
+        }
+      }
+    }
+  }
+
+  private void rejectAdmission(@Nullable Region<ID, T> region, ID key, T entity) {
+
+    this.rejectedAdmissionCount.increment();
+
+    if (region != null && isLocal(region)) {
+      try {
+        this.admissionExecutor.execute(() -> evictRejected(region, key, entity));
+      }
+      catch (RejectedExecutionException ignore) {
+        getLogger().debug("Keeping entity with key [{}] in Region [{}]; too many pending evictions",
+            key, region.getFullPath());
+      }
+    }
+  }
+
+  private boolean isLocal(Region<ID, T> region) {
+
+    DataPolicy dataPolicy = region.getAttributes() != null ? region.getAttributes().getDataPolicy() : null;
+
+    return dataPolicy != null && !dataPolicy.withPartitioning() && !dataPolicy.withReplication();
+  }
+
+  // The loaded entity is in the Region only once this load returns.  Geode does not expose entry versions,
+  // so the loaded instance identifies the version; an update or reload puts a different instance.
+  private void evictRejected(Region<ID, T> region, ID key, T entity) {
+
+    try {
+
+      Region.Entry<ID, T> entry = !region.isDestroyed() ? region.getEntry(key) : null;
+
+      if (entry != null && entry.getValue() == entity) {
+        region.localDestroy(key, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+      }
+    }
+    catch (EntryNotFoundException ignore) {
+    }
+    catch (RuntimeException cause) {
+      getLogger().warn(String.format("Failed to remove entity with key [%1$s] not admitted to Region [%2$s]",
+          key, region.getFullPath()), cause);
+    }
+  }
+
+  private T doCoalescedLoad(ID key) throws Exception {
+
+    CompletableFuture<T> load = new CompletableFuture<>();
+    CompletableFuture<T> inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+    if (inFlightLoad != null) {
+      this.coalescedLoadCount.increment();
+      return awaitLoad(inFlightLoad);
+    }
+
+    try {
+
+      T entity = doLoad(key);
+
+      load.complete(entity);
+
+      return entity;
+    }
+    catch (Throwable cause) {
+      load.completeExceptionally(cause);
+      throw cause;
+    }
+    finally {
+      this.inFlightLoads.remove(key, load);
+    }
+  }
+
+  private static Exception unwrap(ExecutionException exception) {
+
+    Throwable cause = exception.getCause();
+
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+
+    return cause instanceof Exception ? (Exception) cause : exception;
+  }
+
+  private T awaitLoad(CompletableFuture<T> load) throws Exception {
+
+    try {
+      return load.get();
+    }
+    catch (ExecutionException cause) {
+      throw unwrap(cause);
+    }
+    catch (InterruptedException cause) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
+  }
+
+  private T awaitLoad(CompletableFuture<T> load, Duration timeout) throws Exception {
+
+    try {
+      return load.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    catch (ExecutionException cause) {
+      throw unwrap(cause);
+    }
+    catch (InterruptedException cause) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
+  }
+
+  @Override
+  public void close() {
+
+    ThreadPoolExecutor admissionExecutor = this.admissionExecutor;
+
+    if (admissionExecutor != null) {
+      admissionExecutor.shutdownNow();
+    }
+
+    ThreadPoolExecutor revalidationExecutor = this.revalidationExecutor;
+
+    if (revalidationExecutor != null) {
+      revalidationExecutor.shutdownNow();
+    }
+  }
+
   @Override
   protected CacheRuntimeException newCacheRuntimeException(Supplier<String> messageSupplier, Throwable cause) {
     return new CacheLoaderException(messageSupplier.get(), cause);
@@ -15,7 +15,19 @@
  */
 package org.springframework.geode.cache;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.Region;
@@ -24,6 +36,12 @@ import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.Bulkhead;
+import org.springframework.geode.cache.support.CircuitBreaker;
+import org.springframework.geode.cache.support.NegativeResultCache;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.geode.cache.support.StaleValueCache;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -46,6 +64,8 @@ import org.springframework.util.Assert;
  */
 public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfigurer {
 
+	public static final Duration DEFAULT_BLOOM_FILTER_REBUILD_INTERVAL = Duration.ofMinutes(5);
+
 	/**
 	 * Factory method used to construct a new instance of {@link RepositoryCacheLoaderRegionConfigurer} initialized with
 	 * the given Spring Data {@link CrudRepository} used to load {@link Region} values on cache misses as well as
@@ -94,8 +114,34 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 
 	private final CrudRepository<T, ID> repository;
 
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
 	private final Predicate<String> regionBeanName;
 
+	private boolean loadCoalescingEnabled = false;
+
+	private int maximumBatchSize = BatchingRepositoryCacheLoader.DEFAULT_MAXIMUM_BATCH_SIZE;
+
+	private Duration batchWindow = BatchingRepositoryCacheLoader.DEFAULT_BATCH_WINDOW;
+
+	private Duration loadTimeout;
+
+	private Function<T, ID> entityIdentifier;
+
+	private Function<String, Predicate<? super ID>> admissionPolicyResolver;
+
+	private Function<String, BloomFilter<ID>> bloomFilterResolver;
+
+	private Function<String, Bulkhead> bulkheadResolver;
+
+	private Function<String, CircuitBreaker> circuitBreakerResolver;
+
+	private Function<String, NegativeResultCache<ID>> negativeResultCacheResolver;
+
+	private Function<String, RepositoryOperationMetrics> repositoryOperationMetricsResolver;
+
+	private Function<String, StaleValueCache<ID, T>> staleValueCacheResolver;
+
 	/**
 	 * Constructs a new instance of {@link RepositoryCacheLoaderRegionConfigurer} initialized with the given Spring Data
 	 * {@link CrudRepository} used to load {@link Region} values on cache misses as well as the given {@link Predicate}
@@ -118,6 +164,10 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 		this.regionBeanName = regionBeanName != null ? regionBeanName : beanName -> false;
 	}
 
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
 	/**
 	 * Returns the configured {@link Predicate} used to identify/qualify the {@link Region}
 	 * on which the {@link CrudRepository} will be registered as a {@link CacheLoader} for cache misses.
@@ -141,12 +191,428 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 		return this.repository;
 	}
 
+	/**
+	 * Determines whether the {@link RepositoryCacheLoader} coalesces concurrent loads for the same key
+	 * into a single {@link CrudRepository} call.
+	 *
+	 * @return a boolean value indicating whether load coalescing is enabled.
+	 * @see RepositoryCacheLoader#isLoadCoalescingEnabled()
+	 */
+	protected boolean isLoadCoalescingEnabled() {
+		return this.loadCoalescingEnabled;
+	}
+
+	/**
+	 * Builder method used to enable or disable load coalescing in the {@link RepositoryCacheLoader}.
+	 *
+	 * @param loadCoalescingEnabled boolean value indicating whether load coalescing is enabled.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see RepositoryCacheLoader#withLoadCoalescing(boolean)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withLoadCoalescing(boolean loadCoalescingEnabled) {
+
+		this.loadCoalescingEnabled = loadCoalescingEnabled;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to return the entity last loaded for a key when a load is rejected by
+	 * the {@link CircuitBreaker} or {@link Bulkhead}.
+	 *
+	 * @param maximumSize maximum number of entities remembered per {@link Region};
+	 * {@literal 0} disables the stale value fallback.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code maximumSize} is negative.
+	 * @see #withStaleValueCache(Function)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withStaleValueFallback(int maximumSize) {
+
+		Assert.isTrue(maximumSize >= 0, String.format("Maximum size [%d] must not be negative", maximumSize));
+
+		Map<String, StaleValueCache<ID, T>> staleValueCaches = new ConcurrentHashMap<>();
+
+		return withStaleValueCache(maximumSize > 0
+			? regionBeanName -> staleValueCaches.computeIfAbsent(regionBeanName,
+				it -> new StaleValueCache<>(maximumSize))
+			: null);
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of time a load for a key with a last known entity
+	 * waits for the {@link CrudRepository} before the last known entity is returned.
+	 *
+	 * @param loadTimeout {@link Duration} of the load timeout; {@literal null} disables the timeout.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Duration} is zero or negative.
+	 * @see RepositoryCacheLoader#withLoadTimeout(Duration)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withLoadTimeout(@Nullable Duration loadTimeout) {
+
+		Assert.isTrue(loadTimeout == null || !(loadTimeout.isZero() || loadTimeout.isNegative()),
+			String.format("Load timeout [%s] must be greater than 0", loadTimeout));
+
+		this.loadTimeout = loadTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Determines whether the {@link RepositoryCacheLoader} remembers last known entities in a {@link StaleValueCache}.
+	 *
+	 * @return a boolean value indicating whether a {@link StaleValueCache} is configured.
+	 * @see #withStaleValueCache(Function)
+	 */
+	protected boolean isStaleValueCacheEnabled() {
+		return this.staleValueCacheResolver != null;
+	}
+
+	/**
+	 * Resolves the {@link StaleValueCache} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link StaleValueCache} for the {@link Region}.
+	 * @see #withStaleValueCache(Function)
+	 */
+	protected Optional<StaleValueCache<ID, T>> resolveStaleValueCache(String regionBeanName) {
+		return Optional.ofNullable(this.staleValueCacheResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link StaleValueCache} of last known
+	 * entities for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param staleValueCacheResolver {@link Function} resolving the {@link StaleValueCache} for a {@link Region};
+	 * {@literal null} disables stale values.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see RepositoryCacheLoader#withStaleValueCache(StaleValueCache)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withStaleValueCache(
+			@Nullable Function<String, StaleValueCache<ID, T>> staleValueCacheResolver) {
+
+		this.staleValueCacheResolver = staleValueCacheResolver;
+
+		return this;
+	}
+
+	/**
+	 * Determines whether cache misses are loaded in batches with {@link CrudRepository#findAllById(Iterable)}.
+	 *
+	 * @return a boolean value indicating whether batch loading is enabled.
+	 * @see #withBatchLoading(Function, Duration, int)
+	 */
+	protected boolean isBatchLoadingEnabled() {
+		return this.entityIdentifier != null;
+	}
+
+	/**
+	 * Builder method used to load cache misses in batches with a {@link BatchingRepositoryCacheLoader}.
+	 *
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of a loaded entity;
+	 * {@literal null} disables batch loading.
+	 * @param batchWindow {@link Duration} a cache miss waits for other cache misses to join its batch.
+	 * @param maximumBatchSize maximum number of keys loaded in a single batch.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.BatchingRepositoryCacheLoader
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withBatchLoading(@Nullable Function<T, ID> entityIdentifier,
+			@Nullable Duration batchWindow, int maximumBatchSize) {
+
+		this.entityIdentifier = entityIdentifier;
+		this.batchWindow = batchWindow;
+		this.maximumBatchSize = maximumBatchSize;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link BloomFilter} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link BloomFilter} for the {@link Region}.
+	 * @see #withBloomFilter(Function)
+	 */
+	protected Optional<BloomFilter<ID>> resolveBloomFilter(String regionBeanName) {
+		return Optional.ofNullable(this.bloomFilterResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to guard the {@link CrudRepository} with a {@link BloomFilter}, per {@link Region},
+	 * of all existing keys so that loads for keys that definitely do not exist return {@literal null}
+	 * without accessing the {@link CrudRepository}.
+	 *
+	 * The {@link BloomFilter} is populated in the background from the given {@link Supplier} of existing keys,
+	 * typically a {@link CrudRepository} query method streaming the IDs of all persisted entities.  Until then,
+	 * all loads access the {@link CrudRepository}.  The {@link BloomFilter} is rebuilt every
+	 * {@link #DEFAULT_BLOOM_FILTER_REBUILD_INTERVAL}.
+	 *
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability.
+	 * @param keys {@link Supplier} of a {@link Stream} of all existing keys.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 * @see #withBloomFilter(long, double, Duration, Supplier)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withBloomFilter(long expectedKeys,
+			double falsePositiveProbability, @NonNull Supplier<Stream<ID>> keys) {
+
+		return withBloomFilter(expectedKeys, falsePositiveProbability, DEFAULT_BLOOM_FILTER_REBUILD_INTERVAL, keys);
+	}
+
+	/**
+	 * Builder method used to guard the {@link CrudRepository} with a {@link BloomFilter}, per {@link Region},
+	 * of all existing keys, rebuilt from the given {@link Supplier} of existing keys at the given interval.
+	 *
+	 * Each JVM keeps its own {@link BloomFilter}, and only the {@link org.apache.geode.cache.CacheWriter}
+	 * invoked for a create adds its key, which Apache Geode invokes on a single member.  Keys created through
+	 * other members or clients, or directly in the backend data source, are therefore reported absent, and loads
+	 * for them return {@literal null}, until the next rebuild.  The rebuild interval bounds that window.  Without
+	 * a rebuild interval, the filter is only safe when this JVM is the only writer of the backend data source.
+	 *
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability.
+	 * @param rebuildInterval {@link Duration} between rebuilds; {@literal null} initializes the filter only once.
+	 * @param keys {@link Supplier} of a {@link Stream} of all existing keys.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null} or the rebuild interval
+	 * is zero or negative.
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 * @see #newBloomFilter(String, long, double, Duration, Supplier)
+	 * @see #withBloomFilter(Function)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withBloomFilter(long expectedKeys,
+			double falsePositiveProbability, @Nullable Duration rebuildInterval, @NonNull Supplier<Stream<ID>> keys) {
+
+		Assert.notNull(keys, "Supplier of keys is required");
+
+		Assert.isTrue(rebuildInterval == null || !(rebuildInterval.isZero() || rebuildInterval.isNegative()),
+			String.format("Rebuild interval [%s] must be greater than 0", rebuildInterval));
+
+		Map<String, BloomFilter<ID>> bloomFilters = new ConcurrentHashMap<>();
+
+		return withBloomFilter(regionBeanName -> bloomFilters.computeIfAbsent(regionBeanName,
+			it -> newBloomFilter(it, expectedKeys, falsePositiveProbability, rebuildInterval, keys)));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link BloomFilter} for
+	 * a {@link Region} by {@link String bean name}.
+	 *
+	 * The same {@link Function} should be given to the {@link RepositoryCacheWriterRegionConfigurer} so that
+	 * the keys of created entities are added to the {@link BloomFilter}.
+	 *
+	 * @param bloomFilterResolver {@link Function} resolving the {@link BloomFilter} for a {@link Region};
+	 * {@literal null} disables the existence check.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withBloomFilter(
+			@Nullable Function<String, BloomFilter<ID>> bloomFilterResolver) {
+
+		this.bloomFilterResolver = bloomFilterResolver;
+
+		return this;
+	}
+
+	/**
+	 * Constructs a new {@link BloomFilter} for the {@link Region} identified by the given {@link String bean name},
+	 * initializes it with the given keys on a daemon {@link Thread} and, when a rebuild interval is given,
+	 * rebuilds it from the given keys at that interval.
+	 *
+	 * If initialization fails, the {@link BloomFilter} remains uninitialized and all loads continue to access
+	 * the {@link CrudRepository} until a rebuild succeeds.  If a rebuild fails, the {@link BloomFilter} keeps
+	 * its current keys until the next rebuild.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability.
+	 * @param rebuildInterval {@link Duration} between rebuilds; {@literal null} initializes the filter only once.
+	 * @param keys {@link Supplier} of a {@link Stream} of all existing keys.
+	 * @return a new {@link BloomFilter}.
+	 * @see org.springframework.geode.cache.support.BloomFilter#rebuild(Stream)
+	 */
+	protected BloomFilter<ID> newBloomFilter(String regionBeanName, long expectedKeys,
+			double falsePositiveProbability, @Nullable Duration rebuildInterval, Supplier<Stream<ID>> keys) {
+
+		BloomFilter<ID> bloomFilter = new BloomFilter<>(expectedKeys, falsePositiveProbability);
+
+		ScheduledThreadPoolExecutor initializer = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+			Thread thread = new Thread(runnable, String.format("%s BloomFilter Initializer", regionBeanName));
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		Runnable rebuild = () -> {
+
+			try {
+
+				bloomFilter.rebuild(keys.get());
+
+				getLogger().info("Initialized {} for Region [{}]", bloomFilter, regionBeanName);
+			}
+			catch (Throwable cause) {
+				getLogger().warn(String.format("Failed to initialize BloomFilter for Region [%s]", regionBeanName),
+					cause);
+			}
+		};
+
+		if (rebuildInterval != null) {
+			initializer.scheduleWithFixedDelay(rebuild, 0L, rebuildInterval.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		else {
+			initializer.execute(rebuild);
+			initializer.shutdown();
+		}
+
+		return bloomFilter;
+	}
+
+	/**
+	 * Resolves the {@link NegativeResultCache} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link NegativeResultCache} for the {@link Region}.
+	 * @see #withNegativeResultCaching(Function)
+	 */
+	protected Optional<NegativeResultCache<ID>> resolveNegativeResultCache(String regionBeanName) {
+		return Optional.ofNullable(this.negativeResultCacheResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to remember, per {@link Region}, keys for which the {@link CrudRepository} returned
+	 * no entity, bounded by the given maximum size and {@link Duration time-to-live}.
+	 *
+	 * @param maximumSize maximum number of keys remembered per {@link Region}.
+	 * @param timeToLive {@link Duration} after which a remembered key expires.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 * @see #withNegativeResultCaching(Function)
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withNegativeResultCaching(int maximumSize,
+			@NonNull Duration timeToLive) {
+
+		Map<String, NegativeResultCache<ID>> negativeResultCaches = new ConcurrentHashMap<>();
+
+		return withNegativeResultCaching(regionBeanName -> negativeResultCaches.computeIfAbsent(regionBeanName,
+			it -> new NegativeResultCache<>(maximumSize, timeToLive)));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link NegativeResultCache} for
+	 * a {@link Region} by {@link String bean name}.
+	 *
+	 * The same {@link Function} should be given to the {@link RepositoryCacheWriterRegionConfigurer} so that
+	 * creates invalidate the keys remembered by the {@link RepositoryCacheLoader}.
+	 *
+	 * @param negativeResultCacheResolver {@link Function} resolving the {@link NegativeResultCache} for a {@link Region};
+	 * {@literal null} disables negative result caching.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withNegativeResultCaching(
+			@Nullable Function<String, NegativeResultCache<ID>> negativeResultCacheResolver) {
+
+		this.negativeResultCacheResolver = negativeResultCacheResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link Bulkhead} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link Bulkhead} for the {@link Region}.
+	 * @see #withBulkhead(Function)
+	 */
+	protected Optional<Bulkhead> resolveBulkhead(String regionBeanName) {
+		return Optional.ofNullable(this.bulkheadResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link Bulkhead} limiting the number
+	 * of concurrent {@link CrudRepository} operations for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param bulkheadResolver {@link Function} resolving the {@link Bulkhead} for a {@link Region};
+	 * {@literal null} disables the limit.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.Bulkhead
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withBulkhead(
+			@Nullable Function<String, Bulkhead> bulkheadResolver) {
+
+		this.bulkheadResolver = bulkheadResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link CircuitBreaker} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link CircuitBreaker} for the {@link Region}.
+	 * @see #withCircuitBreaker(Function)
+	 */
+	protected Optional<CircuitBreaker> resolveCircuitBreaker(String regionBeanName) {
+		return Optional.ofNullable(this.circuitBreakerResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link CircuitBreaker} guarding
+	 * {@link CrudRepository} operations for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param circuitBreakerResolver {@link Function} resolving the {@link CircuitBreaker} for a {@link Region};
+	 * {@literal null} disables the circuit breaker.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.CircuitBreaker
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withCircuitBreaker(
+			@Nullable Function<String, CircuitBreaker> circuitBreakerResolver) {
+
+		this.circuitBreakerResolver = circuitBreakerResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link RepositoryOperationMetrics} for the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link RepositoryOperationMetrics} for the {@link Region}.
+	 * @see #withRepositoryOperationMetrics(Function)
+	 */
+	protected Optional<RepositoryOperationMetrics> resolveRepositoryOperationMetrics(String regionBeanName) {
+
+		return Optional.ofNullable(this.repositoryOperationMetricsResolver)
+			.map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link RepositoryOperationMetrics}
+	 * used to record {@link CrudRepository} operations for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param repositoryOperationMetricsResolver {@link Function} resolving the {@link RepositoryOperationMetrics}
+	 * for a {@link Region}; {@literal null} disables recording.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.RepositoryOperationMetrics
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withRepositoryOperationMetrics(
+			@Nullable Function<String, RepositoryOperationMetrics> repositoryOperationMetricsResolver) {
+
+		this.repositoryOperationMetricsResolver = repositoryOperationMetricsResolver;
+
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheLoader(newRepositoryCacheLoader());
+			((ClientRegionFactoryBean<ID, T>) bean).setCacheLoader(newRepositoryCacheLoader(beanName));
 		}
 	}
 
@@ -155,21 +621,86 @@ public class RepositoryCacheLoaderRegionConfigurer<T, ID> implements RegionConfi
 	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheLoader(newRepositoryCacheLoader());
+			((PeerRegionFactoryBean<ID, T>) bean).setCacheLoader(newRepositoryCacheLoader(beanName));
 		}
 	}
 
+	/**
+	 * Resolves the admission policy for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} admission policy for the {@link Region}.
+	 * @see #withAdmissionPolicy(Function)
+	 */
+	protected Optional<Predicate<? super ID>> resolveAdmissionPolicy(String regionBeanName) {
+		return Optional.ofNullable(this.admissionPolicyResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the admission policy for a {@link Region}
+	 * by {@link String bean name}, which decides whether an entity loaded from the {@link CrudRepository}
+	 * is kept in the {@link Region}.
+	 *
+	 * @param admissionPolicyResolver {@link Function} resolving the admission policy for a {@link Region};
+	 * may be {@literal null}.
+	 * @return this {@link RepositoryCacheLoaderRegionConfigurer}.
+	 * @see RepositoryCacheLoader#withAdmissionPolicy(Predicate)
+	 * @see org.springframework.geode.cache.support.HeapAwareAdmissionPolicy
+	 */
+	public RepositoryCacheLoaderRegionConfigurer<T, ID> withAdmissionPolicy(
+			@Nullable Function<String, Predicate<? super ID>> admissionPolicyResolver) {
+
+		this.admissionPolicyResolver = admissionPolicyResolver;
+
+		return this;
+	}
+
+	/**
+	 * Constructs a new instance of {@link RepositoryCacheLoader} for the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return a new {@link RepositoryCacheLoader}.
+	 * @see #newRepositoryCacheLoader()
+	 */
+	protected RepositoryCacheLoader<T, ID> newRepositoryCacheLoader(String regionBeanName) {
+
+		RepositoryCacheLoader<T, ID> cacheLoader = newRepositoryCacheLoader();
+
+		cacheLoader.with(resolveBloomFilter(regionBeanName).orElse(null));
+		cacheLoader.with(resolveRepositoryOperationMetrics(regionBeanName).orElse(null));
+		cacheLoader.with(resolveBulkhead(regionBeanName).orElse(null));
+		cacheLoader.with(resolveCircuitBreaker(regionBeanName).orElse(null));
+
+		cacheLoader.getBulkhead().ifPresent(cacheLoader.getRepositoryOperationMetrics()::register);
+		cacheLoader.getCircuitBreaker().ifPresent(cacheLoader.getRepositoryOperationMetrics()::register);
+		cacheLoader.withStaleValueCache(resolveStaleValueCache(regionBeanName).orElse(null));
+		cacheLoader.withAdmissionPolicy(resolveAdmissionPolicy(regionBeanName).orElse(null));
+
+		return cacheLoader.with(resolveNegativeResultCache(regionBeanName).orElse(null));
+	}
+
 	/**
 	 * Constructs a new instance of {@link RepositoryCacheLoader} adapting the {@link CrudRepository}
 	 * as an instance of a {@link CacheLoader}.
 	 *
+	 * Returns a {@link BatchingRepositoryCacheLoader} when batch loading is enabled.
+	 *
 	 * @return a new {@link RepositoryCacheLoader}.
+	 * @see org.springframework.geode.cache.BatchingRepositoryCacheLoader
 	 * @see org.springframework.geode.cache.RepositoryCacheLoader
 	 * @see org.springframework.data.repository.CrudRepository
 	 * @see org.apache.geode.cache.CacheLoader
 	 * @see #getRepository()
 	 */
-	protected RepositoryCacheLoader newRepositoryCacheLoader() {
-		return new RepositoryCacheLoader<>(getRepository());
+	protected RepositoryCacheLoader<T, ID> newRepositoryCacheLoader() {
+
+		RepositoryCacheLoader<T, ID> cacheLoader = isBatchLoadingEnabled()
+			? new BatchingRepositoryCacheLoader<>(getRepository(), this.entityIdentifier)
+				.withBatchWindow(this.batchWindow)
+				.withMaximumBatchSize(this.maximumBatchSize)
+			: new RepositoryCacheLoader<>(getRepository());
+
+		return cacheLoader.withLoadCoalescing(isLoadCoalescingEnabled()).withLoadTimeout(this.loadTimeout);
 	}
 }
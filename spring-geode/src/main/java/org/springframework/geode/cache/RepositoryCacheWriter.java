@@ -15,7 +15,12 @@
  */
 package org.springframework.geode.cache;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import org.apache.geode.cache.CacheRuntimeException;
 import org.apache.geode.cache.CacheWriter;
@@ -23,13 +28,32 @@ import org.apache.geode.cache.CacheWriterException;
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.RegionEvent;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.ChangedPropertiesResolver;
+import org.springframework.geode.cache.support.PartialUpdateRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
 import org.springframework.geode.core.util.function.FunctionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * A {@link CacheWriter} implementation backed by a Spring Data {@link CrudRepository} used to persist a cache entry
  * (i.e. entity) to a backend, external data source.
  *
+ * Entries put into the cache by a {@link RepositoryRegionPreloader} or {@link RefreshAheadCacheListener} originate
+ * from the backend data source and are not written back.  Likewise, entries removed from the cache with
+ * the {@link RepositoryRegionPreloader#PRELOAD_CALLBACK_ARGUMENT} are not deleted from the backend data source.
+ *
+ * When change detection is enabled, updates that do not change the entity are not written to the backend data source.
+ * A {@link Comparator} compares the new value with the old value of the {@link EntryEvent}.  Alternatively,
+ * a content hash function is applied to both the old and the new value of the {@link EntryEvent}, and the update
+ * is skipped when the hashes are equal.  Either way, a value modified in place, where the old and new value are
+ * the same instance, is always written.
+ *
+ * When partial updates are enabled, an update passes only the properties that differ between the old and new value
+ * of the {@link EntryEvent} to a {@link PartialUpdateRepository} rather than saving the whole entity.
+ * The entity is saved whole when there is no old value, or when the values cannot be compared property by property.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.CacheWriter
  * @see org.springframework.data.repository.CrudRepository
@@ -39,32 +63,282 @@ import org.springframework.geode.core.util.function.FunctionUtils;
 @SuppressWarnings("unused")
 public class RepositoryCacheWriter<T, ID> extends RepositoryCacheLoaderWriterSupport<T, ID> {
 
+  private Comparator<? super T> changeComparator;
+
+  private BiFunction<? super T, ? super T, Map<String, Object>> changedPropertiesResolver;
+
+  private final LongAdder partialUpdateCount = new LongAdder();
+  private final LongAdder skippedWriteCount = new LongAdder();
+
+  private PartialUpdateRepository<T, ID> partialUpdateRepository;
+
+  private ToLongFunction<? super T> contentHashFunction;
+
   public RepositoryCacheWriter(CrudRepository<T, ID> repository) {
     super(repository);
   }
 
+  /**
+   * Returns the number of updates that were written to the backend data source as partial updates.
+   *
+   * @return the number of partial updates.
+   * @see #withPartialUpdates(PartialUpdateRepository)
+   */
+  public long getPartialUpdateCount() {
+    return this.partialUpdateCount.sum();
+  }
+
+  /**
+   * Returns the number of updates that were not written to the backend data source
+   * because the entity was unchanged.
+   *
+   * @return the number of skipped writes.
+   * @see #withChangeDetection(Comparator)
+   * @see #withContentHashChangeDetection(ToLongFunction)
+   */
+  public long getSkippedWriteCount() {
+    return this.skippedWriteCount.sum();
+  }
+
+  /**
+   * Determines whether updates that do not change the entity are skipped.
+   *
+   * @return a boolean value indicating whether change detection is enabled.
+   */
+  public boolean isChangeDetectionEnabled() {
+    return this.changeComparator != null || this.contentHashFunction != null;
+  }
+
+  /**
+   * Determines whether updates pass only the changed properties of the entity to a {@link PartialUpdateRepository}.
+   *
+   * @return a boolean value indicating whether partial updates are enabled.
+   * @see #withPartialUpdates(PartialUpdateRepository)
+   */
+  public boolean isPartialUpdateEnabled() {
+    return this.partialUpdateRepository != null;
+  }
+
+  /**
+   * Builder method used to skip updates for which the new value {@link Object#equals(Object) equals}
+   * the old value.
+   *
+   * An update is always written when the old value is not available or is the same instance as the new value,
+   * i.e. the entity was modified in place.
+   *
+   * @return this {@link RepositoryCacheWriter}.
+   * @see #withChangeDetection(Comparator)
+   */
+  public RepositoryCacheWriter<T, ID> withChangeDetection() {
+    return withChangeDetection((oldValue, newValue) -> oldValue.equals(newValue) ? 0 : 1);
+  }
+
+  /**
+   * Builder method used to skip updates for which the given {@link Comparator} considers the new value
+   * equal to the old value.
+   *
+   * @param changeComparator {@link Comparator} returning {@literal 0} for an unchanged entity;
+   * {@literal null} disables comparison of old and new values.
+   * @return this {@link RepositoryCacheWriter}.
+   * @see java.util.Comparator
+   */
+  public RepositoryCacheWriter<T, ID> withChangeDetection(@Nullable Comparator<? super T> changeComparator) {
+
+    this.changeComparator = changeComparator;
+
+    return this;
+  }
+
+  /**
+   * Builder method used to skip updates for which the given content hash of the new value equals the content hash
+   * of the old value of the {@link EntryEvent}.
+   *
+   * No state is kept per key.  An update is always written when the old value is not available or is the same
+   * instance as the new value, i.e. the entity was modified in place.
+   *
+   * @param contentHashFunction {@link ToLongFunction} computing a hash of the content of an entity;
+   * {@literal null} disables content hash comparison.
+   * @return this {@link RepositoryCacheWriter}.
+   * @see java.util.function.ToLongFunction
+   */
+  public RepositoryCacheWriter<T, ID> withContentHashChangeDetection(
+      @Nullable ToLongFunction<? super T> contentHashFunction) {
+
+    this.contentHashFunction = contentHashFunction;
+
+    return this;
+  }
+
+  /**
+   * Builder method used to write updates as partial updates of the properties that changed, as resolved by
+   * a {@link ChangedPropertiesResolver}.
+   *
+   * @param partialUpdateRepository {@link PartialUpdateRepository} updating the changed properties of an entity;
+   * {@literal null} disables partial updates.
+   * @return this {@link RepositoryCacheWriter}.
+   * @see #withPartialUpdates(PartialUpdateRepository, BiFunction)
+   */
+  public RepositoryCacheWriter<T, ID> withPartialUpdates(
+      @Nullable PartialUpdateRepository<T, ID> partialUpdateRepository) {
+
+    return withPartialUpdates(partialUpdateRepository, new ChangedPropertiesResolver<>());
+  }
+
+  /**
+   * Builder method used to write updates as partial updates of the properties that changed, as resolved by
+   * the given {@link BiFunction} from the old and new value of the {@link EntryEvent}.
+   *
+   * The {@link BiFunction} returns a {@link Map} of changed property names to their new values, which is empty
+   * if nothing changed, or {@literal null} to save the whole entity.  The old value of the {@link EntryEvent} must
+   * not be modified in place for the changes to be detected.
+   *
+   * @param partialUpdateRepository {@link PartialUpdateRepository} updating the changed properties of an entity;
+   * {@literal null} disables partial updates.
+   * @param changedPropertiesResolver {@link BiFunction} resolving the changed properties from the old
+   * and new value.
+   * @return this {@link RepositoryCacheWriter}.
+   * @throws IllegalArgumentException if partial updates are enabled without a {@link BiFunction}
+   * resolving changed properties.
+   * @see org.springframework.geode.cache.support.ChangedPropertiesResolver
+   * @see org.springframework.geode.cache.support.PartialUpdateRepository
+   */
+  public RepositoryCacheWriter<T, ID> withPartialUpdates(
+      @Nullable PartialUpdateRepository<T, ID> partialUpdateRepository,
+      @Nullable BiFunction<? super T, ? super T, Map<String, Object>> changedPropertiesResolver) {
+
+    Assert.isTrue(partialUpdateRepository == null || changedPropertiesResolver != null,
+        "Changed properties resolver is required");
+
+    this.partialUpdateRepository = partialUpdateRepository;
+    this.changedPropertiesResolver = changedPropertiesResolver;
+
+    return this;
+  }
+
   @Override
   public void beforeCreate(EntryEvent<ID, T> event) throws CacheWriterException {
-    doRepositoryOp(event.getNewValue(), getRepository()::save);
+
+    T newValue = event.getNewValue();
+
+    getBloomFilter().ifPresent(bloomFilter -> bloomFilter.put(event.getKey()));
+
+    if (!RepositoryRegionPreloader.isPreload(event.getCallbackArgument())) {
+      doSave(newValue);
+    }
+
+    getNegativeResultCache().ifPresent(negativeResultCache -> negativeResultCache.evict(event.getKey()));
   }
 
   @Override
   public void beforeUpdate(EntryEvent<ID, T> event) throws CacheWriterException {
-    doRepositoryOp(event.getNewValue(), getRepository()::save);
+
+    T newValue = event.getNewValue();
+
+    if (!RepositoryRegionPreloader.isPreload(event.getCallbackArgument())) {
+
+      if (isUnchanged(event.getOldValue(), newValue)) {
+        this.skippedWriteCount.increment();
+        return;
+      }
+
+      doUpdate(event.getKey(), event.getOldValue(), newValue);
+    }
   }
 
   @Override
   public void beforeDestroy(EntryEvent<ID, T> event) throws CacheWriterException {
 
+    ID key = event.getKey();
+
+    if (!RepositoryRegionPreloader.isPreload(event.getCallbackArgument())) {
+      doDeleteById(key);
+    }
+  }
+
+  /**
+   * Writes the updated entity, stored in the {@link org.apache.geode.cache.Region} with the given {@link ID key},
+   * as a partial update of the changed properties when partial updates are enabled, or otherwise saves it whole
+   * with {@link #doSave(Object)}.  An entity modified in place, where the old and new value are the same instance,
+   * is always saved whole, since its changed properties cannot be resolved.
+   *
+   * @param key {@link ID key} of the entity in the {@link org.apache.geode.cache.Region}.
+   * @param oldValue previous value of the entity; may be {@literal null}.
+   * @param newValue updated entity.
+   * @see #withPartialUpdates(PartialUpdateRepository, BiFunction)
+   */
+  protected void doUpdate(ID key, @Nullable T oldValue, T newValue) {
+
+    PartialUpdateRepository<T, ID> partialUpdateRepository = this.partialUpdateRepository;
+
+    Map<String, Object> changedProperties =
+        partialUpdateRepository != null && key != null && oldValue != null && oldValue != newValue
+        ? this.changedPropertiesResolver.apply(oldValue, newValue)
+        : null;
+
+    if (changedProperties == null) {
+      doSave(newValue);
+    }
+    else if (changedProperties.isEmpty()) {
+      this.skippedWriteCount.increment();
+    }
+    else {
+
+      doRepositoryOp(RepositoryOperationMetrics.UPDATE_OPERATION, newValue, entity -> {
+        partialUpdateRepository.updateById(key, changedProperties);
+        return null;
+      });
+
+      this.partialUpdateCount.increment();
+    }
+  }
+
+  /**
+   * Saves the given entity with the {@link CrudRepository}.
+   *
+   * @param entity entity to save.
+   * @see org.springframework.data.repository.CrudRepository#save(Object)
+   */
+  protected void doSave(T entity) {
+    doRepositoryOp(RepositoryOperationMetrics.SAVE_OPERATION, entity, getRepository()::save);
+  }
+
+  /**
+   * Deletes the entity with the given key using the {@link CrudRepository}.
+   *
+   * @param key key of the entity to delete.
+   * @see org.springframework.data.repository.CrudRepository#deleteById(Object)
+   */
+  protected void doDeleteById(ID key) {
     //doRepositoryOp(event.getOldValue(), FunctionUtils.toNullReturningFunction(getRepository()::delete));
-    doRepositoryOp(event.getKey(), FunctionUtils.toNullReturningFunction(getRepository()::deleteById));
+    doRepositoryOp(RepositoryOperationMetrics.DELETE_OPERATION, key,
+        FunctionUtils.toNullReturningFunction(getRepository()::deleteById));
+  }
+
+  private boolean isUnchanged(@Nullable T oldValue, @Nullable T newValue) {
+
+    // An entity modified in place cannot be compared with its previous state
+    if (oldValue == null || newValue == null || oldValue == newValue) {
+      return false;
+    }
+
+    Comparator<? super T> changeComparator = this.changeComparator;
+
+    if (changeComparator != null && changeComparator.compare(oldValue, newValue) == 0) {
+      return true;
+    }
+
+    ToLongFunction<? super T> contentHashFunction = this.contentHashFunction;
+
+    return contentHashFunction != null
+        && contentHashFunction.applyAsLong(oldValue) == contentHashFunction.applyAsLong(newValue);
   }
 
   @Override
   public void beforeRegionClear(RegionEvent<ID, T> event) throws CacheWriterException {
 
     if (isNukeAndPaveEnabled()) {
-      doRepositoryOp(null, FunctionUtils.toNullReturningFunction(it -> getRepository().deleteAll()));
+      doRepositoryOp(RepositoryOperationMetrics.DELETE_ALL_OPERATION, null,
+          FunctionUtils.toNullReturningFunction(it -> getRepository().deleteAll()));
     }
   }
 
@@ -15,17 +15,35 @@
  */
 package org.springframework.geode.cache;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
 
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.Bulkhead;
+import org.springframework.geode.cache.support.CircuitBreaker;
+import org.springframework.geode.cache.support.NegativeResultCache;
+import org.springframework.geode.cache.support.PartialUpdateRepository;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
 
 /**
@@ -42,6 +60,8 @@ import org.springframework.util.Assert;
  * @see org.springframework.data.gemfire.client.ClientRegionFactoryBean
  * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
  * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @see org.springframework.geode.cache.WriteBehindSettings
  * @since 1.1.0
  */
 public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfigurer {
@@ -88,10 +108,42 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 		return create(repository, Predicate.isEqual(regionBeanName));
 	}
 
+	protected static final String WRITE_BEHIND_QUEUE_ID_SUFFIX = "RepositoryWriteBehindQueue";
+
 	private final CrudRepository<T, ID> repository;
 
+	private final Map<String, AsyncEventQueue> writeBehindQueues = new ConcurrentHashMap<>();
+
 	private final Predicate<String> regionBeanName;
 
+	private int maximumGroupSize = GroupCommitRepositoryCacheWriter.DEFAULT_MAXIMUM_GROUP_SIZE;
+
+	private boolean groupCommitEnabled = false;
+
+	private Comparator<? super T> changeComparator;
+
+	private Duration commitWindow = GroupCommitRepositoryCacheWriter.DEFAULT_COMMIT_WINDOW;
+
+	private Function<String, BloomFilter<ID>> bloomFilterResolver;
+
+	private Function<String, Bulkhead> bulkheadResolver;
+
+	private Function<String, CircuitBreaker> circuitBreakerResolver;
+
+	private Function<String, NegativeResultCache<ID>> negativeResultCacheResolver;
+
+	private Function<String, RepositoryOperationMetrics> repositoryOperationMetricsResolver;
+
+	private ToLongFunction<? super T> contentHashFunction;
+
+	private JournaledWriteBehindSettings journaledWriteBehindSettings;
+
+	private PartialUpdateRepository<T, ID> partialUpdateRepository;
+
+	private PlatformTransactionManager groupCommitTransactionManager;
+
+	private WriteBehindSettings writeBehindSettings;
+
 	/**
 	 * Constructs a new instance of {@link RepositoryCacheWriterRegionConfigurer} initialized with the given Spring Data
 	 * {@link CrudRepository} used to write {@link Region} values to a backend data source/data store along with
@@ -137,12 +189,390 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 		return this.repository;
 	}
 
+	/**
+	 * Returns the configured {@link JournaledWriteBehindSettings} used to configure
+	 * a {@link JournaledRepositoryCacheWriter}.
+	 *
+	 * @return an {@link Optional} {@link JournaledWriteBehindSettings}; {@link Optional#empty()} if journaled
+	 * write-behind is not enabled.
+	 * @see org.springframework.geode.cache.JournaledWriteBehindSettings
+	 * @see #withJournaledWriteBehind(JournaledWriteBehindSettings)
+	 */
+	public Optional<JournaledWriteBehindSettings> getJournaledWriteBehindSettings() {
+		return Optional.ofNullable(this.journaledWriteBehindSettings);
+	}
+
+	/**
+	 * Returns the configured {@link WriteBehindSettings} used to configure the {@link AsyncEventQueue}
+	 * when write-behind is enabled.
+	 *
+	 * @return an {@link Optional} {@link WriteBehindSettings}; {@link Optional#empty()} if write-behind
+	 * is not enabled.
+	 * @see org.springframework.geode.cache.WriteBehindSettings
+	 * @see #withWriteBehind(WriteBehindSettings)
+	 */
+	public Optional<WriteBehindSettings> getWriteBehindSettings() {
+		return Optional.ofNullable(this.writeBehindSettings);
+	}
+
+	/**
+	 * Determines whether write-behind is enabled.
+	 *
+	 * @return a boolean value indicating whether write-behind is enabled.
+	 * @see #getWriteBehindSettings()
+	 */
+	public boolean isWriteBehindEnabled() {
+		return getWriteBehindSettings().isPresent();
+	}
+
+	/**
+	 * Returns the write-behind {@link AsyncEventQueue} registered on the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link AsyncEventQueue} for the {@link Region}.
+	 * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+	 */
+	public Optional<AsyncEventQueue> getWriteBehindQueue(@Nullable String regionBeanName) {
+		return Optional.ofNullable(regionBeanName).map(this.writeBehindQueues::get);
+	}
+
+	/**
+	 * Returns the number of events waiting in the write-behind {@link AsyncEventQueue} registered on
+	 * the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return the depth of the write-behind {@link AsyncEventQueue}, or {@literal 0} if the {@link Region}
+	 * has no write-behind {@link AsyncEventQueue}.
+	 * @see #getWriteBehindQueue(String)
+	 */
+	public int getWriteBehindQueueSize(@Nullable String regionBeanName) {
+		return getWriteBehindQueue(regionBeanName).map(AsyncEventQueue::size).orElse(0);
+	}
+
+	/**
+	 * Determines whether concurrent writes are committed together in groups.
+	 *
+	 * @return a boolean value indicating whether group commit is enabled.
+	 * @see #withGroupCommit(Duration, int)
+	 */
+	protected boolean isGroupCommitEnabled() {
+		return this.groupCommitEnabled;
+	}
+
+	/**
+	 * Builder method used to commit concurrent writes together in groups while preserving write-through semantics.
+	 *
+	 * @param commitWindow maximum amount of time a write waits for other writes to join its group;
+	 * {@literal null} uses the default window.
+	 * @param maximumGroupSize maximum number of writes committed in a single group.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code maximumGroupSize} is less than {@literal 1}.
+	 * @see org.springframework.geode.cache.GroupCommitRepositoryCacheWriter
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withGroupCommit(@Nullable Duration commitWindow,
+			int maximumGroupSize) {
+
+		Assert.isTrue(maximumGroupSize > 0,
+			String.format("Maximum group size [%d] must be greater than 0", maximumGroupSize));
+
+		this.groupCommitEnabled = true;
+		this.commitWindow = commitWindow != null ? commitWindow : GroupCommitRepositoryCacheWriter.DEFAULT_COMMIT_WINDOW;
+		this.maximumGroupSize = maximumGroupSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to commit concurrent writes together in groups, each applied in a single transaction
+	 * managed by the given {@link PlatformTransactionManager}, while preserving write-through semantics.
+	 *
+	 * @param commitWindow maximum amount of time a write waits for other writes to join its group;
+	 * {@literal null} uses the default window.
+	 * @param maximumGroupSize maximum number of writes committed in a single group.
+	 * @param transactionManager {@link PlatformTransactionManager} of the backend data source;
+	 * {@literal null} applies each group without a transaction.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @throws IllegalArgumentException if {@code maximumGroupSize} is less than {@literal 1}.
+	 * @see GroupCommitRepositoryCacheWriter#withTransactionManager(PlatformTransactionManager)
+	 * @see #withGroupCommit(Duration, int)
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withGroupCommit(@Nullable Duration commitWindow,
+			int maximumGroupSize, @Nullable PlatformTransactionManager transactionManager) {
+
+		withGroupCommit(commitWindow, maximumGroupSize);
+
+		this.groupCommitTransactionManager = transactionManager;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to skip updates for which the given {@link Comparator} considers the new value
+	 * equal to the old value.
+	 *
+	 * @param changeComparator {@link Comparator} returning {@literal 0} for an unchanged entity;
+	 * {@literal null} disables comparison of old and new values.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheWriter#withChangeDetection(Comparator)
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withChangeDetection(
+			@Nullable Comparator<? super T> changeComparator) {
+
+		this.changeComparator = changeComparator;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to skip updates for which the given content hash of the new value equals the content hash
+	 * of the old value.
+	 *
+	 * @param contentHashFunction {@link ToLongFunction} computing a hash of the content of an entity;
+	 * {@literal null} disables content hash comparison.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheWriter#withContentHashChangeDetection(ToLongFunction)
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withContentHashChangeDetection(
+			@Nullable ToLongFunction<? super T> contentHashFunction) {
+
+		this.contentHashFunction = contentHashFunction;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to write updates as partial updates of the changed properties with the configured
+	 * {@link CrudRepository}, which must implement the {@link PartialUpdateRepository} fragment.
+	 *
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @throws IllegalArgumentException if the {@link CrudRepository} is not a {@link PartialUpdateRepository}.
+	 * @see #withPartialUpdates(PartialUpdateRepository)
+	 */
+	@SuppressWarnings("unchecked")
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withPartialUpdates() {
+
+		Assert.isInstanceOf(PartialUpdateRepository.class, getRepository(),
+			"CrudRepository must implement PartialUpdateRepository");
+
+		return withPartialUpdates((PartialUpdateRepository<T, ID>) getRepository());
+	}
+
+	/**
+	 * Builder method used to write updates as partial updates of the changed properties with the given
+	 * {@link PartialUpdateRepository}.
+	 *
+	 * Partial updates apply to write-through.  Write-back, group commit and write-behind save whole entities.
+	 *
+	 * @param partialUpdateRepository {@link PartialUpdateRepository} updating the changed properties of an entity;
+	 * {@literal null} disables partial updates.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheWriter#withPartialUpdates(PartialUpdateRepository)
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withPartialUpdates(
+			@Nullable PartialUpdateRepository<T, ID> partialUpdateRepository) {
+
+		this.partialUpdateRepository = partialUpdateRepository;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link BloomFilter} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link BloomFilter} for the {@link Region}.
+	 * @see #withBloomFilter(Function)
+	 */
+	protected Optional<BloomFilter<ID>> resolveBloomFilter(String regionBeanName) {
+		return Optional.ofNullable(this.bloomFilterResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link BloomFilter} for
+	 * a {@link Region} by {@link String bean name}, to which the {@link RepositoryCacheWriter} adds the key
+	 * of each created entity, or the {@link RepositoryAsyncEventListener} adds the key of each written entity
+	 * when write-behind is enabled.
+	 *
+	 * @param bloomFilterResolver {@link Function} resolving the {@link BloomFilter} for a {@link Region};
+	 * may be {@literal null}.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withBloomFilter(Function)
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withBloomFilter(
+			@Nullable Function<String, BloomFilter<ID>> bloomFilterResolver) {
+
+		this.bloomFilterResolver = bloomFilterResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link NegativeResultCache} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link NegativeResultCache} for the {@link Region}.
+	 * @see #withNegativeResultCaching(Function)
+	 */
+	protected Optional<NegativeResultCache<ID>> resolveNegativeResultCache(String regionBeanName) {
+		return Optional.ofNullable(this.negativeResultCacheResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link NegativeResultCache} for
+	 * a {@link Region} by {@link String bean name}, which the {@link RepositoryCacheWriter} invalidates
+	 * when an entity is created, or the {@link RepositoryAsyncEventListener} invalidates when an entity is written
+	 * with write-behind enabled.
+	 *
+	 * @param negativeResultCacheResolver {@link Function} resolving the {@link NegativeResultCache} for a {@link Region};
+	 * may be {@literal null}.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see RepositoryCacheLoaderRegionConfigurer#withNegativeResultCaching(Function)
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withNegativeResultCaching(
+			@Nullable Function<String, NegativeResultCache<ID>> negativeResultCacheResolver) {
+
+		this.negativeResultCacheResolver = negativeResultCacheResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link Bulkhead} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link Bulkhead} for the {@link Region}.
+	 * @see #withBulkhead(Function)
+	 */
+	protected Optional<Bulkhead> resolveBulkhead(String regionBeanName) {
+		return Optional.ofNullable(this.bulkheadResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link Bulkhead} limiting the number
+	 * of concurrent {@link CrudRepository} operations for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param bulkheadResolver {@link Function} resolving the {@link Bulkhead} for a {@link Region};
+	 * {@literal null} disables the limit.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.Bulkhead
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withBulkhead(
+			@Nullable Function<String, Bulkhead> bulkheadResolver) {
+
+		this.bulkheadResolver = bulkheadResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link CircuitBreaker} for the {@link Region} identified by the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link CircuitBreaker} for the {@link Region}.
+	 * @see #withCircuitBreaker(Function)
+	 */
+	protected Optional<CircuitBreaker> resolveCircuitBreaker(String regionBeanName) {
+		return Optional.ofNullable(this.circuitBreakerResolver).map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link CircuitBreaker} guarding
+	 * {@link CrudRepository} operations for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param circuitBreakerResolver {@link Function} resolving the {@link CircuitBreaker} for a {@link Region};
+	 * {@literal null} disables the circuit breaker.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.CircuitBreaker
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withCircuitBreaker(
+			@Nullable Function<String, CircuitBreaker> circuitBreakerResolver) {
+
+		this.circuitBreakerResolver = circuitBreakerResolver;
+
+		return this;
+	}
+
+	/**
+	 * Resolves the {@link RepositoryOperationMetrics} for the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return an {@link Optional} {@link RepositoryOperationMetrics} for the {@link Region}.
+	 * @see #withRepositoryOperationMetrics(Function)
+	 */
+	protected Optional<RepositoryOperationMetrics> resolveRepositoryOperationMetrics(String regionBeanName) {
+
+		return Optional.ofNullable(this.repositoryOperationMetricsResolver)
+			.map(resolver -> resolver.apply(regionBeanName));
+	}
+
+	/**
+	 * Builder method used to configure the {@link Function} resolving the {@link RepositoryOperationMetrics}
+	 * used to record {@link CrudRepository} operations for a {@link Region} by {@link String bean name}.
+	 *
+	 * @param repositoryOperationMetricsResolver {@link Function} resolving the {@link RepositoryOperationMetrics}
+	 * for a {@link Region}; {@literal null} disables recording.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see org.springframework.geode.cache.support.RepositoryOperationMetrics
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withRepositoryOperationMetrics(
+			@Nullable Function<String, RepositoryOperationMetrics> repositoryOperationMetricsResolver) {
+
+		this.repositoryOperationMetricsResolver = repositoryOperationMetricsResolver;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to enable write-behind from a local {@link org.springframework.geode.cache.support.WriteAheadJournal}
+	 * using the given {@link JournaledWriteBehindSettings}.
+	 *
+	 * Unlike {@link #withWriteBehind(WriteBehindSettings)}, journaled write-behind does not require
+	 * an {@link AsyncEventQueue} and is therefore available to client {@link Region Regions}.
+	 *
+	 * @param journaledWriteBehindSettings {@link JournaledWriteBehindSettings} used to configure
+	 * the {@link JournaledRepositoryCacheWriter}; {@literal null} disables journaled write-behind.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see org.springframework.geode.cache.JournaledRepositoryCacheWriter
+	 * @see org.springframework.geode.cache.JournaledWriteBehindSettings
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withJournaledWriteBehind(
+			@Nullable JournaledWriteBehindSettings journaledWriteBehindSettings) {
+
+		this.journaledWriteBehindSettings = journaledWriteBehindSettings;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to enable write-behind using the given {@link WriteBehindSettings}.
+	 *
+	 * When write-behind is enabled, peer {@link Region Regions} are configured with an {@link AsyncEventQueue}
+	 * and a {@link RepositoryAsyncEventListener} writing batches to the {@link CrudRepository} in place of
+	 * the (synchronous) {@link RepositoryCacheWriter}.  Client {@link Region Regions} cannot host
+	 * an {@link AsyncEventQueue} and therefore continue to write-through.
+	 *
+	 * @param writeBehindSettings {@link WriteBehindSettings} used to configure the {@link AsyncEventQueue};
+	 * {@literal null} disables write-behind.
+	 * @return this {@link RepositoryCacheWriterRegionConfigurer}.
+	 * @see org.springframework.geode.cache.WriteBehindSettings
+	 */
+	public RepositoryCacheWriterRegionConfigurer<T, ID> withWriteBehind(@Nullable WriteBehindSettings writeBehindSettings) {
+
+		this.writeBehindSettings = writeBehindSettings;
+
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheWriter(newRepositoryCacheWriter());
+			((ClientRegionFactoryBean<ID, T>) bean).setCacheWriter(newRepositoryCacheWriter(beanName));
 		}
 	}
 
@@ -151,21 +581,119 @@ public class RepositoryCacheWriterRegionConfigurer<T, ID> implements RegionConfi
 	public void configure(String beanName, PeerRegionFactoryBean<?, ?> bean) {
 
 		if (getRegionBeanName().test(beanName)) {
-			bean.setCacheWriter(newRepositoryCacheWriter());
+			if (isWriteBehindEnabled()) {
+				bean.setAsyncEventQueues(new AsyncEventQueue[] { resolveWriteBehindQueue(beanName, bean.getCache()) });
+			}
+			else {
+				((PeerRegionFactoryBean<ID, T>) bean).setCacheWriter(newRepositoryCacheWriter(beanName));
+			}
 		}
 	}
 
+	/**
+	 * Resolves the write-behind {@link AsyncEventQueue} for the {@link Region} identified by the given
+	 * {@link String bean name}, creating the {@link AsyncEventQueue} if it does not already exist.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @param gemfireCache {@link GemFireCache} used to create the {@link AsyncEventQueue}.
+	 * @return the write-behind {@link AsyncEventQueue} for the {@link Region}.
+	 * @throws IllegalArgumentException if the {@link GemFireCache} is not a peer {@link Cache}.
+	 * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+	 */
+	protected AsyncEventQueue resolveWriteBehindQueue(String regionBeanName, GemFireCache gemfireCache) {
+
+		Assert.isInstanceOf(Cache.class, gemfireCache,
+			String.format("A peer Cache is required to create a write-behind queue for Region [%s]", regionBeanName));
+
+		Cache cache = (Cache) gemfireCache;
+
+		String queueId = regionBeanName + WRITE_BEHIND_QUEUE_ID_SUFFIX;
+
+		AsyncEventQueue queue = cache.getAsyncEventQueue(queueId);
+
+		if (queue == null) {
+
+			AsyncEventQueueFactory queueFactory = cache.createAsyncEventQueueFactory();
+
+			getWriteBehindSettings().ifPresent(settings -> settings.configure(queueFactory));
+
+			queue = queueFactory.create(queueId, newRepositoryAsyncEventListener()
+				.with(resolveBloomFilter(regionBeanName).orElse(null))
+				.with(resolveNegativeResultCache(regionBeanName).orElse(null)));
+		}
+
+		this.writeBehindQueues.put(regionBeanName, queue);
+
+		return queue;
+	}
+
+	/**
+	 * Constructs a new instance of {@link RepositoryAsyncEventListener} adapting the {@link CrudRepository}
+	 * as an instance of an {@link org.apache.geode.cache.asyncqueue.AsyncEventListener} for write-behind.
+	 *
+	 * @return a new {@link RepositoryAsyncEventListener}.
+	 * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+	 * @see #getRepository()
+	 */
+	protected RepositoryAsyncEventListener<T, ID> newRepositoryAsyncEventListener() {
+		return new RepositoryAsyncEventListener<>(getRepository());
+	}
+
+	/**
+	 * Constructs a new instance of {@link RepositoryCacheWriter} for the {@link Region} identified by
+	 * the given {@link String bean name}.
+	 *
+	 * Returns a {@link JournaledRepositoryCacheWriter} when journaled write-behind is enabled.
+	 *
+	 * @param regionBeanName {@link String} containing the bean name of the {@link Region}.
+	 * @return a new {@link RepositoryCacheWriter}.
+	 * @see #newRepositoryCacheWriter()
+	 */
+	protected RepositoryCacheWriter<T, ID> newRepositoryCacheWriter(String regionBeanName) {
+
+		JournaledWriteBehindSettings journaledWriteBehindSettings = this.journaledWriteBehindSettings;
+
+		RepositoryCacheWriter<T, ID> cacheWriter = journaledWriteBehindSettings != null
+			? journaledWriteBehindSettings.newRepositoryCacheWriter(getRepository(), regionBeanName)
+				.withChangeDetection(this.changeComparator)
+				.withContentHashChangeDetection(this.contentHashFunction)
+			: newRepositoryCacheWriter();
+
+		cacheWriter.with(resolveBloomFilter(regionBeanName).orElse(null));
+		cacheWriter.with(resolveRepositoryOperationMetrics(regionBeanName).orElse(null));
+		cacheWriter.with(resolveBulkhead(regionBeanName).orElse(null));
+		cacheWriter.with(resolveCircuitBreaker(regionBeanName).orElse(null));
+
+		cacheWriter.getBulkhead().ifPresent(cacheWriter.getRepositoryOperationMetrics()::register);
+		cacheWriter.getCircuitBreaker().ifPresent(cacheWriter.getRepositoryOperationMetrics()::register);
+
+		return cacheWriter.with(resolveNegativeResultCache(regionBeanName).orElse(null));
+	}
+
 	/**
 	 * Constructs a new instance of {@link RepositoryCacheWriter} adapting the {@link CrudRepository}
 	 * as an instance of a {@link CacheWriter}.
 	 *
+	 * Returns a {@link GroupCommitRepositoryCacheWriter} when group commit is enabled.
+	 *
 	 * @return a new {@link RepositoryCacheWriter}.
+	 * @see org.springframework.geode.cache.GroupCommitRepositoryCacheWriter
 	 * @see org.springframework.geode.cache.RepositoryCacheWriter
 	 * @see org.springframework.data.repository.CrudRepository
 	 * @see org.apache.geode.cache.CacheWriter
 	 * @see #getRepository()
 	 */
-	protected RepositoryCacheWriter newRepositoryCacheWriter() {
-		return new RepositoryCacheWriter<>(getRepository());
+	protected RepositoryCacheWriter<T, ID> newRepositoryCacheWriter() {
+
+		RepositoryCacheWriter<T, ID> cacheWriter = isGroupCommitEnabled()
+			? new GroupCommitRepositoryCacheWriter<>(getRepository())
+				.withCommitWindow(this.commitWindow)
+				.withMaximumGroupSize(this.maximumGroupSize)
+				.withTransactionManager(this.groupCommitTransactionManager)
+			: new RepositoryCacheWriter<T, ID>(getRepository()).withPartialUpdates(this.partialUpdateRepository);
+
+		return cacheWriter
+			.withChangeDetection(this.changeComparator)
+			.withContentHashChangeDetection(this.contentHashFunction);
 	}
 }
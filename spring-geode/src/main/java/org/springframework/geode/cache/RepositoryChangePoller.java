@@ -0,0 +1,561 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Polls a backend data source for entities changed by other applications and puts them into a {@link Region}
+ * so that the {@link Region} does not serve stale values until the entries expire or are evicted.
+ *
+ * Changes are detected with a monotonically increasing version or timestamp of the entity.  Changed entities are
+ * read with keyset pagination on the version and identifier of the entity: each poll calls the {@link ChangeQuery}
+ * with the version and identifier of the last entity read (the checkpoint) and a {@link Pageable} limited to
+ * the {@link #getBatchSize() batch size}.  The {@link ChangeQuery} is typically a Spring Data Repository query
+ * method such as:
+ *
+ * <pre>
+ * {@literal @Query("SELECT c FROM Customer c WHERE c.version > :version OR (c.version = :version AND c.id > :id)"
+ *     + " ORDER BY c.version ASC, c.id ASC")}
+ * {@literal List<Customer> findChangesAfter(Long version, Long id, Pageable pageable)}
+ * </pre>
+ *
+ * The changed entities are put into the {@link Region} with {@link Region#putAll(Map, Object)}, using
+ * the {@link RepositoryRegionPreloader#PRELOAD_CALLBACK_ARGUMENT} so that they are not written back to the backend
+ * data source by the {@link RepositoryCacheWriter}, and the checkpoint is advanced to the last entity in the batch.
+ * A poll continues with the next batch while batches are full, so a poll catches up with all pending changes,
+ * however many entities share a version.
+ *
+ * When polling in the background on a peer {@link Cache}, only one member of the cluster polls each {@link Region}
+ * at a time, elected with a {@link DistributedLockService}, so that the backend data source is not queried and
+ * the changes are not put into the {@link Region} by every peer.  Another member takes over polling, from its own
+ * checkpoint, when the polling member leaves the cluster or stops polling.  Client applications each poll, since
+ * they do not share a {@link DistributedLockService}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @param <V> {@link Class type} of the entity version or timestamp.
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.domain.Pageable
+ * @see org.springframework.geode.cache.RepositoryRegionPreloader
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class RepositoryChangePoller<T, ID, V extends Comparable<? super V>> {
+
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	protected static final String POLLING_LOCK_SERVICE_NAME = "RepositoryChangePollerLockService";
+
+	private volatile int batchSize = DEFAULT_BATCH_SIZE;
+
+	private final ChangeQuery<T, ID, V> changeQuery;
+
+	private volatile Duration pollInterval = DEFAULT_POLL_INTERVAL;
+
+	private final Function<T, ID> entityIdentifier;
+
+	private final Function<T, V> versionExtractor;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final LongAdder changeCount = new LongAdder();
+	private final LongAdder failedPollCount = new LongAdder();
+	private final LongAdder pollCount = new LongAdder();
+
+	private final Object pollMonitor = new Object();
+
+	// accessed only by the poll Thread, which owns the lock
+	private DistributedLockService pollingLockService;
+
+	private String pollingLockName;
+
+	private volatile ScheduledExecutorService pollScheduler;
+
+	private volatile ID checkpointId;
+
+	private volatile V checkpoint;
+
+	/**
+	 * Constructs a new instance of {@link RepositoryChangePoller} initialized with the {@link Function} used to
+	 * resolve the identifier of an entity, the {@link Function} used to resolve the version of an entity,
+	 * and the {@link ChangeQuery} used to find entities changed after a checkpoint.
+	 *
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @param versionExtractor {@link Function} used to resolve the {@link V version} of an entity.
+	 * @param changeQuery {@link ChangeQuery} used to find entities changed after a checkpoint.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 * @see ChangeQuery
+	 */
+	public RepositoryChangePoller(@NonNull Function<T, ID> entityIdentifier, @NonNull Function<T, V> versionExtractor,
+			@NonNull ChangeQuery<T, ID, V> changeQuery) {
+
+		Assert.notNull(entityIdentifier, "Entity identifier Function is required");
+		Assert.notNull(versionExtractor, "Version extractor Function is required");
+		Assert.notNull(changeQuery, "Change query is required");
+
+		this.entityIdentifier = entityIdentifier;
+		this.versionExtractor = versionExtractor;
+		this.changeQuery = changeQuery;
+	}
+
+	/**
+	 * Returns the maximum number of changed entities read and put into the {@link Region} at once.
+	 *
+	 * @return the batch size.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the number of changed entities put into the {@link Region}.
+	 *
+	 * @return the number of changed entities put into the {@link Region}.
+	 */
+	public long getChangeCount() {
+		return this.changeCount.sum();
+	}
+
+	/**
+	 * Returns the version of the last changed entity put into the {@link Region}, or the initial checkpoint.
+	 *
+	 * @return the version of the current checkpoint, or {@literal null} if no checkpoint has been established.
+	 * @see #getCheckpointId()
+	 */
+	public @Nullable V getCheckpoint() {
+		return this.checkpoint;
+	}
+
+	/**
+	 * Returns the identifier of the last changed entity put into the {@link Region}, or of the initial checkpoint.
+	 *
+	 * @return the identifier of the current checkpoint, or {@literal null} if the checkpoint has no identifier.
+	 * @see #getCheckpoint()
+	 */
+	public @Nullable ID getCheckpointId() {
+		return this.checkpointId;
+	}
+
+	/**
+	 * Returns the number of polls that failed.
+	 *
+	 * @return the number of failed polls.
+	 */
+	public long getFailedPollCount() {
+		return this.failedPollCount.sum();
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the number of polls performed.
+	 *
+	 * @return the number of polls performed.
+	 */
+	public long getPollCount() {
+		return this.pollCount.sum();
+	}
+
+	/**
+	 * Returns the amount of time between the end of one poll and the start of the next.
+	 *
+	 * @return the poll interval.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getPollInterval() {
+		return this.pollInterval;
+	}
+
+	/**
+	 * Determines whether this {@link RepositoryChangePoller} is polling in the background.
+	 *
+	 * @return a boolean value indicating whether this {@link RepositoryChangePoller} has been started.
+	 * @see #start(Region)
+	 */
+	public boolean isRunning() {
+
+		ScheduledExecutorService pollScheduler = this.pollScheduler;
+
+		return pollScheduler != null && !pollScheduler.isShutdown();
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of changed entities read and put into
+	 * the {@link Region} at once.
+	 *
+	 * @param batchSize maximum number of changed entities in a batch.
+	 * @return this {@link RepositoryChangePoller}.
+	 * @throws IllegalArgumentException if {@code batchSize} is less than {@literal 1}.
+	 * @see #getBatchSize()
+	 */
+	public RepositoryChangePoller<T, ID, V> withBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the checkpoint from which to poll for changes, for example,
+	 * the greatest version already loaded into the {@link Region}, or a checkpoint saved before a restart.
+	 *
+	 * @param initialCheckpoint {@link V version} from which to poll for changes.
+	 * @return this {@link RepositoryChangePoller}.
+	 * @see #getCheckpoint()
+	 */
+	public RepositoryChangePoller<T, ID, V> withInitialCheckpoint(@Nullable V initialCheckpoint) {
+		return withInitialCheckpoint(initialCheckpoint, null);
+	}
+
+	/**
+	 * Builder method used to configure the checkpoint from which to poll for changes, for example,
+	 * a checkpoint saved before a restart.
+	 *
+	 * @param initialCheckpoint {@link V version} from which to poll for changes.
+	 * @param initialCheckpointId {@link ID identifier} of the last entity read with the given version;
+	 * {@literal null} polls for entities with a greater version only.
+	 * @return this {@link RepositoryChangePoller}.
+	 * @see #getCheckpoint()
+	 * @see #getCheckpointId()
+	 */
+	public RepositoryChangePoller<T, ID, V> withInitialCheckpoint(@Nullable V initialCheckpoint,
+			@Nullable ID initialCheckpointId) {
+
+		synchronized (this.pollMonitor) {
+			this.checkpoint = initialCheckpoint;
+			this.checkpointId = initialCheckpoint != null ? initialCheckpointId : null;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the amount of time between the end of one poll and the start of the next.
+	 *
+	 * @param pollInterval {@link Duration} between polls; {@literal null} resets the interval to the default.
+	 * @return this {@link RepositoryChangePoller}.
+	 * @throws IllegalArgumentException if the {@link Duration} is zero or negative.
+	 * @see #getPollInterval()
+	 */
+	public RepositoryChangePoller<T, ID, V> withPollInterval(@Nullable Duration pollInterval) {
+
+		pollInterval = pollInterval != null ? pollInterval : DEFAULT_POLL_INTERVAL;
+
+		Assert.isTrue(!(pollInterval.isZero() || pollInterval.isNegative()),
+			String.format("Poll interval [%s] must be greater than 0", pollInterval));
+
+		this.pollInterval = pollInterval;
+
+		return this;
+	}
+
+	/**
+	 * Puts all entities changed since the current checkpoint into the given {@link Region}, without invoking
+	 * the {@link CacheWriter}, and advances the checkpoint.
+	 *
+	 * @param region {@link Region} into which changed entities are put.
+	 * @return the number of changed entities put into the {@link Region}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 */
+	public long poll(@NonNull Region<ID, T> region) {
+
+		Assert.notNull(region, "Region is required");
+
+		synchronized (this.pollMonitor) {
+
+			long count = 0L;
+
+			try {
+
+				List<T> entities;
+
+				do {
+
+					entities = findChanges(getCheckpoint(), getCheckpointId());
+
+					if (!entities.isEmpty()) {
+
+						Map<ID, T> changes = new LinkedHashMap<>();
+
+						entities.forEach(entity -> changes.put(this.entityIdentifier.apply(entity), entity));
+
+						region.putAll(changes, RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+						advanceCheckpoint(entities.get(entities.size() - 1));
+						this.changeCount.add(changes.size());
+						count += changes.size();
+					}
+				}
+				while (entities.size() >= getBatchSize());
+			}
+			catch (RuntimeException cause) {
+				this.failedPollCount.increment();
+				throw cause;
+			}
+			finally {
+				this.pollCount.increment();
+			}
+
+			return count;
+		}
+	}
+
+	private List<T> findChanges(@Nullable V checkpoint, @Nullable ID checkpointId) {
+
+		Iterable<T> entities =
+			this.changeQuery.findChanges(checkpoint, checkpointId, PageRequest.of(0, getBatchSize()));
+
+		List<T> changes = new ArrayList<>();
+
+		if (entities != null) {
+			for (T entity : entities) {
+				if (entity != null) {
+					changes.add(entity);
+				}
+			}
+		}
+
+		return changes;
+	}
+
+	private void advanceCheckpoint(T lastEntity) {
+
+		V version = this.versionExtractor.apply(lastEntity);
+
+		Assert.state(version != null, () -> String.format("Version of entity [%s] is required", lastEntity));
+
+		this.checkpoint = version;
+		this.checkpointId = this.entityIdentifier.apply(lastEntity);
+	}
+
+	/**
+	 * Polls the backend data source for changes in the background, at the configured
+	 * {@link #getPollInterval() poll interval}, until this {@link RepositoryChangePoller} is {@link #close() closed}
+	 * or the {@link Region} is destroyed.
+	 *
+	 * A poll that fails is logged and retried from the same checkpoint at the next interval.
+	 *
+	 * @param region {@link Region} into which changed entities are put.
+	 * @return this {@link RepositoryChangePoller}.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 * @throws IllegalStateException if this {@link RepositoryChangePoller} has already been started.
+	 * @see #poll(Region)
+	 */
+	public RepositoryChangePoller<T, ID, V> start(@NonNull Region<ID, T> region) {
+
+		Assert.notNull(region, "Region is required");
+
+		synchronized (this.pollMonitor) {
+
+			Assert.state(this.pollScheduler == null,
+				String.format("Change poller for Region [%s] has already been started", region.getFullPath()));
+
+			ScheduledThreadPoolExecutor pollScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+				Thread thread = new Thread(runnable, String.format("%s Change Poller", region.getName()));
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			pollScheduler.setRemoveOnCancelPolicy(true);
+
+			this.pollScheduler = pollScheduler;
+		}
+
+		long pollIntervalInMilliseconds = getPollInterval().toMillis();
+
+		try {
+			this.pollScheduler.scheduleWithFixedDelay(() -> pollInBackground(region),
+				pollIntervalInMilliseconds, pollIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+		}
+		catch (RejectedExecutionException ignore) {
+			// closed
+		}
+
+		return this;
+	}
+
+	private void pollInBackground(Region<ID, T> region) {
+
+		if (region.isDestroyed()) {
+			close();
+		}
+		else {
+			try {
+				if (isPollingMember(region)) {
+					poll(region);
+				}
+			}
+			catch (Throwable cause) {
+				getLogger().warn(String.format("Failed to poll changes for Region [%1$s] from checkpoint [%2$s]",
+					region.getFullPath(), getCheckpoint()), cause);
+			}
+		}
+	}
+
+	/**
+	 * Determines whether this member polls the given {@link Region} in the background.
+	 *
+	 * On a peer {@link Cache}, the member holding the {@link DistributedLockService} lock for the {@link Region}
+	 * polls, and this member tries to acquire the lock, without waiting, before each poll.  Once acquired, the lock
+	 * is held until this {@link RepositoryChangePoller} is {@link #close() closed} or this member leaves the cluster.
+	 * Client {@link Region Regions} are always polled.  Must be called from the poll {@link Thread}.
+	 *
+	 * @param region {@link Region} into which changed entities are put.
+	 * @return a boolean value indicating whether this member polls the {@link Region}.
+	 * @see org.apache.geode.distributed.DistributedLockService
+	 */
+	protected boolean isPollingMember(@NonNull Region<ID, T> region) {
+
+		if (this.pollingLockService != null) {
+			return true;
+		}
+
+		RegionService regionService = region.getRegionService();
+
+		boolean clientRegion = !(regionService instanceof Cache)
+			|| region.getAttributes() == null
+			|| StringUtils.hasText(region.getAttributes().getPoolName());
+
+		if (clientRegion) {
+			return true;
+		}
+
+		DistributedLockService lockService = resolvePollingLockService(((Cache) regionService).getDistributedSystem());
+
+		if (lockService.lock(region.getFullPath(), 0L, -1L)) {
+
+			getLogger().info("Polling changes for Region [{}] on this member", region.getFullPath());
+
+			this.pollingLockService = lockService;
+			this.pollingLockName = region.getFullPath();
+		}
+
+		return this.pollingLockService != null;
+	}
+
+	private DistributedLockService resolvePollingLockService(DistributedSystem distributedSystem) {
+
+		synchronized (DistributedLockService.class) {
+
+			DistributedLockService lockService = DistributedLockService.getServiceNamed(POLLING_LOCK_SERVICE_NAME);
+
+			return lockService != null ? lockService
+				: DistributedLockService.create(POLLING_LOCK_SERVICE_NAME, distributedSystem);
+		}
+	}
+
+	/**
+	 * Stops polling for changes in the background, after the current poll, and lets another member take over.
+	 */
+	public void close() {
+
+		ScheduledExecutorService pollScheduler = this.pollScheduler;
+
+		if (pollScheduler != null) {
+			try {
+				pollScheduler.execute(this::releasePollingLock);
+			}
+			catch (RejectedExecutionException ignore) {
+				// already closed
+			}
+			finally {
+				pollScheduler.shutdown();
+			}
+		}
+	}
+
+	private void releasePollingLock() {
+
+		DistributedLockService lockService = this.pollingLockService;
+
+		if (lockService != null) {
+
+			this.pollingLockService = null;
+
+			try {
+				lockService.unlock(this.pollingLockName);
+			}
+			catch (RuntimeException ignore) {
+				// the lock is released when this member leaves the cluster
+			}
+		}
+	}
+
+	/**
+	 * A query of the backend data source for entities changed after a checkpoint, using keyset pagination.
+	 *
+	 * @param <T> {@link Class type} of the persistent entity.
+	 * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+	 * @param <V> {@link Class type} of the entity version or timestamp.
+	 */
+	@FunctionalInterface
+	public interface ChangeQuery<T, ID, V> {
+
+		/**
+		 * Finds up to {@link Pageable#getPageSize()} entities following the given checkpoint, ordered by version
+		 * and then by identifier, both ascending.
+		 *
+		 * An entity follows the checkpoint when its version is greater than the checkpoint version, or when its
+		 * version is equal to the checkpoint version and its identifier is greater than the checkpoint identifier.
+		 * When the checkpoint identifier is {@literal null}, only entities with a greater version follow
+		 * the checkpoint, and when the checkpoint version is {@literal null}, all entities follow the checkpoint.
+		 *
+		 * @param version version of the last entity read; may be {@literal null}.
+		 * @param id identifier of the last entity read; may be {@literal null}.
+		 * @param pageable {@link Pageable} limiting the number of entities returned.
+		 * @return the entities following the checkpoint.
+		 */
+		@Nullable Iterable<T> findChanges(@Nullable V version, @Nullable ID id, @NonNull Pageable pageable);
+
+	}
+}
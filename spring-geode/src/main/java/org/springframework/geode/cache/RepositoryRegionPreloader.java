@@ -0,0 +1,440 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Preloads (warms) a {@link Region} with all entities from a Spring Data {@link CrudRepository}.
+ *
+ * Entities are read one {@link Slice} at a time, concurrently by up to {@link #getParallelism()} threads, each
+ * holding at most one {@link Slice} in memory at a time.  The {@link Slice Slices} are read with
+ * {@link PagingAndSortingRepository#findAll(Pageable)} or, to avoid the count query a
+ * {@link org.springframework.data.domain.Page} may require per read, with a given query method returning
+ * a {@link Slice}.  Reading all entities at once with {@link CrudRepository#findAll()} is not supported.
+ *
+ * Entities are put into the {@link Region} in chunks with {@link Region#putAll(Map, Object)} using
+ * the {@link #PRELOAD_CALLBACK_ARGUMENT}, which the {@link RepositoryCacheWriter} and
+ * {@link RepositoryAsyncEventListener} recognize so that preloaded entities are not written back
+ * to the backend data source.
+ *
+ * A {@link Region} that already contains entries, for instance from the initial image received from a peer that
+ * preloaded the {@link Region} first, is not preloaded again.  A member preloading a partitioned {@link Region}
+ * only puts the entities whose bucket has no primary yet, or whose primary is the member itself.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.repository.PagingAndSortingRepository
+ * @see org.springframework.geode.cache.RepositoryCacheWriter
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class RepositoryRegionPreloader<T, ID> {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+	public static final int DEFAULT_PARALLELISM = 1;
+
+	public static final String PRELOAD_CALLBACK_ARGUMENT = RepositoryRegionPreloader.class.getName().concat(".PRELOAD");
+
+	protected static final String PRELOAD_EXCEPTION_MESSAGE = "Failed to preload Region [%s]";
+
+	/**
+	 * Determines whether the given callback argument identifies an entry put into a {@link Region}
+	 * by a {@link RepositoryRegionPreloader}.
+	 *
+	 * @param callbackArgument {@link Object} callback argument of a cache event.
+	 * @return a boolean value indicating whether the cache event originated from a preload.
+	 * @see #PRELOAD_CALLBACK_ARGUMENT
+	 */
+	public static boolean isPreload(@Nullable Object callbackArgument) {
+		return PRELOAD_CALLBACK_ARGUMENT.equals(callbackArgument);
+	}
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private final Function<Pageable, ? extends Slice<T>> sliceReader;
+
+	private final Function<T, ID> entityIdentifier;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final LongAdder preloadedCount = new LongAdder();
+
+	private Sort sort = Sort.unsorted();
+
+	/**
+	 * Constructs a new instance of {@link RepositoryRegionPreloader} initialized with the given Spring Data
+	 * {@link PagingAndSortingRepository} used to read all entities, one page at a time, and the given
+	 * {@link Function} used to resolve the {@link Region} key of each entity.
+	 *
+	 * @param repository {@link PagingAndSortingRepository} used to read all entities.
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @throws IllegalArgumentException if {@link PagingAndSortingRepository} or
+	 * the {@link Function entity identifier} is {@literal null}.
+	 * @see org.springframework.data.repository.PagingAndSortingRepository
+	 * @see java.util.function.Function
+	 */
+	public RepositoryRegionPreloader(@NonNull PagingAndSortingRepository<T, ID> repository,
+			@NonNull Function<T, ID> entityIdentifier) {
+
+		this(toSliceReader(repository), entityIdentifier);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RepositoryRegionPreloader} initialized with the given {@link Function}
+	 * used to read all entities, one {@link Slice} at a time, and the given {@link Function} used to resolve
+	 * the {@link Region} key of each entity.
+	 *
+	 * The {@link Function slice reader} is typically a Spring Data query method returning a {@link Slice},
+	 * such as {@code Slice<Customer> findAllBy(Pageable)}, which does not issue a count query per read.
+	 *
+	 * @param sliceReader {@link Function} used to read a {@link Slice} of entities.
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @throws IllegalArgumentException if the {@link Function slice reader} or the {@link Function entity identifier}
+	 * is {@literal null}.
+	 * @see org.springframework.data.domain.Slice
+	 * @see java.util.function.Function
+	 */
+	public RepositoryRegionPreloader(@NonNull Function<Pageable, ? extends Slice<T>> sliceReader,
+			@NonNull Function<T, ID> entityIdentifier) {
+
+		Assert.notNull(sliceReader, "Slice reader Function is required");
+		Assert.notNull(entityIdentifier, "Entity identifier Function is required");
+
+		this.sliceReader = sliceReader;
+		this.entityIdentifier = entityIdentifier;
+	}
+
+	private static <T> Function<Pageable, ? extends Slice<T>> toSliceReader(
+			@NonNull PagingAndSortingRepository<T, ?> repository) {
+
+		Assert.notNull(repository, "PagingAndSortingRepository is required");
+
+		return repository::findAll;
+	}
+
+	/**
+	 * Returns the number of entities read and put into the {@link Region} in a single
+	 * {@link Region#putAll(Map, Object)} operation.
+	 *
+	 * @return the number of entities per chunk.
+	 */
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	protected @NonNull Function<T, ID> getEntityIdentifier() {
+		return this.entityIdentifier;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the maximum number of {@link Slice Slices} read concurrently.
+	 *
+	 * @return the maximum number of {@link Slice Slices} read concurrently.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Returns the total number of entities preloaded by this {@link RepositoryRegionPreloader}, which may be
+	 * observed while a preload is in progress.
+	 *
+	 * @return the total number of entities preloaded.
+	 */
+	public long getPreloadedCount() {
+		return this.preloadedCount.sum();
+	}
+
+	protected @NonNull Function<Pageable, ? extends Slice<T>> getSliceReader() {
+		return this.sliceReader;
+	}
+
+	protected @NonNull Sort getSort() {
+		return this.sort;
+	}
+
+	/**
+	 * Builder method used to configure the number of entities read and put into the {@link Region}
+	 * in a single {@link Region#putAll(Map, Object)} operation, which also serves as the {@link Slice} size.
+	 *
+	 * @param chunkSize number of entities per chunk.
+	 * @return this {@link RepositoryRegionPreloader}.
+	 * @throws IllegalArgumentException if {@code chunkSize} is less than {@literal 1}.
+	 */
+	public RepositoryRegionPreloader<T, ID> withChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, String.format("Chunk size [%d] must be greater than 0", chunkSize));
+
+		this.chunkSize = chunkSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of {@link Slice Slices} read concurrently.
+	 *
+	 * At most {@code parallelism * chunkSize} entities are held in memory during the preload.
+	 *
+	 * @param parallelism maximum number of {@link Slice Slices} read concurrently.
+	 * @return this {@link RepositoryRegionPreloader}.
+	 * @throws IllegalArgumentException if {@code parallelism} is less than {@literal 1}.
+	 */
+	public RepositoryRegionPreloader<T, ID> withParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, String.format("Parallelism [%d] must be greater than 0", parallelism));
+
+		this.parallelism = parallelism;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Sort} order in which {@link Slice Slices} are read.
+	 *
+	 * Data stores that do not return rows in a stable order without an explicit sort should be given
+	 * a {@link Sort} on a unique property, such as the identifier, so that no entity is skipped.
+	 *
+	 * @param sort {@link Sort} order of the {@link Slice Slices}; {@literal null} resets to {@link Sort#unsorted()}.
+	 * @return this {@link RepositoryRegionPreloader}.
+	 * @see org.springframework.data.domain.Sort
+	 */
+	public RepositoryRegionPreloader<T, ID> withSort(@Nullable Sort sort) {
+
+		this.sort = sort != null ? sort : Sort.unsorted();
+
+		return this;
+	}
+
+	/**
+	 * Preloads the given {@link Region} with all entities from the {@link CrudRepository} without invoking
+	 * the {@link CacheWriter}, unless the {@link Region} already contains entries.
+	 *
+	 * @param region {@link Region} to preload.
+	 * @return the number of entities put into the {@link Region} by this member.
+	 * @throws IllegalArgumentException if the {@link Region} is {@literal null}.
+	 * @throws CacheLoaderException if the entities could not be read or put into the {@link Region}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public long preload(@NonNull Region<ID, T> region) {
+
+		Assert.notNull(region, "Region is required");
+
+		if (region.size() > 0) {
+
+			getLogger().info("Region [{}] already contains [{}] entries; skipping preload",
+				region.getFullPath(), region.size());
+
+			return 0L;
+		}
+
+		LongAdder regionPreloadedCount = new LongAdder();
+
+		long startTime = System.nanoTime();
+
+		try {
+			preloadSlices(region, regionPreloadedCount, startTime);
+		}
+		catch (RuntimeException cause) {
+			throw new CacheLoaderException(String.format(PRELOAD_EXCEPTION_MESSAGE, region.getFullPath()), cause);
+		}
+
+		long count = regionPreloadedCount.sum();
+		long elapsedTime = System.nanoTime() - startTime;
+
+		getLogger().info("Preloaded [{}] entities into Region [{}] in [{}] ms ({} entities/s)",
+			count, region.getFullPath(), TimeUnit.NANOSECONDS.toMillis(elapsedTime),
+			String.format("%.1f", throughput(count, elapsedTime)));
+
+		return count;
+	}
+
+	private void preloadSlices(Region<ID, T> region, LongAdder regionPreloadedCount, long startTime) {
+
+		AtomicInteger nextPageNumber = new AtomicInteger(0);
+
+		Runnable pageReader = () -> {
+
+			Slice<T> slice;
+
+			do {
+
+				slice = getSliceReader()
+					.apply(PageRequest.of(nextPageNumber.getAndIncrement(), getChunkSize(), getSort()));
+
+				if (slice == null) {
+					break;
+				}
+
+				putAll(region, slice.getContent(), regionPreloadedCount, startTime);
+			}
+			while (slice.hasContent() && slice.hasNext());
+		};
+
+		if (getParallelism() > 1) {
+
+			ExecutorService executorService = Executors.newFixedThreadPool(getParallelism(), runnable -> {
+
+				Thread pageReaderThread =
+					new Thread(runnable, String.format("%s Preload Page Reader", region.getName()));
+
+				pageReaderThread.setDaemon(true);
+
+				return pageReaderThread;
+			});
+
+			try {
+
+				List<Future<?>> pageReaders = new ArrayList<>(getParallelism());
+
+				for (int count = 0; count < getParallelism(); count++) {
+					pageReaders.add(executorService.submit(pageReader));
+				}
+
+				for (Future<?> future : pageReaders) {
+					future.get();
+				}
+			}
+			catch (ExecutionException cause) {
+
+				Throwable pageReadFailure = cause.getCause();
+
+				throw pageReadFailure instanceof RuntimeException
+					? (RuntimeException) pageReadFailure
+					: new IllegalStateException(pageReadFailure);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while preloading", cause);
+			}
+			finally {
+				executorService.shutdownNow();
+			}
+		}
+		else {
+			pageReader.run();
+		}
+	}
+
+	private void putAll(Region<ID, T> region, List<T> entities, LongAdder regionPreloadedCount, long startTime) {
+
+		if (entities != null && !entities.isEmpty()) {
+
+			Map<ID, T> entries = new HashMap<>(entities.size() * 4 / 3 + 1);
+
+			for (T entity : entities) {
+				if (entity != null) {
+
+					ID key = getEntityIdentifier().apply(entity);
+
+					if (isPreloadedLocally(region, key)) {
+						entries.put(key, entity);
+					}
+				}
+			}
+
+			if (entries.isEmpty()) {
+				return;
+			}
+
+			region.putAll(entries, PRELOAD_CALLBACK_ARGUMENT);
+
+			regionPreloadedCount.add(entries.size());
+			this.preloadedCount.add(entries.size());
+
+			if (getLogger().isDebugEnabled()) {
+
+				long count = regionPreloadedCount.sum();
+
+				getLogger().debug("Preloaded [{}] entities into Region [{}] ({} entities/s)", count,
+					region.getFullPath(), String.format("%.1f", throughput(count, System.nanoTime() - startTime)));
+			}
+		}
+	}
+
+	/**
+	 * Determines whether the entity with the given {@link ID key} is put into the given {@link Region}
+	 * by this member.
+	 *
+	 * Only the primary of the bucket holding the key puts the entity into a partitioned {@link Region}, which
+	 * is any member while the bucket has not been created, so that peers preloading the same partitioned
+	 * {@link Region} concurrently do not each put every entity.
+	 *
+	 * @param region {@link Region} being preloaded.
+	 * @param key {@link ID key} of the entity.
+	 * @return a boolean value indicating whether this member puts the entity into the {@link Region}.
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)
+	 */
+	protected boolean isPreloadedLocally(@NonNull Region<ID, T> region, @NonNull ID key) {
+
+		if (PartitionRegionHelper.isPartitionedRegion(region)) {
+
+			RegionService regionService = region.getRegionService();
+
+			DistributedMember primaryMember = PartitionRegionHelper.getPrimaryMemberForKey(region, key);
+
+			return primaryMember == null || !(regionService instanceof Cache)
+				|| primaryMember.equals(((Cache) regionService).getDistributedSystem().getDistributedMember());
+		}
+
+		return true;
+	}
+
+	private static double throughput(long count, long elapsedTimeInNanoseconds) {
+		return elapsedTimeInNanoseconds > 0 ? count * 1.0e9d / elapsedTimeInNanoseconds : 0.0d;
+	}
+}
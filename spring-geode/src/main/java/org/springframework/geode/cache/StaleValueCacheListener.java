@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.geode.cache.support.StaleValueCache;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CacheListener} that records the values of expired and evicted {@link Region} entries
+ * in a {@link StaleValueCache}, so that a {@link RepositoryCacheLoader} can answer a slow or rejected load
+ * with the last known value.
+ *
+ * Entries destroyed for any other reason are removed from the {@link StaleValueCache} since their values
+ * no longer exist.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.geode.cache.support.StaleValueCache
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class StaleValueCacheListener<T, ID> extends CacheListenerAdapter<ID, T> {
+
+	private final StaleValueCache<ID, T> staleValueCache;
+
+	/**
+	 * Constructs a new instance of {@link StaleValueCacheListener} initialized with the given {@link StaleValueCache}
+	 * in which the values of expired and evicted entries are recorded.
+	 *
+	 * @param staleValueCache {@link StaleValueCache} in which values are recorded.
+	 * @throws IllegalArgumentException if {@link StaleValueCache} is {@literal null}.
+	 */
+	public StaleValueCacheListener(@NonNull StaleValueCache<ID, T> staleValueCache) {
+
+		Assert.notNull(staleValueCache, "StaleValueCache is required");
+
+		this.staleValueCache = staleValueCache;
+	}
+
+	protected @NonNull StaleValueCache<ID, T> getStaleValueCache() {
+		return this.staleValueCache;
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<ID, T> event) {
+
+		Operation operation = event.getOperation();
+
+		if (operation.isExpiration() || operation.isEviction()) {
+			getStaleValueCache().put(event.getKey(), event.getOldValue());
+		}
+		else {
+			getStaleValueCache().evict(event.getKey());
+		}
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<ID, T> event) {
+
+		if (event.getOperation().isExpiration()) {
+			getStaleValueCache().put(event.getKey(), event.getOldValue());
+		}
+	}
+}
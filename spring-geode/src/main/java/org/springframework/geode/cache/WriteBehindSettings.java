@@ -0,0 +1,284 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link WriteBehindSettings} class encapsulates the configuration of an {@link AsyncEventQueue} used to
+ * asynchronously write (i.e. write-behind) {@link org.apache.geode.cache.Region} values to a backend data source
+ * in batches.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class WriteBehindSettings {
+
+	public static final boolean DEFAULT_BATCH_CONFLATION_ENABLED = false;
+	public static final boolean DEFAULT_DISK_SYNCHRONOUS = true;
+	public static final boolean DEFAULT_PARALLEL = false;
+	public static final boolean DEFAULT_PERSISTENT = false;
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+	public static final int DEFAULT_BATCH_TIME_INTERVAL = 5;
+	public static final int DEFAULT_DISPATCHER_THREADS = 5;
+	public static final int DEFAULT_MAXIMUM_QUEUE_MEMORY = 100;
+
+	/**
+	 * Factory method used to construct a new instance of {@link WriteBehindSettings} initialized with
+	 * the Apache Geode {@link AsyncEventQueue} defaults.
+	 *
+	 * @return a new instance of {@link WriteBehindSettings}.
+	 */
+	public static WriteBehindSettings defaults() {
+		return new WriteBehindSettings();
+	}
+
+	private boolean batchConflationEnabled = DEFAULT_BATCH_CONFLATION_ENABLED;
+	private boolean diskSynchronous = DEFAULT_DISK_SYNCHRONOUS;
+	private boolean parallel = DEFAULT_PARALLEL;
+	private boolean persistent = DEFAULT_PERSISTENT;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int batchTimeInterval = DEFAULT_BATCH_TIME_INTERVAL;
+	private int dispatcherThreads = DEFAULT_DISPATCHER_THREADS;
+	private int maximumQueueMemory = DEFAULT_MAXIMUM_QUEUE_MEMORY;
+
+	private String diskStoreName;
+
+	public boolean isBatchConflationEnabled() {
+		return this.batchConflationEnabled;
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	public int getBatchTimeInterval() {
+		return this.batchTimeInterval;
+	}
+
+	public int getDispatcherThreads() {
+		return this.dispatcherThreads;
+	}
+
+	public boolean isDiskSynchronous() {
+		return this.diskSynchronous;
+	}
+
+	public Optional<String> getDiskStoreName() {
+
+		return Optional.ofNullable(this.diskStoreName)
+			.filter(StringUtils::hasText);
+	}
+
+	public int getMaximumQueueMemory() {
+		return this.maximumQueueMemory;
+	}
+
+	public boolean isParallel() {
+		return this.parallel;
+	}
+
+	public boolean isPersistent() {
+		return this.persistent;
+	}
+
+	/**
+	 * Builder method used to configure whether updates to the same key are conflated in the queue
+	 * before the batch is written to the backend data source.
+	 *
+	 * @param batchConflationEnabled {@link Boolean} indicating whether batch conflation is enabled.
+	 * @return this {@link WriteBehindSettings}.
+	 * @see #isBatchConflationEnabled()
+	 */
+	public @NonNull WriteBehindSettings withBatchConflation(boolean batchConflationEnabled) {
+
+		this.batchConflationEnabled = batchConflationEnabled;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of events written to the backend data source in a batch.
+	 *
+	 * @param batchSize {@link Integer} specifying the maximum number of events in a batch.
+	 * @return this {@link WriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code batchSize} is less than {@literal 1}.
+	 * @see #getBatchSize()
+	 */
+	public @NonNull WriteBehindSettings withBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum number of milliseconds to wait for a batch to fill
+	 * before the batch is written to the backend data source.
+	 *
+	 * @param batchTimeInterval {@link Integer} specifying the batch time interval in milliseconds.
+	 * @return this {@link WriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code batchTimeInterval} is less than {@literal 0}.
+	 * @see #getBatchTimeInterval()
+	 */
+	public @NonNull WriteBehindSettings withBatchTimeInterval(int batchTimeInterval) {
+
+		Assert.isTrue(batchTimeInterval >= 0,
+			String.format("Batch time interval [%d] must be greater than or equal to 0", batchTimeInterval));
+
+		this.batchTimeInterval = batchTimeInterval;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the name of the {@link org.apache.geode.cache.DiskStore} used to overflow
+	 * and persist queued events.
+	 *
+	 * @param diskStoreName {@link String} containing the name of the {@link org.apache.geode.cache.DiskStore}.
+	 * @return this {@link WriteBehindSettings}.
+	 * @see #getDiskStoreName()
+	 */
+	public @NonNull WriteBehindSettings withDiskStoreName(@Nullable String diskStoreName) {
+
+		this.diskStoreName = diskStoreName;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure whether disk writes for the queue are synchronous.
+	 *
+	 * @param diskSynchronous {@link Boolean} indicating whether disk writes are synchronous.
+	 * @return this {@link WriteBehindSettings}.
+	 * @see #isDiskSynchronous()
+	 */
+	public @NonNull WriteBehindSettings withDiskSynchronous(boolean diskSynchronous) {
+
+		this.diskSynchronous = diskSynchronous;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the number of threads dispatching batches to the backend data source.
+	 *
+	 * @param dispatcherThreads {@link Integer} specifying the number of dispatcher threads.
+	 * @return this {@link WriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code dispatcherThreads} is less than {@literal 1}.
+	 * @see #getDispatcherThreads()
+	 */
+	public @NonNull WriteBehindSettings withDispatcherThreads(int dispatcherThreads) {
+
+		Assert.isTrue(dispatcherThreads > 0,
+			String.format("Dispatcher threads [%d] must be greater than 0", dispatcherThreads));
+
+		this.dispatcherThreads = dispatcherThreads;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure the maximum amount of memory, in megabytes, the queue may consume
+	 * before overflowing to disk.
+	 *
+	 * @param maximumQueueMemory {@link Integer} specifying the maximum queue memory in megabytes.
+	 * @return this {@link WriteBehindSettings}.
+	 * @throws IllegalArgumentException if {@code maximumQueueMemory} is less than {@literal 1}.
+	 * @see #getMaximumQueueMemory()
+	 */
+	public @NonNull WriteBehindSettings withMaximumQueueMemory(int maximumQueueMemory) {
+
+		Assert.isTrue(maximumQueueMemory > 0,
+			String.format("Maximum queue memory [%d] must be greater than 0", maximumQueueMemory));
+
+		this.maximumQueueMemory = maximumQueueMemory;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure whether the queue is parallel (i.e. hosted on each member hosting
+	 * a primary bucket of a {@link org.apache.geode.cache.DataPolicy#PARTITION} Region) or serial.
+	 *
+	 * @param parallel {@link Boolean} indicating whether the queue is parallel.
+	 * @return this {@link WriteBehindSettings}.
+	 * @see #isParallel()
+	 */
+	public @NonNull WriteBehindSettings withParallel(boolean parallel) {
+
+		this.parallel = parallel;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure whether the queue is persistent so unwritten events survive
+	 * a restart of the member.
+	 *
+	 * @param persistent {@link Boolean} indicating whether the queue is persistent.
+	 * @return this {@link WriteBehindSettings}.
+	 * @see #isPersistent()
+	 */
+	public @NonNull WriteBehindSettings withPersistence(boolean persistent) {
+
+		this.persistent = persistent;
+
+		return this;
+	}
+
+	/**
+	 * Applies these {@link WriteBehindSettings} to the given {@link AsyncEventQueueFactory}.
+	 *
+	 * @param asyncEventQueueFactory {@link AsyncEventQueueFactory} to configure.
+	 * @return the given {@link AsyncEventQueueFactory}.
+	 * @throws IllegalArgumentException if {@link AsyncEventQueueFactory} is {@literal null}.
+	 * @see org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory
+	 */
+	public @NonNull AsyncEventQueueFactory configure(@NonNull AsyncEventQueueFactory asyncEventQueueFactory) {
+
+		Assert.notNull(asyncEventQueueFactory, "AsyncEventQueueFactory is required");
+
+		asyncEventQueueFactory
+			.setBatchConflationEnabled(isBatchConflationEnabled())
+			.setBatchSize(getBatchSize())
+			.setBatchTimeInterval(getBatchTimeInterval())
+			.setDiskSynchronous(isDiskSynchronous())
+			.setDispatcherThreads(getDispatcherThreads())
+			.setMaximumQueueMemory(getMaximumQueueMemory())
+			.setParallel(isParallel())
+			.setPersistent(isPersistent());
+
+		getDiskStoreName().ifPresent(asyncEventQueueFactory::setDiskStoreName);
+
+		return asyncEventQueueFactory;
+	}
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A thread-safe Bloom filter used to determine whether a key <em>might</em> exist in a backend data source
+ * before accessing it.
+ *
+ * A {@link BloomFilter} never reports an existing key as absent once it has been {@link #initialize(Stream)
+ * initialized} with all existing keys; until then, every key is reported as possibly present.  Keys may be
+ * {@link #put(Object) added} concurrently, both during and after initialization.
+ *
+ * Keys added to the backend data source by other processes are reported as absent until the filter is
+ * {@link #rebuild(Stream) rebuilt} from all existing keys, which also clears the bits of deleted keys.
+ *
+ * The number of bits and hash functions are derived from the expected number of keys and the desired
+ * false positive probability using the standard formulas {@literal m = -n ln(p) / ln(2)^2}
+ * and {@literal k = (m / n) ln(2)}.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the key.
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class BloomFilter<K> {
+
+	private static final double LN_2 = Math.log(2.0d);
+
+	private static final long SEED = 0x9E3779B97F4A7C15L;
+
+	private volatile AtomicLongArray bits;
+
+	private volatile AtomicLongArray rebuiltBits;
+
+	private final int hashFunctionCount;
+
+	private final long bitSize;
+
+	private final ToLongFunction<K> keyHasher;
+
+	private volatile boolean initialized = false;
+
+	/**
+	 * Constructs a new instance of {@link BloomFilter} sized for the given number of expected keys
+	 * and desired false positive probability.
+	 *
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability, between {@literal 0} and {@literal 1},
+	 * exclusive.
+	 * @throws IllegalArgumentException if {@code expectedKeys} is less than {@literal 1},
+	 * or {@code falsePositiveProbability} is not between {@literal 0} and {@literal 1}.
+	 */
+	public BloomFilter(long expectedKeys, double falsePositiveProbability) {
+		this(expectedKeys, falsePositiveProbability, BloomFilter::hash64);
+	}
+
+	/**
+	 * Constructs a new instance of {@link BloomFilter} sized for the given number of expected keys
+	 * and desired false positive probability, using the given {@link ToLongFunction} to hash keys.
+	 *
+	 * @param expectedKeys expected number of keys.
+	 * @param falsePositiveProbability desired false positive probability, between {@literal 0} and {@literal 1},
+	 * exclusive.
+	 * @param keyHasher {@link ToLongFunction} computing a 64-bit hash of a key.
+	 * @throws IllegalArgumentException if {@code expectedKeys} is less than {@literal 1},
+	 * {@code falsePositiveProbability} is not between {@literal 0} and {@literal 1},
+	 * or the {@link ToLongFunction key hasher} is {@literal null}.
+	 */
+	public BloomFilter(long expectedKeys, double falsePositiveProbability, @NonNull ToLongFunction<K> keyHasher) {
+
+		Assert.isTrue(expectedKeys > 0, String.format("Expected keys [%d] must be greater than 0", expectedKeys));
+
+		Assert.isTrue(falsePositiveProbability > 0.0d && falsePositiveProbability < 1.0d,
+			String.format("False positive probability [%s] must be between 0 and 1", falsePositiveProbability));
+
+		Assert.notNull(keyHasher, "Key hasher is required");
+
+		long optimalBitSize = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+		int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1L, (optimalBitSize + 63) >>> 6));
+
+		this.bits = new AtomicLongArray(wordCount);
+		this.bitSize = (long) wordCount << 6;
+		this.hashFunctionCount = (int) Math.max(1L, Math.round((double) this.bitSize / expectedKeys * LN_2));
+		this.keyHasher = keyHasher;
+	}
+
+	/**
+	 * Determines whether the given key is hashed by value by {@link #hash64(Object)}, and therefore hashes
+	 * the same in every JVM.
+	 *
+	 * @param key key to evaluate.
+	 * @return a boolean value indicating whether the given key is hashed by value.
+	 */
+	static boolean isHashedByValue(@Nullable Object key) {
+
+		return key == null
+			|| key instanceof CharSequence
+			|| key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte
+			|| key instanceof UUID
+			|| key instanceof byte[];
+	}
+
+	/**
+	 * Computes a well-distributed 64-bit hash for the given key.
+	 *
+	 * {@link CharSequence CharSequences}, {@link Number Numbers}, {@link UUID UUIDs} and {@literal byte[]}
+	 * are hashed by value; all other keys are hashed using {@link Object#hashCode()}, which limits accuracy
+	 * for very large key sets.
+	 *
+	 * @param key key to hash.
+	 * @return a 64-bit hash of the key.
+	 */
+	static long hash64(@Nullable Object key) {
+
+		long hash;
+
+		if (key instanceof CharSequence) {
+			hash = hash64(key.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		else if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+			hash = ((Number) key).longValue();
+		}
+		else if (key instanceof UUID) {
+			hash = ((UUID) key).getMostSignificantBits() * 31 + ((UUID) key).getLeastSignificantBits();
+		}
+		else if (key instanceof byte[]) {
+			hash = hash64((byte[]) key);
+		}
+		else {
+			hash = key != null ? key.hashCode() : 0L;
+		}
+
+		return mix64(hash);
+	}
+
+	private static long hash64(byte[] bytes) {
+
+		// FNV-1a
+		long hash = 0xCBF29CE484222325L;
+
+		for (byte b : bytes) {
+			hash ^= b;
+			hash *= 0x100000001B3L;
+		}
+
+		return hash;
+	}
+
+	private static long mix64(long value) {
+
+		// MurmurHash3 64-bit finalizer
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+
+		return value;
+	}
+
+	public long getBitSize() {
+		return this.bitSize;
+	}
+
+	public int getHashFunctionCount() {
+		return this.hashFunctionCount;
+	}
+
+	/**
+	 * Returns the approximate number of bytes of heap used by the bits of this filter.
+	 *
+	 * @return the memory footprint of this filter in bytes.
+	 */
+	public long getMemoryFootprint() {
+		return (long) this.bits.length() * Long.BYTES;
+	}
+
+	/**
+	 * Estimates the number of distinct keys added to this filter from the fraction of bits set.
+	 *
+	 * @return the estimated number of distinct keys in this filter.
+	 */
+	public long getApproximateKeyCount() {
+
+		long setBits = getSetBitCount();
+
+		if (setBits >= this.bitSize) {
+			return Long.MAX_VALUE;
+		}
+
+		return Math.round(-((double) this.bitSize / this.hashFunctionCount)
+			* Math.log(1.0d - (double) setBits / this.bitSize));
+	}
+
+	/**
+	 * Returns the current probability that {@link #mightContain(Object)} returns {@literal true} for a key
+	 * that was never added, based on the fraction of bits set.
+	 *
+	 * @return the current false positive probability.
+	 */
+	public double getFalsePositiveProbability() {
+		return Math.pow((double) getSetBitCount() / this.bitSize, this.hashFunctionCount);
+	}
+
+	private long getSetBitCount() {
+
+		long count = 0L;
+
+		AtomicLongArray bits = this.bits;
+
+		for (int index = 0, length = bits.length(); index < length; index++) {
+			count += Long.bitCount(bits.get(index));
+		}
+
+		return count;
+	}
+
+	/**
+	 * Determines whether this filter has been initialized with all existing keys.
+	 *
+	 * @return a boolean value indicating whether this filter has been initialized.
+	 * @see #initialize(Stream)
+	 */
+	public boolean isInitialized() {
+		return this.initialized;
+	}
+
+	/**
+	 * Adds all given keys to this filter and marks this filter as initialized.
+	 *
+	 * @param keys {@link Stream} of all existing keys.
+	 * @return this {@link BloomFilter}.
+	 * @see #isInitialized()
+	 */
+	public BloomFilter<K> initialize(@Nullable Stream<K> keys) {
+
+		if (keys != null) {
+			try (Stream<K> stream = keys) {
+				stream.forEach(this::put);
+			}
+		}
+
+		this.initialized = true;
+
+		return this;
+	}
+
+	/**
+	 * Replaces the keys of this filter with all given keys and marks this filter as initialized.
+	 *
+	 * The keys are added to a new set of bits, which replaces the current bits once all keys have been added,
+	 * so that lookups keep using the current bits in the meantime.  Keys {@link #put(Object) added} during
+	 * the rebuild are added to both.
+	 *
+	 * @param keys {@link Stream} of all existing keys.
+	 * @return this {@link BloomFilter}.
+	 * @see #initialize(Stream)
+	 */
+	public synchronized BloomFilter<K> rebuild(@Nullable Stream<K> keys) {
+
+		AtomicLongArray rebuiltBits = new AtomicLongArray(this.bits.length());
+
+		this.rebuiltBits = rebuiltBits;
+
+		try {
+
+			if (keys != null) {
+				try (Stream<K> stream = keys) {
+					stream.forEach(key -> put(rebuiltBits, key));
+				}
+			}
+
+			this.bits = rebuiltBits;
+			this.initialized = true;
+		}
+		finally {
+			this.rebuiltBits = null;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Determines whether the given key might have been added to this filter.
+	 *
+	 * @param key key to evaluate.
+	 * @return {@literal false} only if the key was definitely never added to this filter after initialization;
+	 * {@literal true} otherwise.
+	 */
+	public boolean mightContain(@Nullable K key) {
+
+		if (!isInitialized()) {
+			return true;
+		}
+
+		AtomicLongArray bits = this.bits;
+
+		long hash1 = this.keyHasher.applyAsLong(key);
+		long hash2 = mix64(hash1 ^ SEED) | 1L;
+
+		for (int count = 0; count < this.hashFunctionCount; count++) {
+
+			long bitIndex = Math.floorMod(hash1 + count * hash2, this.bitSize);
+
+			if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0L) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Adds the given key to this filter.
+	 *
+	 * @param key key to add.
+	 */
+	public void put(@Nullable K key) {
+
+		AtomicLongArray bits;
+
+		// Retries when a rebuild replaced the bits while the key was being added
+		do {
+
+			bits = this.bits;
+
+			put(bits, key);
+
+			AtomicLongArray rebuiltBits = this.rebuiltBits;
+
+			if (rebuiltBits != null) {
+				put(rebuiltBits, key);
+			}
+		}
+		while (bits != this.bits);
+	}
+
+	private void put(AtomicLongArray bits, @Nullable K key) {
+
+		long hash1 = this.keyHasher.applyAsLong(key);
+		long hash2 = mix64(hash1 ^ SEED) | 1L;
+
+		for (int count = 0; count < this.hashFunctionCount; count++) {
+
+			long bitIndex = Math.floorMod(hash1 + count * hash2, this.bitSize);
+			int wordIndex = (int) (bitIndex >>> 6);
+			long mask = 1L << bitIndex;
+
+			long word = bits.get(wordIndex);
+
+			while ((word & mask) == 0L && !bits.compareAndSet(wordIndex, word, word | mask)) {
+				word = bits.get(wordIndex);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{bitSize=%2$d, hashFunctionCount=%3$d, memoryFootprint=%4$d, initialized=%5$s}",
+			getClass().getSimpleName(), getBitSize(), getHashFunctionCount(), getMemoryFootprint(), isInitialized());
+	}
+}
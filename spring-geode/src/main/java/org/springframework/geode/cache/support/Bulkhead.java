@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bulkhead limiting the number of concurrent calls to a backend data source.
+ *
+ * A call that cannot acquire a permit within the configured maximum wait is rejected.
+ * Every acquired permit must be {@link #release() released}.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Semaphore
+ * @see org.springframework.geode.cache.support.CircuitBreaker
+ * @see org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class Bulkhead {
+
+	public static final Duration DEFAULT_MAXIMUM_WAIT = Duration.ZERO;
+
+	private final int maximumConcurrentCalls;
+
+	private final Duration maximumWait;
+
+	private final LongAdder rejectedCallCount = new LongAdder();
+
+	private final Semaphore permits;
+
+	/**
+	 * Constructs a new instance of {@link Bulkhead} permitting the given number of concurrent calls
+	 * and rejecting further calls immediately.
+	 *
+	 * @param maximumConcurrentCalls maximum number of concurrent calls.
+	 * @throws IllegalArgumentException if {@code maximumConcurrentCalls} is less than {@literal 1}.
+	 */
+	public Bulkhead(int maximumConcurrentCalls) {
+		this(maximumConcurrentCalls, DEFAULT_MAXIMUM_WAIT);
+	}
+
+	/**
+	 * Constructs a new instance of {@link Bulkhead} permitting the given number of concurrent calls
+	 * and waiting up to the given {@link Duration} for a permit.
+	 *
+	 * @param maximumConcurrentCalls maximum number of concurrent calls.
+	 * @param maximumWait {@link Duration} to wait for a permit; {@literal null} does not wait.
+	 * @throws IllegalArgumentException if {@code maximumConcurrentCalls} is less than {@literal 1}
+	 * or the {@link Duration} is negative.
+	 */
+	public Bulkhead(int maximumConcurrentCalls, @Nullable Duration maximumWait) {
+
+		Assert.isTrue(maximumConcurrentCalls > 0,
+			String.format("Maximum concurrent calls [%d] must be greater than 0", maximumConcurrentCalls));
+
+		maximumWait = maximumWait != null ? maximumWait : DEFAULT_MAXIMUM_WAIT;
+
+		Assert.isTrue(!maximumWait.isNegative(), String.format("Maximum wait [%s] must not be negative", maximumWait));
+
+		this.maximumConcurrentCalls = maximumConcurrentCalls;
+		this.maximumWait = maximumWait;
+		this.permits = new Semaphore(maximumConcurrentCalls);
+	}
+
+	/**
+	 * Returns the number of calls currently in progress.
+	 *
+	 * @return the number of calls currently in progress.
+	 */
+	public int getConcurrentCallCount() {
+		return getMaximumConcurrentCalls() - this.permits.availablePermits();
+	}
+
+	public int getMaximumConcurrentCalls() {
+		return this.maximumConcurrentCalls;
+	}
+
+	public @NonNull Duration getMaximumWait() {
+		return this.maximumWait;
+	}
+
+	/**
+	 * Returns the number of calls rejected because no permit became available within the maximum wait.
+	 *
+	 * @return the number of rejected calls.
+	 */
+	public long getRejectedCallCount() {
+		return this.rejectedCallCount.sum();
+	}
+
+	/**
+	 * Tries to acquire a permit for a call, waiting up to the maximum wait.
+	 *
+	 * @return a boolean value indicating whether a permit was acquired.
+	 */
+	public boolean tryAcquire() {
+
+		boolean acquired;
+
+		try {
+			acquired = this.maximumWait.isZero()
+				? this.permits.tryAcquire()
+				: this.permits.tryAcquire(this.maximumWait.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+
+		if (!acquired) {
+			this.rejectedCallCount.increment();
+		}
+
+		return acquired;
+	}
+
+	/**
+	 * Releases a permit acquired with {@link #tryAcquire()}.
+	 */
+	public void release() {
+		this.permits.release();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{maximumConcurrentCalls=%2$d, maximumWait=%3$s}",
+			getClass().getSimpleName(), getMaximumConcurrentCalls(), getMaximumWait());
+	}
+}
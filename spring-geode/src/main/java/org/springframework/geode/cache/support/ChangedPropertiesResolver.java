@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.data.annotation.Transient;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Resolves the properties that differ between the old and new value of an entity, by comparing the non-static,
+ * non-transient fields of the entity that are not annotated with {@link Transient}, or the fields of a {@link PdxInstance} when the values are read serialized.
+ *
+ * Returns a {@link Map} of changed property names to their new values, which is empty if nothing changed,
+ * or {@literal null} if the values cannot be compared property by property (e.g. the values are of different types).
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the entity.
+ * @see java.util.function.BiFunction
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.geode.cache.support.PartialUpdateRepository
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ChangedPropertiesResolver<T> implements BiFunction<T, T, Map<String, Object>> {
+
+	private final Map<Class<?>, List<Field>> persistentFields = new ConcurrentHashMap<>();
+
+	@Override
+	public @Nullable Map<String, Object> apply(@Nullable T oldValue, @Nullable T newValue) {
+
+		if (oldValue == null || newValue == null || !oldValue.getClass().equals(newValue.getClass())) {
+			return null;
+		}
+
+		return oldValue instanceof PdxInstance
+			? resolveChangedFields((PdxInstance) oldValue, (PdxInstance) newValue)
+			: resolveChangedFields(oldValue, newValue);
+	}
+
+	private @Nullable Map<String, Object> resolveChangedFields(PdxInstance oldValue, PdxInstance newValue) {
+
+		if (!ObjectUtils.nullSafeEquals(oldValue.getClassName(), newValue.getClassName())) {
+			return null;
+		}
+
+		Set<String> fieldNames = new LinkedHashSet<>(newValue.getFieldNames());
+
+		fieldNames.addAll(oldValue.getFieldNames());
+
+		Map<String, Object> changedFields = new LinkedHashMap<>();
+
+		for (String fieldName : fieldNames) {
+
+			Object newFieldValue = newValue.getField(fieldName);
+
+			if (!ObjectUtils.nullSafeEquals(oldValue.getField(fieldName), newFieldValue)) {
+				changedFields.put(fieldName, newFieldValue);
+			}
+		}
+
+		return changedFields;
+	}
+
+	private Map<String, Object> resolveChangedFields(T oldValue, T newValue) {
+
+		Map<String, Object> changedFields = new LinkedHashMap<>();
+
+		for (Field field : resolvePersistentFields(newValue.getClass())) {
+
+			Object newFieldValue = ReflectionUtils.getField(field, newValue);
+
+			if (!ObjectUtils.nullSafeEquals(ReflectionUtils.getField(field, oldValue), newFieldValue)) {
+				changedFields.put(field.getName(), newFieldValue);
+			}
+		}
+
+		return changedFields;
+	}
+
+	private List<Field> resolvePersistentFields(Class<?> type) {
+
+		return this.persistentFields.computeIfAbsent(type, it -> {
+
+			List<Field> fields = new ArrayList<>();
+
+			ReflectionUtils.doWithFields(it, field -> {
+				ReflectionUtils.makeAccessible(field);
+				fields.add(field);
+			}, field -> !(Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+				|| field.isSynthetic() || field.isAnnotationPresent(Transient.class)));
+
+			return Collections.unmodifiableList(fields);
+		});
+	}
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * A thread-safe circuit breaker used to stop calling a backend data source that is failing.
+ *
+ * The {@link CircuitBreaker} starts {@link State#CLOSED closed} and permits all calls.  After the configured number
+ * of consecutive failures it {@link State#OPEN opens} and rejects all calls until the open duration has elapsed.
+ * It then becomes {@link State#HALF_OPEN half-open} and permits a single trial call, which either closes
+ * the {@link CircuitBreaker} on success or opens it again on failure.
+ *
+ * Every permitted call must be followed by exactly one call to either {@link #onSuccess()} or {@link #onFailure()}.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.cache.support.Bulkhead
+ * @see org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class CircuitBreaker {
+
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+
+	public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final AtomicBoolean trialCallInFlight = new AtomicBoolean(false);
+
+	private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final LongAdder rejectedCallCount = new LongAdder();
+
+	private final LongSupplier clock;
+
+	private final Map<State, LongAdder> transitionCounts = new EnumMap<>(State.class);
+
+	private volatile long openedTime;
+
+	/**
+	 * Constructs a new instance of {@link CircuitBreaker} initialized with the {@link #DEFAULT_FAILURE_THRESHOLD}
+	 * and {@link #DEFAULT_OPEN_DURATION}.
+	 */
+	public CircuitBreaker() {
+		this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CircuitBreaker} initialized with the given number of consecutive failures
+	 * after which the {@link CircuitBreaker} opens and the {@link Duration} it stays open.
+	 *
+	 * @param failureThreshold number of consecutive failures after which the {@link CircuitBreaker} opens.
+	 * @param openDuration {@link Duration} the {@link CircuitBreaker} rejects calls before permitting a trial call.
+	 * @throws IllegalArgumentException if {@code failureThreshold} is less than {@literal 1}
+	 * or the {@link Duration} is {@literal null}, zero or negative.
+	 */
+	public CircuitBreaker(int failureThreshold, @NonNull Duration openDuration) {
+		this(failureThreshold, openDuration, System::nanoTime);
+	}
+
+	CircuitBreaker(int failureThreshold, @NonNull Duration openDuration, @NonNull LongSupplier clock) {
+
+		Assert.isTrue(failureThreshold > 0,
+			String.format("Failure threshold [%d] must be greater than 0", failureThreshold));
+
+		Assert.isTrue(openDuration != null && !(openDuration.isNegative() || openDuration.isZero()),
+			String.format("Open duration [%s] must be greater than 0", openDuration));
+
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.clock = clock;
+
+		for (State state : State.values()) {
+			this.transitionCounts.put(state, new LongAdder());
+		}
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	public int getFailureThreshold() {
+		return this.failureThreshold;
+	}
+
+	public @NonNull Duration getOpenDuration() {
+		return this.openDuration;
+	}
+
+	/**
+	 * Returns the number of calls rejected because this {@link CircuitBreaker} was open or a trial call
+	 * was already in progress.
+	 *
+	 * @return the number of rejected calls.
+	 */
+	public long getRejectedCallCount() {
+		return this.rejectedCallCount.sum();
+	}
+
+	/**
+	 * Returns the current {@link State} of this {@link CircuitBreaker}.
+	 *
+	 * @return the current {@link State}.
+	 */
+	public @NonNull State getState() {
+		return this.state.get();
+	}
+
+	/**
+	 * Returns the number of times this {@link CircuitBreaker} transitioned to the given {@link State}.
+	 *
+	 * @param state {@link State} to evaluate.
+	 * @return the number of transitions to the given {@link State}.
+	 */
+	public long getTransitionCount(@NonNull State state) {
+		return this.transitionCounts.get(state).sum();
+	}
+
+	/**
+	 * Determines whether a call is permitted, transitioning from {@link State#OPEN} to {@link State#HALF_OPEN}
+	 * once the open duration has elapsed.
+	 *
+	 * @return a boolean value indicating whether the call is permitted.
+	 */
+	public boolean tryAcquirePermission() {
+
+		State currentState = getState();
+
+		if (currentState == State.CLOSED) {
+			return true;
+		}
+
+		if (currentState == State.OPEN && this.clock.getAsLong() - this.openedTime >= this.openDuration.toNanos()) {
+			transition(State.OPEN, State.HALF_OPEN);
+		}
+
+		if (getState() == State.HALF_OPEN && this.trialCallInFlight.compareAndSet(false, true)) {
+			return true;
+		}
+
+		this.rejectedCallCount.increment();
+
+		return false;
+	}
+
+	/**
+	 * Records a successful call, closing this {@link CircuitBreaker} if the call was the trial call.
+	 */
+	public void onSuccess() {
+
+		this.consecutiveFailures.set(0);
+
+		if (transition(State.HALF_OPEN, State.CLOSED)) {
+			this.trialCallInFlight.set(false);
+		}
+	}
+
+	/**
+	 * Records a failed call, opening this {@link CircuitBreaker} if the call was the trial call or the number of
+	 * consecutive failures reached the failure threshold.
+	 */
+	public void onFailure() {
+
+		long now = this.clock.getAsLong();
+
+		if (getState() == State.HALF_OPEN) {
+
+			this.openedTime = now;
+
+			if (transition(State.HALF_OPEN, State.OPEN)) {
+				this.trialCallInFlight.set(false);
+			}
+		}
+		else if (this.consecutiveFailures.incrementAndGet() >= getFailureThreshold()) {
+
+			this.openedTime = now;
+
+			if (transition(State.CLOSED, State.OPEN)) {
+				this.consecutiveFailures.set(0);
+			}
+		}
+	}
+
+	private boolean transition(State from, State to) {
+
+		if (this.state.compareAndSet(from, to)) {
+
+			this.transitionCounts.get(to).increment();
+
+			getLogger().info("CircuitBreaker transitioned from [{}] to [{}]", from, to);
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{state=%2$s, failureThreshold=%3$d, openDuration=%4$s}",
+			getClass().getSimpleName(), getState(), getFailureThreshold(), getOpenDuration());
+	}
+
+	/**
+	 * {@link State States} of a {@link CircuitBreaker}.
+	 */
+	public enum State {
+
+		CLOSED,
+		HALF_OPEN,
+		OPEN,
+
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ToIntFunction} resolving the shard of a key by consistent hashing.
+ *
+ * Each shard is placed on a hash ring at a number of virtual nodes, and a key belongs to the shard of the first
+ * virtual node at or after the hash of the key.  Adding a shard therefore moves only about {@literal 1/n} of the keys,
+ * all of them to the new shard, whereas modulo hashing moves almost all keys.
+ *
+ * The shard of a key must be the same in every JVM, so keys must have a stable hash.  By default, {@link String},
+ * {@link Long}, {@link Integer}, {@link Short}, {@link Byte}, {@link java.util.UUID} and {@literal byte[]} keys
+ * are hashed by value, and all other keys are rejected; keys of other types require a {@link ToLongFunction key hasher}
+ * that hashes the key by value, since {@link Object#hashCode()} may differ between JVMs.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the key.
+ * @see java.util.function.ToIntFunction
+ * @see java.util.function.ToLongFunction
+ * @see org.springframework.geode.cache.support.ShardedCrudRepository
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ConsistentHashShardResolver<K> implements ToIntFunction<K> {
+
+	public static final int DEFAULT_VIRTUAL_NODES_PER_SHARD = 160;
+
+	private final int shardCount;
+
+	private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+
+	private final ToLongFunction<K> keyHasher;
+
+	/**
+	 * Constructs a new instance of {@link ConsistentHashShardResolver} for the given number of shards with
+	 * the {@link #DEFAULT_VIRTUAL_NODES_PER_SHARD default number of virtual nodes} per shard.
+	 *
+	 * @param shardCount number of shards.
+	 * @throws IllegalArgumentException if {@code shardCount} is less than {@literal 1}.
+	 */
+	public ConsistentHashShardResolver(int shardCount) {
+		this(shardCount, DEFAULT_VIRTUAL_NODES_PER_SHARD);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ConsistentHashShardResolver} for the given number of shards,
+	 * each placed on the hash ring at the given number of virtual nodes.
+	 *
+	 * @param shardCount number of shards.
+	 * @param virtualNodesPerShard number of virtual nodes per shard; more virtual nodes spread keys more evenly.
+	 * @throws IllegalArgumentException if {@code shardCount} or {@code virtualNodesPerShard}
+	 * is less than {@literal 1}.
+	 */
+	public ConsistentHashShardResolver(int shardCount, int virtualNodesPerShard) {
+		this(shardCount, virtualNodesPerShard, ConsistentHashShardResolver::hashByValue);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ConsistentHashShardResolver} for the given number of shards,
+	 * each placed on the hash ring at the given number of virtual nodes, using the given {@link ToLongFunction}
+	 * to hash keys.
+	 *
+	 * @param shardCount number of shards.
+	 * @param virtualNodesPerShard number of virtual nodes per shard; more virtual nodes spread keys more evenly.
+	 * @param keyHasher {@link ToLongFunction} computing a 64-bit hash of a key; must return the same hash
+	 * for equal keys in every JVM.
+	 * @throws IllegalArgumentException if {@code shardCount} or {@code virtualNodesPerShard}
+	 * is less than {@literal 1}, or the {@link ToLongFunction key hasher} is {@literal null}.
+	 */
+	public ConsistentHashShardResolver(int shardCount, int virtualNodesPerShard,
+			@NonNull ToLongFunction<K> keyHasher) {
+
+		Assert.isTrue(shardCount > 0, String.format("Shard count [%d] must be greater than 0", shardCount));
+
+		Assert.isTrue(virtualNodesPerShard > 0,
+			String.format("Virtual nodes per shard [%d] must be greater than 0", virtualNodesPerShard));
+
+		Assert.notNull(keyHasher, "Key hasher is required");
+
+		this.shardCount = shardCount;
+		this.keyHasher = keyHasher;
+
+		for (int shard = 0; shard < shardCount; shard++) {
+			for (int virtualNode = 0; virtualNode < virtualNodesPerShard; virtualNode++) {
+				this.ring.putIfAbsent(BloomFilter.hash64(String.format("shard-%1$d-%2$d", shard, virtualNode)), shard);
+			}
+		}
+	}
+
+	protected ToLongFunction<K> getKeyHasher() {
+		return this.keyHasher;
+	}
+
+	public int getShardCount() {
+		return this.shardCount;
+	}
+
+	private static long hashByValue(@Nullable Object key) {
+
+		Assert.isTrue(BloomFilter.isHashedByValue(key),
+			() -> String.format("Key [%1$s] of type [%2$s] has no stable hash; a key hasher is required",
+				key, key.getClass().getName()));
+
+		return BloomFilter.hash64(key);
+	}
+
+	/**
+	 * Resolves the shard of the given key.
+	 *
+	 * @param key key to resolve.
+	 * @return the index of the shard, between {@literal 0}, inclusive, and the {@link #getShardCount() shard count},
+	 * exclusive.
+	 * @throws IllegalArgumentException if the key has no stable hash and no {@link ToLongFunction key hasher}
+	 * was given.
+	 */
+	@Override
+	public int applyAsInt(@Nullable K key) {
+
+		Map.Entry<Long, Integer> virtualNode = this.ring.ceilingEntry(getKeyHasher().applyAsLong(key));
+
+		return (virtualNode != null ? virtualNode : this.ring.firstEntry()).getValue();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A thread-safe Count-Min sketch estimating how often keys have been seen, in a fixed amount of memory.
+ *
+ * Each key is counted in one 4-bit counter in each of {@literal 4} rows, and its frequency is estimated
+ * as the minimum of its counters, which is never less than the true frequency and is capped at {@literal 15}.
+ * Once the number of recorded keys reaches the sample size, all counters are halved so that the sketch
+ * reflects recent rather than historic frequency.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the key.
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class FrequencySketch<K> {
+
+	public static final int DEFAULT_WIDTH = 16384;
+
+	protected static final int MAXIMUM_FREQUENCY = 15;
+
+	private static final int COUNTERS_PER_WORD = 16;
+	private static final int DEPTH = 4;
+
+	private static final long[] SEEDS = {
+		0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+	};
+
+	private final AtomicLongArray counters;
+
+	private final int width;
+
+	private final long sampleSize;
+
+	private final LongAdder additions = new LongAdder();
+
+	private final Object resetMonitor = new Object();
+
+	/**
+	 * Constructs a new instance of {@link FrequencySketch} with the {@link #DEFAULT_WIDTH default width}.
+	 */
+	public FrequencySketch() {
+		this(DEFAULT_WIDTH);
+	}
+
+	/**
+	 * Constructs a new instance of {@link FrequencySketch} with the given number of counters per row, which
+	 * should be about the number of distinct keys tracked; the sample size is {@literal 10} times the width.
+	 *
+	 * @param width number of counters per row, rounded up to a multiple of {@literal 16}.
+	 * @throws IllegalArgumentException if {@code width} is less than {@literal 1}.
+	 */
+	public FrequencySketch(int width) {
+
+		Assert.isTrue(width > 0, String.format("Width [%d] must be greater than 0", width));
+
+		int wordsPerRow = (width + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+
+		this.width = wordsPerRow * COUNTERS_PER_WORD;
+		this.counters = new AtomicLongArray(wordsPerRow * DEPTH);
+		this.sampleSize = 10L * this.width;
+	}
+
+	public long getSampleSize() {
+		return this.sampleSize;
+	}
+
+	public int getWidth() {
+		return this.width;
+	}
+
+	private int counterIndex(long hash, int row) {
+
+		long rowHash = (hash ^ SEEDS[row]) * 0x9E3779B97F4A7C15L;
+
+		return row * this.width + (int) Math.floorMod(rowHash ^ (rowHash >>> 32), (long) this.width);
+	}
+
+	private int counterValue(int counterIndex) {
+
+		long word = this.counters.get(counterIndex / COUNTERS_PER_WORD);
+
+		return (int) ((word >>> ((counterIndex % COUNTERS_PER_WORD) << 2)) & 0xFL);
+	}
+
+	/**
+	 * Estimates the number of times the given key has been recorded since the counters were last halved.
+	 *
+	 * @param key key to evaluate.
+	 * @return the estimated frequency of the key, between {@literal 0} and {@literal 15}.
+	 */
+	public int frequency(@Nullable K key) {
+
+		long hash = BloomFilter.hash64(key);
+
+		int frequency = MAXIMUM_FREQUENCY;
+
+		for (int row = 0; row < DEPTH; row++) {
+			frequency = Math.min(frequency, counterValue(counterIndex(hash, row)));
+		}
+
+		return frequency;
+	}
+
+	/**
+	 * Records that the given key has been seen.
+	 *
+	 * @param key key to record.
+	 */
+	public void increment(@Nullable K key) {
+
+		long hash = BloomFilter.hash64(key);
+
+		for (int row = 0; row < DEPTH; row++) {
+
+			int counterIndex = counterIndex(hash, row);
+			int wordIndex = counterIndex / COUNTERS_PER_WORD;
+			int shift = (counterIndex % COUNTERS_PER_WORD) << 2;
+
+			long word = this.counters.get(wordIndex);
+
+			while (((word >>> shift) & 0xFL) < MAXIMUM_FREQUENCY
+					&& !this.counters.compareAndSet(wordIndex, word, word + (1L << shift))) {
+
+				word = this.counters.get(wordIndex);
+			}
+		}
+
+		this.additions.increment();
+
+		if (this.additions.sum() >= this.sampleSize) {
+			reset();
+		}
+	}
+
+	private void reset() {
+
+		synchronized (this.resetMonitor) {
+
+			if (this.additions.sum() >= this.sampleSize) {
+
+				for (int index = 0, length = this.counters.length(); index < length; index++) {
+
+					long word = this.counters.get(index);
+
+					// halve each 4-bit counter
+					while (!this.counters.compareAndSet(index, word, (word >>> 1) & 0x7777777777777777L)) {
+						word = this.counters.get(index);
+					}
+				}
+
+				this.additions.reset();
+			}
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.control.ResourceManager;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An admission policy deciding whether a value loaded from the backend data source for a key is cached,
+ * so that loads under memory pressure, or large one-off scans, do not evict the hot set of a cache.
+ *
+ * While the JVM heap usage is below the configured threshold, every key is admitted.  Heap usage is measured as
+ * the usage of the tenured heap memory pool after the last garbage collection, as Apache Geode's heap monitoring
+ * does, so that uncollected, short-lived garbage does not restrict admission.  Above the threshold,
+ * a key is admitted only if it has been requested at least the {@link #getMinimumFrequency() minimum frequency}
+ * recently, as estimated by a {@link FrequencySketch}; without a {@link FrequencySketch}, no key is admitted.
+ * A threshold of {@literal 0} applies frequency-based admission at all times.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the key.
+ * @see java.util.function.Predicate
+ * @see org.apache.geode.cache.control.ResourceManager
+ * @see org.springframework.geode.cache.support.FrequencySketch
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class HeapAwareAdmissionPolicy<K> implements Predicate<K> {
+
+	public static final float DEFAULT_HEAP_THRESHOLD_PERCENTAGE = 80.0f;
+
+	public static final int DEFAULT_MINIMUM_FREQUENCY = 2;
+
+	/**
+	 * Factory method used to construct a new instance of {@link HeapAwareAdmissionPolicy} whose threshold is
+	 * the eviction heap percentage, or otherwise the critical heap percentage, of the given {@link ResourceManager}.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param resourceManager {@link ResourceManager} of the cache.
+	 * @return a new {@link HeapAwareAdmissionPolicy}; uses the {@link #DEFAULT_HEAP_THRESHOLD_PERCENTAGE default
+	 * threshold} if neither heap percentage is configured.
+	 * @throws IllegalArgumentException if the {@link ResourceManager} is {@literal null}.
+	 */
+	public static <K> HeapAwareAdmissionPolicy<K> from(@NonNull ResourceManager resourceManager) {
+
+		Assert.notNull(resourceManager, "ResourceManager is required");
+
+		float heapThresholdPercentage = resourceManager.getEvictionHeapPercentage() > 0.0f
+			? resourceManager.getEvictionHeapPercentage()
+			: resourceManager.getCriticalHeapPercentage() > 0.0f
+			? resourceManager.getCriticalHeapPercentage()
+			: DEFAULT_HEAP_THRESHOLD_PERCENTAGE;
+
+		return new HeapAwareAdmissionPolicy<>(heapThresholdPercentage);
+	}
+
+	private static final MemoryPoolMXBean TENURED_MEMORY_POOL = findTenuredMemoryPool();
+
+	// On HotSpot, only the tenured (old) generation heap pool supports usage thresholds
+	private static @Nullable MemoryPoolMXBean findTenuredMemoryPool() {
+
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(memoryPool -> MemoryType.HEAP.equals(memoryPool.getType()))
+			.filter(MemoryPoolMXBean::isUsageThresholdSupported)
+			.filter(MemoryPoolMXBean::isCollectionUsageThresholdSupported)
+			.findFirst()
+			.orElse(null);
+	}
+
+	static double currentHeapUsagePercentage() {
+
+		MemoryPoolMXBean tenuredMemoryPool = TENURED_MEMORY_POOL;
+
+		MemoryUsage memoryUsage = tenuredMemoryPool != null
+			? tenuredMemoryPool.getCollectionUsage()
+			: ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+		long maximumMemory = memoryUsage != null && memoryUsage.getMax() > 0L
+			? memoryUsage.getMax()
+			: Runtime.getRuntime().maxMemory();
+
+		return memoryUsage != null && maximumMemory > 0L && maximumMemory != Long.MAX_VALUE
+			? 100.0d * memoryUsage.getUsed() / maximumMemory
+			: 0.0d;
+	}
+
+	private volatile int minimumFrequency = DEFAULT_MINIMUM_FREQUENCY;
+
+	private final float heapThresholdPercentage;
+
+	private final DoubleSupplier heapUsagePercentage;
+
+	private volatile FrequencySketch<K> frequencySketch;
+
+	private final LongAdder rejectedAdmissionCount = new LongAdder();
+
+	/**
+	 * Constructs a new instance of {@link HeapAwareAdmissionPolicy} restricting admission while the used
+	 * JVM heap is at or above the given percentage of the maximum heap.
+	 *
+	 * @param heapThresholdPercentage percentage of the maximum heap, between {@literal 0} and {@literal 100},
+	 * above which admission is restricted.
+	 * @throws IllegalArgumentException if {@code heapThresholdPercentage} is not between {@literal 0}
+	 * and {@literal 100}.
+	 */
+	public HeapAwareAdmissionPolicy(float heapThresholdPercentage) {
+		this(heapThresholdPercentage, HeapAwareAdmissionPolicy::currentHeapUsagePercentage);
+	}
+
+	HeapAwareAdmissionPolicy(float heapThresholdPercentage, @NonNull DoubleSupplier heapUsagePercentage) {
+
+		Assert.isTrue(heapThresholdPercentage >= 0.0f && heapThresholdPercentage <= 100.0f,
+			String.format("Heap threshold percentage [%s] must be between 0 and 100", heapThresholdPercentage));
+
+		Assert.notNull(heapUsagePercentage, "Heap usage percentage is required");
+
+		this.heapThresholdPercentage = heapThresholdPercentage;
+		this.heapUsagePercentage = heapUsagePercentage;
+	}
+
+	/**
+	 * Returns the {@link FrequencySketch} used to estimate how often keys are requested.
+	 *
+	 * @return the {@link FrequencySketch}, or {@literal null} if not configured.
+	 */
+	public @Nullable FrequencySketch<K> getFrequencySketch() {
+		return this.frequencySketch;
+	}
+
+	public float getHeapThresholdPercentage() {
+		return this.heapThresholdPercentage;
+	}
+
+	public int getMinimumFrequency() {
+		return this.minimumFrequency;
+	}
+
+	/**
+	 * Returns the number of keys that were not admitted.
+	 *
+	 * @return the number of rejected admissions.
+	 */
+	public long getRejectedAdmissionCount() {
+		return this.rejectedAdmissionCount.sum();
+	}
+
+	/**
+	 * Determines whether the used JVM heap is at or above the configured threshold.
+	 *
+	 * @return a boolean value indicating whether the JVM is under memory pressure.
+	 */
+	public boolean isUnderMemoryPressure() {
+		return this.heapUsagePercentage.getAsDouble() >= this.heapThresholdPercentage;
+	}
+
+	/**
+	 * Builder method used to admit keys that have been requested recently, as estimated by the given
+	 * {@link FrequencySketch}, while the JVM is under memory pressure.
+	 *
+	 * @param frequencySketch {@link FrequencySketch} used to estimate how often keys are requested;
+	 * {@literal null} rejects all keys under memory pressure.
+	 * @return this {@link HeapAwareAdmissionPolicy}.
+	 * @see #withMinimumFrequency(int)
+	 */
+	public HeapAwareAdmissionPolicy<K> withFrequencySketch(@Nullable FrequencySketch<K> frequencySketch) {
+
+		this.frequencySketch = frequencySketch;
+
+		return this;
+	}
+
+	/**
+	 * Builder method used to configure how often a key must have been requested recently to be admitted
+	 * while the JVM is under memory pressure.
+	 *
+	 * @param minimumFrequency minimum number of recent requests, including the current request.
+	 * @return this {@link HeapAwareAdmissionPolicy}.
+	 * @throws IllegalArgumentException if {@code minimumFrequency} is less than {@literal 1}.
+	 * @see #withFrequencySketch(FrequencySketch)
+	 */
+	public HeapAwareAdmissionPolicy<K> withMinimumFrequency(int minimumFrequency) {
+
+		Assert.isTrue(minimumFrequency > 0,
+			String.format("Minimum frequency [%d] must be greater than 0", minimumFrequency));
+
+		this.minimumFrequency = minimumFrequency;
+
+		return this;
+	}
+
+	/**
+	 * Records a request for the given key and determines whether its value should be cached.
+	 *
+	 * @param key key of the loaded value.
+	 * @return a boolean value indicating whether the value for the key should be cached.
+	 */
+	@Override
+	public boolean test(@Nullable K key) {
+
+		FrequencySketch<K> frequencySketch = this.frequencySketch;
+
+		if (frequencySketch != null) {
+			frequencySketch.increment(key);
+		}
+
+		boolean admitted = !isUnderMemoryPressure()
+			|| (frequencySketch != null && frequencySketch.frequency(key) >= getMinimumFrequency());
+
+		if (!admitted) {
+			this.rejectedAdmissionCount.increment();
+		}
+
+		return admitted;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct values added to it, in a fixed amount of memory.
+ *
+ * Each value is hashed to one of {@literal 2^precision} registers recording the longest run of leading zeros seen,
+ * and the estimate has a standard error of about {@literal 1.04 / sqrt(2^precision)}, that is, about {@literal 1.6%}
+ * for the {@link #DEFAULT_PRECISION default precision}.  Sketches of the same precision built from disjoint
+ * or overlapping values are {@link #merge(HyperLogLog) merged} into a sketch of the union of their values.
+ *
+ * This class is not thread-safe.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @since 1.2.1
+ */
+public class HyperLogLog implements Serializable {
+
+	private static final long serialVersionUID = -2398571436046632785L;
+
+	public static final int DEFAULT_PRECISION = 12;
+
+	protected static final int MAXIMUM_PRECISION = 18;
+	protected static final int MINIMUM_PRECISION = 4;
+
+	private final byte[] registers;
+
+	private final int precision;
+
+	/**
+	 * Constructs a new instance of {@link HyperLogLog} with the {@link #DEFAULT_PRECISION default precision}.
+	 */
+	public HyperLogLog() {
+		this(DEFAULT_PRECISION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link HyperLogLog} with {@literal 2^precision} registers.
+	 *
+	 * @param precision number of bits of the hash selecting a register.
+	 * @throws IllegalArgumentException if {@code precision} is not between {@literal 4} and {@literal 18}.
+	 */
+	public HyperLogLog(int precision) {
+
+		Assert.isTrue(precision >= MINIMUM_PRECISION && precision <= MAXIMUM_PRECISION,
+			String.format("Precision [%1$d] must be between %2$d and %3$d", precision, MINIMUM_PRECISION,
+				MAXIMUM_PRECISION));
+
+		this.precision = precision;
+		this.registers = new byte[1 << precision];
+	}
+
+	public int getPrecision() {
+		return this.precision;
+	}
+
+	/**
+	 * Adds the given value to this sketch.
+	 *
+	 * @param value value to add; {@literal null} is ignored.
+	 * @return this {@link HyperLogLog}.
+	 */
+	public HyperLogLog add(@Nullable Object value) {
+
+		if (value != null) {
+
+			long hash = BloomFilter.hash64(value);
+
+			int index = (int) (hash >>> (Long.SIZE - this.precision));
+
+			// guard bit bounds the rank when the remaining bits are all zero
+			long remainingBits = (hash << this.precision) | (1L << (this.precision - 1));
+
+			byte rank = (byte) (Long.numberOfLeadingZeros(remainingBits) + 1);
+
+			if (rank > this.registers[index]) {
+				this.registers[index] = rank;
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Estimates the number of distinct values added to this sketch.
+	 *
+	 * @return the estimated number of distinct values.
+	 */
+	public long estimate() {
+
+		int registerCount = this.registers.length;
+		int zeroRegisters = 0;
+
+		double sum = 0.0d;
+
+		for (byte register : this.registers) {
+
+			sum += 1.0d / (1L << register);
+
+			if (register == 0) {
+				zeroRegisters++;
+			}
+		}
+
+		double alpha = 0.7213d / (1.0d + 1.079d / registerCount);
+		double estimate = alpha * registerCount * registerCount / sum;
+
+		// linear counting is more accurate for small cardinalities
+		if (estimate <= 2.5d * registerCount && zeroRegisters > 0) {
+			estimate = registerCount * Math.log((double) registerCount / zeroRegisters);
+		}
+
+		return Math.round(estimate);
+	}
+
+	/**
+	 * Returns a new {@link HyperLogLog} estimating the distinct values of both this and the given sketch.
+	 *
+	 * Neither sketch is modified.
+	 *
+	 * @param sketch {@link HyperLogLog} to merge with this sketch.
+	 * @return a new {@link HyperLogLog} of the union of both sketches.
+	 * @throws IllegalArgumentException if the given sketch is {@literal null} or its precision differs.
+	 */
+	public @NonNull HyperLogLog merge(@NonNull HyperLogLog sketch) {
+
+		Assert.notNull(sketch, "HyperLogLog is required");
+
+		Assert.isTrue(sketch.getPrecision() == getPrecision(), () -> String.format(
+			"Precision [%1$d] must be equal to [%2$d]", sketch.getPrecision(), getPrecision()));
+
+		HyperLogLog union = new HyperLogLog(getPrecision());
+
+		for (int index = 0; index < this.registers.length; index++) {
+			union.registers[index] = (byte) Math.max(this.registers[index], sketch.registers[index]);
+		}
+
+		return union;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof HyperLogLog)) {
+			return false;
+		}
+
+		return Arrays.equals(this.registers, ((HyperLogLog) obj).registers);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.registers);
+	}
+}
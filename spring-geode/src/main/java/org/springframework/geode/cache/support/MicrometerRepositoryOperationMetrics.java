@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link RepositoryOperationMetrics} implementation recording {@link org.springframework.data.repository.CrudRepository}
+ * operations performed on behalf of a {@link org.apache.geode.cache.Region} with Micrometer.
+ *
+ * Registers the following meters, all tagged with the {@literal region} name:
+ *
+ * <ul>
+ *     <li>{@value #OPERATIONS_METER_NAME} {@link Timer} tagged with {@literal operation}
+ *     and {@literal outcome} ({@literal success} or {@literal failure})</li>
+ *     <li>{@value #FAILURES_METER_NAME} {@link Counter} tagged with {@literal operation}</li>
+ *     <li>{@value #IN_FLIGHT_METER_NAME} {@link Gauge} of the number of operations currently in progress</li>
+ *     <li>{@value #REJECTIONS_METER_NAME} {@link Counter} tagged with {@literal operation} and {@literal reason}
+ *     ({@literal circuit-open} or {@literal bulkhead-full})</li>
+ * </ul>
+ *
+ * A {@link #register(CircuitBreaker) registered} {@link CircuitBreaker} adds
+ * a {@value #CIRCUIT_BREAKER_STATE_METER_NAME} {@link Gauge} ({@literal 0} closed, {@literal 1} half-open, {@literal 2} open) and
+ * a {@value #CIRCUIT_BREAKER_TRANSITIONS_METER_NAME} {@link FunctionCounter} tagged with the {@literal state}
+ * transitioned to.  A {@link #register(Bulkhead) registered} {@link Bulkhead} adds
+ * a {@value #BULKHEAD_CONCURRENT_CALLS_METER_NAME} {@link Gauge}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.springframework.geode.cache.support.RepositoryOperationMetrics
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class MicrometerRepositoryOperationMetrics implements RepositoryOperationMetrics {
+
+	public static final String BULKHEAD_CONCURRENT_CALLS_METER_NAME = "geode.cache.repository.bulkhead.concurrent-calls";
+	public static final String CIRCUIT_BREAKER_STATE_METER_NAME = "geode.cache.repository.circuit-breaker.state";
+	public static final String CIRCUIT_BREAKER_TRANSITIONS_METER_NAME =
+		"geode.cache.repository.circuit-breaker.transitions";
+	public static final String FAILURES_METER_NAME = "geode.cache.repository.failures";
+	public static final String IN_FLIGHT_METER_NAME = "geode.cache.repository.in-flight";
+	public static final String OPERATIONS_METER_NAME = "geode.cache.repository.operations";
+	public static final String REJECTIONS_METER_NAME = "geode.cache.repository.rejections";
+
+	protected static final String FAILURE_OUTCOME = "failure";
+	protected static final String SUCCESS_OUTCOME = "success";
+
+	protected static final String OPERATION_TAG = "operation";
+	protected static final String OUTCOME_TAG = "outcome";
+	protected static final String REASON_TAG = "reason";
+	protected static final String REGION_TAG = "region";
+	protected static final String STATE_TAG = "state";
+
+	/**
+	 * Returns a {@link Function} resolving a single {@link MicrometerRepositoryOperationMetrics} per
+	 * {@link String Region name}, so that the {@link org.apache.geode.cache.CacheLoader} and
+	 * {@link org.apache.geode.cache.CacheWriter} of a {@link org.apache.geode.cache.Region} share the same meters.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which meters are registered.
+	 * @return a {@link Function} resolving {@link RepositoryOperationMetrics} by {@link String Region name}.
+	 * @throws IllegalArgumentException if {@link MeterRegistry} is {@literal null}.
+	 */
+	public static @NonNull Function<String, RepositoryOperationMetrics> resolver(@NonNull MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry is required");
+
+		Map<String, RepositoryOperationMetrics> metricsByRegionName = new ConcurrentHashMap<>();
+
+		return regionName -> metricsByRegionName.computeIfAbsent(regionName,
+			name -> new MicrometerRepositoryOperationMetrics(meterRegistry, name));
+	}
+
+	/**
+	 * Returns a {@link Function} resolving {@link MicrometerRepositoryOperationMetrics} per {@link String Region name}
+	 * using the single {@link MeterRegistry} contained in the given {@link BeanFactory}.
+	 *
+	 * @param beanFactory {@link BeanFactory} containing the {@link MeterRegistry}.
+	 * @return an {@link Optional} {@link Function} resolving {@link RepositoryOperationMetrics}
+	 * by {@link String Region name}, or {@link Optional#empty()} if the {@link BeanFactory} does not contain
+	 * a single {@link MeterRegistry}.
+	 * @see #resolver(MeterRegistry)
+	 */
+	public static Optional<Function<String, RepositoryOperationMetrics>> resolver(@Nullable BeanFactory beanFactory) {
+
+		return Optional.ofNullable(beanFactory)
+			.map(it -> it.getBeanProvider(MeterRegistry.class).getIfUnique())
+			.map(MicrometerRepositoryOperationMetrics::resolver);
+	}
+
+	private final AtomicInteger inFlightCount = new AtomicInteger(0);
+
+	private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+	private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+	private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+	private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	private final Set<Object> registeredGuards = ConcurrentHashMap.newKeySet();
+
+	private final String regionName;
+
+	/**
+	 * Constructs a new instance of {@link MicrometerRepositoryOperationMetrics} initialized with the given
+	 * {@link MeterRegistry} and {@link String name} of the {@link org.apache.geode.cache.Region} being recorded.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which meters are registered.
+	 * @param regionName {@link String} containing the name of the {@link org.apache.geode.cache.Region}.
+	 * @throws IllegalArgumentException if {@link MeterRegistry} is {@literal null} or the {@link String Region name}
+	 * is not specified.
+	 */
+	public MicrometerRepositoryOperationMetrics(@NonNull MeterRegistry meterRegistry, @NonNull String regionName) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry is required");
+		Assert.hasText(regionName, String.format("Region name [%s] must be specified", regionName));
+
+		this.meterRegistry = meterRegistry;
+		this.regionName = regionName;
+
+		Gauge.builder(IN_FLIGHT_METER_NAME, this.inFlightCount, AtomicInteger::get)
+			.description("Number of Repository operations in progress")
+			.tag(REGION_TAG, regionName)
+			.register(meterRegistry);
+	}
+
+	protected @NonNull MeterRegistry getMeterRegistry() {
+		return this.meterRegistry;
+	}
+
+	/**
+	 * Returns the number of {@link org.springframework.data.repository.CrudRepository} operations in progress.
+	 *
+	 * @return the number of operations in progress.
+	 */
+	public int getInFlightCount() {
+		return this.inFlightCount.get();
+	}
+
+	public @NonNull String getRegionName() {
+		return this.regionName;
+	}
+
+	@Override
+	public <R> R record(@NonNull String operation, @NonNull Supplier<R> repositoryOperation) {
+
+		long startTime = getMeterRegistry().config().clock().monotonicTime();
+
+		this.inFlightCount.incrementAndGet();
+
+		try {
+
+			R result = repositoryOperation.get();
+
+			stop(timer(operation, SUCCESS_OUTCOME), startTime);
+
+			return result;
+		}
+		catch (RuntimeException | Error cause) {
+
+			stop(timer(operation, FAILURE_OUTCOME), startTime);
+
+			this.failureCounters.computeIfAbsent(operation, this::newFailureCounter).increment();
+
+			throw cause;
+		}
+		finally {
+			this.inFlightCount.decrementAndGet();
+		}
+	}
+
+	@Override
+	public void recordRejection(@NonNull String operation, @NonNull String reason) {
+
+		this.rejectionCounters.computeIfAbsent(operation + ":" + reason, key ->
+			Counter.builder(REJECTIONS_METER_NAME)
+				.description("Number of Repository operations rejected without being attempted")
+				.tag(REGION_TAG, getRegionName())
+				.tag(OPERATION_TAG, operation)
+				.tag(REASON_TAG, reason)
+				.register(getMeterRegistry()))
+			.increment();
+	}
+
+	@Override
+	public void register(@NonNull Bulkhead bulkhead) {
+
+		if (this.registeredGuards.add(bulkhead)) {
+			Gauge.builder(BULKHEAD_CONCURRENT_CALLS_METER_NAME, bulkhead, Bulkhead::getConcurrentCallCount)
+				.description("Number of Repository operations holding a Bulkhead permit")
+				.tag(REGION_TAG, getRegionName())
+				.register(getMeterRegistry());
+		}
+	}
+
+	@Override
+	public void register(@NonNull CircuitBreaker circuitBreaker) {
+
+		if (this.registeredGuards.add(circuitBreaker)) {
+
+			Gauge.builder(CIRCUIT_BREAKER_STATE_METER_NAME, circuitBreaker, it -> it.getState().ordinal())
+				.description("State of the CircuitBreaker; 0 closed, 1 half-open, 2 open")
+				.tag(REGION_TAG, getRegionName())
+				.register(getMeterRegistry());
+
+			for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+				FunctionCounter.builder(CIRCUIT_BREAKER_TRANSITIONS_METER_NAME, circuitBreaker,
+						it -> it.getTransitionCount(state))
+					.description("Number of CircuitBreaker state transitions")
+					.tag(REGION_TAG, getRegionName())
+					.tag(STATE_TAG, state.name().toLowerCase().replace('_', '-'))
+					.register(getMeterRegistry());
+			}
+		}
+	}
+
+	private void stop(Timer timer, long startTime) {
+		timer.record(getMeterRegistry().config().clock().monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer timer(String operation, String outcome) {
+
+		Map<String, Timer> timers = SUCCESS_OUTCOME.equals(outcome) ? this.successTimers : this.failureTimers;
+
+		return timers.computeIfAbsent(operation, it -> newTimer(it, outcome));
+	}
+
+	private Counter newFailureCounter(String operation) {
+
+		return Counter.builder(FAILURES_METER_NAME)
+			.description("Number of failed Repository operations")
+			.tag(REGION_TAG, getRegionName())
+			.tag(OPERATION_TAG, operation)
+			.register(getMeterRegistry());
+	}
+
+	private Timer newTimer(String operation, String outcome) {
+
+		return Timer.builder(OPERATIONS_METER_NAME)
+			.description("Duration of Repository operations")
+			.tag(REGION_TAG, getRegionName())
+			.tag(OPERATION_TAG, operation)
+			.tag(OUTCOME_TAG, outcome)
+			.register(getMeterRegistry());
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, time-limited cache of keys for which a backend data source returned no value.
+ *
+ * Keys expire after the configured {@link #getTimeToLive() time-to-live} so that entities created directly
+ * in the backend data source are eventually loaded.  Once the {@link #getMaximumSize() maximum size} is exceeded,
+ * an expired or the least recently used key among a small sample of keys is evicted, which approximates
+ * least-recently-used eviction without serializing lookups on a single lock.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the key.
+ * @see java.util.concurrent.ConcurrentHashMap
+ * @see org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class NegativeResultCache<K> {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+	private final int maximumSize;
+
+	private final long timeToLiveInNanoseconds;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongSupplier clock;
+
+	private final ConcurrentMap<K, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link NegativeResultCache} with the {@link #DEFAULT_MAXIMUM_SIZE default size}
+	 * and {@link #DEFAULT_TIME_TO_LIVE default time-to-live}.
+	 */
+	public NegativeResultCache() {
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link NegativeResultCache} initialized with the given maximum size
+	 * and {@link Duration time-to-live}.
+	 *
+	 * @param maximumSize maximum number of keys held by this cache.
+	 * @param timeToLive {@link Duration} after which a key expires; must be positive.
+	 * @throws IllegalArgumentException if {@code maximumSize} is less than {@literal 1} or the {@link Duration}
+	 * is {@literal null}, zero or negative.
+	 */
+	public NegativeResultCache(int maximumSize, @NonNull Duration timeToLive) {
+		this(maximumSize, timeToLive, System::nanoTime);
+	}
+
+	NegativeResultCache(int maximumSize, @NonNull Duration timeToLive, @NonNull LongSupplier clock) {
+
+		Assert.isTrue(maximumSize > 0, String.format("Maximum size [%d] must be greater than 0", maximumSize));
+		Assert.notNull(timeToLive, "Time-to-live is required");
+		Assert.isTrue(!(timeToLive.isZero() || timeToLive.isNegative()),
+			String.format("Time-to-live [%s] must be greater than 0", timeToLive));
+
+		this.maximumSize = maximumSize;
+		this.timeToLiveInNanoseconds = timeToLive.toNanos();
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the number of lookups that found a key with no value in the backend data source.
+	 *
+	 * @return the number of backend data source accesses avoided by this cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	public @NonNull Duration getTimeToLive() {
+		return Duration.ofNanos(this.timeToLiveInNanoseconds);
+	}
+
+	/**
+	 * Determines whether the backend data source recently returned no value for the given key.
+	 *
+	 * @param key key to evaluate.
+	 * @return a boolean value indicating whether the key is known to have no value.
+	 */
+	public boolean contains(@Nullable K key) {
+
+		Entry entry = key != null ? this.entries.get(key) : null;
+
+		if (entry != null) {
+
+			long now = this.clock.getAsLong();
+
+			if (!entry.isExpired(now)) {
+				entry.lastAccessTime = now;
+				this.hitCount.increment();
+				return true;
+			}
+
+			this.entries.remove(key, entry);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Records that the backend data source returned no value for the given key.
+	 *
+	 * @param key key with no value in the backend data source.
+	 */
+	public void put(@Nullable K key) {
+
+		if (key != null) {
+
+			long now = this.clock.getAsLong();
+
+			this.entries.put(key, new Entry(now, now + this.timeToLiveInNanoseconds));
+
+			while (this.entries.size() > this.maximumSize) {
+				evictSampledEntry(now);
+			}
+		}
+	}
+
+	private void evictSampledEntry(long now) {
+
+		Map.Entry<K, Entry> victim = null;
+
+		Iterator<Map.Entry<K, Entry>> iterator = this.entries.entrySet().iterator();
+
+		for (int sampled = 0; sampled < EVICTION_SAMPLE_SIZE && iterator.hasNext(); sampled++) {
+
+			Map.Entry<K, Entry> candidate = iterator.next();
+
+			if (candidate.getValue().isExpired(now)) {
+				victim = candidate;
+				break;
+			}
+
+			if (victim == null || candidate.getValue().lastAccessTime - victim.getValue().lastAccessTime < 0) {
+				victim = candidate;
+			}
+		}
+
+		if (victim != null) {
+			this.entries.remove(victim.getKey(), victim.getValue());
+		}
+	}
+
+	/**
+	 * Removes the given key from this cache, typically because a value has been created for the key.
+	 *
+	 * @param key key to remove.
+	 */
+	public void evict(@Nullable K key) {
+
+		if (key != null) {
+			this.entries.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all keys from this cache.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns the number of keys currently held by this cache, including keys that have expired
+	 * but have not yet been removed.
+	 *
+	 * @return the number of keys currently held by this cache.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	private static class Entry {
+
+		private final long expirationTime;
+
+		private volatile long lastAccessTime;
+
+		Entry(long lastAccessTime, long expirationTime) {
+			this.lastAccessTime = lastAccessTime;
+			this.expirationTime = expirationTime;
+		}
+
+		boolean isExpired(long now) {
+			return this.expirationTime - now <= 0;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * A Spring Data repository fragment updating only the given properties of a persisted entity, so that
+ * an update of a wide entity does not rewrite every column or field of the backend data store.
+ *
+ * Implement the fragment for the data store in use (e.g. with a JPA {@literal CriteriaUpdate} or
+ * a SQL {@literal UPDATE} statement setting only the changed columns) and compose it into the application's
+ * {@link org.springframework.data.repository.CrudRepository} interface.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.support.ChangedPropertiesResolver
+ * @since 1.2.1
+ */
+@FunctionalInterface
+public interface PartialUpdateRepository<T, ID> {
+
+	/**
+	 * Updates the given properties of the entity identified by the given {@link ID}.
+	 *
+	 * @param id {@link ID} of the entity to update.
+	 * @param changedProperties {@link Map} of changed property names to their new values.
+	 */
+	void updateById(@NonNull ID id, @NonNull Map<String, Object> changedProperties);
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.LoaderHelper;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Abstract base class supporting the implementation of Apache Geode / Pivotal GemFire {@link CacheLoader CacheLoaders}
+ * and {@link CacheWriter CacheWriters} backed by Spring Data {@link ReactiveCrudRepository Reactive Repositories}.
+ *
+ * The {@link CacheLoader} and {@link CacheWriter} contracts are synchronous, so the calling {@link Thread} awaits
+ * the result of the reactive pipeline, bounded by an optional {@link #getTimeout() timeout}.  However, the data access
+ * itself runs on the non-blocking driver (e.g. R2DBC or Reactive MongoDB) rather than on the Apache Geode
+ * {@link Thread} in a blocking driver.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see org.apache.geode.cache.CacheLoader
+ * @see org.apache.geode.cache.CacheWriter
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.support.CacheLoaderSupport
+ * @see org.springframework.geode.cache.support.CacheWriterSupport
+ * @see reactor.core.publisher.Mono
+ * @since 1.2.1
+ */
+public abstract class ReactiveRepositoryCacheLoaderWriterSupport<T, ID>
+		implements CacheLoaderSupport<ID, T>, CacheWriterSupport<ID, T> {
+
+	protected static final String DATA_ACCESS_ERROR =
+		"Exception occurred while accessing entity [%s] in external data source";
+
+	private Duration timeout;
+
+	private final ReactiveCrudRepository<T, ID> repository;
+
+	protected ReactiveRepositoryCacheLoaderWriterSupport(@NonNull ReactiveCrudRepository<T, ID> repository) {
+
+		Assert.notNull(repository, "Repository is required");
+
+		this.repository = repository;
+	}
+
+	public @NonNull ReactiveCrudRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the maximum amount of time to wait for a {@link ReactiveCrudRepository} operation to complete.
+	 *
+	 * @return an {@link Optional} {@link Duration timeout}; if not present, operations are awaited indefinitely.
+	 * @see java.time.Duration
+	 */
+	public Optional<Duration> getTimeout() {
+		return Optional.ofNullable(this.timeout);
+	}
+
+	/**
+	 * Awaits the result of the given {@link Mono}, bounded by the {@link #getTimeout() timeout}.
+	 *
+	 * @param <R> {@link Class type} of the result.
+	 * @param result {@link Mono} to await.
+	 * @return the result or {@literal null} if the {@link Mono} is {@literal null} or completed empty.
+	 * @throws IllegalStateException if the {@link Mono} does not complete within the {@link #getTimeout() timeout}.
+	 */
+	protected @Nullable <R> R await(@Nullable Mono<R> result) {
+
+		Duration timeout = this.timeout;
+
+		return result == null ? null
+			: timeout != null ? result.block(timeout)
+			: result.block();
+	}
+
+	/**
+	 * Awaits the result of the {@link Mono} returned by the given {@link ReactiveCrudRepository} operation.
+	 *
+	 * @param <R> {@link Class type} of the operation result.
+	 * @param entity entity or key on which the operation is performed; used in the error message.
+	 * @param repositoryOperation {@link Supplier} of the {@link Mono} performing the operation.
+	 * @return the result of the operation or {@literal null} if the {@link Mono} completed empty.
+	 * @throws CacheRuntimeException if the operation fails or does not complete within the {@link #getTimeout()}.
+	 */
+	protected @Nullable <R> R doRepositoryOp(@Nullable Object entity, @NonNull Supplier<Mono<R>> repositoryOperation) {
+
+		try {
+			return await(repositoryOperation.get());
+		}
+		catch (Throwable cause) {
+			throw newCacheRuntimeException(() -> String.format(DATA_ACCESS_ERROR, entity), cause);
+		}
+	}
+
+	@Override
+	public T load(LoaderHelper<ID, T> helper) throws CacheLoaderException {
+		return null;
+	}
+
+	protected abstract CacheRuntimeException newCacheRuntimeException(
+		Supplier<String> messageSupplier, Throwable cause);
+
+	/**
+	 * Builder method used to configure the maximum amount of time to wait for
+	 * a {@link ReactiveCrudRepository} operation to complete.
+	 *
+	 * @param <U> {@link Class subtype} of this {@link ReactiveRepositoryCacheLoaderWriterSupport}.
+	 * @param timeout {@link Duration} to wait; {@literal null} waits indefinitely.
+	 * @return this {@link ReactiveRepositoryCacheLoaderWriterSupport}.
+	 * @throws IllegalArgumentException if the {@link Duration timeout} is negative or zero.
+	 * @see #getTimeout()
+	 */
+	@SuppressWarnings("unchecked")
+	public <U extends ReactiveRepositoryCacheLoaderWriterSupport<T, ID>> U withTimeout(@Nullable Duration timeout) {
+
+		Assert.isTrue(timeout == null || !(timeout.isNegative() || timeout.isZero()),
+			String.format("Timeout [%s] must be greater than 0", timeout));
+
+		this.timeout = timeout;
+
+		return (U) this;
+	}
+}
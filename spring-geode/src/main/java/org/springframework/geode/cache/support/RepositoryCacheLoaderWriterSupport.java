@@ -57,8 +57,18 @@ public abstract class RepositoryCacheLoaderWriterSupport<T, ID>
 
 	private final CrudRepository<T, ID> repository;
 
+	private BloomFilter<ID> bloomFilter;
+
+	private Bulkhead bulkhead;
+
+	private CircuitBreaker circuitBreaker;
+
 	private Environment environment;
 
+	private NegativeResultCache<ID> negativeResultCache;
+
+	private RepositoryOperationMetrics repositoryOperationMetrics;
+
 	protected RepositoryCacheLoaderWriterSupport(@NonNull CrudRepository<T, ID> repository) {
 
 		Assert.notNull(repository, "Repository is required");
@@ -86,17 +96,160 @@ public abstract class RepositoryCacheLoaderWriterSupport<T, ID>
 		return this.repository;
 	}
 
+	/**
+	 * Returns the {@link BloomFilter} used to determine whether an entity might exist for a key
+	 * before accessing the {@link CrudRepository}.
+	 *
+	 * @return an {@link Optional} {@link BloomFilter}.
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	public Optional<BloomFilter<ID>> getBloomFilter() {
+		return Optional.ofNullable(this.bloomFilter);
+	}
+
+	/**
+	 * Returns the {@link Bulkhead} limiting the number of concurrent {@link CrudRepository} operations.
+	 *
+	 * @return an {@link Optional} {@link Bulkhead}.
+	 * @see org.springframework.geode.cache.support.Bulkhead
+	 */
+	public Optional<Bulkhead> getBulkhead() {
+		return Optional.ofNullable(this.bulkhead);
+	}
+
+	/**
+	 * Returns the {@link CircuitBreaker} used to stop calling the {@link CrudRepository} while it is failing.
+	 *
+	 * @return an {@link Optional} {@link CircuitBreaker}.
+	 * @see org.springframework.geode.cache.support.CircuitBreaker
+	 */
+	public Optional<CircuitBreaker> getCircuitBreaker() {
+		return Optional.ofNullable(this.circuitBreaker);
+	}
+
+	/**
+	 * Returns the {@link NegativeResultCache} used to remember keys for which the {@link CrudRepository}
+	 * returned no entity.
+	 *
+	 * @return an {@link Optional} {@link NegativeResultCache}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	public Optional<NegativeResultCache<ID>> getNegativeResultCache() {
+		return Optional.ofNullable(this.negativeResultCache);
+	}
+
+	/**
+	 * Returns the {@link RepositoryOperationMetrics} used to record the duration and outcome
+	 * of {@link CrudRepository} operations.
+	 *
+	 * @return the configured {@link RepositoryOperationMetrics}, or {@link RepositoryOperationMetrics#NONE}
+	 * if no metrics were configured.
+	 * @see org.springframework.geode.cache.support.RepositoryOperationMetrics
+	 */
+	public @NonNull RepositoryOperationMetrics getRepositoryOperationMetrics() {
+
+		RepositoryOperationMetrics repositoryOperationMetrics = this.repositoryOperationMetrics;
+
+		return repositoryOperationMetrics != null ? repositoryOperationMetrics : RepositoryOperationMetrics.NONE;
+	}
+
 	@SuppressWarnings("all")
 	protected <S, R> R doRepositoryOp(S entity, Function<S, R> repositoryOperation) {
+		return doRepositoryOp(null, entity, repositoryOperation);
+	}
+
+	/**
+	 * Performs the given {@link CrudRepository} operation, recording it with the configured
+	 * {@link RepositoryOperationMetrics} under the given {@link String operation name}.
+	 *
+	 * @param <S> {@link Class type} of the operation argument.
+	 * @param <R> {@link Class type} of the operation result.
+	 * @param operation {@link String} naming the operation; {@literal null} disables recording.
+	 * @param entity argument passed to the operation.
+	 * @param repositoryOperation {@link Function} performing the operation.
+	 * @return the result of the operation.
+	 * @see #getRepositoryOperationMetrics()
+	 */
+	@SuppressWarnings("all")
+	protected <S, R> R doRepositoryOp(@Nullable String operation, S entity, Function<S, R> repositoryOperation) {
 
 		try {
-			return repositoryOperation.apply(entity);
+			return operation != null
+				? doGuardedRepositoryOp(operation, () -> repositoryOperation.apply(entity))
+				: repositoryOperation.apply(entity);
 		}
 		catch (Throwable cause) {
 			throw newCacheRuntimeException(() -> String.format(DATA_ACCESS_ERROR, entity), cause);
 		}
 	}
 
+	/**
+	 * Performs the given {@link CrudRepository} operation guarded by the configured {@link Bulkhead}
+	 * and {@link CircuitBreaker}, recording it with the configured {@link RepositoryOperationMetrics}.
+	 *
+	 * The operation is rejected, without being attempted, if no {@link Bulkhead} permit is available
+	 * or the {@link CircuitBreaker} is open.
+	 *
+	 * @param <R> {@link Class type} of the operation result.
+	 * @param operation {@link String} naming the operation.
+	 * @param repositoryOperation {@link Supplier} performing the operation.
+	 * @return the result of the operation.
+	 * @throws RepositoryOperationRejectedException if the operation was rejected.
+	 * @see #getBulkhead()
+	 * @see #getCircuitBreaker()
+	 * @see #getRepositoryOperationMetrics()
+	 */
+	protected <R> R doGuardedRepositoryOp(@NonNull String operation, @NonNull Supplier<R> repositoryOperation) {
+
+		Bulkhead bulkhead = this.bulkhead;
+		CircuitBreaker circuitBreaker = this.circuitBreaker;
+		RepositoryOperationMetrics repositoryOperationMetrics = getRepositoryOperationMetrics();
+
+		if (bulkhead != null && !bulkhead.tryAcquire()) {
+			throw newRepositoryOperationRejectedException(operation, RepositoryOperationMetrics.BULKHEAD_FULL_REJECTION);
+		}
+
+		try {
+
+			if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+				throw newRepositoryOperationRejectedException(operation, RepositoryOperationMetrics.CIRCUIT_OPEN_REJECTION);
+			}
+
+			try {
+
+				R result = repositoryOperationMetrics.record(operation, repositoryOperation);
+
+				if (circuitBreaker != null) {
+					circuitBreaker.onSuccess();
+				}
+
+				return result;
+			}
+			catch (RuntimeException | Error cause) {
+
+				if (circuitBreaker != null) {
+					circuitBreaker.onFailure();
+				}
+
+				throw cause;
+			}
+		}
+		finally {
+			if (bulkhead != null) {
+				bulkhead.release();
+			}
+		}
+	}
+
+	private RepositoryOperationRejectedException newRepositoryOperationRejectedException(String operation,
+			String reason) {
+
+		getRepositoryOperationMetrics().recordRejection(operation, reason);
+
+		return new RepositoryOperationRejectedException(reason,
+			String.format("Repository operation [%1$s] rejected [%2$s]", operation, reason));
+	}
+
 	@Override
 	public T load(LoaderHelper<ID, T> helper) throws CacheLoaderException {
 		return null;
@@ -112,4 +265,91 @@ public abstract class RepositoryCacheLoaderWriterSupport<T, ID>
 
 		return (U) this;
 	}
+
+	/**
+	 * Builder method used to configure the {@link BloomFilter} of existing keys shared by the {@link CacheLoader}
+	 * and {@link CacheWriter} of a {@link org.apache.geode.cache.Region}.
+	 *
+	 * @param <U> {@link Class subtype} of this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @param bloomFilter {@link BloomFilter} to use; {@literal null} disables the existence check.
+	 * @return this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @see org.springframework.geode.cache.support.BloomFilter
+	 */
+	@SuppressWarnings("unchecked")
+	public <U extends RepositoryCacheLoaderWriterSupport<T, ID>> U with(@Nullable BloomFilter<ID> bloomFilter) {
+
+		this.bloomFilter = bloomFilter;
+
+		return (U) this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Bulkhead} limiting the number of concurrent
+	 * {@link CrudRepository} operations.
+	 *
+	 * @param <U> {@link Class subtype} of this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @param bulkhead {@link Bulkhead} to use; {@literal null} disables the limit.
+	 * @return this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @see org.springframework.geode.cache.support.Bulkhead
+	 */
+	@SuppressWarnings("unchecked")
+	public <U extends RepositoryCacheLoaderWriterSupport<T, ID>> U with(@Nullable Bulkhead bulkhead) {
+
+		this.bulkhead = bulkhead;
+
+		return (U) this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link CircuitBreaker} used to stop calling the {@link CrudRepository}
+	 * while it is failing.
+	 *
+	 * @param <U> {@link Class subtype} of this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @param circuitBreaker {@link CircuitBreaker} to use; {@literal null} disables the circuit breaker.
+	 * @return this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @see org.springframework.geode.cache.support.CircuitBreaker
+	 */
+	@SuppressWarnings("unchecked")
+	public <U extends RepositoryCacheLoaderWriterSupport<T, ID>> U with(@Nullable CircuitBreaker circuitBreaker) {
+
+		this.circuitBreaker = circuitBreaker;
+
+		return (U) this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link NegativeResultCache} shared by the {@link CacheLoader}
+	 * and {@link CacheWriter} of a {@link org.apache.geode.cache.Region}.
+	 *
+	 * @param <U> {@link Class subtype} of this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @param negativeResultCache {@link NegativeResultCache} to use; {@literal null} disables negative result caching.
+	 * @return this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @see org.springframework.geode.cache.support.NegativeResultCache
+	 */
+	@SuppressWarnings("unchecked")
+	public <U extends RepositoryCacheLoaderWriterSupport<T, ID>> U with(
+			@Nullable NegativeResultCache<ID> negativeResultCache) {
+
+		this.negativeResultCache = negativeResultCache;
+
+		return (U) this;
+	}
+
+	/**
+	 * Builder method used to configure the {@link RepositoryOperationMetrics} used to record the duration
+	 * and outcome of {@link CrudRepository} operations.
+	 *
+	 * @param <U> {@link Class subtype} of this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @param repositoryOperationMetrics {@link RepositoryOperationMetrics} to use; {@literal null} disables recording.
+	 * @return this {@link RepositoryCacheLoaderWriterSupport}.
+	 * @see org.springframework.geode.cache.support.RepositoryOperationMetrics
+	 */
+	@SuppressWarnings("unchecked")
+	public <U extends RepositoryCacheLoaderWriterSupport<T, ID>> U with(
+			@Nullable RepositoryOperationMetrics repositoryOperationMetrics) {
+
+		this.repositoryOperationMetrics = repositoryOperationMetrics;
+
+		return (U) this;
+	}
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.lang.NonNull;
+
+/**
+ * Interface defining a contract for recording the duration and outcome of {@link CrudRepository} operations
+ * performed by a {@link org.apache.geode.cache.CacheLoader} or {@link org.apache.geode.cache.CacheWriter}
+ * on behalf of a {@link org.apache.geode.cache.Region}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.support.MicrometerRepositoryOperationMetrics
+ * @see org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport
+ * @since 1.2.1
+ */
+@FunctionalInterface
+public interface RepositoryOperationMetrics {
+
+	String COMMIT_OPERATION = "commit";
+	String DELETE_OPERATION = "delete";
+	String DELETE_ALL_OPERATION = "deleteAll";
+	String LOAD_OPERATION = "load";
+	String LOAD_ALL_OPERATION = "loadAll";
+	String SAVE_OPERATION = "save";
+	String SAVE_ALL_OPERATION = "saveAll";
+	String UPDATE_OPERATION = "update";
+
+	String BULKHEAD_FULL_REJECTION = "bulkhead-full";
+	String CIRCUIT_OPEN_REJECTION = "circuit-open";
+
+	/**
+	 * {@link RepositoryOperationMetrics} that records nothing.
+	 */
+	RepositoryOperationMetrics NONE = new RepositoryOperationMetrics() {
+
+		@Override
+		public <R> R record(@NonNull String operation, @NonNull Supplier<R> repositoryOperation) {
+			return repositoryOperation.get();
+		}
+	};
+
+	/**
+	 * Performs and records the given {@link CrudRepository} operation.
+	 *
+	 * @param <R> {@link Class type} of the result of the operation.
+	 * @param operation {@link String} naming the operation (e.g. {@link #LOAD_OPERATION}).
+	 * @param repositoryOperation {@link Supplier} performing the operation.
+	 * @return the result of the operation.
+	 * @throws RuntimeException if the operation fails; the failure is recorded and rethrown.
+	 */
+	<R> R record(@NonNull String operation, @NonNull Supplier<R> repositoryOperation);
+
+	/**
+	 * Records a {@link CrudRepository} operation that was rejected without being attempted.
+	 *
+	 * @param operation {@link String} naming the operation (e.g. {@link #LOAD_OPERATION}).
+	 * @param reason {@link String} identifying why the operation was rejected
+	 * (e.g. {@link #CIRCUIT_OPEN_REJECTION}).
+	 */
+	default void recordRejection(@NonNull String operation, @NonNull String reason) { }
+
+	/**
+	 * Registers the given {@link Bulkhead} guarding {@link CrudRepository} operations so that its state
+	 * can be recorded.
+	 *
+	 * @param bulkhead {@link Bulkhead} to register.
+	 * @see org.springframework.geode.cache.support.Bulkhead
+	 */
+	default void register(@NonNull Bulkhead bulkhead) { }
+
+	/**
+	 * Registers the given {@link CircuitBreaker} guarding {@link CrudRepository} operations so that its state
+	 * and state transitions can be recorded.
+	 *
+	 * @param circuitBreaker {@link CircuitBreaker} to register.
+	 * @see org.springframework.geode.cache.support.CircuitBreaker
+	 */
+	default void register(@NonNull CircuitBreaker circuitBreaker) { }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+/**
+ * {@link RuntimeException} thrown when a {@link org.springframework.data.repository.CrudRepository} operation
+ * is rejected, without being attempted, by a {@link CircuitBreaker} or {@link Bulkhead}.
+ *
+ * @author John Blum
+ * @see java.lang.RuntimeException
+ * @see org.springframework.geode.cache.support.Bulkhead
+ * @see org.springframework.geode.cache.support.CircuitBreaker
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class RepositoryOperationRejectedException extends RuntimeException {
+
+	private static final long serialVersionUID = 4179385146602537916L;
+
+	private final String reason;
+
+	/**
+	 * Constructs a new instance of {@link RepositoryOperationRejectedException} initialized with the given
+	 * {@link String reason} and {@link String message}.
+	 *
+	 * @param reason {@link String} identifying why the operation was rejected
+	 * (e.g. {@link RepositoryOperationMetrics#CIRCUIT_OPEN_REJECTION}).
+	 * @param message {@link String} describing the rejection.
+	 */
+	public RepositoryOperationRejectedException(String reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+	public String getReason() {
+		return this.reason;
+	}
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CrudRepository} that routes each operation to one of several {@link CrudRepository Repositories},
+ * one per shard of a horizontally sharded backend data source, so that a single {@link org.apache.geode.cache.Region}
+ * can front all shards with any of the {@link org.apache.geode.cache.CacheLoader CacheLoaders}
+ * and {@link org.apache.geode.cache.CacheWriter CacheWriters} in this package.
+ *
+ * The shard of an entity is resolved from its identifier with the configured shard resolver, for example,
+ * a {@link ConsistentHashShardResolver}.  Operations on a single entity or identifier are routed to its shard.
+ * Batched operations, such as {@link #saveAll(Iterable)} and {@link #findAllById(Iterable)}, are grouped by shard
+ * and the groups are run in parallel, as are operations spanning all shards, such as {@link #findAll()}.
+ * Results are returned grouped by shard, in order of shard.  If any shard fails, the first failure is rethrown
+ * once all shards have completed.  Operations are not atomic across shards.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity identifier (ID).
+ * @see java.util.function.ToIntFunction
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.support.ConsistentHashShardResolver
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ShardedCrudRepository<T, ID> implements CrudRepository<T, ID> {
+
+	protected static final int MAXIMUM_QUEUED_SHARD_OPERATIONS = 1024;
+
+	private volatile Executor executor;
+
+	private final Function<T, ID> entityIdentifier;
+
+	private final List<CrudRepository<T, ID>> shards;
+
+	private final ToIntFunction<ID> shardResolver;
+
+	/**
+	 * Constructs a new instance of {@link ShardedCrudRepository} routing entities to the given shards
+	 * by {@link ConsistentHashShardResolver consistent hashing} of their identifiers.
+	 *
+	 * @param shards {@link List} of {@link CrudRepository Repositories}, one per shard.
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @throws IllegalArgumentException if the {@link List} of shards is {@literal null}, empty or contains
+	 * {@literal null}, or the {@link Function entity identifier} is {@literal null}.
+	 * @see #ShardedCrudRepository(List, Function, ToIntFunction)
+	 */
+	public ShardedCrudRepository(@NonNull List<? extends CrudRepository<T, ID>> shards,
+			@NonNull Function<T, ID> entityIdentifier) {
+
+		this(shards, entityIdentifier, new ConsistentHashShardResolver<>(shards != null ? Math.max(shards.size(), 1) : 1));
+	}
+
+	/**
+	 * Constructs a new instance of {@link ShardedCrudRepository} routing entities to the given shards
+	 * using the given shard resolver.
+	 *
+	 * @param shards {@link List} of {@link CrudRepository Repositories}, one per shard.
+	 * @param entityIdentifier {@link Function} used to resolve the {@link ID identifier} of an entity.
+	 * @param shardResolver {@link ToIntFunction} resolving the index of the shard of an {@link ID identifier}.
+	 * @throws IllegalArgumentException if the {@link List} of shards is {@literal null}, empty or contains
+	 * {@literal null}, or the {@link Function entity identifier} or shard resolver is {@literal null}.
+	 */
+	public ShardedCrudRepository(@NonNull List<? extends CrudRepository<T, ID>> shards,
+			@NonNull Function<T, ID> entityIdentifier, @NonNull ToIntFunction<ID> shardResolver) {
+
+		Assert.notEmpty(shards, "Shards are required");
+		Assert.noNullElements(shards.toArray(), "Shards must not contain null");
+		Assert.notNull(entityIdentifier, "Entity identifier Function is required");
+		Assert.notNull(shardResolver, "Shard resolver is required");
+
+		this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+		this.entityIdentifier = entityIdentifier;
+		this.shardResolver = shardResolver;
+	}
+
+	private static Executor newExecutor(int shardCount) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(shardCount, shardCount, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(MAXIMUM_QUEUED_SHARD_OPERATIONS), runnable -> {
+
+				Thread thread = new Thread(runnable,
+					String.format("Sharded Repository Operation %d", threadNumber.incrementAndGet()));
+
+				thread.setDaemon(true);
+
+				return thread;
+			}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run operations on several shards in parallel.
+	 *
+	 * Unless {@link #withExecutor(Executor) configured}, a bounded pool of daemon {@link Thread Threads},
+	 * one per shard, is created on first use.
+	 *
+	 * @return the {@link Executor} used to run operations on several shards in parallel.
+	 */
+	protected @NonNull Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.executor;
+				if (executor == null) {
+					executor = newExecutor(getShardCount());
+					this.executor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	public int getShardCount() {
+		return this.shards.size();
+	}
+
+	/**
+	 * Returns the {@link CrudRepository} of the shard with the given index.
+	 *
+	 * @param shard index of the shard.
+	 * @return the {@link CrudRepository} of the shard.
+	 * @throws IndexOutOfBoundsException if {@code shard} is not a valid shard index.
+	 */
+	public @NonNull CrudRepository<T, ID> getShard(int shard) {
+		return this.shards.get(shard);
+	}
+
+	/**
+	 * Resolves the {@link CrudRepository} of the shard containing the entity with the given {@link ID identifier}.
+	 *
+	 * @param id {@link ID identifier} of the entity.
+	 * @return the {@link CrudRepository} of the shard containing the entity.
+	 * @throws IllegalStateException if the shard resolver returns an invalid shard index.
+	 */
+	public @NonNull CrudRepository<T, ID> resolveShard(@Nullable ID id) {
+		return getShard(resolveShardIndex(id));
+	}
+
+	private int resolveShardIndex(@Nullable ID id) {
+
+		int shard = this.shardResolver.applyAsInt(id);
+
+		Assert.state(shard >= 0 && shard < getShardCount(),
+			() -> String.format("Shard [%1$d] of ID [%2$s] must be greater than or equal to 0 and less than %3$d",
+				shard, id, getShardCount()));
+
+		return shard;
+	}
+
+	/**
+	 * Builder method used to configure the {@link Executor} used to run operations on several shards in parallel.
+	 *
+	 * @param executor {@link Executor} used to run operations on several shards in parallel;
+	 * {@literal null} resets the {@link Executor} to the default.
+	 * @return this {@link ShardedCrudRepository}.
+	 * @see #getExecutor()
+	 */
+	public ShardedCrudRepository<T, ID> withExecutor(@Nullable Executor executor) {
+
+		this.executor = executor;
+
+		return this;
+	}
+
+	private <E> Map<Integer, List<E>> groupByShard(@Nullable Iterable<? extends E> elements,
+			@NonNull Function<E, ID> identifier) {
+
+		Map<Integer, List<E>> groups = new TreeMap<>();
+
+		if (elements != null) {
+			for (E element : elements) {
+				groups.computeIfAbsent(resolveShardIndex(identifier.apply(element)), shard -> new ArrayList<>())
+					.add(element);
+			}
+		}
+
+		return groups;
+	}
+
+	private <E, R> List<R> runOnShards(@NonNull Map<Integer, List<E>> groups,
+			@NonNull BiFunction<CrudRepository<T, ID>, List<E>, R> operation) {
+
+		if (groups.size() == 1) {
+
+			Map.Entry<Integer, List<E>> group = groups.entrySet().iterator().next();
+
+			return Collections.singletonList(operation.apply(getShard(group.getKey()), group.getValue()));
+		}
+
+		Executor executor = getExecutor();
+
+		List<CompletableFuture<R>> results = new ArrayList<>(groups.size());
+
+		groups.forEach((shard, elements) -> results.add(CompletableFuture.supplyAsync(() ->
+			operation.apply(getShard(shard), elements), executor)));
+
+		try {
+			CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+		}
+		catch (CompletionException cause) {
+
+			Throwable shardFailure = cause.getCause();
+
+			if (shardFailure instanceof RuntimeException) {
+				throw (RuntimeException) shardFailure;
+			}
+
+			if (shardFailure instanceof Error) {
+				throw (Error) shardFailure;
+			}
+
+			throw cause;
+		}
+
+		List<R> shardResults = new ArrayList<>(results.size());
+
+		results.forEach(result -> shardResults.add(result.join()));
+
+		return shardResults;
+	}
+
+	private <R> List<R> runOnAllShards(@NonNull Function<CrudRepository<T, ID>, R> operation) {
+
+		Map<Integer, List<Object>> allShards = new LinkedHashMap<>();
+
+		for (int shard = 0; shard < getShardCount(); shard++) {
+			allShards.put(shard, Collections.emptyList());
+		}
+
+		return runOnShards(allShards, (repository, ignore) -> operation.apply(repository));
+	}
+
+	private static <E> List<E> flatten(@NonNull List<? extends Iterable<E>> shardResults) {
+
+		List<E> results = new ArrayList<>();
+
+		shardResults.forEach(shardResult -> {
+			if (shardResult != null) {
+				shardResult.forEach(results::add);
+			}
+		});
+
+		return results;
+	}
+
+	@Override
+	public <S extends T> S save(S entity) {
+		return resolveShard(this.entityIdentifier.apply(entity)).save(entity);
+	}
+
+	@Override
+	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+
+		Map<Integer, List<S>> groups = groupByShard(entities, this.entityIdentifier::apply);
+
+		return groups.isEmpty() ? Collections.emptyList()
+			: flatten(runOnShards(groups, CrudRepository::saveAll));
+	}
+
+	@Override
+	public Optional<T> findById(ID id) {
+		return resolveShard(id).findById(id);
+	}
+
+	@Override
+	public boolean existsById(ID id) {
+		return resolveShard(id).existsById(id);
+	}
+
+	@Override
+	public Iterable<T> findAll() {
+		return flatten(runOnAllShards(CrudRepository::findAll));
+	}
+
+	@Override
+	public Iterable<T> findAllById(Iterable<ID> ids) {
+
+		Map<Integer, List<ID>> groups = groupByShard(ids, Function.identity());
+
+		return groups.isEmpty() ? Collections.emptyList()
+			: flatten(runOnShards(groups, CrudRepository::findAllById));
+	}
+
+	@Override
+	public long count() {
+		return runOnAllShards(CrudRepository::count).stream().mapToLong(Long::longValue).sum();
+	}
+
+	@Override
+	public void deleteById(ID id) {
+		resolveShard(id).deleteById(id);
+	}
+
+	@Override
+	public void delete(T entity) {
+		resolveShard(this.entityIdentifier.apply(entity)).delete(entity);
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends T> entities) {
+
+		Map<Integer, List<T>> groups = groupByShard(entities, this.entityIdentifier::apply);
+
+		if (!groups.isEmpty()) {
+			runOnShards(groups, (repository, shardEntities) -> {
+				repository.deleteAll(shardEntities);
+				return null;
+			});
+		}
+	}
+
+	@Override
+	public void deleteAll() {
+
+		runOnAllShards(repository -> {
+			repository.deleteAll();
+			return null;
+		});
+	}
+}
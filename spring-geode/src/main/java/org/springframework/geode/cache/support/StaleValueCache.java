@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of the last known values of keys, used to answer a load with a possibly stale value
+ * when a backend data source is unavailable or slow.
+ *
+ * Once the {@link #getMaximumSize() maximum size} is exceeded, the least recently used value among a small sample
+ * of values is evicted, which approximates least-recently-used eviction without serializing loads on a single lock.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the key.
+ * @param <V> {@link Class type} of the value.
+ * @see java.util.concurrent.ConcurrentHashMap
+ * @see org.springframework.geode.cache.RepositoryCacheLoader
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class StaleValueCache<K, V> {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+	private final int maximumSize;
+
+	private final LongSupplier clock;
+
+	private final ConcurrentMap<K, Entry<V>> values = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link StaleValueCache} with the {@link #DEFAULT_MAXIMUM_SIZE default size}.
+	 */
+	public StaleValueCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StaleValueCache} initialized with the given maximum size.
+	 *
+	 * @param maximumSize maximum number of values held by this cache.
+	 * @throws IllegalArgumentException if {@code maximumSize} is less than {@literal 1}.
+	 */
+	public StaleValueCache(int maximumSize) {
+		this(maximumSize, System::nanoTime);
+	}
+
+	StaleValueCache(int maximumSize, @NonNull LongSupplier clock) {
+
+		Assert.isTrue(maximumSize > 0, String.format("Maximum size [%d] must be greater than 0", maximumSize));
+
+		this.maximumSize = maximumSize;
+		this.clock = clock;
+	}
+
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Returns the last known value of the given key.
+	 *
+	 * @param key key to evaluate.
+	 * @return the last known value of the key or {@literal null} if no value is known.
+	 */
+	public @Nullable V get(@Nullable K key) {
+
+		Entry<V> entry = key != null ? this.values.get(key) : null;
+
+		if (entry != null) {
+			entry.lastAccessTime = this.clock.getAsLong();
+			return entry.value;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Records the last known value of the given key.
+	 *
+	 * @param key key of the value.
+	 * @param value last known value of the key; {@literal null} is ignored.
+	 */
+	public void put(@Nullable K key, @Nullable V value) {
+
+		if (key != null && value != null) {
+
+			this.values.put(key, new Entry<>(value, this.clock.getAsLong()));
+
+			while (this.values.size() > this.maximumSize) {
+				evictSampledEntry();
+			}
+		}
+	}
+
+	private void evictSampledEntry() {
+
+		Map.Entry<K, Entry<V>> victim = null;
+
+		Iterator<Map.Entry<K, Entry<V>>> iterator = this.values.entrySet().iterator();
+
+		for (int sampled = 0; sampled < EVICTION_SAMPLE_SIZE && iterator.hasNext(); sampled++) {
+
+			Map.Entry<K, Entry<V>> candidate = iterator.next();
+
+			if (victim == null || candidate.getValue().lastAccessTime - victim.getValue().lastAccessTime < 0) {
+				victim = candidate;
+			}
+		}
+
+		if (victim != null) {
+			this.values.remove(victim.getKey(), victim.getValue());
+		}
+	}
+
+	/**
+	 * Removes the given key from this cache, typically because its value has been deleted.
+	 *
+	 * @param key key to remove.
+	 */
+	public void evict(@Nullable K key) {
+
+		if (key != null) {
+			this.values.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all values from this cache.
+	 */
+	public void clear() {
+		this.values.clear();
+	}
+
+	/**
+	 * Returns the number of values currently held by this cache.
+	 *
+	 * @return the number of values currently held by this cache.
+	 */
+	public int size() {
+		return this.values.size();
+	}
+
+	private static class Entry<V> {
+
+		private final V value;
+
+		private volatile long lastAccessTime;
+
+		Entry(V value, long lastAccessTime) {
+			this.value = value;
+			this.lastAccessTime = lastAccessTime;
+		}
+	}
+}
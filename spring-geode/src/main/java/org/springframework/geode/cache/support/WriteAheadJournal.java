@@ -0,0 +1,465 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * A local, append-only journal of records stored in memory-mapped segment files.
+ *
+ * Each {@link #append(byte[]) appended} record is assigned an increasing sequence number.  Records remain
+ * in the journal until they are {@link #acknowledge(long) acknowledged}, after which segments containing only
+ * acknowledged records are deleted.  Records that were appended but not acknowledged before the JVM stopped
+ * are {@link #recover() recovered} when the journal is reopened.
+ *
+ * Each record is stored as its payload length, sequence number and CRC-32 checksum followed by the payload.
+ * Recovery stops reading a segment at the first empty or corrupt record, which discards a record torn by a crash.
+ * New records are always appended to a new segment after recovery.
+ *
+ * When records are forced to the storage device is governed by the {@link FsyncPolicy}.
+ *
+ * @author John Blum
+ * @see java.nio.MappedByteBuffer
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class WriteAheadJournal implements Closeable {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	protected static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+	protected static final String CHECKPOINT_FILE_NAME = "checkpoint";
+	protected static final String SEGMENT_FILE_NAME_PREFIX = "journal-";
+	protected static final String SEGMENT_FILE_NAME_SUFFIX = ".log";
+
+	private boolean closed = false;
+
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private final FsyncPolicy fsyncPolicy;
+
+	private final int segmentSize;
+
+	private List<Record> recoveredRecords;
+
+	private volatile long acknowledgedSequence;
+
+	private long lastSequence;
+
+	private final Path directory;
+
+	private Segment activeSegment;
+
+	/**
+	 * Opens the {@link WriteAheadJournal} stored in the given directory with the {@link #DEFAULT_SEGMENT_SIZE}
+	 * and {@link FsyncPolicy#PERIODIC}, recovering unacknowledged records.
+	 *
+	 * @param directory {@link Path} to the directory containing the journal; created if it does not exist.
+	 * @throws IOException if the journal cannot be opened.
+	 * @see #WriteAheadJournal(Path, int, FsyncPolicy)
+	 */
+	public WriteAheadJournal(@NonNull Path directory) throws IOException {
+		this(directory, DEFAULT_SEGMENT_SIZE, FsyncPolicy.PERIODIC);
+	}
+
+	/**
+	 * Opens the {@link WriteAheadJournal} stored in the given directory, recovering unacknowledged records.
+	 *
+	 * @param directory {@link Path} to the directory containing the journal; created if it does not exist.
+	 * @param segmentSize size in bytes of each segment file.
+	 * @param fsyncPolicy {@link FsyncPolicy} governing when records are forced to the storage device.
+	 * @throws IllegalArgumentException if the directory or {@link FsyncPolicy} is {@literal null},
+	 * or {@code segmentSize} is not greater than the record header size.
+	 * @throws IOException if the journal cannot be opened.
+	 */
+	public WriteAheadJournal(@NonNull Path directory, int segmentSize, @NonNull FsyncPolicy fsyncPolicy)
+			throws IOException {
+
+		Assert.notNull(directory, "Directory is required");
+		Assert.notNull(fsyncPolicy, "FsyncPolicy is required");
+		Assert.isTrue(segmentSize > RECORD_HEADER_SIZE,
+			String.format("Segment size [%1$d] must be greater than %2$d", segmentSize, RECORD_HEADER_SIZE));
+
+		this.directory = Files.createDirectories(directory);
+		this.segmentSize = segmentSize;
+		this.fsyncPolicy = fsyncPolicy;
+		this.acknowledgedSequence = readCheckpoint();
+		this.lastSequence = this.acknowledgedSequence;
+		this.recoveredRecords = recoverSegments();
+
+		compact();
+	}
+
+	public @NonNull Path getDirectory() {
+		return this.directory;
+	}
+
+	public @NonNull FsyncPolicy getFsyncPolicy() {
+		return this.fsyncPolicy;
+	}
+
+	public int getSegmentSize() {
+		return this.segmentSize;
+	}
+
+	/**
+	 * Returns the sequence number of the last acknowledged record.
+	 *
+	 * @return the sequence number of the last acknowledged record, or {@literal 0} if no record
+	 * was ever acknowledged.
+	 */
+	public long getAcknowledgedSequence() {
+		return this.acknowledgedSequence;
+	}
+
+	/**
+	 * Returns the sequence number of the last appended record.
+	 *
+	 * @return the sequence number of the last appended record.
+	 */
+	public synchronized long getLastSequence() {
+		return this.lastSequence;
+	}
+
+	/**
+	 * Returns the number of segment files currently held by this journal.
+	 *
+	 * @return the number of segment files.
+	 */
+	public synchronized int getSegmentCount() {
+		return this.segments.size();
+	}
+
+	/**
+	 * Returns, once, the records that were appended but not acknowledged before this journal was last closed,
+	 * in the order they were appended.
+	 *
+	 * @return a {@link List} of unacknowledged {@link Record Records}; empty on subsequent calls.
+	 */
+	public synchronized @NonNull List<Record> recover() {
+
+		List<Record> recoveredRecords = this.recoveredRecords;
+
+		this.recoveredRecords = Collections.emptyList();
+
+		return recoveredRecords;
+	}
+
+	/**
+	 * Appends a record with the given payload to this journal.
+	 *
+	 * @param payload bytes of the record.
+	 * @return the sequence number assigned to the record.
+	 * @throws IllegalArgumentException if the payload is {@literal null}.
+	 * @throws IllegalStateException if this journal is closed.
+	 * @throws IOException if the record cannot be written.
+	 */
+	public synchronized long append(@NonNull byte[] payload) throws IOException {
+
+		Assert.notNull(payload, "Payload is required");
+		Assert.state(!this.closed, "WriteAheadJournal is closed");
+
+		int recordSize = RECORD_HEADER_SIZE + payload.length;
+
+		Segment segment = this.activeSegment;
+
+		if (segment == null || segment.buffer.remaining() < recordSize) {
+			segment = rollSegment(recordSize);
+		}
+
+		long sequence = this.lastSequence + 1;
+
+		segment.buffer.putInt(payload.length);
+		segment.buffer.putLong(sequence);
+		segment.buffer.putInt(checksum(sequence, payload));
+		segment.buffer.put(payload);
+		segment.lastSequence = sequence;
+
+		this.lastSequence = sequence;
+
+		if (FsyncPolicy.ALWAYS.equals(getFsyncPolicy())) {
+			segment.buffer.force();
+		}
+
+		return sequence;
+	}
+
+	/**
+	 * Forces all appended records to the storage device unless the {@link FsyncPolicy} is {@link FsyncPolicy#NEVER}.
+	 */
+	public synchronized void sync() {
+
+		if (this.activeSegment != null && !FsyncPolicy.NEVER.equals(getFsyncPolicy())) {
+			this.activeSegment.buffer.force();
+		}
+	}
+
+	/**
+	 * Acknowledges all records up to and including the given sequence number and deletes segments
+	 * containing only acknowledged records.
+	 *
+	 * @param sequence sequence number of the last record to acknowledge.
+	 * @throws IOException if the checkpoint cannot be written or a segment cannot be deleted.
+	 */
+	public synchronized void acknowledge(long sequence) throws IOException {
+
+		if (sequence > this.acknowledgedSequence && !this.closed) {
+
+			writeCheckpoint(Math.min(sequence, this.lastSequence));
+			compact();
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+
+		if (!this.closed) {
+			sync();
+			this.closed = true;
+			this.activeSegment = null;
+			this.segments.clear();
+		}
+	}
+
+	private static int checksum(long sequence, byte[] payload) {
+
+		CRC32 checksum = new CRC32();
+
+		checksum.update(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence).array());
+		checksum.update(payload);
+
+		return (int) checksum.getValue();
+	}
+
+	private long readCheckpoint() throws IOException {
+
+		Path checkpoint = this.directory.resolve(CHECKPOINT_FILE_NAME);
+
+		if (Files.isRegularFile(checkpoint)) {
+
+			byte[] bytes = Files.readAllBytes(checkpoint);
+
+			if (bytes.length == Long.BYTES) {
+				return ByteBuffer.wrap(bytes).getLong();
+			}
+		}
+
+		return 0L;
+	}
+
+	private void writeCheckpoint(long sequence) throws IOException {
+
+		Path checkpoint = this.directory.resolve(CHECKPOINT_FILE_NAME);
+		Path temporaryCheckpoint = this.directory.resolve(CHECKPOINT_FILE_NAME + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temporaryCheckpoint, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+
+			if (!FsyncPolicy.NEVER.equals(getFsyncPolicy())) {
+				channel.force(true);
+			}
+		}
+
+		Files.move(temporaryCheckpoint, checkpoint,
+			StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+		this.acknowledgedSequence = sequence;
+	}
+
+	private List<Record> recoverSegments() throws IOException {
+
+		List<Record> recoveredRecords = new ArrayList<>();
+
+		List<Path> segmentFiles;
+
+		try (Stream<Path> files = Files.list(this.directory)) {
+			segmentFiles = files
+				.filter(file -> file.getFileName().toString().startsWith(SEGMENT_FILE_NAME_PREFIX))
+				.filter(file -> file.getFileName().toString().endsWith(SEGMENT_FILE_NAME_SUFFIX))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+
+		for (Path segmentFile : segmentFiles) {
+
+			Segment segment = new Segment(segmentFile, map(segmentFile, Files.size(segmentFile)));
+
+			ByteBuffer buffer = segment.buffer;
+
+			while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+
+				int length = buffer.getInt();
+				long sequence = buffer.getLong();
+				int checksum = buffer.getInt();
+
+				if (length <= 0 || length > buffer.remaining() || sequence <= segment.lastSequence) {
+					break;
+				}
+
+				byte[] payload = new byte[length];
+
+				buffer.get(payload);
+
+				if (checksum != checksum(sequence, payload)) {
+					break;
+				}
+
+				if (sequence > this.acknowledgedSequence) {
+					recoveredRecords.add(new Record(sequence, payload));
+				}
+
+				segment.lastSequence = sequence;
+				this.lastSequence = Math.max(this.lastSequence, sequence);
+			}
+
+			this.segments.addLast(segment);
+		}
+
+		return recoveredRecords;
+	}
+
+	private Segment rollSegment(int recordSize) throws IOException {
+
+		Path segmentFile = this.directory.resolve(String.format("%1$s%2$020d%3$s",
+			SEGMENT_FILE_NAME_PREFIX, this.lastSequence + 1, SEGMENT_FILE_NAME_SUFFIX));
+
+		if (this.activeSegment != null && !FsyncPolicy.NEVER.equals(getFsyncPolicy())) {
+			this.activeSegment.buffer.force();
+		}
+
+		Segment segment = new Segment(segmentFile, map(segmentFile, Math.max(getSegmentSize(), recordSize)));
+
+		this.segments.addLast(segment);
+		this.activeSegment = segment;
+
+		return segment;
+	}
+
+	private MappedByteBuffer map(Path segmentFile, long size) throws IOException {
+
+		try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+	}
+
+	private void compact() throws IOException {
+
+		while (!this.segments.isEmpty()) {
+
+			Segment segment = this.segments.peekFirst();
+
+			boolean acknowledged = segment.lastSequence <= this.acknowledgedSequence;
+			boolean active = segment == this.activeSegment;
+
+			if (!acknowledged || active && segment.buffer.remaining() > RECORD_HEADER_SIZE) {
+				break;
+			}
+
+			this.segments.removeFirst();
+
+			if (active) {
+				this.activeSegment = null;
+			}
+
+			Files.deleteIfExists(segment.file);
+		}
+	}
+
+	/**
+	 * {@link FsyncPolicy Policies} governing when appended records are forced to the storage device.
+	 */
+	public enum FsyncPolicy {
+
+		/**
+		 * Forces each record as it is appended; no acknowledged write is lost if the host crashes.
+		 */
+		ALWAYS,
+
+		/**
+		 * Forces records when the journal is {@link #sync() synced}, when a segment is full and on close;
+		 * records survive a JVM crash, but recent records may be lost if the host crashes.
+		 */
+		PERIODIC,
+
+		/**
+		 * Never forces records; the operating system writes memory-mapped pages in its own time.
+		 * Records survive a JVM crash, but not necessarily a host crash.
+		 */
+		NEVER,
+
+	}
+
+	/**
+	 * A {@link Record} recovered from a {@link WriteAheadJournal}.
+	 */
+	public static final class Record {
+
+		private final long sequence;
+
+		private final byte[] payload;
+
+		Record(long sequence, byte[] payload) {
+			this.sequence = sequence;
+			this.payload = payload;
+		}
+
+		public @NonNull byte[] getPayload() {
+			return this.payload;
+		}
+
+		public long getSequence() {
+			return this.sequence;
+		}
+	}
+
+	private static final class Segment {
+
+		private final MappedByteBuffer buffer;
+
+		private final Path file;
+
+		private long lastSequence;
+
+		private Segment(Path file, MappedByteBuffer buffer) {
+			this.file = file;
+			this.buffer = buffer;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Collection;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+/**
+ * The {@link AbstractAggregateFunction} class is an abstract base class for data-aware {@link Function Functions}
+ * aggregating the values of a {@link Region} on the servers, so that only partial aggregates, and not the values,
+ * are sent to the client.
+ *
+ * The {@link Function} is {@link #optimizeForWrite() optimized for write} so that, on a
+ * {@link PartitionRegionHelper#isPartitionedRegion(Region) PARTITION} {@link Region}, it runs on the members hosting
+ * the primary buckets and aggregates only the values of their local primary buckets, so each value is aggregated
+ * exactly once.  Each member returns a single partial aggregate combined on the client
+ * by a {@link org.springframework.geode.function.support.ReducingResultCollector}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the partial aggregate.
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.RegionFunctionContext
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
+ * @see org.springframework.geode.function.support.ReducingResultCollector
+ * @since 1.2.1
+ */
+public abstract class AbstractAggregateFunction<T> implements Function<Object> {
+
+	private static final long serialVersionUID = 6437347419607486849L;
+
+	/**
+	 * Aggregates the given values of the local data of the {@link Region} into a partial aggregate.
+	 *
+	 * @param values {@link Collection} of values to aggregate.
+	 * @param arguments {@link Function} arguments.
+	 * @return the partial aggregate of the given values.
+	 */
+	protected abstract T aggregate(Collection<?> values, Object arguments);
+
+	@Override
+	public void execute(FunctionContext<Object> context) {
+
+		if (!(context instanceof RegionFunctionContext)) {
+			throw new FunctionException(String.format("Function [%s] must be executed on a Region", getId()));
+		}
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+		Region<?, ?> region = regionFunctionContext.getDataSet();
+
+		Region<?, ?> localData = PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalDataForContext(regionFunctionContext)
+			: region;
+
+		context.getResultSender().lastResult(aggregate(localData.values(), context.getArguments()));
+	}
+
+	@Override
+	public boolean hasResult() {
+		return true;
+	}
+
+	@Override
+	public boolean isHA() {
+		return true;
+	}
+
+	@Override
+	public boolean optimizeForWrite() {
+		return true;
+	}
+
+	/**
+	 * Returns the {@link Function} argument at the given index.
+	 *
+	 * @param <A> {@link Class type} of the argument.
+	 * @param arguments {@link Object} array of {@link Function} arguments.
+	 * @param index index of the argument.
+	 * @param type required {@link Class type} of the argument.
+	 * @return the {@link Function} argument at the given index.
+	 * @throws FunctionException if the argument is missing or not of the required {@link Class type}.
+	 */
+	protected <A> A getArgument(Object arguments, int index, Class<A> type) {
+
+		Object argument = arguments instanceof Object[] && ((Object[]) arguments).length > index
+			? ((Object[]) arguments)[index]
+			: null;
+
+		if (!type.isInstance(argument)) {
+			throw new FunctionException(String.format("Argument [%1$d] of Function [%2$s] must be a %3$s",
+				index, getId(), type.getSimpleName()));
+		}
+
+		return type.cast(argument);
+	}
+
+	/**
+	 * Resolves the {@link Number numeric} value of the property path of the given value.
+	 *
+	 * @param value value from which to resolve the property.
+	 * @param propertyPathResolver {@link PropertyPathResolver} resolving the property.
+	 * @return the {@link Number} value of the property, or {@literal null} if the property is {@literal null}.
+	 * @throws FunctionException if the value of the property is not a {@link Number}.
+	 */
+	protected Number resolveNumber(Object value, PropertyPathResolver propertyPathResolver) {
+
+		Object propertyValue = propertyPathResolver.resolve(value);
+
+		if (propertyValue == null || propertyValue instanceof Number) {
+			return (Number) propertyValue;
+		}
+
+		throw new FunctionException(String.format("Value [%1$s] of property [%2$s] is not a Number",
+			propertyValue, propertyPathResolver.getPropertyPath()));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionService;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.util.CacheUtils;
+
+/**
+ * The {@link AggregateFunctionRegistrar} class is a Spring {@link BeanPostProcessor} registering the aggregate
+ * {@link Function Functions} with the {@link FunctionService} once a peer {@link Cache}, such as the {@link Cache}
+ * of a server, has been initialized.  Clients do not register the {@link Function Functions}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.util.CacheUtils#isPeer(GemFireCache)
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @since 1.2.1
+ */
+public class AggregateFunctionRegistrar implements BeanPostProcessor {
+
+	/**
+	 * Returns new instances of all aggregate {@link Function Functions}.
+	 *
+	 * @return a {@link List} of all aggregate {@link Function Functions}.
+	 */
+	public static List<Function<?>> aggregateFunctions() {
+
+		return Collections.unmodifiableList(Arrays.asList(new CountFunction(), new DistinctCountFunction(),
+			new GroupingFunction(), new SummarizingFunction(), new TopKFunction()));
+	}
+
+	/**
+	 * Registers all aggregate {@link Function Functions} not yet registered with the {@link FunctionService}.
+	 *
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 */
+	public static void registerAggregateFunctions() {
+
+		aggregateFunctions().stream()
+			.filter(function -> !FunctionService.isRegistered(function.getId()))
+			.forEach(FunctionService::registerFunction);
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof GemFireCache && CacheUtils.isPeer((GemFireCache) bean)) {
+			registerAggregateFunctions();
+		}
+
+		return bean;
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.springframework.geode.cache.support.HyperLogLog;
+import org.springframework.geode.function.support.ReducingResultCollector;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AggregationTemplate} class is a typed client API executing the aggregate
+ * {@link org.apache.geode.cache.execute.Function Functions} on a {@link Region}.
+ *
+ * The values of the {@link Region} are aggregated on the servers hosting them and only the partial aggregates
+ * of each server are sent back, where they are combined as they arrive by a {@link ReducingResultCollector}.
+ * The aggregate {@link org.apache.geode.cache.execute.Function Functions} must be registered on the servers,
+ * which Spring Boot auto-configures with the {@link AggregateFunctionRegistrar}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.springframework.geode.function.aggregate.AggregateFunctionRegistrar
+ * @see org.springframework.geode.function.support.ReducingResultCollector
+ * @since 1.2.1
+ */
+public class AggregationTemplate {
+
+	private final Region<?, ?> region;
+
+	/**
+	 * Constructs a new instance of {@link AggregationTemplate} aggregating the values of the given {@link Region}.
+	 *
+	 * @param region {@link Region} to aggregate.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 */
+	public AggregationTemplate(@NonNull Region<?, ?> region) {
+
+		Assert.notNull(region, "Region is required");
+
+		this.region = region;
+	}
+
+	protected Region<?, ?> getRegion() {
+		return this.region;
+	}
+
+	/**
+	 * Returns the average of the {@link Number numeric} property of the values of the {@link Region}.
+	 *
+	 * @param propertyPath {@link String property path} of a {@link Number numeric} property.
+	 * @return the {@link OptionalDouble} average, or {@link OptionalDouble#empty()} if no value has the property.
+	 * @see #summarize(String)
+	 */
+	public OptionalDouble average(String propertyPath) {
+		return summarize(propertyPath).getAverage();
+	}
+
+	/**
+	 * Returns the number of values of the {@link Region}.
+	 *
+	 * @return the number of values of the {@link Region}.
+	 */
+	public long count() {
+		return execute(CountFunction.ID, new Object[0], ReducingResultCollector.summingLong());
+	}
+
+	/**
+	 * Estimates the number of distinct values of the property of the values of the {@link Region}
+	 * with a {@link HyperLogLog} sketch of the {@link HyperLogLog#DEFAULT_PRECISION default precision}.
+	 *
+	 * @param propertyPath {@link String property path} of the property.
+	 * @return the estimated number of distinct values of the property.
+	 */
+	public long distinctCount(String propertyPath) {
+		return distinctCount(propertyPath, HyperLogLog.DEFAULT_PRECISION);
+	}
+
+	/**
+	 * Estimates the number of distinct values of the property of the values of the {@link Region}
+	 * with a {@link HyperLogLog} sketch of the given precision.
+	 *
+	 * @param propertyPath {@link String property path} of the property.
+	 * @param precision precision of the {@link HyperLogLog} sketch.
+	 * @return the estimated number of distinct values of the property.
+	 */
+	public long distinctCount(String propertyPath, int precision) {
+
+		ReducingResultCollector<HyperLogLog, HyperLogLog> resultCollector =
+			new ReducingResultCollector<HyperLogLog, HyperLogLog>(Function.identity(), HyperLogLog::merge)
+				.withIdentity(new HyperLogLog(precision));
+
+		return execute(DistinctCountFunction.ID, new Object[] { propertyPath, precision }, resultCollector).estimate();
+	}
+
+	/**
+	 * Groups the values of the {@link Region} by the grouping property and counts the values of each group.
+	 *
+	 * @param groupPropertyPath {@link String property path} of the grouping property.
+	 * @return a {@link Map} of the {@link NumericSummary} of each group.
+	 */
+	public Map<Object, NumericSummary> groupBy(String groupPropertyPath) {
+		return groupBy(groupPropertyPath, null);
+	}
+
+	/**
+	 * Groups the values of the {@link Region} by the grouping property and summarizes the {@link Number numeric}
+	 * property of each group.
+	 *
+	 * @param groupPropertyPath {@link String property path} of the grouping property.
+	 * @param valuePropertyPath {@link String property path} of a {@link Number numeric} property to summarize;
+	 * may be {@literal null} to only count the values of each group.
+	 * @return a {@link Map} of the {@link NumericSummary} of each group.
+	 */
+	public Map<Object, NumericSummary> groupBy(String groupPropertyPath, String valuePropertyPath) {
+
+		return execute(GroupingFunction.ID, new Object[] { groupPropertyPath, valuePropertyPath },
+			ReducingResultCollector.<Object, NumericSummary>mergingMaps(NumericSummary::combine)
+				.withIdentity(Collections.emptyMap()));
+	}
+
+	/**
+	 * Returns the sum of the {@link Number numeric} property of the values of the {@link Region}.
+	 *
+	 * @param propertyPath {@link String property path} of a {@link Number numeric} property.
+	 * @return the sum of the property.
+	 * @see #summarize(String)
+	 */
+	public double sum(String propertyPath) {
+		return summarize(propertyPath).getSum();
+	}
+
+	/**
+	 * Returns the count, sum, minimum and maximum of the {@link Number numeric} property of the values
+	 * of the {@link Region}.
+	 *
+	 * @param propertyPath {@link String property path} of a {@link Number numeric} property.
+	 * @return the {@link NumericSummary} of the property.
+	 */
+	public NumericSummary summarize(String propertyPath) {
+
+		ReducingResultCollector<NumericSummary, NumericSummary> resultCollector =
+			new ReducingResultCollector<NumericSummary, NumericSummary>(Function.identity(), NumericSummary::combine)
+				.withIdentity(NumericSummary.EMPTY);
+
+		return execute(SummarizingFunction.ID, new Object[] { propertyPath }, resultCollector);
+	}
+
+	/**
+	 * Returns the values of the {@link Region} having the greatest {@link Comparable} property,
+	 * ordered from the greatest to the least property.
+	 *
+	 * @param <T> {@link Class type} of the values.
+	 * @param propertyPath {@link String property path} of a {@link Comparable} property.
+	 * @param size maximum number of values to return.
+	 * @return a {@link List} of at most {@code size} values.
+	 */
+	public <T> List<T> topK(String propertyPath, int size) {
+
+		ReducingResultCollector<Object, List<T>> resultCollector =
+			ReducingResultCollector.topK(size, TopKFunction.comparingProperty(new PropertyPathResolver(propertyPath)));
+
+		return execute(TopKFunction.ID, new Object[] { propertyPath, size }, resultCollector);
+	}
+
+	/**
+	 * Executes the aggregate {@link org.apache.geode.cache.execute.Function} with the given {@link Object arguments}
+	 * on the {@link Region}, combining the partial aggregates with the given {@link ResultCollector}.
+	 *
+	 * @param <R> {@link Class type} of the aggregate.
+	 * @param functionId {@link String ID} of the aggregate {@link org.apache.geode.cache.execute.Function}.
+	 * @param arguments {@link Object} array of arguments.
+	 * @param resultCollector {@link ResultCollector} combining the partial aggregates.
+	 * @return the aggregate.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <R> R execute(String functionId, Object[] arguments, ResultCollector<?, R> resultCollector) {
+
+		Execution<Object[], ?, R> execution = FunctionService.onRegion(getRegion())
+			.setArguments(arguments)
+			.withCollector((ResultCollector) resultCollector);
+
+		return execution.execute(functionId).getResult();
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Collection;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * The {@link CountFunction} class is a data-aware {@link Function} counting the values of a {@link Region}.
+ *
+ * Takes no arguments and returns the {@link Long} count of the values of the local primary buckets on each member.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @since 1.2.1
+ */
+public class CountFunction extends AbstractAggregateFunction<Long> {
+
+	private static final long serialVersionUID = 7284232544542173370L;
+
+	public static final String ID = "spring-geode.aggregate.count";
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected Long aggregate(Collection<?> values, Object arguments) {
+		return (long) values.size();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Collection;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.springframework.geode.cache.support.HyperLogLog;
+
+/**
+ * The {@link DistinctCountFunction} class is a data-aware {@link Function} estimating the number of distinct values
+ * of a property of the values of a {@link Region}.
+ *
+ * Takes the {@link String property path} of the property and, optionally, the {@link Integer precision}
+ * of the {@link HyperLogLog} sketch.  Returns a {@link HyperLogLog} sketch of the properties of the values
+ * of the local primary buckets on each member, which are merged on the client.  {@literal null} properties
+ * are not counted.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.cache.support.HyperLogLog
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @since 1.2.1
+ */
+public class DistinctCountFunction extends AbstractAggregateFunction<HyperLogLog> {
+
+	private static final long serialVersionUID = 4365362738735075456L;
+
+	public static final String ID = "spring-geode.aggregate.distinct-count";
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected HyperLogLog aggregate(Collection<?> values, Object arguments) {
+
+		PropertyPathResolver propertyPathResolver = new PropertyPathResolver(getArgument(arguments, 0, String.class));
+
+		int precision = ((Object[]) arguments).length > 1
+			? getArgument(arguments, 1, Integer.class)
+			: HyperLogLog.DEFAULT_PRECISION;
+
+		HyperLogLog sketch = new HyperLogLog(precision);
+
+		for (Object value : values) {
+			sketch.add(propertyPathResolver.resolve(value));
+		}
+
+		return sketch;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * The {@link GroupingFunction} class is a data-aware {@link Function} grouping the values of a {@link Region}
+ * by a property and summarizing each group.
+ *
+ * Takes the {@link String property path} of the grouping property and, optionally, the {@link String property path}
+ * of a {@link Number numeric} property to summarize.  Returns a {@link Map} of the partial {@link NumericSummary}
+ * of each group of the values of the local primary buckets on each member.  Without a property to summarize,
+ * each {@link NumericSummary} only {@link NumericSummary#getCount() counts} the values of its group.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @see org.springframework.geode.function.aggregate.NumericSummary
+ * @since 1.2.1
+ */
+public class GroupingFunction extends AbstractAggregateFunction<Map<Object, NumericSummary>> {
+
+	private static final long serialVersionUID = -9115017343562347455L;
+
+	public static final String ID = "spring-geode.aggregate.group-by";
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected Map<Object, NumericSummary> aggregate(Collection<?> values, Object arguments) {
+
+		PropertyPathResolver groupPropertyPathResolver =
+			new PropertyPathResolver(getArgument(arguments, 0, String.class));
+
+		Object valuePropertyPath = ((Object[]) arguments).length > 1 ? ((Object[]) arguments)[1] : null;
+
+		PropertyPathResolver valuePropertyPathResolver = valuePropertyPath != null
+			? new PropertyPathResolver(getArgument(arguments, 1, String.class))
+			: null;
+
+		Map<Object, NumericSummary> groups = new HashMap<>();
+
+		for (Object value : values) {
+
+			NumericSummary summary = valuePropertyPathResolver != null
+				? NumericSummary.of(resolveNumber(value, valuePropertyPathResolver))
+				: NumericSummary.of(1L);
+
+			groups.merge(groupPropertyPathResolver.resolve(value), summary, NumericSummary::combine);
+		}
+
+		return groups;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.io.Serializable;
+import java.util.OptionalDouble;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link NumericSummary} class is an immutable, partial aggregate of {@link Number numeric} values recording
+ * their count, sum, minimum and maximum.
+ *
+ * Partial aggregates computed on each member are {@link #combine(NumericSummary) combined} on the client.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @since 1.2.1
+ */
+public class NumericSummary implements Serializable {
+
+	private static final long serialVersionUID = 4306227329447542471L;
+
+	public static final NumericSummary EMPTY =
+		new NumericSummary(0L, 0.0d, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+
+	private final double maximum;
+	private final double minimum;
+	private final double sum;
+
+	private final long count;
+
+	/**
+	 * Factory method used to construct a new {@link NumericSummary} of a single value.
+	 *
+	 * @param value {@link Number} to summarize.
+	 * @return a new {@link NumericSummary} of the given value, or {@link #EMPTY} if the value is {@literal null}.
+	 */
+	public static NumericSummary of(@Nullable Number value) {
+
+		if (value == null) {
+			return EMPTY;
+		}
+
+		double doubleValue = value.doubleValue();
+
+		return new NumericSummary(1L, doubleValue, doubleValue, doubleValue);
+	}
+
+	private NumericSummary(long count, double sum, double minimum, double maximum) {
+		this.count = count;
+		this.sum = sum;
+		this.minimum = minimum;
+		this.maximum = maximum;
+	}
+
+	/**
+	 * Returns a new {@link NumericSummary} combining this summary with the given summary.
+	 *
+	 * @param summary {@link NumericSummary} to combine with this summary.
+	 * @return a new {@link NumericSummary} combining both summaries.
+	 */
+	public NumericSummary combine(@Nullable NumericSummary summary) {
+
+		return summary == null || summary.getCount() == 0L ? this
+			: getCount() == 0L ? summary
+			: new NumericSummary(getCount() + summary.getCount(), getSum() + summary.getSum(),
+				Math.min(this.minimum, summary.minimum), Math.max(this.maximum, summary.maximum));
+	}
+
+	/**
+	 * Returns a new {@link NumericSummary} adding the given value to this summary.
+	 *
+	 * @param value {@link Number} to add.
+	 * @return a new {@link NumericSummary} including the given value.
+	 */
+	public NumericSummary with(@Nullable Number value) {
+		return combine(of(value));
+	}
+
+	/**
+	 * Returns the average of the summarized values.
+	 *
+	 * @return an {@link OptionalDouble} average, or {@link OptionalDouble#empty()} if no values were summarized.
+	 */
+	public @NonNull OptionalDouble getAverage() {
+		return getCount() > 0L ? OptionalDouble.of(getSum() / getCount()) : OptionalDouble.empty();
+	}
+
+	/**
+	 * Returns the number of summarized values.
+	 *
+	 * @return the number of summarized values.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the greatest of the summarized values.
+	 *
+	 * @return an {@link OptionalDouble} maximum, or {@link OptionalDouble#empty()} if no values were summarized.
+	 */
+	public @NonNull OptionalDouble getMaximum() {
+		return getCount() > 0L ? OptionalDouble.of(this.maximum) : OptionalDouble.empty();
+	}
+
+	/**
+	 * Returns the least of the summarized values.
+	 *
+	 * @return an {@link OptionalDouble} minimum, or {@link OptionalDouble#empty()} if no values were summarized.
+	 */
+	public @NonNull OptionalDouble getMinimum() {
+		return getCount() > 0L ? OptionalDouble.of(this.minimum) : OptionalDouble.empty();
+	}
+
+	/**
+	 * Returns the sum of the summarized values.
+	 *
+	 * @return the sum of the summarized values.
+	 */
+	public double getSum() {
+		return this.sum;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof NumericSummary)) {
+			return false;
+		}
+
+		NumericSummary that = (NumericSummary) obj;
+
+		return this.count == that.count
+			&& Double.compare(this.sum, that.sum) == 0
+			&& Double.compare(this.minimum, that.minimum) == 0
+			&& Double.compare(this.maximum, that.maximum) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+
+		int hashValue = 17;
+
+		hashValue = 37 * hashValue + Long.hashCode(this.count);
+		hashValue = 37 * hashValue + Double.hashCode(this.sum);
+		hashValue = 37 * hashValue + Double.hashCode(this.minimum);
+		hashValue = 37 * hashValue + Double.hashCode(this.maximum);
+
+		return hashValue;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ count = %1$d, sum = %2$s, minimum = %3$s, maximum = %4$s }",
+			getCount(), getSum(), getMinimum(), getMaximum());
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link PropertyPathResolver} class resolves the value of a {@literal dot}-separated property path,
+ * such as {@literal address.city}, from an object.
+ *
+ * Each segment of the path is resolved from the field of a {@link PdxInstance}, when the values are read serialized,
+ * the entry of a {@link Map}, or the field of any other object.  Resolution stops at the first {@literal null}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @since 1.2.1
+ */
+public class PropertyPathResolver {
+
+	private static final Map<Class<?>, Map<String, Optional<Field>>> fields = new ConcurrentHashMap<>();
+
+	private final String[] segments;
+
+	private final String propertyPath;
+
+	/**
+	 * Constructs a new instance of {@link PropertyPathResolver} for the given property path.
+	 *
+	 * @param propertyPath {@link String dot-separated} property path.
+	 * @throws IllegalArgumentException if the property path is {@literal null} or empty.
+	 */
+	public PropertyPathResolver(@NonNull String propertyPath) {
+
+		Assert.hasText(propertyPath, "Property path is required");
+
+		this.propertyPath = propertyPath;
+		this.segments = StringUtils.delimitedListToStringArray(propertyPath, ".");
+	}
+
+	/**
+	 * Returns the property path resolved by this resolver.
+	 *
+	 * @return the property path resolved by this resolver.
+	 */
+	public String getPropertyPath() {
+		return this.propertyPath;
+	}
+
+	/**
+	 * Resolves the value of the property path from the given object.
+	 *
+	 * @param target object from which to resolve the value of the property path.
+	 * @return the value of the property path, or {@literal null} if the target, or any property along the path,
+	 * is {@literal null}.
+	 * @throws IllegalArgumentException if a property along the path does not exist.
+	 */
+	public @Nullable Object resolve(@Nullable Object target) {
+
+		Object value = target;
+
+		for (int index = 0; index < this.segments.length && value != null; index++) {
+			value = resolveSegment(value, this.segments[index]);
+		}
+
+		return value;
+	}
+
+	private Object resolveSegment(Object target, String name) {
+
+		if (target instanceof PdxInstance) {
+			return ((PdxInstance) target).getField(name);
+		}
+		else if (target instanceof Map) {
+			return ((Map<?, ?>) target).get(name);
+		}
+
+		Field field = fields.computeIfAbsent(target.getClass(), type -> new ConcurrentHashMap<>())
+			.computeIfAbsent(name, it -> Optional.ofNullable(ReflectionUtils.findField(target.getClass(), it))
+				.map(resolvedField -> {
+					ReflectionUtils.makeAccessible(resolvedField);
+					return resolvedField;
+				}))
+			.orElseThrow(() -> new IllegalArgumentException(String.format(
+				"Property [%1$s] of path [%2$s] not found in type [%3$s]", name, this.propertyPath,
+					target.getClass().getName())));
+
+		return ReflectionUtils.getField(field, target);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.Collection;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * The {@link SummarizingFunction} class is a data-aware {@link Function} computing the count, sum, minimum
+ * and maximum of a {@link Number numeric} property of the values of a {@link Region}, from which the sum
+ * and the average are derived.
+ *
+ * Takes the {@link String property path} as its only argument and returns a {@link NumericSummary} of the values
+ * of the local primary buckets on each member.  Values having a {@literal null} property are not summarized.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @see org.springframework.geode.function.aggregate.NumericSummary
+ * @since 1.2.1
+ */
+public class SummarizingFunction extends AbstractAggregateFunction<NumericSummary> {
+
+	private static final long serialVersionUID = 1644352919307660859L;
+
+	public static final String ID = "spring-geode.aggregate.summarize";
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected NumericSummary aggregate(Collection<?> values, Object arguments) {
+
+		PropertyPathResolver propertyPathResolver = new PropertyPathResolver(getArgument(arguments, 0, String.class));
+
+		NumericSummary summary = NumericSummary.EMPTY;
+
+		for (Object value : values) {
+			summary = summary.with(resolveNumber(value, propertyPathResolver));
+		}
+
+		return summary;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+
+/**
+ * The {@link TopKFunction} class is a data-aware {@link Function} selecting the values of a {@link Region}
+ * having the greatest {@link Comparable} property.
+ *
+ * Takes the {@link String property path} of the property and the {@link Integer number} of values to select.
+ * Returns a {@link List} of at most that number of values of the local primary buckets on each member, ordered from
+ * the greatest to the least property.  Values having a {@literal null} property are not selected.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @since 1.2.1
+ */
+public class TopKFunction extends AbstractAggregateFunction<List<Object>> {
+
+	private static final long serialVersionUID = -2155802044749077099L;
+
+	public static final String ID = "spring-geode.aggregate.top-k";
+
+	/**
+	 * Returns a {@link Comparator} ordering values by the {@link Comparable} property resolved by the given
+	 * {@link PropertyPathResolver}.
+	 *
+	 * @param propertyPathResolver {@link PropertyPathResolver} resolving the property by which values are ordered.
+	 * @return a {@link Comparator} ordering values by property.
+	 * @throws FunctionException if a property is not {@link Comparable}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Comparator<Object> comparingProperty(PropertyPathResolver propertyPathResolver) {
+
+		return Comparator.comparing(value -> {
+
+			Object propertyValue = propertyPathResolver.resolve(value);
+
+			if (propertyValue instanceof Comparable) {
+				return (Comparable<Object>) propertyValue;
+			}
+
+			throw new FunctionException(String.format("Value [%1$s] of property [%2$s] is not Comparable",
+				propertyValue, propertyPathResolver.getPropertyPath()));
+		});
+	}
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	protected List<Object> aggregate(Collection<?> values, Object arguments) {
+
+		PropertyPathResolver propertyPathResolver = new PropertyPathResolver(getArgument(arguments, 0, String.class));
+
+		int size = getArgument(arguments, 1, Integer.class);
+
+		if (size < 1) {
+			throw new FunctionException(String.format("Size [%d] must be greater than 0", size));
+		}
+
+		Comparator<Object> comparator = comparingProperty(propertyPathResolver);
+
+		// min-heap holding the greatest values seen so far
+		PriorityQueue<Object> topValues = new PriorityQueue<>(size + 1, comparator);
+
+		for (Object value : values) {
+			if (value != null && propertyPathResolver.resolve(value) != null) {
+
+				topValues.offer(value);
+
+				if (topValues.size() > size) {
+					topValues.poll();
+				}
+			}
+		}
+
+		List<Object> result = new ArrayList<>(topValues);
+
+		result.sort(comparator.reversed());
+
+		return result;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+/**
+ * The {@link Coalesced} annotation marks a SDG {@link org.springframework.data.gemfire.function.annotation.OnRegion}
+ * {@link Function} {@link Execution} interface method whose concurrent invocations with the same arguments are merged
+ * into a single {@link Function} {@link Execution} with the union of their
+ * {@link org.springframework.data.gemfire.function.annotation.Filter} keys.
+ *
+ * The {@link Function} must return {@link Map Maps} keyed by
+ * {@link org.springframework.data.gemfire.function.annotation.Filter} key, and the annotated method must declare
+ * a {@link Map} return type, or a {@link java.util.concurrent.CompletableFuture} or {@link reactor.core.publisher.Mono}
+ * of {@link Map}.  Each caller receives the entries for its own keys.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.data.gemfire.function.annotation.Filter
+ * @see org.springframework.data.gemfire.function.annotation.OnRegion
+ * @see org.springframework.geode.function.execution.FunctionExecutionCoalescer
+ * @since 1.2.1
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+	long DEFAULT_WINDOW_MILLISECONDS = 2L;
+
+	int DEFAULT_MAXIMUM_BATCH_SIZE = 1000;
+
+	/**
+	 * Maximum number of {@link org.springframework.data.gemfire.function.annotation.Filter} keys in a single,
+	 * coalesced {@link Function} {@link Execution}.  A batch is executed as soon as it reaches this size.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int maximumBatchSize() default DEFAULT_MAXIMUM_BATCH_SIZE;
+
+	/**
+	 * Time in milliseconds that the first invocation of a batch waits for concurrent invocations to join
+	 * before executing the {@link Function}.
+	 *
+	 * Defaults to {@literal 2} milliseconds.
+	 */
+	long windowMillis() default DEFAULT_WINDOW_MILLISECONDS;
+
+}
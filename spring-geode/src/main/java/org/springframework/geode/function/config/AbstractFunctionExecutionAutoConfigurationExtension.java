@@ -18,25 +18,37 @@ package org.springframework.geode.function.config;
 
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.StandardAnnotationMetadata;
 import org.springframework.data.gemfire.function.config.AbstractFunctionExecutionConfigurationSource;
 import org.springframework.data.gemfire.function.config.AnnotationFunctionExecutionConfigurationSource;
 import org.springframework.data.gemfire.function.config.FunctionExecutionBeanDefinitionRegistrar;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean;
+import org.springframework.data.gemfire.function.execution.OnRegionFunctionProxyFactoryBean;
+import org.springframework.geode.function.execution.AsyncFunctionProxyFactoryBean;
+import org.springframework.geode.function.execution.AsyncOnRegionFunctionProxyFactoryBean;
 import org.springframework.util.Assert;
 
 /**
  * The {@link AbstractFunctionExecutionAutoConfigurationExtension} class extends SDG's {@link FunctionExecutionBeanDefinitionRegistrar}
  * to redefine the location of application POJO {@link Function} {@link Execution} interfaces.
  *
+ * Interface methods declaring a {@link java.util.concurrent.CompletableFuture} or {@link reactor.core.publisher.Mono}
+ * return type are executed asynchronously.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.execute.Execution
  * @see org.apache.geode.cache.execute.Function
@@ -45,6 +57,8 @@ import org.springframework.util.Assert;
  * @see org.springframework.boot.autoconfigure.AutoConfigurationPackages
  * @see org.springframework.core.type.AnnotationMetadata
  * @see org.springframework.data.gemfire.function.config.FunctionExecutionBeanDefinitionRegistrar
+ * @see org.springframework.geode.function.execution.AsyncFunctionProxyFactoryBean
+ * @see org.springframework.geode.function.execution.AsyncOnRegionFunctionProxyFactoryBean
  * @since 1.0.0
  */
 public abstract class AbstractFunctionExecutionAutoConfigurationExtension
@@ -68,6 +82,41 @@ public abstract class AbstractFunctionExecutionAutoConfigurationExtension
 
 	protected abstract Class<?> getConfiguration();
 
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		Set<String> existingBeanNames = new HashSet<>(Arrays.asList(registry.getBeanDefinitionNames()));
+
+		super.registerBeanDefinitions(importingClassMetadata, registry);
+
+		Arrays.stream(registry.getBeanDefinitionNames())
+			.filter(beanName -> !existingBeanNames.contains(beanName))
+			.map(registry::getBeanDefinition)
+			.forEach(this::enableAsyncFunctionExecution);
+	}
+
+	/**
+	 * Replaces the SDG {@link GemfireFunctionProxyFactoryBean} or {@link OnRegionFunctionProxyFactoryBean} defined
+	 * by the given {@link BeanDefinition} with a subclass that executes interface methods declaring
+	 * a {@link java.util.concurrent.CompletableFuture} or {@link reactor.core.publisher.Mono} return type
+	 * asynchronously.  Synchronous interface methods are executed as before.
+	 *
+	 * @param beanDefinition {@link BeanDefinition} to process.
+	 * @see org.springframework.geode.function.execution.AsyncFunctionProxyFactoryBean
+	 * @see org.springframework.geode.function.execution.AsyncOnRegionFunctionProxyFactoryBean
+	 */
+	protected void enableAsyncFunctionExecution(BeanDefinition beanDefinition) {
+
+		String beanClassName = beanDefinition.getBeanClassName();
+
+		if (GemfireFunctionProxyFactoryBean.class.getName().equals(beanClassName)) {
+			beanDefinition.setBeanClassName(AsyncFunctionProxyFactoryBean.class.getName());
+		}
+		else if (OnRegionFunctionProxyFactoryBean.class.getName().equals(beanClassName)) {
+			beanDefinition.setBeanClassName(AsyncOnRegionFunctionProxyFactoryBean.class.getName());
+		}
+	}
+
 	@SuppressWarnings("unused")
 	@Override
 	protected AbstractFunctionExecutionConfigurationSource newAnnotationBasedFunctionExecutionConfigurationSource(
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The {@link AsyncFunctionExecutionSupport} class runs the {@link Function} {@link Execution} of a SDG POJO
+ * {@link Function} {@link Execution} interface method declaring a {@link CompletableFuture} (or any supertype,
+ * such as {@link java.util.concurrent.CompletionStage}) or a {@link Mono} return type on an {@link Executor},
+ * so the calling {@link Thread} is not blocked while the results are collected.
+ *
+ * The {@link Executor} is the bean named {@link #FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME} when declared,
+ * otherwise a shared {@link Executor} creating a virtual {@link Thread} per {@link Function} {@link Execution}
+ * when the Java runtime supports virtual {@link Thread Threads}, or a bounded pool of daemon {@link Thread Threads}
+ * when it does not.
+ *
+ * The bounded pool runs at most {@link #DEFAULT_MAXIMUM_THREADS} {@link Function} {@link Execution Executions}
+ * at once and queues at most {@link #DEFAULT_QUEUE_CAPACITY} more.  Each {@link Thread} is blocked for the whole
+ * {@link Function} {@link Execution}, so the pool limits the number of concurrent {@link Execution Executions},
+ * not CPU usage.  Further {@link Execution Executions} are rejected with a {@link RejectedExecutionException},
+ * thrown by the calling {@link Thread} for a {@link CompletableFuture} or signaled as an error for a {@link Mono},
+ * rather than exhausting memory or {@link Thread Threads}.  Applications expecting more concurrent executions
+ * should declare an {@link Executor} bean named {@link #FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME} sized to
+ * the expected peak number of concurrent {@link Execution Executions}, with a queue absorbing short bursts.
+ *
+ * {@link Mono} return types require Project Reactor on the classpath.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.beans.factory.BeanFactory
+ * @see reactor.core.publisher.Mono
+ * @since 1.2.1
+ */
+public class AsyncFunctionExecutionSupport {
+
+	public static final String FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME = "functionExecutionExecutor";
+
+	protected static final int DEFAULT_MAXIMUM_THREADS = 64;
+	protected static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	protected static final String REACTOR_MONO_CLASS_NAME = "reactor.core.publisher.Mono";
+
+	protected static final String VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+
+	private static final boolean REACTOR_PRESENT =
+		ClassUtils.isPresent(REACTOR_MONO_CLASS_NAME, AsyncFunctionExecutionSupport.class.getClassLoader());
+
+	private BeanFactory beanFactory;
+
+	private volatile Executor executor;
+
+	/**
+	 * Determines whether the given {@link Method} declares a return type that is executed asynchronously.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Method} declares a {@link CompletableFuture}
+	 * (or any supertype other than {@link Object}) or a {@link Mono} return type.
+	 * @see java.lang.reflect.Method#getReturnType()
+	 */
+	public static boolean isAsynchronous(Method method) {
+
+		Class<?> returnType = method != null ? method.getReturnType() : null;
+
+		return returnType != null && !Object.class.equals(returnType)
+			&& (returnType.isAssignableFrom(CompletableFuture.class) || isMono(returnType));
+	}
+
+	private static boolean isMono(Class<?> returnType) {
+		return REACTOR_PRESENT && ReactorAdapter.isMono(returnType);
+	}
+
+	/**
+	 * Returns the shared, default {@link Executor}.
+	 *
+	 * @return the shared, default {@link Executor}.
+	 */
+	static Executor getDefaultExecutor() {
+		return DefaultExecutorHolder.INSTANCE;
+	}
+
+	static Executor newDefaultExecutor() {
+
+		try {
+
+			Method virtualThreadExecutorFactoryMethod =
+				Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY_METHOD_NAME);
+
+			return (Executor) virtualThreadExecutorFactoryMethod.invoke(null);
+		}
+		catch (ReflectiveOperationException ignore) {
+			return newBoundedExecutor(DEFAULT_MAXIMUM_THREADS, DEFAULT_QUEUE_CAPACITY);
+		}
+	}
+
+	static ThreadPoolExecutor newBoundedExecutor(int maximumThreads, int queueCapacity) {
+
+		AtomicInteger threadNumber = new AtomicInteger(0);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maximumThreads, maximumThreads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+
+				Thread thread = new Thread(runnable,
+					String.format("Async Function Execution %d", threadNumber.incrementAndGet()));
+
+				thread.setDaemon(true);
+
+				return thread;
+			}, new ThreadPoolExecutor.AbortPolicy());
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * Sets the {@link BeanFactory} used to resolve the {@link Executor} bean named
+	 * {@link #FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME}.
+	 *
+	 * @param beanFactory {@link BeanFactory} used to resolve the {@link Executor}.
+	 * @see org.springframework.beans.factory.BeanFactory
+	 */
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to run {@link Function} {@link Execution Executions} asynchronously.
+	 *
+	 * @param executor {@link Executor} used to run {@link Function} {@link Execution Executions}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run {@link Function} {@link Execution Executions} asynchronously.
+	 *
+	 * The {@link Executor} is resolved on first use so that declaring a {@link Function} {@link Execution} interface
+	 * does not eagerly initialize the {@link Executor} bean.
+	 *
+	 * @return the {@link Executor} used to run {@link Function} {@link Execution Executions}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+
+			executor = Optional.ofNullable(this.beanFactory)
+				.filter(beanFactory -> beanFactory.containsBean(FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME))
+				.map(beanFactory -> beanFactory.getBean(FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME, Executor.class))
+				.orElseGet(AsyncFunctionExecutionSupport::getDefaultExecutor);
+
+			this.executor = executor;
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Runs the given {@link Function} invocation on the {@link #getExecutor() Executor} and adapts its result
+	 * to the return type of the given {@link Method}.
+	 *
+	 * The returned {@link CompletableFuture} completes when the {@link Function} invocation returns, that is,
+	 * when the {@link org.apache.geode.cache.execute.ResultCollector} has received the results of all members,
+	 * and completes exceptionally when it throws.  A {@link Mono} is lazy and runs the {@link Function} invocation
+	 * on each subscription, completing empty when the result is {@literal null}.
+	 *
+	 * @param method {@link Method} declaring an asynchronous return type.
+	 * @param functionInvocation {@link Supplier} executing the {@link Function} and returning the result.
+	 * @return a {@link CompletableFuture} or {@link Mono} of the result.
+	 * @throws IllegalArgumentException if {@link Method} does not declare an asynchronous return type
+	 * or the {@link Function} invocation is {@literal null}.
+	 * @see #isAsynchronous(Method)
+	 */
+	public Object execute(Method method, Supplier<?> functionInvocation) {
+
+		Assert.isTrue(isAsynchronous(method), () -> String.format("Method [%s] must return a CompletableFuture or Mono",
+			method != null ? method.getName() : null));
+
+		Assert.notNull(functionInvocation, "Function invocation is required");
+
+		return isMono(method.getReturnType())
+			? ReactorAdapter.toMono(functionInvocation, getExecutor())
+			: CompletableFuture.supplyAsync(functionInvocation, getExecutor());
+	}
+
+	private static class DefaultExecutorHolder {
+
+		private static final Executor INSTANCE = newDefaultExecutor();
+
+	}
+
+	/**
+	 * Isolates references to Project Reactor, which is optional.
+	 */
+	private static class ReactorAdapter {
+
+		private static boolean isMono(Class<?> returnType) {
+			return Mono.class.isAssignableFrom(returnType);
+		}
+
+		private static Mono<?> toMono(Supplier<?> functionInvocation, Executor executor) {
+			return Mono.fromSupplier(functionInvocation).subscribeOn(Schedulers.fromExecutor(executor));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionOperations;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean;
+
+/**
+ * The {@link AsyncFunctionProxyFactoryBean} class is a SDG {@link GemfireFunctionProxyFactoryBean} that runs
+ * the {@link Function} {@link Execution} of
+ * {@link org.springframework.data.gemfire.function.annotation.OnServer @OnServer},
+ * {@link org.springframework.data.gemfire.function.annotation.OnServers @OnServers} and member-based interface
+ * methods declaring a {@link CompletableFuture} or {@link reactor.core.publisher.Mono} return type asynchronously.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.beans.factory.BeanFactoryAware
+ * @see org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean
+ * @see org.springframework.geode.function.execution.AsyncFunctionExecutionSupport
+ * @since 1.2.1
+ */
+public class AsyncFunctionProxyFactoryBean extends GemfireFunctionProxyFactoryBean implements BeanFactoryAware {
+
+	private final AsyncFunctionExecutionSupport asyncFunctionExecutionSupport = new AsyncFunctionExecutionSupport();
+
+	public AsyncFunctionProxyFactoryBean(Class<?> functionExecutionInterface,
+			GemfireFunctionOperations functionOperations) {
+
+		super(functionExecutionInterface, functionOperations);
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.asyncFunctionExecutionSupport.setBeanFactory(beanFactory);
+	}
+
+	/**
+	 * Sets the {@link Executor} used to run {@link Function} {@link Execution Executions} asynchronously.
+	 *
+	 * @param executor {@link Executor} used to run {@link Function} {@link Execution Executions}.
+	 * @see org.springframework.geode.function.execution.AsyncFunctionExecutionSupport#setExecutor(Executor)
+	 */
+	public void setExecutor(Executor executor) {
+		this.asyncFunctionExecutionSupport.setExecutor(executor);
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		if (AsyncFunctionExecutionSupport.isAsynchronous(method)) {
+
+			Object[] arguments = invocation.getArguments();
+
+			return this.asyncFunctionExecutionSupport.execute(method, () -> invokeFunction(method, arguments));
+		}
+
+		return super.invoke(invocation);
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations;
+import org.springframework.data.gemfire.function.execution.OnRegionFunctionProxyFactoryBean;
+import org.springframework.geode.function.annotation.Coalesced;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AsyncOnRegionFunctionProxyFactoryBean} class is a SDG {@link OnRegionFunctionProxyFactoryBean}
+ * that runs the {@link Function} {@link Execution} of
+ * {@link org.springframework.data.gemfire.function.annotation.OnRegion @OnRegion} interface methods declaring
+ * a {@link CompletableFuture} or {@link reactor.core.publisher.Mono} return type asynchronously.
+ *
+ * Concurrent invocations of interface methods annotated with {@link Coalesced} are merged into a single
+ * {@link Function} {@link Execution} by a {@link FunctionExecutionCoalescer}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.beans.factory.BeanFactoryAware
+ * @see org.springframework.data.gemfire.function.execution.OnRegionFunctionProxyFactoryBean
+ * @see org.springframework.geode.function.annotation.Coalesced
+ * @see org.springframework.geode.function.execution.AsyncFunctionExecutionSupport
+ * @see org.springframework.geode.function.execution.FunctionExecutionCoalescer
+ * @since 1.2.1
+ */
+public class AsyncOnRegionFunctionProxyFactoryBean extends OnRegionFunctionProxyFactoryBean
+		implements BeanFactoryAware {
+
+	private final AsyncFunctionExecutionSupport asyncFunctionExecutionSupport =
+		new AsyncFunctionExecutionSupport();
+
+	private final Map<Method, CoalescedMethod> coalescedMethods;
+
+	public AsyncOnRegionFunctionProxyFactoryBean(Class<?> functionExecutionInterface,
+			GemfireOnRegionOperations functionOperations) {
+
+		super(functionExecutionInterface, functionOperations);
+
+		this.coalescedMethods = resolveCoalescedMethods(functionExecutionInterface);
+	}
+
+	private static Map<Method, CoalescedMethod> resolveCoalescedMethods(Class<?> functionExecutionInterface) {
+
+		Map<Method, CoalescedMethod> coalescedMethods = new HashMap<>();
+
+		for (Method method : functionExecutionInterface.getMethods()) {
+
+			Coalesced coalesced = AnnotatedElementUtils.findMergedAnnotation(method, Coalesced.class);
+
+			if (coalesced != null) {
+				coalescedMethods.put(method, new CoalescedMethod(method, coalesced));
+			}
+		}
+
+		return Collections.unmodifiableMap(coalescedMethods);
+	}
+
+	/**
+	 * Returns the {@link FunctionExecutionCoalescer} for the given {@link Coalesced} interface {@link Method}.
+	 *
+	 * @param method interface {@link Method}.
+	 * @return an {@link Optional} {@link FunctionExecutionCoalescer} for the given {@link Method}, or
+	 * {@link Optional#empty()} if the {@link Method} is not annotated with {@link Coalesced}.
+	 * @see org.springframework.geode.function.execution.FunctionExecutionCoalescer
+	 */
+	public Optional<FunctionExecutionCoalescer> getCoalescer(Method method) {
+		return Optional.ofNullable(this.coalescedMethods.get(method)).map(coalescedMethod -> coalescedMethod.coalescer);
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.asyncFunctionExecutionSupport.setBeanFactory(beanFactory);
+	}
+
+	/**
+	 * Sets the {@link Executor} used to run {@link Function} {@link Execution Executions} asynchronously.
+	 *
+	 * @param executor {@link Executor} used to run {@link Function} {@link Execution Executions}.
+	 * @see org.springframework.geode.function.execution.AsyncFunctionExecutionSupport#setExecutor(Executor)
+	 */
+	public void setExecutor(Executor executor) {
+		this.asyncFunctionExecutionSupport.setExecutor(executor);
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		CoalescedMethod coalescedMethod = this.coalescedMethods.get(method);
+
+		if (coalescedMethod != null || AsyncFunctionExecutionSupport.isAsynchronous(method)) {
+
+			Object[] arguments = invocation.getArguments();
+
+			Supplier<Object> functionInvocation = coalescedMethod != null
+				? () -> coalescedMethod.execute(arguments, filter ->
+					invokeFunction(method, coalescedMethod.withFilter(arguments, filter)))
+				: () -> invokeFunction(method, arguments);
+
+			return AsyncFunctionExecutionSupport.isAsynchronous(method)
+				? this.asyncFunctionExecutionSupport.execute(method, functionInvocation)
+				: functionInvocation.get();
+		}
+
+		return super.invoke(invocation);
+	}
+
+	private static class CoalescedMethod {
+
+		private final FunctionExecutionCoalescer coalescer;
+
+		private final int filterIndex;
+
+		CoalescedMethod(Method method, Coalesced coalesced) {
+
+			this.filterIndex = resolveFilterIndex(method);
+
+			Assert.state(this.filterIndex > -1, () -> String.format(
+				"Method [%s] annotated with @Coalesced must declare a @Filter parameter", method.getName()));
+
+			Class<?> resultType = AsyncFunctionExecutionSupport.isAsynchronous(method)
+				? ResolvableType.forMethodReturnType(method).getGeneric(0).resolve(Object.class)
+				: method.getReturnType();
+
+			Assert.state(resultType.isAssignableFrom(Map.class), () ->
+				String.format("Method [%s] annotated with @Coalesced must return a Map", method.getName()));
+
+			this.coalescer = new FunctionExecutionCoalescer(coalesced.windowMillis(), TimeUnit.MILLISECONDS,
+				coalesced.maximumBatchSize());
+		}
+
+		private static int resolveFilterIndex(Method method) {
+
+			for (int index = 0; index < method.getParameterCount(); index++) {
+				if (AnnotationUtils.findAnnotation(method.getParameters()[index], Filter.class) != null) {
+					return index;
+				}
+			}
+
+			return -1;
+		}
+
+		Object execute(Object[] arguments, java.util.function.Function<Set<Object>, Object> execution) {
+			return this.coalescer.execute(new CoalescingKey(arguments, this.filterIndex),
+				(Collection<?>) arguments[this.filterIndex], execution);
+		}
+
+		Object[] withFilter(Object[] arguments, Object filter) {
+
+			Object[] filteredArguments = arguments.clone();
+
+			filteredArguments[this.filterIndex] = filter;
+
+			return filteredArguments;
+		}
+	}
+
+	private static class CoalescingKey {
+
+		private final Object[] arguments;
+
+		CoalescingKey(Object[] arguments, int filterIndex) {
+			this.arguments = arguments.clone();
+			this.arguments[filterIndex] = null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CoalescingKey && Arrays.deepEquals(this.arguments, ((CoalescingKey) obj).arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.deepHashCode(this.arguments);
+		}
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link FunctionExecutionCoalescer} class merges concurrent invocations of a data-aware
+ * {@link org.apache.geode.cache.execute.Function} {@link Execution} sharing the same arguments into a single
+ * {@link Execution} with the union of their filter keys, then routes the per-key results back to each caller.
+ *
+ * The first invocation of a batch waits up to the {@link #getWindow(TimeUnit) window} for concurrent invocations
+ * to join, or until the batch reaches the {@link #getMaximumBatchSize() maximum batch size}, and then executes
+ * the {@link org.apache.geode.cache.execute.Function} on behalf of all invocations in the batch.  The results
+ * of the {@link org.apache.geode.cache.execute.Function} must be {@link Map Maps} keyed by filter key,
+ * or {@link Iterable Iterables} of such {@link Map Maps}, as returned for all members by an {@literal onRegion}
+ * {@link Execution}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Execution
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.function.annotation.Coalesced
+ * @since 1.2.1
+ */
+public class FunctionExecutionCoalescer {
+
+	private final ConcurrentMap<Object, Batch> openBatches = new ConcurrentHashMap<>();
+
+	private final int maximumBatchSize;
+
+	private final long windowNanoseconds;
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder invocationCount = new LongAdder();
+
+	/**
+	 * Constructs a new instance of {@link FunctionExecutionCoalescer} initialized with the given window
+	 * and maximum batch size.
+	 *
+	 * @param window time that the first invocation of a batch waits for concurrent invocations to join.
+	 * @param timeUnit {@link TimeUnit} of the window.
+	 * @param maximumBatchSize maximum number of filter keys in a single {@link Execution}.
+	 * @throws IllegalArgumentException if the window is negative, the {@link TimeUnit} is {@literal null}
+	 * or the maximum batch size is less than 1.
+	 */
+	public FunctionExecutionCoalescer(long window, TimeUnit timeUnit, int maximumBatchSize) {
+
+		Assert.isTrue(window >= 0, () -> String.format("Window [%d] must be greater than or equal to 0", window));
+		Assert.notNull(timeUnit, "TimeUnit is required");
+		Assert.isTrue(maximumBatchSize > 0,
+			() -> String.format("Maximum batch size [%d] must be greater than 0", maximumBatchSize));
+
+		this.windowNanoseconds = timeUnit.toNanos(window);
+		this.maximumBatchSize = maximumBatchSize;
+	}
+
+	/**
+	 * Returns the number of {@link Execution Executions} performed on behalf of all invocations.
+	 *
+	 * @return the number of {@link Execution Executions}.
+	 */
+	public long getExecutionCount() {
+		return this.executionCount.sum();
+	}
+
+	/**
+	 * Returns the number of invocations of {@link #execute(Object, Collection, Function)}.
+	 *
+	 * @return the number of invocations.
+	 */
+	public long getInvocationCount() {
+		return this.invocationCount.sum();
+	}
+
+	/**
+	 * Returns the maximum number of filter keys in a single {@link Execution}.
+	 *
+	 * @return the maximum number of filter keys in a single {@link Execution}.
+	 */
+	public int getMaximumBatchSize() {
+		return this.maximumBatchSize;
+	}
+
+	/**
+	 * Returns the time that the first invocation of a batch waits for concurrent invocations to join.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned window.
+	 * @return the window in the given {@link TimeUnit}.
+	 */
+	public long getWindow(TimeUnit timeUnit) {
+		return timeUnit.convert(this.windowNanoseconds, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Executes, or joins a concurrent {@link Execution} of, the {@link org.apache.geode.cache.execute.Function}
+	 * for the given filter keys.
+	 *
+	 * The {@link Execution} is shared by all concurrent invocations with an equal {@code coalescingKey},
+	 * which identifies the {@link org.apache.geode.cache.execute.Function} and its arguments other than the filter.
+	 * A {@literal null} filter, meaning all keys, is never coalesced.
+	 *
+	 * @param coalescingKey {@link Object} identifying the {@link org.apache.geode.cache.execute.Function}
+	 * and its arguments.
+	 * @param filter {@link Collection} of keys for which results are requested.
+	 * @param execution {@link Function} executing the {@link org.apache.geode.cache.execute.Function}
+	 * with the given {@link Set} of keys and returning its results.
+	 * @return a {@link Map} of the results for the given filter keys.
+	 * @throws FunctionException if interrupted while waiting for the shared {@link Execution}.
+	 * @throws RuntimeException thrown by the shared {@link Execution}.
+	 */
+	public Map<Object, Object> execute(Object coalescingKey, Collection<?> filter,
+			Function<Set<Object>, Object> execution) {
+
+		Assert.notNull(coalescingKey, "Coalescing key is required");
+		Assert.notNull(execution, "Execution is required");
+
+		this.invocationCount.increment();
+
+		if (filter == null) {
+			this.executionCount.increment();
+			return toMap(execution.apply(null));
+		}
+
+		Invocation invocation = new Invocation(filter);
+
+		Batch batch;
+
+		while (!(batch = this.openBatches.computeIfAbsent(coalescingKey, key -> new Batch())).join(invocation)) {
+			this.openBatches.remove(coalescingKey, batch);
+		}
+
+		if (batch.isLeader(invocation)) {
+			batch.awaitWindow();
+			this.openBatches.remove(coalescingKey, batch);
+			batch.execute(execution);
+		}
+
+		return invocation.await();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void collect(Object results, Map<Object, Object> resultMap) {
+
+		if (results instanceof Map) {
+			resultMap.putAll((Map<Object, Object>) results);
+		}
+		else if (results instanceof Iterable) {
+			for (Object result : (Iterable<?>) results) {
+				collect(result, resultMap);
+			}
+		}
+		else if (results instanceof Iterator) {
+			((Iterator<?>) results).forEachRemaining(result -> collect(result, resultMap));
+		}
+	}
+
+	static Map<Object, Object> toMap(Object results) {
+
+		Map<Object, Object> resultMap = new LinkedHashMap<>();
+
+		collect(results, resultMap);
+
+		return resultMap;
+	}
+
+	private class Batch {
+
+		private final List<Invocation> invocations = new ArrayList<>();
+
+		private final Set<Object> keys = new LinkedHashSet<>();
+
+		private boolean sealed = false;
+
+		synchronized boolean join(Invocation invocation) {
+
+			if (this.sealed) {
+				return false;
+			}
+
+			this.invocations.add(invocation);
+			this.keys.addAll(invocation.keys);
+
+			if (isFull()) {
+				seal();
+			}
+
+			return true;
+		}
+
+		synchronized boolean isLeader(Invocation invocation) {
+			return this.invocations.get(0) == invocation;
+		}
+
+		private boolean isFull() {
+			return this.keys.size() >= getMaximumBatchSize();
+		}
+
+		private void seal() {
+			this.sealed = true;
+			notifyAll();
+		}
+
+		synchronized void awaitWindow() {
+
+			long deadline = System.nanoTime() + windowNanoseconds;
+			long remaining = windowNanoseconds;
+
+			try {
+				while (!this.sealed && remaining > 0) {
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+					remaining = deadline - System.nanoTime();
+				}
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				this.sealed = true;
+			}
+		}
+
+		void execute(Function<Set<Object>, Object> execution) {
+
+			List<Invocation> invocations;
+			Set<Object> keys;
+
+			synchronized (this) {
+				invocations = this.invocations;
+				keys = this.keys;
+			}
+
+			try {
+
+				executionCount.increment();
+
+				Map<Object, Object> results = toMap(execution.apply(keys));
+
+				invocations.forEach(invocation -> invocation.complete(results));
+			}
+			catch (RuntimeException | Error cause) {
+				invocations.forEach(invocation -> invocation.result.completeExceptionally(cause));
+			}
+		}
+	}
+
+	private static class Invocation {
+
+		private final CompletableFuture<Map<Object, Object>> result = new CompletableFuture<>();
+
+		private final Collection<?> keys;
+
+		Invocation(Collection<?> keys) {
+			this.keys = keys;
+		}
+
+		Map<Object, Object> await() {
+
+			try {
+				return this.result.get();
+			}
+			catch (ExecutionException cause) {
+
+				Throwable failure = cause.getCause();
+
+				throw failure instanceof RuntimeException ? (RuntimeException) failure
+					: new FunctionException(failure);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new FunctionException(cause);
+			}
+		}
+
+		void complete(Map<Object, Object> results) {
+
+			Map<Object, Object> invocationResults = new LinkedHashMap<>();
+
+			for (Object key : this.keys) {
+				if (results.containsKey(key)) {
+					invocationResults.put(key, results.get(key));
+				}
+			}
+
+			this.result.complete(Collections.unmodifiableMap(invocationResults));
+		}
+	}
+}
@@ -26,6 +26,8 @@ import org.apache.geode.cache.execute.ResultCollector;
  * The {@link AbstractResultCollector} class is an abstract base implementation of the {@link ResultCollector} interface
  * encapsulating common functionality for collecting results from a Function execution.
  *
+ * Threads waiting for a result are signaled as soon as a result is set or {@link #endResults()} is called.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.execute.ResultCollector
  * @since 1.0.0
@@ -34,6 +36,7 @@ import org.apache.geode.cache.execute.ResultCollector;
 public abstract class AbstractResultCollector<T, S> implements ResultCollector<T, S> {
 
 	protected static final String NOT_IMPLEMENTED = "Not Implemented";
+	protected static final String RESULTS_TIMEOUT_MESSAGE = "All results were not received within %1$d %2$s";
 
 	protected static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.MILLISECONDS;
 
@@ -49,23 +52,67 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 	@Override
 	public S getResult(long duration, TimeUnit unit) throws FunctionException, InterruptedException {
 
-		unit = resolveTimeUnit(unit);
-
-		long durationInMilliseconds = unit.toMillis(duration);
-		long timeout = System.currentTimeMillis() + unit.toMillis(duration);
-		long waitInMilliseconds = Math.max(50, Math.min(durationInMilliseconds / 5, durationInMilliseconds));
+		long timeout = System.nanoTime() + resolveTimeUnit(unit).toNanos(duration);
 
 		synchronized (this) {
-			while (getResult() == null && System.currentTimeMillis() < timeout) {
-				unit.timedWait(this, waitInMilliseconds);
+
+			long remainingNanoseconds = timeout - System.nanoTime();
+
+			while (getResult() == null && hasResultsNotEnded() && remainingNanoseconds > 0L) {
+				TimeUnit.NANOSECONDS.timedWait(this, remainingNanoseconds);
+				remainingNanoseconds = timeout - System.nanoTime();
 			}
 		}
 
 		return getResult();
 	}
 
+	/**
+	 * Waits until {@link #endResults()} is called.
+	 *
+	 * @throws FunctionException if the current {@link Thread} is interrupted while waiting.
+	 */
+	protected synchronized void awaitResultsEnded() {
+
+		try {
+			while (hasResultsNotEnded()) {
+				wait();
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException(cause);
+		}
+	}
+
+	/**
+	 * Waits at most the given duration until {@link #endResults()} is called.
+	 *
+	 * @param duration maximum amount of time to wait.
+	 * @param unit {@link TimeUnit} of the duration; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @throws FunctionException if the results have not ended within the given duration.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	protected synchronized void awaitResultsEnded(long duration, TimeUnit unit) throws InterruptedException {
+
+		unit = resolveTimeUnit(unit);
+
+		long timeout = System.nanoTime() + unit.toNanos(duration);
+		long remainingNanoseconds = timeout - System.nanoTime();
+
+		while (hasResultsNotEnded() && remainingNanoseconds > 0L) {
+			TimeUnit.NANOSECONDS.timedWait(this, remainingNanoseconds);
+			remainingNanoseconds = timeout - System.nanoTime();
+		}
+
+		if (hasResultsNotEnded()) {
+			throw new FunctionException(String.format(RESULTS_TIMEOUT_MESSAGE, duration, unit));
+		}
+	}
+
 	protected synchronized void setResult(S result) {
 		this.result = result;
+		notifyAll();
 	}
 
 	protected TimeUnit resolveTimeUnit(TimeUnit unit) {
@@ -79,7 +126,12 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 	@Override
 	public void endResults() {
+
 		this.resultsEnded.set(true);
+
+		synchronized (this) {
+			notifyAll();
+		}
 	}
 
 	protected boolean hasResultsEnded() {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import org.apache.geode.cache.execute.ResultCollector;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * The {@link ReactiveStreamingResultCollector} class is a {@link StreamingResultCollector} that also exposes
+ * the results of a Function execution as a {@link Flux} while members are still responding.
+ *
+ * Requires Project Reactor on the classpath.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the result of a single execution.
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @see reactor.core.publisher.Flux
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ReactiveStreamingResultCollector<T> extends StreamingResultCollector<T> {
+
+	/**
+	 * Returns a {@link Flux} of the results, in the order they arrived, that completes when {@link #endResults()}
+	 * is called, or fails with a {@link org.apache.geode.cache.execute.FunctionException} when the results are
+	 * {@link #clearResults() cleared}.
+	 *
+	 * Each subscriber receives all results, including the results that arrived before it subscribed.
+	 * {@literal null} results are skipped.  Results are emitted on the {@link Thread} adding them to this
+	 * {@link ResultCollector}, so subscribers should {@link Flux#publishOn(reactor.core.scheduler.Scheduler) publish}
+	 * them on another {@link reactor.core.scheduler.Scheduler} for any blocking or lengthy processing.
+	 *
+	 * @return a {@link Flux} of the results.
+	 */
+	public Flux<T> toFlux() {
+
+		return Flux.create(sink -> {
+
+			Runnable unregister = register(result -> {
+				if (result != null) {
+					sink.next(result);
+				}
+			}, sink::complete, sink::error);
+
+			sink.onDispose(unregister::run);
+
+		}, FluxSink.OverflowStrategy.BUFFER);
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ReducingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * reducing the results of a Function execution into a single value as each result arrives, rather than
+ * buffering all results, so that memory use does not grow with the number of members or results.
+ *
+ * Each result is mapped to the {@link Class type} of the reduced value and combined with the value reduced so far
+ * by an associative combiner, without locking.  Because a combination may be retried when results arrive
+ * concurrently, the combiner must not modify its arguments.  {@literal null} results are ignored.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the result of a single execution.
+ * @param <R> {@link Class type} of the reduced value.
+ * @see java.util.function.BinaryOperator
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.AbstractResultCollector
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class ReducingResultCollector<T, R> extends AbstractResultCollector<T, R> {
+
+	/**
+	 * Factory method used to construct a new instance of {@link ReducingResultCollector} reducing results
+	 * to the greatest result according to the given {@link Comparator}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param comparator {@link Comparator} ordering the results.
+	 * @return a new {@link ReducingResultCollector} reducing results to the greatest result.
+	 * @throws IllegalArgumentException if the {@link Comparator} is {@literal null}.
+	 */
+	public static <T> ReducingResultCollector<T, T> maximum(@NonNull Comparator<? super T> comparator) {
+
+		Assert.notNull(comparator, "Comparator is required");
+
+		return new ReducingResultCollector<>(Function.identity(), BinaryOperator.maxBy(comparator));
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link ReducingResultCollector} merging results
+	 * that are {@link Map Maps}, combining the values of keys present in more than one result with
+	 * the given {@link BinaryOperator}.
+	 *
+	 * @param <K> {@link Class type} of the {@link Map} keys.
+	 * @param <V> {@link Class type} of the {@link Map} values.
+	 * @param valueCombiner {@link BinaryOperator} combining the values of the same key.
+	 * @return a new {@link ReducingResultCollector} merging {@link Map Maps}.
+	 * @throws IllegalArgumentException if the {@link BinaryOperator} is {@literal null}.
+	 */
+	public static <K, V> ReducingResultCollector<Map<K, V>, Map<K, V>> mergingMaps(
+			@NonNull BinaryOperator<V> valueCombiner) {
+
+		Assert.notNull(valueCombiner, "Value combiner is required");
+
+		return new ReducingResultCollector<>(Function.identity(), (reducedMap, resultMap) -> {
+
+			Map<K, V> mergedMap = new HashMap<>(reducedMap);
+
+			resultMap.forEach((key, value) -> mergedMap.merge(key, value, valueCombiner));
+
+			return mergedMap;
+		});
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link ReducingResultCollector} reducing results
+	 * to the least result according to the given {@link Comparator}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param comparator {@link Comparator} ordering the results.
+	 * @return a new {@link ReducingResultCollector} reducing results to the least result.
+	 * @throws IllegalArgumentException if the {@link Comparator} is {@literal null}.
+	 */
+	public static <T> ReducingResultCollector<T, T> minimum(@NonNull Comparator<? super T> comparator) {
+
+		Assert.notNull(comparator, "Comparator is required");
+
+		return new ReducingResultCollector<>(Function.identity(), BinaryOperator.minBy(comparator));
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link ReducingResultCollector} summing results
+	 * that are {@link Number Numbers} as {@literal long} values.
+	 *
+	 * @return a new {@link ReducingResultCollector} summing {@link Number Numbers}; the sum is {@literal 0}
+	 * if there are no results.
+	 */
+	public static ReducingResultCollector<Number, Long> summingLong() {
+		return new ReducingResultCollector<Number, Long>(Number::longValue, Long::sum).withIdentity(0L);
+	}
+
+	/**
+	 * Factory method used to construct a new instance of {@link ReducingResultCollector} reducing results
+	 * to the given number of greatest elements, in descending order according to the given {@link Comparator}.
+	 *
+	 * Each result is either a single element, or an {@link Iterable} of elements, such as the local top elements
+	 * computed by each member.
+	 *
+	 * @param <E> {@link Class type} of the elements.
+	 * @param size maximum number of elements kept.
+	 * @param comparator {@link Comparator} ordering the elements.
+	 * @return a new {@link ReducingResultCollector} reducing results to an unmodifiable {@link List}
+	 * of the greatest elements.
+	 * @throws IllegalArgumentException if {@code size} is less than {@literal 1} or the {@link Comparator}
+	 * is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> ReducingResultCollector<Object, List<E>> topK(int size, @NonNull Comparator<? super E> comparator) {
+
+		Assert.isTrue(size > 0, String.format("Size [%d] must be greater than 0", size));
+		Assert.notNull(comparator, "Comparator is required");
+
+		Comparator<? super E> descendingOrder = Collections.reverseOrder(comparator);
+
+		Function<Object, List<E>> toTopElements = result -> {
+
+			List<E> elements = new ArrayList<>();
+
+			if (result instanceof Iterable) {
+				((Iterable<E>) result).forEach(element -> {
+					if (element != null) {
+						elements.add(element);
+					}
+				});
+			}
+			else {
+				elements.add((E) result);
+			}
+
+			elements.sort(descendingOrder);
+
+			return Collections.unmodifiableList(elements.size() > size ? elements.subList(0, size) : elements);
+		};
+
+		BinaryOperator<List<E>> mergeTopElements = (reducedElements, resultElements) -> {
+
+			List<E> mergedElements = new ArrayList<>(Math.min(size, reducedElements.size() + resultElements.size()));
+
+			Iterator<E> reducedIterator = reducedElements.iterator();
+			Iterator<E> resultIterator = resultElements.iterator();
+
+			E reducedElement = reducedIterator.hasNext() ? reducedIterator.next() : null;
+			E resultElement = resultIterator.hasNext() ? resultIterator.next() : null;
+
+			while (mergedElements.size() < size && (reducedElement != null || resultElement != null)) {
+
+				if (resultElement == null
+						|| (reducedElement != null && descendingOrder.compare(reducedElement, resultElement) <= 0)) {
+
+					mergedElements.add(reducedElement);
+					reducedElement = reducedIterator.hasNext() ? reducedIterator.next() : null;
+				}
+				else {
+					mergedElements.add(resultElement);
+					resultElement = resultIterator.hasNext() ? resultIterator.next() : null;
+				}
+			}
+
+			return Collections.unmodifiableList(mergedElements);
+		};
+
+		return new ReducingResultCollector<>(toTopElements, mergeTopElements).withIdentity(Collections.emptyList());
+	}
+
+	private final AtomicReference<R> reducedValue = new AtomicReference<>();
+
+	private final BinaryOperator<R> combiner;
+
+	private final Function<? super T, ? extends R> mapper;
+
+	private volatile R identity;
+
+	/**
+	 * Constructs a new instance of {@link ReducingResultCollector} initialized with the given {@link Function}
+	 * mapping each result to the {@link Class type} of the reduced value, and the given associative
+	 * {@link BinaryOperator} combining mapped results.
+	 *
+	 * @param mapper {@link Function} mapping a result to the {@link Class type} of the reduced value.
+	 * @param combiner associative {@link BinaryOperator} combining two mapped results; must not modify
+	 * its arguments.
+	 * @throws IllegalArgumentException if the {@link Function} or {@link BinaryOperator} is {@literal null}.
+	 */
+	public ReducingResultCollector(@NonNull Function<? super T, ? extends R> mapper,
+			@NonNull BinaryOperator<R> combiner) {
+
+		Assert.notNull(mapper, "Mapper is required");
+		Assert.notNull(combiner, "Combiner is required");
+
+		this.mapper = mapper;
+		this.combiner = combiner;
+	}
+
+	/**
+	 * Builder method used to configure the reduced value when there are no results.
+	 *
+	 * @param identity reduced value when there are no results; may be {@literal null}.
+	 * @return this {@link ReducingResultCollector}.
+	 */
+	public ReducingResultCollector<T, R> withIdentity(@Nullable R identity) {
+
+		this.identity = identity;
+		this.reducedValue.compareAndSet(null, identity);
+
+		return this;
+	}
+
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		if (resultOfSingleExecution != null) {
+
+			R mappedResult = this.mapper.apply(resultOfSingleExecution);
+
+			if (mappedResult != null) {
+				this.reducedValue.accumulateAndGet(mappedResult, (reducedValue, result) ->
+					reducedValue != null ? this.combiner.apply(reducedValue, result) : result);
+			}
+		}
+	}
+
+	@Override
+	public void clearResults() {
+		this.reducedValue.set(this.identity);
+	}
+
+	/**
+	 * Returns the value reduced from the results received so far, without waiting for {@link #endResults()}.
+	 *
+	 * @return the value reduced so far, or the identity if no results have been received.
+	 */
+	public @Nullable R getPartialResult() {
+		return this.reducedValue.get();
+	}
+
+	/**
+	 * Waits for {@link #endResults()} and returns the value reduced from all results.
+	 *
+	 * @return the value reduced from all results, or the identity if there were no results.
+	 * @throws FunctionException if the current {@link Thread} is interrupted while waiting.
+	 */
+	@Override
+	public R getResult() throws FunctionException {
+
+		awaitResultsEnded();
+
+		return getPartialResult();
+	}
+
+	/**
+	 * Waits at most the given duration for {@link #endResults()} and returns the value reduced from all results.
+	 *
+	 * @param duration maximum amount of time to wait.
+	 * @param unit {@link TimeUnit} of the duration; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return the value reduced from all results, or the identity if there were no results.
+	 * @throws FunctionException if all results were not received within the given duration.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	@Override
+	public R getResult(long duration, TimeUnit unit) throws FunctionException, InterruptedException {
+
+		awaitResultsEnded(duration, unit);
+
+		return getPartialResult();
+	}
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link StreamingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * exposing the results of a Function execution while members are still responding.
+ *
+ * Results are available, in the order they arrived, from a blocking {@link #iterator() Iterator} or
+ * {@link #stream() Stream} as soon as they are added, so that processing of the first member's results
+ * does not wait for the slowest member.  {@link #getResult()} returns all results once {@link #endResults()}
+ * has been called.
+ *
+ * {@link #clearResults() Clearing} the results, as Apache Geode does before re-executing a highly available Function,
+ * fails the {@link Iterator Iterators}, {@link Stream Streams} and registered callbacks in progress with
+ * a {@link FunctionException}, since the results they have already returned may be returned again.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the result of a single execution.
+ * @see java.util.Iterator
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.AbstractResultCollector
+ * @since 1.2.1
+ */
+@SuppressWarnings("unused")
+public class StreamingResultCollector<T> extends AbstractResultCollector<T, List<T>> {
+
+	protected static final String RESULTS_CLEARED_MESSAGE = "Results were cleared while being streamed";
+
+	private int generation = 0;
+
+	private final List<T> results = new ArrayList<>();
+
+	private final List<ResultListener<T>> resultListeners = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		synchronized (this) {
+
+			this.results.add(resultOfSingleExecution);
+
+			this.resultListeners.forEach(resultListener -> resultListener.onResult(resultOfSingleExecution));
+
+			notifyAll();
+		}
+	}
+
+	@Override
+	public void clearResults() {
+
+		List<ResultListener<T>> resultListeners;
+
+		synchronized (this) {
+
+			this.results.clear();
+			this.generation++;
+
+			resultListeners = new ArrayList<>(this.resultListeners);
+			this.resultListeners.clear();
+
+			notifyAll();
+		}
+
+		resultListeners.forEach(ResultListener::onResultsCleared);
+	}
+
+	@Override
+	public void endResults() {
+
+		super.endResults();
+
+		List<ResultListener<T>> resultListeners;
+
+		synchronized (this) {
+			resultListeners = new ArrayList<>(this.resultListeners);
+			this.resultListeners.clear();
+		}
+
+		resultListeners.forEach(ResultListener::onResultsEnded);
+	}
+
+	/**
+	 * Waits for {@link #endResults()} and returns all results.
+	 *
+	 * @return an unmodifiable {@link List} of all results in the order they arrived.
+	 * @throws FunctionException if the current {@link Thread} is interrupted while waiting.
+	 */
+	@Override
+	public synchronized List<T> getResult() throws FunctionException {
+
+		awaitResultsEnded();
+
+		return Collections.unmodifiableList(new ArrayList<>(this.results));
+	}
+
+	/**
+	 * Waits at most the given duration for {@link #endResults()} and returns all results.
+	 *
+	 * @param duration maximum amount of time to wait.
+	 * @param unit {@link TimeUnit} of the duration; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return an unmodifiable {@link List} of all results in the order they arrived.
+	 * @throws FunctionException if all results were not received within the given duration.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	@Override
+	public synchronized List<T> getResult(long duration, TimeUnit unit) throws FunctionException, InterruptedException {
+
+		awaitResultsEnded(duration, unit);
+
+		return Collections.unmodifiableList(new ArrayList<>(this.results));
+	}
+
+	/**
+	 * Returns a blocking {@link Iterator} over the results, in the order they arrived, that waits for further results
+	 * until {@link #endResults()} is called.
+	 *
+	 * @return a blocking {@link Iterator} over the results.
+	 * @see #iterator(long, TimeUnit)
+	 */
+	public Iterator<T> iterator() {
+		return new BlockingResultIterator(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns a blocking {@link Iterator} over the results, in the order they arrived, that waits for further results
+	 * until {@link #endResults()} is called or the given duration, measured from now, elapses.
+	 *
+	 * @param duration maximum amount of time to wait for all results.
+	 * @param unit {@link TimeUnit} of the duration; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return a blocking {@link Iterator} over the results, which throws a {@link FunctionException} if it must wait
+	 * past the given duration.
+	 * @see #iterator()
+	 */
+	public Iterator<T> iterator(long duration, TimeUnit unit) {
+		return new BlockingResultIterator(resolveTimeUnit(unit).toNanos(duration));
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the results, in the order they arrived, that waits for further results
+	 * until {@link #endResults()} is called.
+	 *
+	 * @return a {@link Stream} of the results.
+	 * @see #iterator()
+	 */
+	public Stream<T> stream() {
+		return toStream(iterator());
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the results, in the order they arrived, that waits for further results
+	 * until {@link #endResults()} is called or the given duration, measured from now, elapses.
+	 *
+	 * @param duration maximum amount of time to wait for all results.
+	 * @param unit {@link TimeUnit} of the duration; defaults to {@link TimeUnit#MILLISECONDS}.
+	 * @return a {@link Stream} of the results.
+	 * @see #iterator(long, TimeUnit)
+	 */
+	public Stream<T> stream(long duration, TimeUnit unit) {
+		return toStream(iterator(duration, unit));
+	}
+
+	private Stream<T> toStream(Iterator<T> iterator) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+	}
+
+	/**
+	 * Registers callbacks notified of each result and of the end of the results.
+	 *
+	 * Results received so far are passed to the {@link Consumer} before this method returns.  The {@link Consumer}
+	 * is called while this {@link ResultCollector} is locked, and must therefore not block.  When the results are
+	 * {@link #clearResults() cleared}, the callbacks are unregistered and the {@link FunctionException} describing
+	 * the failure is passed to the results cleared callback instead of ending the results.
+	 *
+	 * @param resultConsumer {@link Consumer} of each result.
+	 * @param resultsEndedCallback {@link Runnable} called once after the last result.
+	 * @param resultsClearedCallback {@link Consumer} called once if the results are cleared.
+	 * @return a {@link Runnable} unregistering the callbacks.
+	 */
+	protected Runnable register(@NonNull Consumer<? super T> resultConsumer, @NonNull Runnable resultsEndedCallback,
+			@NonNull Consumer<? super FunctionException> resultsClearedCallback) {
+
+		Assert.notNull(resultConsumer, "Result Consumer is required");
+		Assert.notNull(resultsEndedCallback, "Results ended callback is required");
+		Assert.notNull(resultsClearedCallback, "Results cleared callback is required");
+
+		ResultListener<T> resultListener = new ResultListener<T>() {
+
+			@Override
+			public void onResult(@Nullable T result) {
+				resultConsumer.accept(result);
+			}
+
+			@Override
+			public void onResultsEnded() {
+				resultsEndedCallback.run();
+			}
+
+			@Override
+			public void onResultsCleared() {
+				resultsClearedCallback.accept(new FunctionException(RESULTS_CLEARED_MESSAGE));
+			}
+		};
+
+		boolean resultsEnded;
+
+		synchronized (this) {
+
+			this.results.forEach(resultListener::onResult);
+
+			resultsEnded = hasResultsEnded();
+
+			if (!resultsEnded) {
+				this.resultListeners.add(resultListener);
+			}
+		}
+
+		if (resultsEnded) {
+			resultListener.onResultsEnded();
+		}
+
+		return () -> {
+			synchronized (this) {
+				this.resultListeners.remove(resultListener);
+			}
+		};
+	}
+
+	interface ResultListener<T> {
+
+		void onResult(@Nullable T result);
+
+		void onResultsEnded();
+
+		void onResultsCleared();
+
+	}
+
+	class BlockingResultIterator implements Iterator<T> {
+
+		private int index = 0;
+
+		private final int generation;
+
+		private final long timeout;
+
+		private final long timeoutNanoseconds;
+
+		BlockingResultIterator(long timeoutNanoseconds) {
+
+			this.generation = StreamingResultCollector.this.generation;
+			this.timeoutNanoseconds = timeoutNanoseconds;
+			this.timeout = System.nanoTime() + timeoutNanoseconds;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			Object collector = StreamingResultCollector.this;
+
+			synchronized (collector) {
+
+				try {
+					while (isWaitingForResult()) {
+
+						if (this.timeoutNanoseconds == Long.MAX_VALUE) {
+							collector.wait();
+						}
+						else {
+
+							long remainingNanoseconds = this.timeout - System.nanoTime();
+
+							if (remainingNanoseconds <= 0L) {
+								throw new FunctionException(String.format(RESULTS_TIMEOUT_MESSAGE,
+									TimeUnit.NANOSECONDS.toMillis(this.timeoutNanoseconds), TimeUnit.MILLISECONDS));
+							}
+
+							TimeUnit.NANOSECONDS.timedWait(collector, remainingNanoseconds);
+						}
+					}
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					throw new FunctionException(cause);
+				}
+
+				return this.index < results.size();
+			}
+		}
+
+		private boolean isWaitingForResult() {
+
+			if (this.generation != StreamingResultCollector.this.generation) {
+				throw new FunctionException(RESULTS_CLEARED_MESSAGE);
+			}
+
+			return this.index >= results.size() && hasResultsNotEnded();
+		}
+
+		@Override
+		public T next() {
+
+			synchronized (StreamingResultCollector.this) {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException("No more results");
+				}
+
+				return results.get(this.index++);
+			}
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.LoaderHelper;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit Tests for {@link BatchingRepositoryCacheLoader}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.BatchingRepositoryCacheLoader
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class BatchingRepositoryCacheLoaderUnitTests {
+
+	@Mock
+	private CrudRepository<String, String> mockCrudRepository;
+
+	private static LoaderHelper<String, String> mockLoaderHelper(String key) {
+
+		LoaderHelper<String, String> mockLoaderHelper = mock(LoaderHelper.class);
+
+		when(mockLoaderHelper.getKey()).thenReturn(key);
+
+		return mockLoaderHelper;
+	}
+
+	private static String toKey(String entity) {
+		return entity.toLowerCase();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullEntityIdentifierThrowsException() {
+
+		try {
+			new BatchingRepositoryCacheLoader<>(this.mockCrudRepository, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Entity identifier Function is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void defaultsAreCorrect() {
+
+		BatchingRepositoryCacheLoader<String, String> cacheLoader =
+			new BatchingRepositoryCacheLoader<>(this.mockCrudRepository, BatchingRepositoryCacheLoaderUnitTests::toKey);
+
+		assertThat(cacheLoader.getBatchCount()).isZero();
+		assertThat(cacheLoader.getBatchWindow()).isEqualTo(BatchingRepositoryCacheLoader.DEFAULT_BATCH_WINDOW);
+		assertThat(cacheLoader.getMaximumBatchSize()).isEqualTo(BatchingRepositoryCacheLoader.DEFAULT_MAXIMUM_BATCH_SIZE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidMaximumBatchSizeThrowsException() {
+
+		try {
+			new BatchingRepositoryCacheLoader<>(this.mockCrudRepository, BatchingRepositoryCacheLoaderUnitTests::toKey)
+				.withMaximumBatchSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum batch size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void loadsEntityWithFindAllById() {
+
+		when(this.mockCrudRepository.findAllById(any())).thenReturn(Collections.singletonList("ONE"));
+
+		BatchingRepositoryCacheLoader<String, String> cacheLoader =
+			new BatchingRepositoryCacheLoader<>(this.mockCrudRepository, BatchingRepositoryCacheLoaderUnitTests::toKey)
+				.withBatchWindow(Duration.ZERO);
+
+		assertThat(cacheLoader.load(mockLoaderHelper("one"))).isEqualTo("ONE");
+		assertThat(cacheLoader.getBatchCount()).isEqualTo(1L);
+
+		verify(this.mockCrudRepository, times(1)).findAllById(eq(Collections.singletonList("one")));
+		verify(this.mockCrudRepository, never()).findById(any());
+	}
+
+	@Test
+	public void loadReturnsNullWhenEntityIsNotFound() {
+
+		when(this.mockCrudRepository.findAllById(any())).thenReturn(Collections.emptyList());
+
+		BatchingRepositoryCacheLoader<String, String> cacheLoader =
+			new BatchingRepositoryCacheLoader<>(this.mockCrudRepository, BatchingRepositoryCacheLoaderUnitTests::toKey)
+				.withBatchWindow(Duration.ZERO);
+
+		assertThat(cacheLoader.load(mockLoaderHelper("one"))).isNull();
+
+		verify(this.mockCrudRepository, times(1)).findAllById(eq(Collections.singletonList("one")));
+	}
+
+	@Test(expected = CacheLoaderException.class)
+	public void loadThrowsCacheLoaderExceptionWhenFindAllByIdFails() {
+
+		when(this.mockCrudRepository.findAllById(any())).thenThrow(new DataAccessResourceFailureException("TEST"));
+
+		BatchingRepositoryCacheLoader<String, String> cacheLoader =
+			new BatchingRepositoryCacheLoader<>(this.mockCrudRepository, BatchingRepositoryCacheLoaderUnitTests::toKey)
+				.withBatchWindow(Duration.ZERO);
+
+		try {
+			cacheLoader.load(mockLoaderHelper("one"));
+		}
+		catch (CacheLoaderException expected) {
+
+			assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void concurrentLoadsAreBatched() throws Throwable {
+		TestFramework.runOnce(new BatchedLoadMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	static class BatchedLoadMultithreadedTestCase extends MultithreadedTestCase {
+
+		private BatchingRepositoryCacheLoader<String, String> cacheLoader;
+
+		private CrudRepository<String, String> mockCrudRepository;
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			this.mockCrudRepository = mock(CrudRepository.class);
+
+			when(this.mockCrudRepository.findAllById(any())).thenReturn(Arrays.asList("ONE", "TWO"));
+
+			this.cacheLoader = new BatchingRepositoryCacheLoader<>(this.mockCrudRepository,
+				BatchingRepositoryCacheLoaderUnitTests::toKey)
+					.withBatchWindow(Duration.ofSeconds(30))
+					.withMaximumBatchSize(2);
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Batch Leader Thread");
+
+			assertThat(this.cacheLoader.load(mockLoaderHelper("one"))).isEqualTo("ONE");
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Batch Member Thread");
+
+			waitForTick(1);
+
+			assertThat(this.cacheLoader.load(mockLoaderHelper("two"))).isEqualTo("TWO");
+		}
+
+		@Override
+		public void finish() {
+
+			assertThat(this.cacheLoader.getBatchCount()).isEqualTo(1L);
+
+			verify(this.mockCrudRepository, times(1)).findAllById(eq(Arrays.asList("one", "two")));
+		}
+	}
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheWriterException;
+import org.apache.geode.cache.EntryEvent;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * Unit Tests for {@link GroupCommitRepositoryCacheWriter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.GroupCommitRepositoryCacheWriter
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class GroupCommitRepositoryCacheWriterUnitTests {
+
+	@Mock
+	private CrudRepository<String, String> mockCrudRepository;
+
+	private static EntryEvent<String, String> mockEntryEvent(String key, String newValue) {
+
+		EntryEvent<String, String> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+		when(mockEntryEvent.getNewValue()).thenReturn(newValue);
+
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void defaultsAreCorrect() {
+
+		GroupCommitRepositoryCacheWriter<String, String> cacheWriter =
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository);
+
+		assertThat(cacheWriter.getCommitCount()).isZero();
+		assertThat(cacheWriter.getCommitWindow()).isEqualTo(GroupCommitRepositoryCacheWriter.DEFAULT_COMMIT_WINDOW);
+		assertThat(cacheWriter.getMaximumGroupSize())
+			.isEqualTo(GroupCommitRepositoryCacheWriter.DEFAULT_MAXIMUM_GROUP_SIZE);
+		assertThat(cacheWriter.getWriteCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidMaximumGroupSizeThrowsException() {
+
+		try {
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository).withMaximumGroupSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum group size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void savesAndDeletesAreCommittedInOrder() {
+
+		GroupCommitRepositoryCacheWriter<String, String> cacheWriter =
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository).withCommitWindow(Duration.ZERO);
+
+		cacheWriter.beforeCreate(mockEntryEvent("one", "ONE"));
+		cacheWriter.beforeDestroy(mockEntryEvent("two", null));
+
+		assertThat(cacheWriter.getCommitCount()).isEqualTo(2L);
+		assertThat(cacheWriter.getWriteCount()).isEqualTo(2L);
+
+		InOrder inOrder = inOrder(this.mockCrudRepository);
+
+		inOrder.verify(this.mockCrudRepository, times(1)).saveAll(eq(Collections.singletonList("ONE")));
+		inOrder.verify(this.mockCrudRepository, times(1)).deleteById(eq("two"));
+
+		verify(this.mockCrudRepository, never()).save(any());
+	}
+
+	@Test(expected = CacheWriterException.class)
+	public void commitFailureIsThrownToWriter() {
+
+		doThrow(new DataAccessResourceFailureException("TEST")).when(this.mockCrudRepository).saveAll(any());
+		doThrow(new DataAccessResourceFailureException("TEST")).when(this.mockCrudRepository).save(any());
+
+		GroupCommitRepositoryCacheWriter<String, String> cacheWriter =
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository).withCommitWindow(Duration.ZERO);
+
+		try {
+			cacheWriter.beforeUpdate(mockEntryEvent("one", "ONE"));
+		}
+		catch (CacheWriterException expected) {
+
+			assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+			assertThat(cacheWriter.getCommitCount()).isZero();
+			assertThat(cacheWriter.getFailedCommitCount()).isEqualTo(1L);
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void groupIsRecordedAsSingleOperationAndFailedWritesAreCommittedOneAtATime() {
+
+		List<String> recordedOperations = new CopyOnWriteArrayList<>();
+
+		doThrow(new DataAccessResourceFailureException("TEST")).when(this.mockCrudRepository).saveAll(any());
+
+		GroupCommitRepositoryCacheWriter<String, String> cacheWriter =
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository).withCommitWindow(Duration.ZERO);
+
+		cacheWriter.with(new RepositoryOperationMetrics() {
+
+			@Override
+			public <R> R record(String operation, Supplier<R> repositoryOperation) {
+				recordedOperations.add(operation);
+				return repositoryOperation.get();
+			}
+		});
+
+		cacheWriter.beforeCreate(mockEntryEvent("one", "ONE"));
+
+		assertThat(cacheWriter.getCommitCount()).isZero();
+		assertThat(cacheWriter.getFailedCommitCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getWriteCount()).isEqualTo(1L);
+		assertThat(recordedOperations).containsExactly(RepositoryOperationMetrics.COMMIT_OPERATION,
+			RepositoryOperationMetrics.SAVE_OPERATION);
+
+		verify(this.mockCrudRepository, times(1)).save(eq("ONE"));
+	}
+
+	@Test
+	public void groupIsAppliedInSingleTransaction() {
+
+		PlatformTransactionManager mockTransactionManager = mock(PlatformTransactionManager.class);
+
+		TransactionStatus mockTransactionStatus = mock(TransactionStatus.class);
+
+		when(mockTransactionManager.getTransaction(any())).thenReturn(mockTransactionStatus);
+
+		GroupCommitRepositoryCacheWriter<String, String> cacheWriter =
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository)
+				.withCommitWindow(Duration.ZERO)
+				.withTransactionManager(mockTransactionManager);
+
+		assertThat(cacheWriter.isTransactional()).isTrue();
+
+		cacheWriter.beforeCreate(mockEntryEvent("one", "ONE"));
+
+		InOrder inOrder = inOrder(mockTransactionManager, this.mockCrudRepository);
+
+		inOrder.verify(mockTransactionManager, times(1)).getTransaction(any());
+		inOrder.verify(this.mockCrudRepository, times(1)).saveAll(eq(Collections.singletonList("ONE")));
+		inOrder.verify(mockTransactionManager, times(1)).commit(eq(mockTransactionStatus));
+	}
+
+	@Test
+	public void failedTransactionalGroupIsCommittedOneWriteAtATime() {
+
+		PlatformTransactionManager mockTransactionManager = mock(PlatformTransactionManager.class);
+
+		TransactionStatus mockTransactionStatus = mock(TransactionStatus.class);
+
+		when(mockTransactionManager.getTransaction(any())).thenReturn(mockTransactionStatus);
+		doThrow(new DataAccessResourceFailureException("TEST")).when(this.mockCrudRepository).deleteById(any());
+
+		GroupCommitRepositoryCacheWriter<String, String> cacheWriter =
+			new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository)
+				.withCommitWindow(Duration.ZERO)
+				.withTransactionManager(mockTransactionManager);
+
+		try {
+			cacheWriter.beforeDestroy(mockEntryEvent("one", null));
+			fail("Expected CacheWriterException");
+		}
+		catch (CacheWriterException expected) {
+			assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+		}
+
+		assertThat(cacheWriter.getFailedCommitCount()).isEqualTo(1L);
+
+		verify(mockTransactionManager, times(1)).rollback(eq(mockTransactionStatus));
+		verify(this.mockCrudRepository, times(2)).deleteById(eq("one"));
+	}
+
+	@Test
+	public void concurrentWritesAreCommittedTogether() throws Throwable {
+		TestFramework.runOnce(new GroupCommitMultithreadedTestCase());
+	}
+
+	@Test
+	public void concurrentWritersReceiveOnlyTheirOwnCommitFailure() throws Throwable {
+		TestFramework.runOnce(new FailedGroupCommitMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	static class GroupCommitMultithreadedTestCase extends MultithreadedTestCase {
+
+		private GroupCommitRepositoryCacheWriter<String, String> cacheWriter;
+
+		private CrudRepository<String, String> mockCrudRepository;
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			this.mockCrudRepository = mock(CrudRepository.class);
+
+			this.cacheWriter = new GroupCommitRepositoryCacheWriter<>(this.mockCrudRepository)
+				.withCommitWindow(Duration.ofSeconds(30))
+				.withMaximumGroupSize(2);
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Group Leader Thread");
+
+			this.cacheWriter.beforeCreate(mockEntryEvent("one", "ONE"));
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Group Member Thread");
+
+			waitForTick(1);
+
+			this.cacheWriter.beforeUpdate(mockEntryEvent("two", "TWO"));
+		}
+
+		@Override
+		public void finish() {
+
+			assertThat(this.cacheWriter.getCommitCount()).isEqualTo(1L);
+			assertThat(this.cacheWriter.getWriteCount()).isEqualTo(2L);
+
+			verify(this.mockCrudRepository, times(1)).saveAll(eq(Arrays.asList("ONE", "TWO")));
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class FailedGroupCommitMultithreadedTestCase extends MultithreadedTestCase {
+
+		private GroupCommitRepositoryCacheWriter<String, String> cacheWriter;
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			CrudRepository<String, String> mockCrudRepository = mock(CrudRepository.class);
+
+			doThrow(new DataAccessResourceFailureException("TEST")).when(mockCrudRepository).saveAll(any());
+			doThrow(new DataAccessResourceFailureException("TEST")).when(mockCrudRepository).save(eq("TWO"));
+
+			this.cacheWriter = new GroupCommitRepositoryCacheWriter<>(mockCrudRepository)
+				.withCommitWindow(Duration.ofSeconds(30))
+				.withMaximumGroupSize(2);
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Group Leader Thread");
+
+			this.cacheWriter.beforeCreate(mockEntryEvent("one", "ONE"));
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Group Member Thread");
+
+			waitForTick(1);
+
+			assertCommitFailure(() -> this.cacheWriter.beforeCreate(mockEntryEvent("two", "TWO")));
+		}
+
+		private void assertCommitFailure(Runnable write) {
+
+			try {
+				write.run();
+				fail("Expected CacheWriterException");
+			}
+			catch (CacheWriterException expected) {
+				assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+			}
+		}
+
+		@Override
+		public void finish() {
+			assertThat(this.cacheWriter.getFailedCommitCount()).isEqualTo(1L);
+			assertThat(this.cacheWriter.getWriteCount()).isEqualTo(1L);
+		}
+	}
+}
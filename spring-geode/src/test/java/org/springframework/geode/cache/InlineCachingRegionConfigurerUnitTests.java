@@ -28,19 +28,41 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
 import org.apache.geode.cache.CacheLoader;
 import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
 
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.geode.cache.support.MicrometerRepositoryOperationMetrics;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Unit Tests for {@link InlineCachingRegionConfigurer}.
@@ -214,4 +236,247 @@ public class InlineCachingRegionConfigurerUnitTests {
 		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
 		verify(this.mockPredicate, times(2)).test(eq("Example"));
 	}
+
+	@Test
+	public void cacheLoaderAndCacheWriterShareNegativeResultCachePerRegion() {
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withNegativeResultCaching(100, Duration.ofMinutes(1));
+
+		RepositoryCacheLoader<?, ?> cacheLoader =
+			regionConfigurer.getRepositoryCacheLoaderRegionConfigurer().newRepositoryCacheLoader("Example");
+
+		RepositoryCacheWriter<?, ?> cacheWriter =
+			regionConfigurer.getRepositoryCacheWriterRegionConfigurer().newRepositoryCacheWriter("Example");
+
+		RepositoryCacheLoader<?, ?> otherCacheLoader =
+			regionConfigurer.getRepositoryCacheLoaderRegionConfigurer().newRepositoryCacheLoader("Other");
+
+		assertThat(cacheLoader.getNegativeResultCache()).isPresent();
+		assertThat(cacheLoader.getNegativeResultCache().get().getMaximumSize()).isEqualTo(100);
+		assertThat(cacheWriter.getNegativeResultCache().orElse(null))
+			.isSameAs(cacheLoader.getNegativeResultCache().orElse(null));
+		assertThat(otherCacheLoader.getNegativeResultCache().orElse(null))
+			.isNotSameAs(cacheLoader.getNegativeResultCache().orElse(null));
+	}
+
+	@Test
+	public void recordsRepositoryOperationsInMeterRegistryFromBeanFactory() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate);
+
+		regionConfigurer.setBeanFactory(beanFactory);
+		regionConfigurer.configure("Example", mock(PeerRegionFactoryBean.class));
+
+		RepositoryCacheLoader<?, ?> cacheLoader =
+			regionConfigurer.getRepositoryCacheLoaderRegionConfigurer().newRepositoryCacheLoader("Example");
+
+		RepositoryCacheWriter<?, ?> cacheWriter =
+			regionConfigurer.getRepositoryCacheWriterRegionConfigurer().newRepositoryCacheWriter("Example");
+
+		assertThat(cacheLoader.getRepositoryOperationMetrics()).isInstanceOf(MicrometerRepositoryOperationMetrics.class);
+		assertThat(cacheWriter.getRepositoryOperationMetrics()).isSameAs(cacheLoader.getRepositoryOperationMetrics());
+	}
+
+	@Test
+	public void explicitRepositoryOperationMetricsOverrideMeterRegistryFromBeanFactory() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withRepositoryOperationMetrics(null);
+
+		regionConfigurer.setBeanFactory(beanFactory);
+		regionConfigurer.configure("Example", mock(PeerRegionFactoryBean.class));
+
+		RepositoryCacheLoader<?, ?> cacheLoader =
+			regionConfigurer.getRepositoryCacheLoaderRegionConfigurer().newRepositoryCacheLoader("Example");
+
+		assertThat(cacheLoader.getRepositoryOperationMetrics()).isSameAs(RepositoryOperationMetrics.NONE);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void preloadsConfiguredRegionsOnceWhenApplicationContextIsRefreshed() {
+
+		PagingAndSortingRepository<String, String> mockPagingAndSortingRepository =
+			mock(PagingAndSortingRepository.class);
+
+		Region<String, String> mockRegion = mock(Region.class);
+
+		PeerRegionFactoryBean<String, String> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		when(mockPagingAndSortingRepository.findAll(any(Pageable.class)))
+			.thenReturn(new PageImpl<>(Arrays.asList("ONE", "TWO")));
+		when(peerRegionFactoryBean.getRegion()).thenReturn(mockRegion);
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<String, String> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(mockPagingAndSortingRepository, this.mockPredicate)
+				.withPreload(String::toLowerCase, 10, 1);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+		regionConfigurer.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		regionConfigurer.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		Map<String, String> expectedEntries = new HashMap<>();
+
+		expectedEntries.put("one", "ONE");
+		expectedEntries.put("two", "TWO");
+
+		assertThat(regionConfigurer.getRegionPreloader().map(RepositoryRegionPreloader::getPreloadedCount))
+			.contains(2L);
+
+		verify(mockRegion, times(1))
+			.putAll(eq(expectedEntries), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+		verify(mockPagingAndSortingRepository, times(1)).findAll(any(Pageable.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void withPreloadRequiresPagingAndSortingRepository() {
+
+		CrudRepository<String, String> mockCrudRepository = mock(CrudRepository.class);
+
+		try {
+			new InlineCachingRegionConfigurer<>(mockCrudRepository, this.mockPredicate)
+				.withPreload(String::toLowerCase, 10, 1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Repository [")
+				.hasMessageEndingWith("] must be a PagingAndSortingRepository to preload Regions");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void registersRefreshAheadCacheListenerWhenApplicationContextIsRefreshed() {
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		PeerRegionFactoryBean<Object, Object> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(peerRegionFactoryBean.getRegion()).thenReturn(mockRegion);
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withRefreshAhead(0.8d, 4);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+		regionConfigurer.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		ArgumentCaptor<CacheListener<Object, Object>> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(cacheListener.capture());
+
+		assertThat(cacheListener.getValue()).isInstanceOf(RefreshAheadCacheListener.class);
+		assertThat(((RefreshAheadCacheListener<?, ?>) cacheListener.getValue()).getRefreshThreshold()).isEqualTo(0.8d);
+
+		cacheListener.getValue().close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void startsChangePollerWhenApplicationContextIsRefreshedAndStopsItWhenDestroyed() {
+
+		Region<String, String> mockRegion = mock(Region.class);
+
+		PeerRegionFactoryBean<String, String> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		when(peerRegionFactoryBean.getRegion()).thenReturn(mockRegion);
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		RepositoryChangePoller<String, String, String> changePoller =
+			new RepositoryChangePoller<String, String, String>(Function.identity(), Function.identity(),
+				(version, id, pageable) -> Collections.emptyList())
+				.withPollInterval(Duration.ofHours(1));
+
+		InlineCachingRegionConfigurer<String, String> regionConfigurer =
+			new InlineCachingRegionConfigurer<>((CrudRepository<String, String>) this.mockRepository, this.mockPredicate)
+				.withChangeDataCapture(regionBeanName -> changePoller);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+		regionConfigurer.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		assertThat(regionConfigurer.getChangePoller("Example").orElse(null)).isSameAs(changePoller);
+		assertThat(changePoller.isRunning()).isTrue();
+
+		regionConfigurer.destroy();
+
+		assertThat(regionConfigurer.getChangePoller("Example")).isNotPresent();
+		assertThat(changePoller.isRunning()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void overflowToRepositoryConfiguresEvictionAndKeepsWritingThrough() {
+
+		PeerRegionFactoryBean<Object, Object> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withOverflowToRepository(1000);
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		ArgumentCaptor<CacheWriter<Object, Object>> cacheWriter = ArgumentCaptor.forClass(CacheWriter.class);
+
+		verify(peerRegionFactoryBean).setCacheWriter(cacheWriter.capture());
+		verify(peerRegionFactoryBean).setEvictionAttributes(
+			eq(EvictionAttributes.createLRUEntryAttributes(1000, EvictionAction.LOCAL_DESTROY)));
+
+		assertThat(cacheWriter.getValue()).isExactlyInstanceOf(RepositoryCacheWriter.class);
+
+		regionConfigurer.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		verify(peerRegionFactoryBean, never()).getRegion();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	@SuppressWarnings("unchecked")
+	public void overflowToRepositoryRejectsReplicatedRegion() {
+
+		PeerRegionFactoryBean<Object, Object> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		when(peerRegionFactoryBean.getShortcut()).thenReturn(RegionShortcut.REPLICATE);
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		InlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new InlineCachingRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withOverflowToRepository(1000);
+
+		try {
+			regionConfigurer.configure("Example", peerRegionFactoryBean);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Region [Example] is replicated and cannot overflow to the Repository;"
+				+ " use a partitioned Region");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(peerRegionFactoryBean, never()).setEvictionAttributes(any());
+		}
+	}
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheWriterException;
+import org.apache.geode.cache.EntryEvent;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.WriteAheadJournal;
+
+/**
+ * Unit Tests for {@link JournaledRepositoryCacheWriter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.junit.rules.TemporaryFolder
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.JournaledRepositoryCacheWriter
+ * @see org.springframework.geode.cache.support.WriteAheadJournal
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class JournaledRepositoryCacheWriterUnitTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Mock
+	private CrudRepository<String, String> mockCrudRepository;
+
+	private static EntryEvent<String, String> mockEntryEvent(String key, String newValue) {
+
+		EntryEvent<String, String> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+		when(mockEntryEvent.getNewValue()).thenReturn(newValue);
+
+		return mockEntryEvent;
+	}
+
+	private static EntryEvent<String, String> mockEntryEvent(String key) {
+
+		EntryEvent<String, String> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+
+		return mockEntryEvent;
+	}
+
+	private JournaledRepositoryCacheWriter<String, String> newRepositoryCacheWriter(Path directory)
+			throws IOException {
+
+		return new JournaledRepositoryCacheWriter<>(this.mockCrudRepository, new WriteAheadJournal(directory))
+			.withFlushInterval(Duration.ofHours(1));
+	}
+
+	@Test
+	public void defaultsAreCorrect() throws IOException {
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter =
+			new JournaledRepositoryCacheWriter<>(this.mockCrudRepository,
+				new WriteAheadJournal(this.temporaryFolder.getRoot().toPath()));
+
+		try {
+			assertThat(cacheWriter.getBackpressureTimeout())
+				.isEqualTo(JournaledRepositoryCacheWriter.DEFAULT_BACKPRESSURE_TIMEOUT);
+			assertThat(cacheWriter.getFlushInterval()).isEqualTo(JournaledRepositoryCacheWriter.DEFAULT_FLUSH_INTERVAL);
+			assertThat(cacheWriter.getMaximumAttempts())
+				.isEqualTo(JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_ATTEMPTS);
+			assertThat(cacheWriter.getMaximumBatchSize())
+				.isEqualTo(JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_BATCH_SIZE);
+			assertThat(cacheWriter.getMaximumPendingWrites())
+				.isEqualTo(JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_PENDING_WRITES);
+			assertThat(cacheWriter.getMaximumSegmentCount())
+				.isEqualTo(JournaledRepositoryCacheWriter.DEFAULT_MAXIMUM_SEGMENT_COUNT);
+			assertThat(cacheWriter.getPendingWriteCount()).isZero();
+		}
+		finally {
+			cacheWriter.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidMaximumBatchSizeThrowsException() throws IOException {
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter =
+			newRepositoryCacheWriter(this.temporaryFolder.getRoot().toPath());
+
+		try {
+			cacheWriter.withMaximumBatchSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum batch size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			cacheWriter.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidMaximumSegmentCountThrowsException() throws IOException {
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter =
+			newRepositoryCacheWriter(this.temporaryFolder.getRoot().toPath());
+
+		try {
+			cacheWriter.withMaximumSegmentCount(1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum segment count [1] must be greater than 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			cacheWriter.close();
+		}
+	}
+
+	@Test
+	public void writesAreJournaledAndFlushedInOrder() throws IOException {
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter =
+			newRepositoryCacheWriter(this.temporaryFolder.getRoot().toPath());
+
+		cacheWriter.beforeCreate(mockEntryEvent("1", "one"));
+		cacheWriter.beforeUpdate(mockEntryEvent("2", "two"));
+		cacheWriter.beforeDestroy(mockEntryEvent("3"));
+		cacheWriter.beforeCreate(mockEntryEvent("4", "four"));
+
+		assertThat(cacheWriter.getPendingWriteCount()).isEqualTo(4);
+		assertThat(cacheWriter.getJournal().getLastSequence()).isEqualTo(4L);
+
+		verify(this.mockCrudRepository, never()).saveAll(any());
+
+		cacheWriter.flush();
+
+		InOrder inOrder = inOrder(this.mockCrudRepository);
+
+		inOrder.verify(this.mockCrudRepository).saveAll(eq(Arrays.asList("one", "two")));
+		inOrder.verify(this.mockCrudRepository).deleteById(eq("3"));
+		inOrder.verify(this.mockCrudRepository).saveAll(eq(Collections.singletonList("four")));
+
+		assertThat(cacheWriter.getPendingWriteCount()).isZero();
+		assertThat(cacheWriter.getFlushCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getFlushedWriteCount()).isEqualTo(4L);
+		assertThat(cacheWriter.getJournal().getAcknowledgedSequence()).isEqualTo(4L);
+
+		cacheWriter.close();
+	}
+
+	@Test
+	public void failingWriteIsDeadLetteredAfterMaximumAttempts() throws IOException {
+
+		List<Object> deadLetters = new ArrayList<>();
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter =
+			newRepositoryCacheWriter(this.temporaryFolder.getRoot().toPath())
+				.withMaximumAttempts(2)
+				.withDeadLetterHandler((value, cause) -> deadLetters.add(value));
+
+		doAnswer(invocation -> {
+
+			Iterable<String> entities = invocation.getArgument(0);
+
+			entities.forEach(entity -> {
+				if ("bad".equals(entity)) {
+					throw new DataAccessResourceFailureException("TEST");
+				}
+			});
+
+			return entities;
+
+		}).when(this.mockCrudRepository).saveAll(any());
+
+		cacheWriter.beforeCreate(mockEntryEvent("1", "one"));
+		cacheWriter.beforeCreate(mockEntryEvent("2", "bad"));
+		cacheWriter.beforeCreate(mockEntryEvent("3", "three"));
+
+		try {
+			cacheWriter.flush();
+		}
+		catch (DataAccessResourceFailureException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(cacheWriter.getPendingWriteCount()).isEqualTo(2);
+		assertThat(cacheWriter.getFlushedWriteCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getJournal().getAcknowledgedSequence()).isEqualTo(1L);
+		assertThat(deadLetters).isEmpty();
+
+		cacheWriter.flush();
+
+		verify(this.mockCrudRepository).saveAll(eq(Collections.singletonList("three")));
+
+		assertThat(cacheWriter.getPendingWriteCount()).isZero();
+		assertThat(cacheWriter.getFlushedWriteCount()).isEqualTo(2L);
+		assertThat(cacheWriter.getDeadLetteredWriteCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getFailedFlushCount()).isEqualTo(2L);
+		assertThat(cacheWriter.getJournal().getAcknowledgedSequence()).isEqualTo(3L);
+		assertThat(deadLetters).containsExactly("bad");
+
+		cacheWriter.close();
+	}
+
+	@Test
+	public void journalAppliesBackpressureWhenFull() throws IOException {
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter =
+			newRepositoryCacheWriter(this.temporaryFolder.getRoot().toPath())
+				.withMaximumPendingWrites(1)
+				.withBackpressureTimeout(Duration.ZERO);
+
+		cacheWriter.beforeCreate(mockEntryEvent("1", "one"));
+
+		try {
+			cacheWriter.beforeCreate(mockEntryEvent("2", "two"));
+		}
+		catch (CacheWriterException expected) {
+
+			assertThat(expected).hasMessage("Failed to journal write of [two]");
+			assertThat(expected).hasCauseInstanceOf(TimeoutException.class);
+		}
+
+		assertThat(cacheWriter.getPendingWriteCount()).isEqualTo(1);
+		assertThat(cacheWriter.getRejectedWriteCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getJournal().getLastSequence()).isEqualTo(1L);
+
+		cacheWriter.flush();
+		cacheWriter.beforeCreate(mockEntryEvent("2", "two"));
+
+		assertThat(cacheWriter.getPendingWriteCount()).isEqualTo(1);
+		assertThat(cacheWriter.getJournal().getLastSequence()).isEqualTo(2L);
+
+		cacheWriter.close();
+	}
+
+	@Test
+	public void unflushedWritesAreReplayedAfterRestart() throws IOException {
+
+		Path directory = this.temporaryFolder.getRoot().toPath();
+
+		JournaledRepositoryCacheWriter<String, String> cacheWriter = newRepositoryCacheWriter(directory);
+
+		doThrow(new DataAccessResourceFailureException("TEST"))
+			.when(this.mockCrudRepository).saveAll(any());
+
+		cacheWriter.beforeCreate(mockEntryEvent("1", "one"));
+		cacheWriter.beforeDestroy(mockEntryEvent("2"));
+
+		try {
+			cacheWriter.flush();
+		}
+		catch (DataAccessResourceFailureException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(cacheWriter.getFailedFlushCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getPendingWriteCount()).isEqualTo(2);
+		assertThat(cacheWriter.getJournal().getAcknowledgedSequence()).isZero();
+
+		// simulate a JVM crash by not closing the CacheWriter
+		CrudRepository<String, String> mockRecoveredCrudRepository = mock(CrudRepository.class);
+
+		JournaledRepositoryCacheWriter<String, String> recoveredCacheWriter =
+			new JournaledRepositoryCacheWriter<>(mockRecoveredCrudRepository, new WriteAheadJournal(directory))
+				.withFlushInterval(Duration.ofHours(1));
+
+		recoveredCacheWriter.flush();
+
+		InOrder inOrder = inOrder(mockRecoveredCrudRepository);
+
+		inOrder.verify(mockRecoveredCrudRepository).saveAll(eq(Collections.singletonList("one")));
+		inOrder.verify(mockRecoveredCrudRepository).deleteById(eq("2"));
+
+		assertThat(recoveredCacheWriter.getFlushedWriteCount()).isEqualTo(2L);
+
+		recoveredCacheWriter.close();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheLoader;
+import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+
+import org.springframework.data.gemfire.PeerRegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Unit Tests for {@link ReactiveInlineCachingRegionConfigurer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.ReactiveInlineCachingRegionConfigurer
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveInlineCachingRegionConfigurerUnitTests {
+
+	@Mock
+	private Predicate<String> mockPredicate;
+
+	@Mock
+	private ReactiveCrudRepository<Object, Object> mockReactiveCrudRepository;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresClientRegionFactoryBeanWithReactiveCacheLoaderAndCacheWriter() {
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean = mock(ClientRegionFactoryBean.class);
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		new ReactiveInlineCachingRegionConfigurer<>(this.mockReactiveCrudRepository, this.mockPredicate)
+			.withTimeout(Duration.ofSeconds(5))
+			.withWriteBehind(WriteBehindSettings.defaults())
+			.configure("Example", clientRegionFactoryBean);
+
+		ArgumentCaptor<CacheLoader<Object, Object>> cacheLoader = ArgumentCaptor.forClass(CacheLoader.class);
+
+		verify(clientRegionFactoryBean, times(1)).setCacheLoader(cacheLoader.capture());
+		verify(clientRegionFactoryBean, times(1)).setCacheWriter(isA(ReactiveRepositoryCacheWriter.class));
+
+		assertThat(cacheLoader.getValue()).isInstanceOf(ReactiveRepositoryCacheLoader.class);
+		assertThat(((ReactiveRepositoryCacheLoader<?, ?>) cacheLoader.getValue()).getTimeout())
+			.contains(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doesNotConfigureClientRegionFactoryBeanWhenPredicateReturnsFalse() {
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean = mock(ClientRegionFactoryBean.class);
+
+		new ReactiveInlineCachingRegionConfigurer<>(this.mockReactiveCrudRepository, this.mockPredicate)
+			.configure("Example", clientRegionFactoryBean);
+
+		verify(clientRegionFactoryBean, never()).setCacheLoader(any());
+		verify(clientRegionFactoryBean, never()).setCacheWriter(any());
+		verify(this.mockPredicate, times(1)).test(eq("Example"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresPeerRegionFactoryBeanWithReactiveWriteBehindQueueWhenWriteBehindIsEnabled() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		AsyncEventQueueFactory mockAsyncEventQueueFactory = mock(AsyncEventQueueFactory.class, answer ->
+			AsyncEventQueueFactory.class.equals(answer.getMethod().getReturnType()) ? answer.getMock() : null);
+
+		Cache mockCache = mock(Cache.class);
+
+		PeerRegionFactoryBean<Object, Object> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doAnswer(answer -> mockAsyncEventQueue).when(mockAsyncEventQueueFactory)
+			.create(eq("ExampleReactiveRepositoryWriteBehindQueue"), isA(ReactiveRepositoryAsyncEventListener.class));
+
+		when(mockCache.createAsyncEventQueueFactory()).thenReturn(mockAsyncEventQueueFactory);
+		when(peerRegionFactoryBean.getCache()).thenReturn(mockCache);
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		ReactiveInlineCachingRegionConfigurer<Object, Object> regionConfigurer =
+			new ReactiveInlineCachingRegionConfigurer<>(this.mockReactiveCrudRepository, this.mockPredicate)
+				.withMaximumConcurrency(8)
+				.withWriteBehind(WriteBehindSettings.defaults().withBatchSize(500));
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		assertThat(regionConfigurer.getWriteBehindQueue("Example")).contains(mockAsyncEventQueue);
+
+		verify(mockAsyncEventQueueFactory, times(1)).setBatchSize(eq(500));
+		verify(peerRegionFactoryBean, times(1)).setCacheLoader(isA(ReactiveRepositoryCacheLoader.class));
+		verify(peerRegionFactoryBean, times(1)).setAsyncEventQueues(eq(new AsyncEventQueue[] { mockAsyncEventQueue }));
+		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link ReactiveRepositoryAsyncEventListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.ReactiveRepositoryAsyncEventListener
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ReactiveRepositoryAsyncEventListenerUnitTests {
+
+	@Mock
+	private ReactiveCrudRepository<Object, Object> mockReactiveCrudRepository;
+
+	private AsyncEvent mockAsyncEvent(Operation operation, Object key, Object value) {
+
+		AsyncEvent mockAsyncEvent = mock(AsyncEvent.class);
+
+		when(mockAsyncEvent.getOperation()).thenReturn(operation);
+
+		if (!operation.isLoad()) {
+
+			when(mockAsyncEvent.getKey()).thenReturn(key);
+
+			if (operation.isCreate() || operation.isUpdate()) {
+				when(mockAsyncEvent.getDeserializedValue()).thenReturn(value);
+			}
+		}
+
+		return mockAsyncEvent;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withMaximumConcurrencyLessThanOneThrowsException() {
+
+		try {
+			new ReactiveRepositoryAsyncEventListener<>(this.mockReactiveCrudRepository).withMaximumConcurrency(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum concurrency [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void processEventsSavesLastValuePerKeyWithBoundedConcurrency() {
+
+		AtomicInteger concurrentSaves = new AtomicInteger(0);
+		AtomicInteger maximumConcurrentSaves = new AtomicInteger(0);
+
+		List<Object> savedEntities = new CopyOnWriteArrayList<>();
+
+		when(this.mockReactiveCrudRepository.save(any())).thenAnswer(invocation -> Mono.fromCallable(() -> {
+
+			maximumConcurrentSaves.accumulateAndGet(concurrentSaves.incrementAndGet(), Math::max);
+			savedEntities.add(invocation.getArgument(0));
+			concurrentSaves.decrementAndGet();
+
+			return invocation.getArgument(0);
+		}));
+
+		ReactiveRepositoryAsyncEventListener<Object, Object> listener =
+			new ReactiveRepositoryAsyncEventListener<>(this.mockReactiveCrudRepository).withMaximumConcurrency(2);
+
+		assertThat(listener.processEvents(Arrays.asList(
+			mockAsyncEvent(Operation.CREATE, 1, "one"),
+			mockAsyncEvent(Operation.CREATE, 2, "two"),
+			mockAsyncEvent(Operation.UPDATE, 1, "uno"),
+			mockAsyncEvent(Operation.LOCAL_LOAD_CREATE, 3, "three")))).isTrue();
+
+		assertThat(listener.getBatchCount()).isEqualTo(1L);
+		assertThat(listener.getEventCount()).isEqualTo(4L);
+		assertThat(savedEntities).containsExactlyInAnyOrder("uno", "two");
+		assertThat(maximumConcurrentSaves.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	public void processEventsAppliesDeletesInOrder() {
+
+		when(this.mockReactiveCrudRepository.save(any())).thenAnswer(invocation ->
+			Mono.just(invocation.getArgument(0)));
+
+		when(this.mockReactiveCrudRepository.deleteById(eq(1))).thenReturn(Mono.empty());
+
+		ReactiveRepositoryAsyncEventListener<Object, Object> listener =
+			new ReactiveRepositoryAsyncEventListener<>(this.mockReactiveCrudRepository);
+
+		assertThat(listener.processEvents(Arrays.asList(
+			mockAsyncEvent(Operation.CREATE, 1, "one"),
+			mockAsyncEvent(Operation.CREATE, 2, "two"),
+			mockAsyncEvent(Operation.DESTROY, 1, null),
+			mockAsyncEvent(Operation.CREATE, 1, "uno")))).isTrue();
+
+		InOrder inOrder = inOrder(this.mockReactiveCrudRepository);
+
+		inOrder.verify(this.mockReactiveCrudRepository, times(1)).save(eq("two"));
+		inOrder.verify(this.mockReactiveCrudRepository, times(1)).deleteById(eq(1));
+		inOrder.verify(this.mockReactiveCrudRepository, times(1)).save(eq("uno"));
+
+		verify(this.mockReactiveCrudRepository, never()).save(eq("one"));
+	}
+
+	@Test
+	public void processEventsReturnsFalseWhenWriteFails() {
+
+		when(this.mockReactiveCrudRepository.save(any())).thenReturn(Mono.error(new IllegalStateException("TEST")));
+
+		ReactiveRepositoryAsyncEventListener<Object, Object> listener =
+			new ReactiveRepositoryAsyncEventListener<>(this.mockReactiveCrudRepository);
+
+		assertThat(listener.processEvents(Arrays.asList(mockAsyncEvent(Operation.CREATE, 1, "one")))).isFalse();
+		assertThat(listener.getBatchCount()).isZero();
+		assertThat(listener.getFailedBatchCount()).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.LoaderHelper;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link ReactiveRepositoryCacheLoader}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.ReactiveRepositoryCacheLoader
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveRepositoryCacheLoaderUnitTests {
+
+	@Mock
+	private LoaderHelper<Object, Object> mockLoaderHelper;
+
+	@Mock
+	private ReactiveCrudRepository<Object, Object> mockReactiveCrudRepository;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructReactiveRepositoryCacheLoaderWithNullRepositoryThrowsException() {
+
+		try {
+			new ReactiveRepositoryCacheLoader<>(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Repository is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void loadsEntitySuccessfully() {
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockReactiveCrudRepository.findById(eq("TestKey"))).thenReturn(Mono.just("TestEntity"));
+
+		assertThat(new ReactiveRepositoryCacheLoader<>(this.mockReactiveCrudRepository).load(this.mockLoaderHelper))
+			.isEqualTo("TestEntity");
+
+		verify(this.mockLoaderHelper, times(1)).getKey();
+		verify(this.mockReactiveCrudRepository, times(1)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadReturnsNullWhenEntityIsNotFound() {
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockReactiveCrudRepository.findById(eq("TestKey"))).thenReturn(Mono.empty());
+
+		assertThat(new ReactiveRepositoryCacheLoader<>(this.mockReactiveCrudRepository).load(this.mockLoaderHelper))
+			.isNull();
+	}
+
+	@Test(expected = CacheLoaderException.class)
+	public void loadThrowsCacheLoaderExceptionOnError() {
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockReactiveCrudRepository.findById(eq("TestKey")))
+			.thenReturn(Mono.error(new DataAccessResourceFailureException("TEST")));
+
+		try {
+			new ReactiveRepositoryCacheLoader<>(this.mockReactiveCrudRepository).load(this.mockLoaderHelper);
+		}
+		catch (CacheLoaderException expected) {
+
+			assertThat(expected).hasMessage(ReactiveRepositoryCacheLoader.CACHE_LOAD_EXCEPTION_MESSAGE,
+				"TestKey", this.mockReactiveCrudRepository.getClass().getName());
+
+			assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+
+			throw expected;
+		}
+		finally {
+			verify(this.mockLoaderHelper, times(1)).getKey();
+		}
+	}
+
+	@Test(expected = CacheLoaderException.class)
+	public void loadThrowsCacheLoaderExceptionOnTimeout() {
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockReactiveCrudRepository.findById(eq("TestKey"))).thenReturn(Mono.never());
+
+		ReactiveRepositoryCacheLoader<Object, Object> cacheLoader =
+			new ReactiveRepositoryCacheLoader<>(this.mockReactiveCrudRepository).withTimeout(Duration.ofMillis(50));
+
+		assertThat(cacheLoader.getTimeout()).contains(Duration.ofMillis(50));
+
+		try {
+			cacheLoader.load(this.mockLoaderHelper);
+		}
+		catch (CacheLoaderException expected) {
+
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+
+			throw expected;
+		}
+	}
+}
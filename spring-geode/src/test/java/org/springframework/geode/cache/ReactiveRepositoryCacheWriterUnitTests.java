@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheWriterException;
+import org.apache.geode.cache.EntryEvent;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link ReactiveRepositoryCacheWriter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.geode.cache.ReactiveRepositoryCacheWriter
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveRepositoryCacheWriterUnitTests {
+
+	@Mock
+	private EntryEvent<Object, Object> mockEntryEvent;
+
+	@Mock
+	private ReactiveCrudRepository<Object, Object> mockReactiveCrudRepository;
+
+	@Test
+	public void beforeCreateAndUpdateSaveEntityAndAwaitCompletion() {
+
+		AtomicBoolean saved = new AtomicBoolean(false);
+
+		when(this.mockEntryEvent.getNewValue()).thenReturn("TestEntity");
+		when(this.mockReactiveCrudRepository.save(eq("TestEntity")))
+			.thenReturn(Mono.fromCallable(() -> {
+				saved.set(true);
+				return "TestEntity";
+			}));
+
+		ReactiveRepositoryCacheWriter<Object, Object> cacheWriter =
+			new ReactiveRepositoryCacheWriter<>(this.mockReactiveCrudRepository);
+
+		cacheWriter.beforeCreate(this.mockEntryEvent);
+
+		assertThat(saved).isTrue();
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		verify(this.mockReactiveCrudRepository, times(2)).save(eq("TestEntity"));
+	}
+
+	@Test
+	public void beforeCreateSkipsPreloadedEntity() {
+
+		when(this.mockEntryEvent.getCallbackArgument()).thenReturn(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+
+		new ReactiveRepositoryCacheWriter<>(this.mockReactiveCrudRepository).beforeCreate(this.mockEntryEvent);
+
+		verify(this.mockReactiveCrudRepository, never()).save(any());
+	}
+
+	@Test
+	public void beforeDestroyDeletesEntityById() {
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockReactiveCrudRepository.deleteById(eq("TestKey"))).thenReturn(Mono.empty());
+
+		new ReactiveRepositoryCacheWriter<>(this.mockReactiveCrudRepository).beforeDestroy(this.mockEntryEvent);
+
+		verify(this.mockEntryEvent, times(1)).getKey();
+		verify(this.mockReactiveCrudRepository, times(1)).deleteById(eq("TestKey"));
+	}
+
+	@Test(expected = CacheWriterException.class)
+	public void beforeCreateThrowsCacheWriterExceptionOnError() {
+
+		when(this.mockEntryEvent.getNewValue()).thenReturn("TestEntity");
+		when(this.mockReactiveCrudRepository.save(eq("TestEntity")))
+			.thenReturn(Mono.error(new DataAccessResourceFailureException("TEST")));
+
+		try {
+			new ReactiveRepositoryCacheWriter<>(this.mockReactiveCrudRepository).beforeCreate(this.mockEntryEvent);
+		}
+		catch (CacheWriterException expected) {
+
+			assertThat(expected).hasMessage("Exception occurred while accessing entity [TestEntity]"
+				+ " in external data source");
+
+			assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+
+			throw expected;
+		}
+	}
+}
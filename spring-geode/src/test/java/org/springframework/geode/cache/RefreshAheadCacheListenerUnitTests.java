@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit Tests for {@link RefreshAheadCacheListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RefreshAheadCacheListener
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RefreshAheadCacheListenerUnitTests {
+
+	@Mock
+	private CacheStatistics mockCacheStatistics;
+
+	@Mock
+	private CrudRepository<String, String> mockCrudRepository;
+
+	@Mock
+	private Region<String, String> mockRegion;
+
+	@Mock
+	private Region.Entry<String, String> mockRegionEntry;
+
+	private RefreshAheadCacheListener<String, String> cacheListener;
+
+	@Before
+	public void setup() {
+
+		this.cacheListener = new RefreshAheadCacheListener<>(this.mockCrudRepository, 0.5d, 1);
+
+		when(this.mockRegion.getEntry(eq("TestKey"))).thenReturn(this.mockRegionEntry);
+		when(this.mockRegionEntry.getStatistics()).thenReturn(this.mockCacheStatistics);
+	}
+
+	@After
+	public void tearDown() {
+		this.cacheListener.close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidRefreshThresholdThrowsException() {
+
+		try {
+			new RefreshAheadCacheListener<>(this.mockCrudRepository, 1.0d, 1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Refresh threshold [1.0] must be between 0 and 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void refreshDelayIsFractionOfEntryTimeToLive() {
+
+		RegionAttributes<String, String> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getEntryTimeToLive())
+			.thenReturn(new ExpirationAttributes(10, ExpirationAction.DESTROY))
+			.thenReturn(new ExpirationAttributes(0, ExpirationAction.INVALIDATE));
+
+		assertThat(this.cacheListener.getRefreshDelayInMilliseconds(this.mockRegion)).isEqualTo(5000L);
+		assertThat(this.cacheListener.getRefreshDelayInMilliseconds(this.mockRegion)).isZero();
+	}
+
+	@Test
+	public void refreshesEntryReadSinceLastModified() {
+
+		long now = System.currentTimeMillis();
+
+		when(this.mockCacheStatistics.getLastModifiedTime()).thenReturn(now - 5000L);
+		when(this.mockCacheStatistics.getLastAccessedTime()).thenReturn(now - 10L);
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of("TestValue"));
+
+		this.cacheListener.refreshIfRead(this.mockRegion, "TestKey", 5000L);
+
+		verify(this.mockRegion, timeout(5000))
+			.put(eq("TestKey"), eq("TestValue"), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void doesNotRefreshEntryNotReadSinceLastModified() {
+
+		long now = System.currentTimeMillis();
+
+		when(this.mockCacheStatistics.getLastModifiedTime()).thenReturn(now - 5000L);
+		when(this.mockCacheStatistics.getLastAccessedTime()).thenReturn(now - 5000L);
+
+		this.cacheListener.refreshIfRead(this.mockRegion, "TestKey", 5000L);
+
+		assertThat(this.cacheListener.getRefreshCount()).isZero();
+
+		verify(this.mockCrudRepository, never()).findById(any());
+	}
+
+	@Test
+	public void doesNotRefreshEntryModifiedSinceRefreshWasScheduled() {
+
+		long now = System.currentTimeMillis();
+
+		when(this.mockCacheStatistics.getLastModifiedTime()).thenReturn(now - 1000L);
+
+		this.cacheListener.refreshIfRead(this.mockRegion, "TestKey", 5000L);
+
+		verify(this.mockCrudRepository, never()).findById(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void refreshesEntryThroughRepositoryCacheLoader() {
+
+		long now = System.currentTimeMillis();
+
+		RepositoryCacheLoader<String, String> mockCacheLoader = mock(RepositoryCacheLoader.class);
+
+		when(this.mockCacheStatistics.getLastModifiedTime()).thenReturn(now - 5000L);
+		when(this.mockCacheStatistics.getLastAccessedTime()).thenReturn(now - 10L);
+		when(mockCacheLoader.doLoad(eq("TestKey"))).thenReturn("TestValue");
+
+		RefreshAheadCacheListener<String, String> cacheListener =
+			new RefreshAheadCacheListener<>(mockCacheLoader, 0.5d, 1);
+
+		try {
+			cacheListener.refreshIfRead(this.mockRegion, "TestKey", 5000L);
+
+			verify(this.mockRegion, timeout(5000))
+				.put(eq("TestKey"), eq("TestValue"), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+			verify(mockCacheLoader, times(1)).doLoad(eq("TestKey"));
+		}
+		finally {
+			cacheListener.close();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void schedulesRefreshOnlyForEntriesPutLocally() {
+
+		RegionAttributes<String, String> mockRegionAttributes = mock(RegionAttributes.class);
+
+		EntryEvent<String, String> mockLocalEntryEvent = mock(EntryEvent.class);
+		EntryEvent<String, String> mockRemoteEntryEvent = mock(EntryEvent.class);
+
+		when(this.mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getEntryTimeToLive())
+			.thenReturn(new ExpirationAttributes(60, ExpirationAction.DESTROY));
+		when(mockLocalEntryEvent.getRegion()).thenReturn(this.mockRegion);
+		when(mockLocalEntryEvent.getKey()).thenReturn("TestKey");
+		when(mockRemoteEntryEvent.getRegion()).thenReturn(this.mockRegion);
+		when(mockRemoteEntryEvent.isOriginRemote()).thenReturn(true);
+
+		this.cacheListener.afterCreate(mockRemoteEntryEvent);
+
+		assertThat(this.cacheListener.getScheduledRefreshCount()).isZero();
+
+		this.cacheListener.afterCreate(mockLocalEntryEvent);
+
+		assertThat(this.cacheListener.getScheduledRefreshCount()).isOne();
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.NegativeResultCache;
+
+/**
+ * Unit Tests for {@link RepositoryAsyncEventListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.asyncqueue.AsyncEvent
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class RepositoryAsyncEventListenerUnitTests {
+
+	@Mock
+	private CrudRepository<Object, Object> mockCrudRepository;
+
+	private AsyncEvent mockAsyncEvent(Operation operation, Object key, Object value) {
+
+		AsyncEvent mockAsyncEvent = mock(AsyncEvent.class);
+
+		when(mockAsyncEvent.getOperation()).thenReturn(operation);
+
+		if (operation.isDestroy()) {
+			when(mockAsyncEvent.getKey()).thenReturn(key);
+		}
+		else if (operation.isCreate() || operation.isUpdate()) {
+			when(mockAsyncEvent.getKey()).thenReturn(key);
+			when(mockAsyncEvent.getDeserializedValue()).thenReturn(value);
+		}
+
+		return mockAsyncEvent;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructRepositoryAsyncEventListenerWithNullRepositoryThrowsException() {
+
+		try {
+			new RepositoryAsyncEventListener<>(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Repository is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void processEventsWithNoEventsReturnsTrue() {
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository);
+
+		assertThat(listener.processEvents(null)).isTrue();
+		assertThat(listener.processEvents(Collections.emptyList())).isTrue();
+		assertThat(listener.getBatchCount()).isZero();
+
+		verifyZeroInteractions(this.mockCrudRepository);
+	}
+
+	@Test
+	public void processEventsSavesCreatesAndUpdatesInOneBatch() {
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository);
+
+		assertThat(listener.processEvents(Arrays.asList(
+			mockAsyncEvent(Operation.CREATE, 1, "one"),
+			mockAsyncEvent(Operation.UPDATE, 2, "two"),
+			mockAsyncEvent(Operation.PUTALL_CREATE, 3, "three")))).isTrue();
+
+		assertThat(listener.getBatchCount()).isEqualTo(1L);
+		assertThat(listener.getEventCount()).isEqualTo(3L);
+		assertThat(listener.getFailedBatchCount()).isZero();
+
+		verify(this.mockCrudRepository, times(1)).saveAll(eq(Arrays.asList("one", "two", "three")));
+		verify(this.mockCrudRepository, never()).save(any());
+	}
+
+	@Test
+	public void processEventsPreservesOrderOfSavesAndDeletes() {
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository);
+
+		assertThat(listener.processEvents(Arrays.asList(
+			mockAsyncEvent(Operation.CREATE, 1, "one"),
+			mockAsyncEvent(Operation.DESTROY, 1, null),
+			mockAsyncEvent(Operation.CREATE, 2, "two")))).isTrue();
+
+		InOrder inOrder = inOrder(this.mockCrudRepository);
+
+		inOrder.verify(this.mockCrudRepository, times(1)).saveAll(eq(Collections.singletonList("one")));
+		inOrder.verify(this.mockCrudRepository, times(1)).deleteById(eq(1));
+		inOrder.verify(this.mockCrudRepository, times(1)).saveAll(eq(Collections.singletonList("two")));
+	}
+
+	@Test
+	public void processEventsIgnoresLoadsEvictionsAndExpirations() {
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository);
+
+		assertThat(listener.processEvents(Arrays.asList(
+			mockAsyncEvent(Operation.LOCAL_LOAD_CREATE, 1, "one"),
+			mockAsyncEvent(Operation.EVICT_DESTROY, 2, null),
+			mockAsyncEvent(Operation.EXPIRE_DESTROY, 3, null)))).isTrue();
+
+		verifyZeroInteractions(this.mockCrudRepository);
+	}
+
+	@Test
+	public void processEventsReturnsFalseWhenRepositoryThrowsException() {
+
+		when(this.mockCrudRepository.saveAll(any())).thenThrow(new RuntimeException("TEST"));
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository);
+
+		assertThat(listener.processEvents(Collections.singletonList(mockAsyncEvent(Operation.CREATE, 1, "one"))))
+			.isFalse();
+
+		assertThat(listener.getBatchCount()).isZero();
+		assertThat(listener.getEventCount()).isZero();
+		assertThat(listener.getFailedBatchCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void processEventsUpdatesBloomFilterAndNegativeResultCacheAfterWrite() {
+
+		BloomFilter<Object> bloomFilter = new BloomFilter<>(100L, 0.01d).initialize(null);
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(100, Duration.ofMinutes(1));
+
+		negativeResultCache.put(1);
+		negativeResultCache.put(2);
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository).with(bloomFilter).with(negativeResultCache);
+
+		assertThat(listener.processEvents(Collections.singletonList(mockAsyncEvent(Operation.CREATE, 1, "one"))))
+			.isTrue();
+
+		assertThat(bloomFilter.mightContain(1)).isTrue();
+		assertThat(negativeResultCache.contains(1)).isFalse();
+		assertThat(negativeResultCache.contains(2)).isTrue();
+	}
+
+	@Test
+	public void processEventsDoesNotUpdateBloomFilterOrNegativeResultCacheWhenWriteFails() {
+
+		when(this.mockCrudRepository.saveAll(any())).thenThrow(new RuntimeException("TEST"));
+
+		BloomFilter<Object> bloomFilter = new BloomFilter<>(100L, 0.01d).initialize(null);
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(100, Duration.ofMinutes(1));
+
+		negativeResultCache.put(1);
+
+		RepositoryAsyncEventListener<Object, Object> listener =
+			new RepositoryAsyncEventListener<>(this.mockCrudRepository).with(bloomFilter).with(negativeResultCache);
+
+		assertThat(listener.processEvents(Collections.singletonList(mockAsyncEvent(Operation.CREATE, 1, "one"))))
+			.isFalse();
+
+		assertThat(bloomFilter.mightContain(1)).isFalse();
+		assertThat(negativeResultCache.contains(1)).isTrue();
+	}
+}
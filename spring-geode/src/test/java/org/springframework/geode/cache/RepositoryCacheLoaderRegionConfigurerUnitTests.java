@@ -28,7 +28,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,6 +43,7 @@ import org.apache.geode.cache.CacheLoader;
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
 
 /**
  * Unit Tests for {@link RepositoryCacheLoaderRegionConfigurer}.
@@ -185,4 +189,100 @@ public class RepositoryCacheLoaderRegionConfigurerUnitTests {
 		verify(peerRegionFactoryBean, never()).setCacheLoader(any(CacheLoader.class));
 		verify(this.mockPredicate, times(1)).test(eq("Example"));
 	}
+
+	@Test
+	public void newRepositoryCacheLoaderIsConfiguredWithLoadCoalescing() {
+
+		RepositoryCacheLoaderRegionConfigurer<?, ?> regionConfigurer =
+			new RepositoryCacheLoaderRegionConfigurer<>(this.mockRepository, this.mockPredicate);
+
+		assertThat(regionConfigurer.newRepositoryCacheLoader().isLoadCoalescingEnabled()).isFalse();
+		assertThat(regionConfigurer.withLoadCoalescing(true).newRepositoryCacheLoader().isLoadCoalescingEnabled())
+			.isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void newRepositoryCacheLoaderIsBatchingWhenBatchLoadingIsEnabled() {
+
+		RepositoryCacheLoaderRegionConfigurer<Object, Object> regionConfigurer =
+			new RepositoryCacheLoaderRegionConfigurer<>((CrudRepository<Object, Object>) this.mockRepository,
+				this.mockPredicate).withBatchLoading(Object::toString, Duration.ofMillis(10), 50);
+
+		RepositoryCacheLoader<?, ?> cacheLoader = regionConfigurer.newRepositoryCacheLoader();
+
+		assertThat(cacheLoader).isInstanceOf(BatchingRepositoryCacheLoader.class);
+		assertThat(((BatchingRepositoryCacheLoader<?, ?>) cacheLoader).getBatchWindow()).isEqualTo(Duration.ofMillis(10));
+		assertThat(((BatchingRepositoryCacheLoader<?, ?>) cacheLoader).getMaximumBatchSize()).isEqualTo(50);
+		assertThat(cacheLoader.getRepository()).isEqualTo(this.mockRepository);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void newRepositoryCacheLoaderIsConfiguredWithInitializedBloomFilterPerRegion() throws InterruptedException {
+
+		RepositoryCacheLoaderRegionConfigurer<Object, Object> regionConfigurer =
+			new RepositoryCacheLoaderRegionConfigurer<>((CrudRepository<Object, Object>) this.mockRepository,
+				this.mockPredicate).withBloomFilter(100, 0.01d, () -> Stream.of("KeyOne", "KeyTwo"));
+
+		RepositoryCacheLoader<Object, Object> cacheLoader = regionConfigurer.newRepositoryCacheLoader("Example");
+
+		BloomFilter<Object> bloomFilter = cacheLoader.getBloomFilter().orElse(null);
+
+		assertThat(bloomFilter).isNotNull();
+		assertThat(regionConfigurer.newRepositoryCacheLoader("Example").getBloomFilter()).contains(bloomFilter);
+		assertThat(regionConfigurer.newRepositoryCacheLoader("Other").getBloomFilter().orElse(null))
+			.isNotSameAs(bloomFilter);
+
+		for (int attempts = 0; !bloomFilter.isInitialized() && attempts < 500; attempts++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(bloomFilter.isInitialized()).isTrue();
+		assertThat(bloomFilter.mightContain("KeyOne")).isTrue();
+		assertThat(bloomFilter.mightContain("KeyTwo")).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bloomFilterIsRebuiltAtRebuildInterval() throws InterruptedException {
+
+		AtomicInteger rebuildCount = new AtomicInteger(0);
+
+		RepositoryCacheLoaderRegionConfigurer<Object, Object> regionConfigurer =
+			new RepositoryCacheLoaderRegionConfigurer<>((CrudRepository<Object, Object>) this.mockRepository,
+				this.mockPredicate).withBloomFilter(100, 0.001d, Duration.ofMillis(10),
+					() -> rebuildCount.incrementAndGet() == 1 ? Stream.of("KeyOne") : Stream.of("KeyOne", "KeyTwo"));
+
+		BloomFilter<Object> bloomFilter = regionConfigurer.newRepositoryCacheLoader("Example")
+			.getBloomFilter().orElse(null);
+
+		assertThat(bloomFilter).isNotNull();
+
+		// The third rebuild starts only after the second, which added KeyTwo, completed
+		for (int attempts = 0; rebuildCount.get() < 3 && attempts < 500; attempts++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(bloomFilter.isInitialized()).isTrue();
+		assertThat(bloomFilter.mightContain("KeyOne")).isTrue();
+		assertThat(bloomFilter.mightContain("KeyTwo")).isTrue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void withBloomFilterWithInvalidRebuildIntervalThrowsException() {
+
+		try {
+			new RepositoryCacheLoaderRegionConfigurer<>((CrudRepository<Object, Object>) this.mockRepository,
+				this.mockPredicate).withBloomFilter(100, 0.01d, Duration.ZERO, Stream::empty);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Rebuild interval [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
 }
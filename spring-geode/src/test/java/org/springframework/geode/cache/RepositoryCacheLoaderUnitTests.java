@@ -16,17 +16,34 @@
 package org.springframework.geode.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
 
 import org.apache.geode.cache.CacheLoaderException;
 import org.apache.geode.cache.CacheRuntimeException;
+import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.LoaderHelper;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +53,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.CircuitBreaker;
+import org.springframework.geode.cache.support.NegativeResultCache;
+import org.springframework.geode.cache.support.RepositoryOperationMetrics;
+import org.springframework.geode.cache.support.RepositoryOperationRejectedException;
+import org.springframework.geode.cache.support.StaleValueCache;
 
 /**
  * Unit Test for {@link RepositoryCacheLoader}.
@@ -125,6 +148,450 @@ public class RepositoryCacheLoaderUnitTests {
 		}
 	}
 
+	@Test
+	public void loadRecordsRepositoryOperation() {
+
+		List<String> recordedOperations = new ArrayList<>();
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(new RepositoryOperationMetrics() {
+
+			@Override
+			public <R> R record(String operation, Supplier<R> repositoryOperation) {
+				recordedOperations.add(operation);
+				return repositoryOperation.get();
+			}
+		});
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(recordedOperations).containsExactly(RepositoryOperationMetrics.LOAD_OPERATION);
+
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadSkipsRepositoryForKeyAbsentFromBloomFilter() {
+
+		BloomFilter<Object> bloomFilter = new BloomFilter<>(100, 0.01d).initialize(Stream.of("KeyOne", "KeyTwo"));
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(bloomFilter);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		verify(this.mockCrudRepository, never()).findById(any());
+	}
+
+	@Test
+	public void loadAccessesRepositoryForKeyInBloomFilter() {
+
+		BloomFilter<Object> bloomFilter = new BloomFilter<>(100, 0.01d).initialize(Stream.of("TestKey"));
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(bloomFilter);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadRemembersMissingKeysInNegativeResultCache() {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(10, Duration.ofMinutes(1));
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.empty());
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(negativeResultCache);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+		assertThat(negativeResultCache.getHitCount()).isEqualTo(1L);
+
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadDoesNotRememberFoundKeysInNegativeResultCache() {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(10, Duration.ofMinutes(1));
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(negativeResultCache);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(negativeResultCache.size()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadReturnsEntityAndRemovesItFromRegionWhenAdmissionIsRejected() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getEntry(eq("TestKey"))).thenReturn(mockRegionEntry);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionEntry.getValue()).thenReturn(this.testEntity);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.NORMAL);
+
+		this.cacheLoader.withAdmissionPolicy(key -> false);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(this.cacheLoader.getRejectedAdmissionCount()).isEqualTo(1L);
+
+		verify(mockRegion, timeout(5000)).localDestroy(eq("TestKey"),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+		verify(mockRegion, never()).destroy(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadKeepsRejectedEntityInRegionWhenEntryHoldsAnotherInstance() {
+
+		Object loadedEntity = new String("TestEntity");
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(loadedEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getEntry(eq("TestKey"))).thenReturn(mockRegionEntry);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionEntry.getValue()).thenReturn(new String("TestEntity"));
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.NORMAL);
+
+		this.cacheLoader.withAdmissionPolicy(key -> false);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isSameAs(loadedEntity);
+
+		verify(mockRegionEntry, timeout(5000)).getValue();
+		verify(mockRegion, never()).localDestroy(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadKeepsRejectedEntityInPartitionedRegion() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+
+		this.cacheLoader.withAdmissionPolicy(key -> false);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(this.cacheLoader.getRejectedAdmissionCount()).isEqualTo(1L);
+
+		verify(mockRegion, never()).getEntry(any());
+		verify(mockRegion, never()).destroy(any(), any());
+		verify(mockRegion, never()).localDestroy(any(), any());
+	}
+
+	@Test
+	public void loadKeepsEntityInRegionWhenAdmitted() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.withAdmissionPolicy(key -> true);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(this.cacheLoader.getRejectedAdmissionCount()).isZero();
+
+		verify(this.mockLoaderHelper, never()).getRegion();
+	}
+
+	@Test
+	public void loadSkipsRepositoryForKeyInNegativeResultCache() {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(10, Duration.ofMinutes(1));
+
+		negativeResultCache.put("TestKey");
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(negativeResultCache);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isNull();
+
+		verify(this.mockCrudRepository, never()).findById(any());
+	}
+
+	@Test
+	public void loadFailsFastWhenCircuitBreakerIsOpen() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey")))
+			.thenThrow(new IncorrectResultSizeDataAccessException(1, 0));
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+
+		this.cacheLoader.with(circuitBreaker);
+
+		try {
+			this.cacheLoader.load(this.mockLoaderHelper);
+		}
+		catch (CacheLoaderException expected) {
+			assertThat(expected).hasCauseInstanceOf(IncorrectResultSizeDataAccessException.class);
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		try {
+			this.cacheLoader.load(this.mockLoaderHelper);
+		}
+		catch (CacheLoaderException expected) {
+			assertThat(expected).hasCauseInstanceOf(RepositoryOperationRejectedException.class);
+		}
+
+		assertThat(circuitBreaker.getRejectedCallCount()).isEqualTo(1L);
+
+		verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void loadReturnsStaleValueWhenCircuitBreakerIsOpen() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey")))
+			.thenReturn(Optional.of(this.testEntity))
+			.thenThrow(new IncorrectResultSizeDataAccessException(1, 0));
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.with(new CircuitBreaker(1, Duration.ofMinutes(1)));
+		this.cacheLoader.withStaleValueFallback(10);
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+
+		try {
+			this.cacheLoader.load(this.mockLoaderHelper);
+		}
+		catch (CacheLoaderException expected) {
+			assertThat(expected).hasCauseInstanceOf(IncorrectResultSizeDataAccessException.class);
+		}
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(this.cacheLoader.getStaleLoadCount()).isEqualTo(1L);
+
+		verify(this.mockCrudRepository, times(2)).findById(eq("TestKey"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadReturnsStaleValueAfterLoadTimeoutAndRevalidatesInBackground() throws Exception {
+
+		CountDownLatch repositoryLatch = new CountDownLatch(1);
+
+		Object reloadedEntity = new Object();
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenAnswer(invocation -> {
+			repositoryLatch.await();
+			return Optional.of(reloadedEntity);
+		});
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getEntry(eq("TestKey"))).thenReturn(mockRegionEntry);
+		when(mockRegionEntry.getValue()).thenReturn(this.testEntity);
+
+		StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>(10);
+
+		staleValueCache.put("TestKey", this.testEntity);
+
+		this.cacheLoader.withStaleValueCache(staleValueCache).withLoadTimeout(Duration.ofMillis(10));
+
+		try {
+			assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isSameAs(this.testEntity);
+			assertThat(this.cacheLoader.getStaleLoadCount()).isEqualTo(1L);
+		}
+		finally {
+			repositoryLatch.countDown();
+		}
+
+		verify(mockRegion, timeout(5000)).put(eq("TestKey"), eq(reloadedEntity),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+
+		assertThat(staleValueCache.get("TestKey")).isSameAs(reloadedEntity);
+
+		this.cacheLoader.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void revalidationKeepsEntityWrittenDuringReload() throws Exception {
+
+		CountDownLatch repositoryLatch = new CountDownLatch(1);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenAnswer(invocation -> {
+			repositoryLatch.await();
+			return Optional.of(new Object());
+		});
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getEntry(eq("TestKey"))).thenReturn(mockRegionEntry);
+		when(mockRegionEntry.getValue()).thenReturn(new Object());
+
+		StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>(10);
+
+		staleValueCache.put("TestKey", this.testEntity);
+
+		this.cacheLoader.withStaleValueCache(staleValueCache).withLoadTimeout(Duration.ofMillis(10));
+
+		try {
+			assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isSameAs(this.testEntity);
+		}
+		finally {
+			repositoryLatch.countDown();
+		}
+
+		verify(mockRegionEntry, timeout(5000)).getValue();
+		verify(mockRegion, never()).put(any(), any(), any());
+		verify(mockRegion, never()).localDestroy(any(), any());
+
+		this.cacheLoader.close();
+
+		assertThat(this.cacheLoader.getRevalidationCount()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void revalidationRemovesStaleEntityThatNoLongerExists() throws Exception {
+
+		CountDownLatch repositoryLatch = new CountDownLatch(1);
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		Region.Entry<Object, Object> mockRegionEntry = mock(Region.Entry.class);
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenAnswer(invocation -> {
+			repositoryLatch.await();
+			return Optional.empty();
+		});
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+		when(this.mockLoaderHelper.getRegion()).thenReturn(mockRegion);
+		when(mockRegion.getEntry(eq("TestKey"))).thenReturn(mockRegionEntry);
+		when(mockRegionEntry.getValue()).thenReturn(this.testEntity);
+
+		StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>(10);
+
+		staleValueCache.put("TestKey", this.testEntity);
+
+		this.cacheLoader.withStaleValueCache(staleValueCache).withLoadTimeout(Duration.ofMillis(10));
+
+		try {
+			assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isSameAs(this.testEntity);
+		}
+		finally {
+			repositoryLatch.countDown();
+		}
+
+		verify(mockRegion, timeout(5000)).localDestroy(eq("TestKey"),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+		verify(mockRegion, never()).put(any(), any(), any());
+
+		assertThat(staleValueCache.get("TestKey")).isNull();
+
+		this.cacheLoader.close();
+	}
+
+	@Test
+	public void loadWithinLoadTimeoutReturnsLoadedEntity() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>(10);
+
+		staleValueCache.put("TestKey", new Object());
+
+		this.cacheLoader.withStaleValueCache(staleValueCache).withLoadTimeout(Duration.ofSeconds(5));
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isSameAs(this.testEntity);
+		assertThat(this.cacheLoader.getStaleLoadCount()).isZero();
+		assertThat(staleValueCache.get("TestKey")).isSameAs(this.testEntity);
+
+		this.cacheLoader.close();
+	}
+
+	@Test
+	public void loadCoalescingIsDisabledByDefault() {
+
+		assertThat(this.cacheLoader.isLoadCoalescingEnabled()).isFalse();
+		assertThat(this.cacheLoader.withLoadCoalescing(true).isLoadCoalescingEnabled()).isTrue();
+		assertThat(this.cacheLoader.withLoadCoalescing(false).isLoadCoalescingEnabled()).isFalse();
+	}
+
+	@Test
+	public void coalescedLoadThrowsCacheLoaderException() {
+
+		when(this.mockCrudRepository.findById(eq("TestKey")))
+			.thenThrow(new IncorrectResultSizeDataAccessException(1, 0));
+
+		when(this.mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+		this.cacheLoader.withLoadCoalescing(true);
+
+		try {
+			this.cacheLoader.load(this.mockLoaderHelper);
+		}
+		catch (CacheLoaderException expected) {
+			assertThat(expected).hasCauseInstanceOf(IncorrectResultSizeDataAccessException.class);
+		}
+
+		// the failed load must not remain in-flight
+		when(this.mockCrudRepository.findById(eq("TestKey"))).thenReturn(Optional.of(this.testEntity));
+
+		assertThat(this.cacheLoader.load(this.mockLoaderHelper)).isEqualTo(this.testEntity);
+		assertThat(this.cacheLoader.getCoalescedLoadCount()).isZero();
+
+		verify(this.mockCrudRepository, times(2)).findById(eq("TestKey"));
+	}
+
+	@Test
+	public void concurrentLoadsForSameKeyAreCoalesced() throws Throwable {
+		TestFramework.runOnce(new CoalescedLoadMultithreadedTestCase());
+	}
+
+	@Test
+	public void coalescedLoadsFailWhenRepositoryThrowsError() throws Throwable {
+		TestFramework.runOnce(new CoalescedLoadErrorMultithreadedTestCase());
+	}
+
 	@Test
 	@SuppressWarnings("all")
 	public void newCacheRuntimeExceptionIsCorrect() {
@@ -137,4 +604,130 @@ public class RepositoryCacheLoaderUnitTests {
 		assertThat(cacheRuntimeException.getMessage()).isEqualTo("TEST");
 		assertThat(cacheRuntimeException.getCause()).isEqualTo(cause);
 	}
+
+	@SuppressWarnings({ "unchecked", "unused" })
+	static class CoalescedLoadMultithreadedTestCase extends MultithreadedTestCase {
+
+		private final Object entity = new Object();
+
+		private CrudRepository<Object, Object> mockCrudRepository;
+
+		private RepositoryCacheLoader<Object, Object> cacheLoader;
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			this.mockCrudRepository = mock(CrudRepository.class);
+
+			when(this.mockCrudRepository.findById(eq("TestKey"))).thenAnswer(invocation -> {
+				waitForTick(2);
+				return Optional.of(this.entity);
+			});
+
+			this.cacheLoader = new RepositoryCacheLoader<>(this.mockCrudRepository).withLoadCoalescing(true);
+		}
+
+		private LoaderHelper<Object, Object> newLoaderHelper() {
+
+			LoaderHelper<Object, Object> mockLoaderHelper = mock(LoaderHelper.class);
+
+			when(mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+			return mockLoaderHelper;
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Repository Load Thread");
+
+			assertThat(this.cacheLoader.load(newLoaderHelper())).isSameAs(this.entity);
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Coalesced Load Thread");
+
+			waitForTick(1);
+
+			assertThat(this.cacheLoader.load(newLoaderHelper())).isSameAs(this.entity);
+		}
+
+		@Override
+		public void finish() {
+
+			assertThat(this.cacheLoader.getCoalescedLoadCount()).isEqualTo(1L);
+
+			verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "unused" })
+	static class CoalescedLoadErrorMultithreadedTestCase extends MultithreadedTestCase {
+
+		private CrudRepository<Object, Object> mockCrudRepository;
+
+		private RepositoryCacheLoader<Object, Object> cacheLoader;
+
+		@Override
+		public void initialize() {
+
+			super.initialize();
+
+			this.mockCrudRepository = mock(CrudRepository.class);
+
+			when(this.mockCrudRepository.findById(eq("TestKey"))).thenAnswer(invocation -> {
+				waitForTick(2);
+				throw new InternalError("TEST");
+			});
+
+			this.cacheLoader = new RepositoryCacheLoader<>(this.mockCrudRepository).withLoadCoalescing(true);
+		}
+
+		private LoaderHelper<Object, Object> newLoaderHelper() {
+
+			LoaderHelper<Object, Object> mockLoaderHelper = mock(LoaderHelper.class);
+
+			when(mockLoaderHelper.getKey()).thenReturn("TestKey");
+
+			return mockLoaderHelper;
+		}
+
+		private void assertLoadFails() {
+
+			try {
+				this.cacheLoader.load(newLoaderHelper());
+				fail("Expected InternalError");
+			}
+			catch (InternalError expected) {
+				assertThat(expected).hasMessage("TEST");
+			}
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Repository Load Thread");
+
+			assertLoadFails();
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Coalesced Load Thread");
+
+			waitForTick(1);
+
+			// must not block forever when the in-flight load throws an Error
+			assertLoadFails();
+		}
+
+		@Override
+		public void finish() {
+
+			assertThat(this.cacheLoader.getCoalescedLoadCount()).isEqualTo(1L);
+
+			verify(this.mockCrudRepository, times(1)).findById(eq("TestKey"));
+		}
+	}
 }
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -35,7 +36,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheWriter;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
 
 import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
@@ -185,4 +189,79 @@ public class RepositoryCacheWriterRegionConfigurerUnitTests {
 		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
 		verify(this.mockPredicate, times(1)).test(eq("Example"));
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresPeerRegionFactoryBeanWithWriteBehindQueueWhenWriteBehindIsEnabled() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		AsyncEventQueueFactory mockAsyncEventQueueFactory = mock(AsyncEventQueueFactory.class, answer ->
+			AsyncEventQueueFactory.class.equals(answer.getMethod().getReturnType()) ? answer.getMock() : null);
+
+		Cache mockCache = mock(Cache.class);
+
+		PeerRegionFactoryBean<?, ?> peerRegionFactoryBean = mock(PeerRegionFactoryBean.class);
+
+		doAnswer(answer -> mockAsyncEventQueue).when(mockAsyncEventQueueFactory)
+			.create(eq("ExampleRepositoryWriteBehindQueue"), isA(RepositoryAsyncEventListener.class));
+
+		when(mockAsyncEventQueue.size()).thenReturn(42);
+		when(mockCache.createAsyncEventQueueFactory()).thenReturn(mockAsyncEventQueueFactory);
+		when(peerRegionFactoryBean.getCache()).thenReturn(mockCache);
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		RepositoryCacheWriterRegionConfigurer<?, ?> regionConfigurer =
+			new RepositoryCacheWriterRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withWriteBehind(WriteBehindSettings.defaults().withBatchSize(500).withBatchConflation(true));
+
+		assertThat(regionConfigurer.isWriteBehindEnabled()).isTrue();
+
+		regionConfigurer.configure("Example", peerRegionFactoryBean);
+
+		assertThat(regionConfigurer.getWriteBehindQueue("Example").orElse(null)).isEqualTo(mockAsyncEventQueue);
+		assertThat(regionConfigurer.getWriteBehindQueueSize("Example")).isEqualTo(42);
+		assertThat(regionConfigurer.getWriteBehindQueueSize("NonExistingRegion")).isZero();
+
+		verify(mockAsyncEventQueueFactory, times(1)).setBatchSize(eq(500));
+		verify(mockAsyncEventQueueFactory, times(1)).setBatchConflationEnabled(eq(true));
+		verify(peerRegionFactoryBean, times(1)).setAsyncEventQueues(eq(new AsyncEventQueue[] { mockAsyncEventQueue }));
+		verify(peerRegionFactoryBean, never()).setCacheWriter(any(CacheWriter.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresClientRegionFactoryBeanWithRepositoryCacheWriterWhenWriteBehindIsEnabled() {
+
+		ClientRegionFactoryBean<?, ?> clientRegionFactoryBean = spy(new ClientRegionFactoryBean<>());
+
+		when(this.mockPredicate.test(anyString())).thenReturn(true);
+
+		RepositoryCacheWriterRegionConfigurer<?, ?> regionConfigurer =
+			new RepositoryCacheWriterRegionConfigurer<>(this.mockRepository, this.mockPredicate)
+				.withWriteBehind(WriteBehindSettings.defaults());
+
+		regionConfigurer.configure("Example", clientRegionFactoryBean);
+
+		verify(clientRegionFactoryBean, times(1)).setCacheWriter(isA(RepositoryCacheWriter.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void newRepositoryCacheWriterIsGroupCommitWhenGroupCommitIsEnabled() {
+
+		RepositoryCacheWriterRegionConfigurer<Object, Object> regionConfigurer =
+			new RepositoryCacheWriterRegionConfigurer<>((CrudRepository<Object, Object>) this.mockRepository,
+				this.mockPredicate);
+
+		assertThat(regionConfigurer.newRepositoryCacheWriter()).isNotInstanceOf(GroupCommitRepositoryCacheWriter.class);
+
+		RepositoryCacheWriter<?, ?> cacheWriter =
+			regionConfigurer.withGroupCommit(Duration.ofMillis(10), 50).newRepositoryCacheWriter();
+
+		assertThat(cacheWriter).isInstanceOf(GroupCommitRepositoryCacheWriter.class);
+		assertThat(((GroupCommitRepositoryCacheWriter<?, ?>) cacheWriter).getCommitWindow())
+			.isEqualTo(Duration.ofMillis(10));
+		assertThat(((GroupCommitRepositoryCacheWriter<?, ?>) cacheWriter).getMaximumGroupSize()).isEqualTo(50);
+	}
 }
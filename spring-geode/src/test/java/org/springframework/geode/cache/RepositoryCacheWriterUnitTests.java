@@ -16,6 +16,7 @@
 package org.springframework.geode.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -24,6 +25,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Collections;
+
 import org.apache.geode.cache.CacheRuntimeException;
 import org.apache.geode.cache.CacheWriterException;
 import org.apache.geode.cache.EntryEvent;
@@ -35,6 +39,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.geode.cache.support.BloomFilter;
+import org.springframework.geode.cache.support.NegativeResultCache;
+import org.springframework.geode.cache.support.PartialUpdateRepository;
 import org.springframework.geode.cache.support.RepositoryCacheLoaderWriterSupport;
 
 /**
@@ -83,6 +90,208 @@ public class RepositoryCacheWriterUnitTests {
 		verify(this.mockCrudRepository, times(1)).save(eq(this.testEntity));
 	}
 
+	@Test
+	public void beforeUpdateSkipsSaveWhenNewValueEqualsOldValue() {
+
+		RepositoryCacheWriter<Object, Object> cacheWriter =
+			new RepositoryCacheWriter<>(this.mockCrudRepository).withChangeDetection();
+
+		when(this.mockEntryEvent.getOldValue()).thenReturn("TestValue");
+		when(this.mockEntryEvent.getNewValue()).thenReturn(new String("TestValue")).thenReturn("MockValue");
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(cacheWriter.isChangeDetectionEnabled()).isTrue();
+		assertThat(cacheWriter.getSkippedWriteCount()).isEqualTo(1L);
+
+		verify(this.mockCrudRepository, never()).save(eq("TestValue"));
+		verify(this.mockCrudRepository, times(1)).save(eq("MockValue"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void beforeUpdateWritesChangedPropertiesAsPartialUpdate() {
+
+		PartialUpdateRepository<Object, Object> mockPartialUpdateRepository = mock(PartialUpdateRepository.class);
+
+		RepositoryCacheWriter<Object, Object> cacheWriter = new RepositoryCacheWriter<>(this.mockCrudRepository)
+			.withPartialUpdates(mockPartialUpdateRepository, (oldValue, newValue) -> oldValue.equals(newValue)
+				? Collections.emptyMap()
+				: Collections.singletonMap("name", newValue));
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getOldValue()).thenReturn("ONE");
+		when(this.mockEntryEvent.getNewValue()).thenReturn("TWO").thenReturn(new String("ONE"));
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(cacheWriter.isPartialUpdateEnabled()).isTrue();
+		assertThat(cacheWriter.getPartialUpdateCount()).isEqualTo(1L);
+		assertThat(cacheWriter.getSkippedWriteCount()).isEqualTo(1L);
+
+		verify(mockPartialUpdateRepository, times(1))
+			.updateById(eq("TestKey"), eq(Collections.singletonMap("name", "TWO")));
+		verify(this.mockCrudRepository, never()).save(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void beforeUpdateSavesWholeEntityWhenPartialUpdateIsNotPossible() {
+
+		PartialUpdateRepository<Object, Object> mockPartialUpdateRepository = mock(PartialUpdateRepository.class);
+
+		RepositoryCacheWriter<Object, Object> cacheWriter = new RepositoryCacheWriter<>(this.mockCrudRepository)
+			.withPartialUpdates(mockPartialUpdateRepository, (oldValue, newValue) -> null);
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getOldValue()).thenReturn(null).thenReturn("ONE");
+		when(this.mockEntryEvent.getNewValue()).thenReturn("TWO");
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(cacheWriter.getPartialUpdateCount()).isZero();
+
+		verify(this.mockCrudRepository, times(2)).save(eq("TWO"));
+		verifyZeroInteractions(mockPartialUpdateRepository);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void beforeUpdateSavesWholeEntityModifiedInPlace() {
+
+		PartialUpdateRepository<Object, Object> mockPartialUpdateRepository = mock(PartialUpdateRepository.class);
+
+		RepositoryCacheWriter<Object, Object> cacheWriter = new RepositoryCacheWriter<>(this.mockCrudRepository)
+			.withPartialUpdates(mockPartialUpdateRepository, (oldValue, newValue) -> Collections.emptyMap());
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getOldValue()).thenReturn("TestValue");
+		when(this.mockEntryEvent.getNewValue()).thenReturn("TestValue");
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(cacheWriter.getPartialUpdateCount()).isZero();
+		assertThat(cacheWriter.getSkippedWriteCount()).isZero();
+
+		verify(this.mockCrudRepository, times(1)).save(eq("TestValue"));
+		verifyZeroInteractions(mockPartialUpdateRepository);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void withPartialUpdatesRequiresChangedPropertiesResolver() {
+
+		try {
+			this.cacheWriter.withPartialUpdates(mock(PartialUpdateRepository.class), null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Changed properties resolver is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void beforeUpdateSkipsSaveWhenContentHashIsUnchanged() {
+
+		RepositoryCacheWriter<Object, Object> cacheWriter = new RepositoryCacheWriter<>(this.mockCrudRepository)
+			.withContentHashChangeDetection(value -> value.toString().length());
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getOldValue()).thenReturn("ONE").thenReturn("TWO");
+		when(this.mockEntryEvent.getNewValue()).thenReturn("TWO").thenReturn("THREE");
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(cacheWriter.getSkippedWriteCount()).isEqualTo(1L);
+
+		verify(this.mockCrudRepository, never()).save(eq("TWO"));
+		verify(this.mockCrudRepository, times(1)).save(eq("THREE"));
+	}
+
+	@Test
+	public void beforeUpdateSavesEntityModifiedInPlace() {
+
+		Object entity = new Object();
+
+		RepositoryCacheWriter<Object, Object> cacheWriter = new RepositoryCacheWriter<>(this.mockCrudRepository)
+			.withChangeDetection((oldValue, newValue) -> 0)
+			.withContentHashChangeDetection(value -> 1L);
+
+		when(this.mockEntryEvent.getOldValue()).thenReturn(entity);
+		when(this.mockEntryEvent.getNewValue()).thenReturn(entity);
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		assertThat(cacheWriter.getSkippedWriteCount()).isZero();
+
+		verify(this.mockCrudRepository, times(1)).save(eq(entity));
+	}
+
+	@Test
+	public void beforeUpdateSavesEntityWithoutOldValue() {
+
+		RepositoryCacheWriter<Object, Object> cacheWriter = new RepositoryCacheWriter<>(this.mockCrudRepository)
+			.withContentHashChangeDetection(value -> 1L);
+
+		when(this.mockEntryEvent.getNewValue()).thenReturn("ONE");
+
+		cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		verify(this.mockCrudRepository, times(1)).save(eq("ONE"));
+	}
+
+	@Test
+	public void beforeCreateAndBeforeUpdateDoNotSavePreloadedEntities() {
+
+		when(this.mockEntryEvent.getCallbackArgument()).thenReturn(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+
+		this.cacheWriter.beforeCreate(this.mockEntryEvent);
+		this.cacheWriter.beforeUpdate(this.mockEntryEvent);
+
+		verify(this.mockCrudRepository, never()).save(any());
+	}
+
+	@Test
+	public void beforeCreateAddsKeyToBloomFilter() {
+
+		BloomFilter<Object> bloomFilter = new BloomFilter<>(100, 0.01d).initialize(null);
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getNewValue()).thenReturn(this.testEntity);
+
+		assertThat(bloomFilter.mightContain("TestKey")).isFalse();
+
+		this.cacheWriter.with(bloomFilter).beforeCreate(this.mockEntryEvent);
+
+		assertThat(bloomFilter.mightContain("TestKey")).isTrue();
+
+		verify(this.mockCrudRepository, times(1)).save(eq(this.testEntity));
+	}
+
+	@Test
+	public void beforeCreateEvictsKeyFromNegativeResultCache() {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(10, Duration.ofMinutes(1));
+
+		negativeResultCache.put("TestKey");
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getNewValue()).thenReturn(this.testEntity);
+
+		this.cacheWriter.with(negativeResultCache).beforeCreate(this.mockEntryEvent);
+
+		assertThat(negativeResultCache.contains("TestKey")).isFalse();
+
+		verify(this.mockCrudRepository, times(1)).save(eq(this.testEntity));
+	}
+
 	@Test
 	public void beforeUpdateSavesEntityWithRepository() {
 
@@ -105,6 +314,17 @@ public class RepositoryCacheWriterUnitTests {
 		verify(this.mockCrudRepository, times(1)).deleteById(eq("TestKey"));
 	}
 
+	@Test
+	public void beforeDestroyDoesNotDeletePreloadRemovals() {
+
+		when(this.mockEntryEvent.getKey()).thenReturn("TestKey");
+		when(this.mockEntryEvent.getCallbackArgument()).thenReturn(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT);
+
+		this.cacheWriter.beforeDestroy(this.mockEntryEvent);
+
+		verify(this.mockCrudRepository, never()).deleteById(any());
+	}
+
 	@Test
 	public void beforeRegionClearDeletesAllWithRepositoryWhenNukeAndPaveIsEnabled() {
 
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Unit Tests for {@link RepositoryChangePoller}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.cache.RepositoryChangePoller
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RepositoryChangePollerUnitTests {
+
+	@Mock
+	private Region<String, Row> mockRegion;
+
+	private final List<Row> rows = new ArrayList<>();
+
+	private final List<Long> queriedCheckpoints = new ArrayList<>();
+
+	private final List<String> queriedCheckpointIds = new ArrayList<>();
+
+	private final RepositoryChangePoller.ChangeQuery<Row, String, Long> findChangesAfter = (version, id, pageable) -> {
+
+		this.queriedCheckpoints.add(version);
+		this.queriedCheckpointIds.add(id);
+
+		return this.rows.stream()
+			.filter(row -> version == null || row.version > version
+				|| (row.version.equals(version) && id != null && row.id.compareTo(id) > 0))
+			.sorted(Comparator.comparing(Row::getVersion).thenComparing(Row::getId))
+			.limit(pageable.getPageSize())
+			.collect(Collectors.toList());
+	};
+
+	private RepositoryChangePoller<Row, String, Long> newRepositoryChangePoller() {
+		return new RepositoryChangePoller<>(Row::getId, Row::getVersion, this.findChangesAfter);
+	}
+
+	private static Map<String, Row> toMap(Row... rows) {
+
+		Map<String, Row> map = new LinkedHashMap<>();
+
+		Arrays.stream(rows).forEach(row -> map.put(row.getId(), row));
+
+		return map;
+	}
+
+	@Test
+	public void defaultsAreCorrect() {
+
+		RepositoryChangePoller<Row, String, Long> changePoller = newRepositoryChangePoller();
+
+		assertThat(changePoller.getBatchSize()).isEqualTo(RepositoryChangePoller.DEFAULT_BATCH_SIZE);
+		assertThat(changePoller.getPollInterval()).isEqualTo(RepositoryChangePoller.DEFAULT_POLL_INTERVAL);
+		assertThat(changePoller.getCheckpoint()).isNull();
+		assertThat(changePoller.getCheckpointId()).isNull();
+		assertThat(changePoller.isRunning()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidBatchSizeThrowsException() {
+
+		try {
+			newRepositoryChangePoller().withBatchSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Batch size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidPollIntervalThrowsException() {
+
+		try {
+			newRepositoryChangePoller().withPollInterval(Duration.ZERO);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Poll interval [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void pollPutsChangesInBatchesAndAdvancesCheckpoint() {
+
+		Row one = new Row("1", 10L);
+		Row two = new Row("2", 20L);
+		Row three = new Row("3", 30L);
+
+		this.rows.addAll(Arrays.asList(three, one, two));
+
+		RepositoryChangePoller<Row, String, Long> changePoller = newRepositoryChangePoller().withBatchSize(2);
+
+		assertThat(changePoller.poll(this.mockRegion)).isEqualTo(3L);
+		assertThat(changePoller.getCheckpoint()).isEqualTo(30L);
+		assertThat(changePoller.getCheckpointId()).isEqualTo("3");
+		assertThat(changePoller.getChangeCount()).isEqualTo(3L);
+		assertThat(this.queriedCheckpoints).containsExactly(null, 20L);
+		assertThat(this.queriedCheckpointIds).containsExactly(null, "2");
+
+		verify(this.mockRegion).putAll(eq(toMap(one, two)), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+		verify(this.mockRegion).putAll(eq(toMap(three)), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+
+		Row updatedOne = new Row("1", 40L);
+
+		this.rows.add(updatedOne);
+
+		assertThat(changePoller.poll(this.mockRegion)).isEqualTo(1L);
+		assertThat(changePoller.getCheckpoint()).isEqualTo(40L);
+		assertThat(changePoller.getPollCount()).isEqualTo(2L);
+
+		verify(this.mockRegion).putAll(eq(toMap(updatedOne)), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void pollPagesThroughEntitiesSharingVersionByIdentifier() {
+
+		IntStream.range(0, 5).forEach(id -> this.rows.add(new Row(String.valueOf(id), 10L)));
+
+		RepositoryChangePoller<Row, String, Long> changePoller = newRepositoryChangePoller().withBatchSize(2);
+
+		assertThat(changePoller.poll(this.mockRegion)).isEqualTo(5L);
+		assertThat(changePoller.getCheckpoint()).isEqualTo(10L);
+		assertThat(changePoller.getCheckpointId()).isEqualTo("4");
+		assertThat(this.queriedCheckpointIds).containsExactly(null, "1", "3");
+
+		verify(this.mockRegion).putAll(eq(toMap(this.rows.get(0), this.rows.get(1))),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+		verify(this.mockRegion).putAll(eq(toMap(this.rows.get(2), this.rows.get(3))),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+		verify(this.mockRegion).putAll(eq(toMap(this.rows.get(4))),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void pollFromInitialCheckpointWithIdentifierReadsRemainingEntitiesSharingVersion() {
+
+		Row one = new Row("1", 10L);
+		Row two = new Row("2", 10L);
+
+		this.rows.addAll(Arrays.asList(one, two));
+
+		RepositoryChangePoller<Row, String, Long> changePoller =
+			newRepositoryChangePoller().withInitialCheckpoint(10L, "1");
+
+		assertThat(changePoller.poll(this.mockRegion)).isEqualTo(1L);
+		assertThat(changePoller.getCheckpointId()).isEqualTo("2");
+
+		verify(this.mockRegion).putAll(eq(toMap(two)), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void clientRegionIsAlwaysPolled() {
+		assertThat(newRepositoryChangePoller().isPollingMember(this.mockRegion)).isTrue();
+	}
+
+	@Test
+	public void pollFromInitialCheckpointWithNoChangesDoesNotPut() {
+
+		this.rows.add(new Row("1", 10L));
+
+		RepositoryChangePoller<Row, String, Long> changePoller = newRepositoryChangePoller().withInitialCheckpoint(10L);
+
+		assertThat(changePoller.poll(this.mockRegion)).isZero();
+		assertThat(changePoller.getCheckpoint()).isEqualTo(10L);
+		assertThat(this.queriedCheckpoints).containsExactly(10L);
+
+		verify(this.mockRegion, never()).putAll(any(), any());
+	}
+
+	@Test
+	public void failedPutDoesNotAdvanceCheckpoint() {
+
+		this.rows.add(new Row("1", 10L));
+
+		RepositoryChangePoller<Row, String, Long> changePoller = newRepositoryChangePoller();
+
+		doThrow(new DataAccessResourceFailureException("TEST"))
+			.when(this.mockRegion).putAll(any(), any());
+
+		try {
+			changePoller.poll(this.mockRegion);
+		}
+		catch (DataAccessResourceFailureException expected) {
+			assertThat(expected).hasMessage("TEST");
+		}
+
+		assertThat(changePoller.getCheckpoint()).isNull();
+		assertThat(changePoller.getFailedPollCount()).isEqualTo(1L);
+		assertThat(changePoller.getChangeCount()).isZero();
+	}
+
+	static class Row {
+
+		private final Long version;
+
+		private final String id;
+
+		Row(String id, Long version) {
+			this.id = id;
+			this.version = version;
+		}
+
+		String getId() {
+			return this.id;
+		}
+
+		Long getVersion() {
+			return this.version;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Row{id=%1$s, version=%2$d}", this.id, this.version);
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheLoaderException;
+import org.apache.geode.cache.Region;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+/**
+ * Unit Tests for {@link RepositoryRegionPreloader}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.repository.PagingAndSortingRepository
+ * @see org.springframework.geode.cache.RepositoryRegionPreloader
+ * @since 1.2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class RepositoryRegionPreloaderUnitTests {
+
+	@Mock
+	private PagingAndSortingRepository<String, String> mockPagingAndSortingRepository;
+
+	@Mock
+	private Region<String, String> mockRegion;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullEntityIdentifierThrowsException() {
+
+		try {
+			new RepositoryRegionPreloader<>(this.mockPagingAndSortingRepository, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Entity identifier Function is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidChunkSizeThrowsException() {
+
+		try {
+			new RepositoryRegionPreloader<>(this.mockPagingAndSortingRepository, String::toLowerCase).withChunkSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Chunk size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	private static Function<Pageable, Slice<String>> sliceReader(List<String> entities) {
+
+		return pageable -> {
+
+			int fromIndex = (int) Math.min(pageable.getOffset(), entities.size());
+			int toIndex = Math.min(fromIndex + pageable.getPageSize(), entities.size());
+
+			return new SliceImpl<>(entities.subList(fromIndex, toIndex), pageable, toIndex < entities.size());
+		};
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullSliceReaderThrowsException() {
+
+		try {
+			new RepositoryRegionPreloader<String, String>((Function<Pageable, Slice<String>>) null, String::toLowerCase);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Slice reader Function is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void preloadPutsAllEntitiesInChunks() {
+
+		RepositoryRegionPreloader<String, String> regionPreloader =
+			new RepositoryRegionPreloader<>(sliceReader(Arrays.asList("ONE", "TWO", "THREE")), String::toLowerCase)
+				.withChunkSize(2);
+
+		assertThat(regionPreloader.preload(this.mockRegion)).isEqualTo(3L);
+		assertThat(regionPreloader.getPreloadedCount()).isEqualTo(3L);
+
+		Map<String, String> firstChunk = new ConcurrentHashMap<>();
+
+		firstChunk.put("one", "ONE");
+		firstChunk.put("two", "TWO");
+
+		verify(this.mockRegion, times(1))
+			.putAll(eq(firstChunk), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+
+		verify(this.mockRegion, times(1)).putAll(eq(Collections.singletonMap("three", "THREE")),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+	}
+
+	@Test
+	public void preloadReadsPagesConcurrentlyFromPagingAndSortingRepository() {
+
+		List<String> entities = IntStream.range(0, 25).mapToObj(String::valueOf).collect(Collectors.toList());
+
+		when(this.mockPagingAndSortingRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+
+			Pageable pageable = invocation.getArgument(0);
+
+			int fromIndex = (int) Math.min(pageable.getOffset(), entities.size());
+			int toIndex = Math.min(fromIndex + pageable.getPageSize(), entities.size());
+
+			return new PageImpl<>(entities.subList(fromIndex, toIndex), pageable, entities.size());
+		});
+
+		Map<String, String> regionData = new ConcurrentHashMap<>();
+
+		doAnswer(invocation -> {
+			regionData.putAll(invocation.getArgument(0));
+			return null;
+		}).when(this.mockRegion).putAll(anyMap(), eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+
+		RepositoryRegionPreloader<String, String> regionPreloader =
+			new RepositoryRegionPreloader<>(this.mockPagingAndSortingRepository, String::valueOf)
+				.withChunkSize(10)
+				.withParallelism(2);
+
+		assertThat(regionPreloader.preload(this.mockRegion)).isEqualTo(25L);
+		assertThat(regionData).hasSize(25);
+		assertThat(regionData.keySet()).containsAll(entities);
+
+		verify(this.mockPagingAndSortingRepository, times(1)).findAll(eq(PageRequest.of(0, 10)));
+		verify(this.mockPagingAndSortingRepository, times(1)).findAll(eq(PageRequest.of(2, 10)));
+	}
+
+	@Test(expected = CacheLoaderException.class)
+	public void preloadThrowsCacheLoaderExceptionWhenRepositoryFails() {
+
+		when(this.mockPagingAndSortingRepository.findAll(any(Pageable.class))).thenThrow(new DataAccessResourceFailureException("TEST"));
+		when(this.mockRegion.getFullPath()).thenReturn("/Example");
+
+		try {
+			new RepositoryRegionPreloader<>(this.mockPagingAndSortingRepository, String::toLowerCase).preload(this.mockRegion);
+		}
+		catch (CacheLoaderException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Failed to preload Region [/Example]");
+			assertThat(expected).hasCauseInstanceOf(DataAccessResourceFailureException.class);
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void preloadSkipsRegionAlreadyContainingEntries() {
+
+		when(this.mockRegion.size()).thenReturn(1);
+
+		RepositoryRegionPreloader<String, String> regionPreloader =
+			new RepositoryRegionPreloader<>(this.mockPagingAndSortingRepository, String::toLowerCase);
+
+		assertThat(regionPreloader.preload(this.mockRegion)).isZero();
+		assertThat(regionPreloader.getPreloadedCount()).isZero();
+
+		verify(this.mockRegion, never()).putAll(anyMap(), any());
+		verifyZeroInteractions(this.mockPagingAndSortingRepository);
+	}
+
+	@Test
+	public void preloadPutsOnlyEntitiesPreloadedLocally() {
+
+		RepositoryRegionPreloader<String, String> regionPreloader =
+			new RepositoryRegionPreloader<String, String>(sliceReader(Arrays.asList("ONE", "TWO", "THREE")),
+					String::toLowerCase) {
+
+				@Override
+				protected boolean isPreloadedLocally(Region<String, String> region, String key) {
+					return !"two".equals(key);
+				}
+			}.withChunkSize(2);
+
+		assertThat(regionPreloader.preload(this.mockRegion)).isEqualTo(2L);
+
+		verify(this.mockRegion, times(1)).putAll(eq(Collections.singletonMap("one", "ONE")),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+
+		verify(this.mockRegion, times(1)).putAll(eq(Collections.singletonMap("three", "THREE")),
+			eq(RepositoryRegionPreloader.PRELOAD_CALLBACK_ARGUMENT));
+	}
+}
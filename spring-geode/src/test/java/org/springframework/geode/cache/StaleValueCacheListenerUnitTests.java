@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Operation;
+import org.junit.Test;
+import org.springframework.geode.cache.support.StaleValueCache;
+
+/**
+ * Unit Tests for {@link StaleValueCacheListener}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.geode.cache.StaleValueCacheListener
+ * @since 1.2.1
+ */
+public class StaleValueCacheListenerUnitTests {
+
+	private final StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>(10);
+
+	private final StaleValueCacheListener<Object, Object> listener = new StaleValueCacheListener<>(this.staleValueCache);
+
+	@SuppressWarnings("unchecked")
+	private EntryEvent<Object, Object> newEntryEvent(Operation operation, Object key, Object oldValue) {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getOperation()).thenReturn(operation);
+		when(mockEntryEvent.getKey()).thenReturn(key);
+
+		if (oldValue != null) {
+			when(mockEntryEvent.getOldValue()).thenReturn(oldValue);
+		}
+
+		return mockEntryEvent;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructStaleValueCacheListenerWithNullStaleValueCacheThrowsException() {
+
+		try {
+			new StaleValueCacheListener<>(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("StaleValueCache is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void recordsExpiredAndEvictedValues() {
+
+		this.listener.afterDestroy(newEntryEvent(Operation.EXPIRE_DESTROY, 1, "one"));
+		this.listener.afterDestroy(newEntryEvent(Operation.EVICT_DESTROY, 2, "two"));
+		this.listener.afterInvalidate(newEntryEvent(Operation.EXPIRE_INVALIDATE, 3, "three"));
+
+		assertThat(this.staleValueCache.get(1)).isEqualTo("one");
+		assertThat(this.staleValueCache.get(2)).isEqualTo("two");
+		assertThat(this.staleValueCache.get(3)).isEqualTo("three");
+	}
+
+	@Test
+	public void removesDestroyedValues() {
+
+		this.staleValueCache.put(1, "one");
+
+		this.listener.afterDestroy(newEntryEvent(Operation.DESTROY, 1, null));
+
+		assertThat(this.staleValueCache.get(1)).isNull();
+		assertThat(this.staleValueCache.size()).isZero();
+	}
+}
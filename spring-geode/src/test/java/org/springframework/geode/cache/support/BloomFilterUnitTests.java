@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link BloomFilter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.BloomFilter
+ * @since 1.2.1
+ */
+public class BloomFilterUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructBloomFilterWithInvalidExpectedKeysThrowsException() {
+
+		try {
+			new BloomFilter<>(0, 0.01d);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Expected keys [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructBloomFilterWithInvalidFalsePositiveProbabilityThrowsException() {
+
+		try {
+			new BloomFilter<>(100, 1.0d);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("False positive probability [1.0] must be between 0 and 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void bloomFilterIsSizedForExpectedKeysAndFalsePositiveProbability() {
+
+		BloomFilter<Long> bloomFilter = new BloomFilter<>(1000, 0.01d);
+
+		// m = -1000 * ln(0.01) / ln(2)^2 = 9586 bits, rounded up to 150 64-bit words
+		assertThat(bloomFilter.getBitSize()).isEqualTo(9600L);
+		assertThat(bloomFilter.getHashFunctionCount()).isEqualTo(7);
+		assertThat(bloomFilter.getMemoryFootprint()).isEqualTo(1200L);
+		assertThat(bloomFilter.getFalsePositiveProbability()).isZero();
+	}
+
+	@Test
+	public void mightContainReturnsTrueUntilInitialized() {
+
+		BloomFilter<String> bloomFilter = new BloomFilter<>(100, 0.01d);
+
+		assertThat(bloomFilter.isInitialized()).isFalse();
+		assertThat(bloomFilter.mightContain("one")).isTrue();
+
+		bloomFilter.initialize(Stream.of("two"));
+
+		assertThat(bloomFilter.isInitialized()).isTrue();
+		assertThat(bloomFilter.mightContain("one")).isFalse();
+		assertThat(bloomFilter.mightContain("two")).isTrue();
+	}
+
+	@Test
+	public void putAddsKeyAfterInitialization() {
+
+		BloomFilter<String> bloomFilter = new BloomFilter<String>(100, 0.01d).initialize(null);
+
+		assertThat(bloomFilter.mightContain("one")).isFalse();
+
+		bloomFilter.put("one");
+
+		assertThat(bloomFilter.mightContain("one")).isTrue();
+	}
+
+	@Test
+	public void rebuildReplacesKeys() {
+
+		BloomFilter<String> bloomFilter = new BloomFilter<String>(100, 0.001d).rebuild(Stream.of("one"));
+
+		assertThat(bloomFilter.isInitialized()).isTrue();
+		assertThat(bloomFilter.mightContain("one")).isTrue();
+		assertThat(bloomFilter.mightContain("two")).isFalse();
+
+		bloomFilter.rebuild(Stream.of("two"));
+
+		assertThat(bloomFilter.mightContain("one")).isFalse();
+		assertThat(bloomFilter.mightContain("two")).isTrue();
+	}
+
+	@Test
+	public void putDuringRebuildIsKept() {
+
+		BloomFilter<String> bloomFilter = new BloomFilter<>(100, 0.001d);
+
+		bloomFilter.rebuild(Stream.of("one").peek(key -> bloomFilter.put("two")));
+
+		assertThat(bloomFilter.mightContain("one")).isTrue();
+		assertThat(bloomFilter.mightContain("two")).isTrue();
+	}
+
+	@Test
+	public void addedKeysAreNeverReportedAbsentAndFalsePositivesAreRare() {
+
+		BloomFilter<Long> bloomFilter = new BloomFilter<Long>(10000, 0.01d)
+			.initialize(LongStream.range(0, 10000).boxed());
+
+		assertThat(LongStream.range(0, 10000).allMatch(bloomFilter::mightContain)).isTrue();
+
+		long falsePositives = LongStream.range(10000, 110000).filter(bloomFilter::mightContain).count();
+
+		assertThat(falsePositives / 100000.0d).isLessThan(0.02d);
+		assertThat(bloomFilter.getFalsePositiveProbability()).isCloseTo(0.01d, within(0.005d));
+		assertThat(bloomFilter.getApproximateKeyCount()).isCloseTo(10000L, within(500L));
+	}
+}
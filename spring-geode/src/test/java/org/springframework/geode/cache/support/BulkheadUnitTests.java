@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link Bulkhead}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.Bulkhead
+ * @since 1.2.1
+ */
+public class BulkheadUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructBulkheadWithInvalidMaximumConcurrentCallsThrowsException() {
+
+		try {
+			new Bulkhead(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum concurrent calls [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void rejectsCallsBeyondMaximumConcurrentCalls() {
+
+		Bulkhead bulkhead = new Bulkhead(2, null);
+
+		assertThat(bulkhead.getMaximumWait()).isEqualTo(Bulkhead.DEFAULT_MAXIMUM_WAIT);
+		assertThat(bulkhead.tryAcquire()).isTrue();
+		assertThat(bulkhead.tryAcquire()).isTrue();
+		assertThat(bulkhead.getConcurrentCallCount()).isEqualTo(2);
+		assertThat(bulkhead.tryAcquire()).isFalse();
+		assertThat(bulkhead.getRejectedCallCount()).isEqualTo(1L);
+
+		bulkhead.release();
+
+		assertThat(bulkhead.getConcurrentCallCount()).isEqualTo(1);
+		assertThat(bulkhead.tryAcquire()).isTrue();
+	}
+
+	@Test
+	public void waitsUpToMaximumWaitForPermit() {
+
+		Bulkhead bulkhead = new Bulkhead(1, Duration.ofMillis(10));
+
+		assertThat(bulkhead.tryAcquire()).isTrue();
+		assertThat(bulkhead.tryAcquire()).isFalse();
+		assertThat(bulkhead.getRejectedCallCount()).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Test;
+import org.springframework.data.annotation.Transient;
+
+/**
+ * Unit Tests for {@link ChangedPropertiesResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.ChangedPropertiesResolver
+ * @since 1.2.1
+ */
+public class ChangedPropertiesResolverUnitTests {
+
+	private final ChangedPropertiesResolver<Object> resolver = new ChangedPropertiesResolver<>();
+
+	@Test
+	public void resolvesChangedFields() {
+
+		Map<String, Object> changedProperties = this.resolver.apply(new Customer(1L, "Jon Doe", "Portland"),
+			new Customer(1L, "Jane Doe", null));
+
+		assertThat(changedProperties).containsExactly(entry("name", "Jane Doe"), entry("city", null));
+	}
+
+	@Test
+	public void resolvesChangedFieldsOfSuperclassAndIgnoresTransientFields() {
+
+		PreferredCustomer oldCustomer = new PreferredCustomer(1L, "Jon Doe", "Portland", 10);
+		PreferredCustomer newCustomer = new PreferredCustomer(2L, "Jon Doe", "Portland", 20);
+
+		newCustomer.lastAccessTime = 1L;
+		newCustomer.sessionId = "TestSession";
+
+		assertThat(this.resolver.apply(oldCustomer, newCustomer))
+			.containsExactly(entry("discount", 20), entry("id", 2L));
+	}
+
+	@Test
+	public void resolvesNoChangedFieldsForEqualValues() {
+
+		assertThat(this.resolver.apply(new Customer(1L, "Jon Doe", "Portland"), new Customer(1L, "Jon Doe", "Portland")))
+			.isEmpty();
+	}
+
+	@Test
+	public void cannotResolveChangedFieldsForNullOrDifferentTypes() {
+
+		Customer customer = new Customer(1L, "Jon Doe", "Portland");
+
+		assertThat(this.resolver.apply(null, customer)).isNull();
+		assertThat(this.resolver.apply(customer, null)).isNull();
+		assertThat(this.resolver.apply(customer, new PreferredCustomer(1L, "Jon Doe", "Portland", 10))).isNull();
+	}
+
+	@Test
+	public void resolvesChangedPdxFields() {
+
+		PdxInstance oldValue = mock(PdxInstance.class);
+		PdxInstance newValue = mock(PdxInstance.class);
+
+		when(oldValue.getClassName()).thenReturn(Customer.class.getName());
+		when(oldValue.getFieldNames()).thenReturn(Arrays.asList("id", "name"));
+		when(oldValue.getField("id")).thenReturn(1L);
+		when(oldValue.getField("name")).thenReturn("Jon Doe");
+		when(oldValue.getField("city")).thenReturn(null);
+		when(newValue.getClassName()).thenReturn(Customer.class.getName());
+		when(newValue.getFieldNames()).thenReturn(Arrays.asList("id", "name", "city"));
+		when(newValue.getField("id")).thenReturn(1L);
+		when(newValue.getField("name")).thenReturn("Jane Doe");
+		when(newValue.getField("city")).thenReturn("Portland");
+
+		assertThat(new ChangedPropertiesResolver<PdxInstance>().apply(oldValue, newValue))
+			.containsExactly(entry("name", "Jane Doe"), entry("city", "Portland"));
+	}
+
+	@Test
+	public void cannotResolveChangedPdxFieldsForDifferentClasses() {
+
+		PdxInstance oldValue = mock(PdxInstance.class);
+		PdxInstance newValue = mock(PdxInstance.class);
+
+		when(oldValue.getClassName()).thenReturn(Customer.class.getName());
+		when(newValue.getClassName()).thenReturn(PreferredCustomer.class.getName());
+
+		assertThat(new ChangedPropertiesResolver<PdxInstance>().apply(oldValue, newValue)).isNull();
+	}
+
+	static class Customer {
+
+		static final String TYPE = "Customer";
+
+		private Long id;
+
+		private String name;
+
+		private String city;
+
+		transient long lastAccessTime;
+
+		Customer(Long id, String name, String city) {
+			this.id = id;
+			this.name = name;
+			this.city = city;
+		}
+	}
+
+	static class PreferredCustomer extends Customer {
+
+		private int discount;
+
+		@Transient
+		String sessionId;
+
+		PreferredCustomer(Long id, String name, String city, int discount) {
+			super(id, name, city);
+			this.discount = discount;
+		}
+	}
+}
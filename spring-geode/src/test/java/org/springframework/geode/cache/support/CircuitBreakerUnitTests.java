@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link CircuitBreaker}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.CircuitBreaker
+ * @since 1.2.1
+ */
+public class CircuitBreakerUnitTests {
+
+	private final AtomicLong clock = new AtomicLong(0L);
+
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(1), this.clock::get);
+
+	@Test
+	public void constructDefaultCircuitBreaker() {
+
+		CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+		assertThat(circuitBreaker.getFailureThreshold()).isEqualTo(CircuitBreaker.DEFAULT_FAILURE_THRESHOLD);
+		assertThat(circuitBreaker.getOpenDuration()).isEqualTo(CircuitBreaker.DEFAULT_OPEN_DURATION);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(circuitBreaker.getRejectedCallCount()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructCircuitBreakerWithInvalidFailureThresholdThrowsException() {
+
+		try {
+			new CircuitBreaker(0, Duration.ofSeconds(1));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Failure threshold [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void opensAfterConsecutiveFailures() {
+
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isTrue();
+
+		this.circuitBreaker.onFailure();
+		this.circuitBreaker.onSuccess();
+		this.circuitBreaker.onFailure();
+
+		assertThat(this.circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+		this.circuitBreaker.onFailure();
+
+		assertThat(this.circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(this.circuitBreaker.getTransitionCount(CircuitBreaker.State.OPEN)).isEqualTo(1L);
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isFalse();
+		assertThat(this.circuitBreaker.getRejectedCallCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void permitsSingleTrialCallAfterOpenDurationAndClosesOnSuccess() {
+
+		this.circuitBreaker.onFailure();
+		this.circuitBreaker.onFailure();
+
+		this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isFalse();
+
+		this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isFalse();
+
+		this.circuitBreaker.onSuccess();
+
+		assertThat(this.circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(this.circuitBreaker.getTransitionCount(CircuitBreaker.State.HALF_OPEN)).isEqualTo(1L);
+		assertThat(this.circuitBreaker.getTransitionCount(CircuitBreaker.State.CLOSED)).isEqualTo(1L);
+		assertThat(this.circuitBreaker.getRejectedCallCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void reopensWhenTrialCallFails() {
+
+		this.circuitBreaker.onFailure();
+		this.circuitBreaker.onFailure();
+
+		this.clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isTrue();
+
+		this.circuitBreaker.onFailure();
+
+		assertThat(this.circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(this.circuitBreaker.getTransitionCount(CircuitBreaker.State.OPEN)).isEqualTo(2L);
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isFalse();
+
+		this.clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+		assertThat(this.circuitBreaker.tryAcquirePermission()).isTrue();
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ConsistentHashShardResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.ConsistentHashShardResolver
+ * @since 1.2.1
+ */
+public class ConsistentHashShardResolverUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructConsistentHashShardResolverWithInvalidShardCountThrowsException() {
+
+		try {
+			new ConsistentHashShardResolver<>(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Shard count [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructConsistentHashShardResolverWithNullKeyHasherThrowsException() {
+
+		try {
+			new ConsistentHashShardResolver<>(4, 16, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Key hasher is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void resolvingShardOfKeyWithoutStableHashThrowsException() {
+
+		Object key = new Object() {
+
+			@Override
+			public String toString() {
+				return "TestKey";
+			}
+		};
+
+		try {
+			new ConsistentHashShardResolver<>(4).applyAsInt(key);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessageStartingWith("Key [TestKey] of type [");
+			assertThat(expected).hasMessageEndingWith("] has no stable hash; a key hasher is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void resolvesShardUsingKeyHasher() {
+
+		ConsistentHashShardResolver<Object> shardResolver =
+			new ConsistentHashShardResolver<>(4, 160, key -> BloomFilter.hash64(key.toString()));
+
+		Object key = new Object() {
+
+			@Override
+			public String toString() {
+				return "TestKey";
+			}
+		};
+
+		assertThat(shardResolver.applyAsInt(key))
+			.isEqualTo(new ConsistentHashShardResolver<String>(4).applyAsInt("TestKey"));
+	}
+
+	@Test
+	public void resolvesShardsStablyAndEvenly() {
+
+		ConsistentHashShardResolver<String> shardResolver = new ConsistentHashShardResolver<>(4);
+
+		int[] keysPerShard = new int[4];
+
+		IntStream.range(0, 10000).forEach(key -> {
+
+			int shard = shardResolver.applyAsInt("key-" + key);
+
+			assertThat(shard).isBetween(0, 3);
+			assertThat(new ConsistentHashShardResolver<String>(4).applyAsInt("key-" + key)).isEqualTo(shard);
+
+			keysPerShard[shard]++;
+		});
+
+		for (int keyCount : keysPerShard) {
+			assertThat(keyCount).isBetween(1500, 3500);
+		}
+	}
+
+	@Test
+	public void addingShardOnlyMovesKeysToNewShard() {
+
+		ConsistentHashShardResolver<Long> fourShards = new ConsistentHashShardResolver<>(4);
+		ConsistentHashShardResolver<Long> fiveShards = new ConsistentHashShardResolver<>(5);
+
+		long movedKeyCount = 0L;
+
+		for (long key = 0; key < 10000; key++) {
+
+			int shard = fiveShards.applyAsInt(key);
+
+			if (shard != fourShards.applyAsInt(key)) {
+				assertThat(shard).isEqualTo(4);
+				movedKeyCount++;
+			}
+		}
+
+		assertThat(movedKeyCount).isBetween(1000L, 3000L);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link FrequencySketch}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.FrequencySketch
+ * @since 1.2.1
+ */
+public class FrequencySketchUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructFrequencySketchWithInvalidWidthThrowsException() {
+
+		try {
+			new FrequencySketch<>(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Width [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void widthIsRoundedUpToMultipleOf16() {
+
+		FrequencySketch<Object> frequencySketch = new FrequencySketch<>(100);
+
+		assertThat(frequencySketch.getWidth()).isEqualTo(112);
+		assertThat(frequencySketch.getSampleSize()).isEqualTo(1120L);
+	}
+
+	@Test
+	public void frequencyCountsIncrements() {
+
+		FrequencySketch<Object> frequencySketch = new FrequencySketch<>();
+
+		assertThat(frequencySketch.frequency("one")).isZero();
+
+		frequencySketch.increment("one");
+		frequencySketch.increment("two");
+		frequencySketch.increment("two");
+		frequencySketch.increment(null);
+
+		assertThat(frequencySketch.frequency("one")).isEqualTo(1);
+		assertThat(frequencySketch.frequency("two")).isEqualTo(2);
+		assertThat(frequencySketch.frequency(null)).isEqualTo(1);
+		assertThat(frequencySketch.frequency("three")).isZero();
+	}
+
+	@Test
+	public void frequencyIsCappedAtMaximum() {
+
+		FrequencySketch<Object> frequencySketch = new FrequencySketch<>();
+
+		for (int count = 0; count < 20; count++) {
+			frequencySketch.increment("hot");
+		}
+
+		assertThat(frequencySketch.frequency("hot")).isEqualTo(FrequencySketch.MAXIMUM_FREQUENCY);
+	}
+
+	@Test
+	public void countersAreHalvedWhenSampleSizeIsReached() {
+
+		FrequencySketch<Object> frequencySketch = new FrequencySketch<>(16);
+
+		for (int count = 0; count < 8; count++) {
+			frequencySketch.increment("hot");
+		}
+
+		assertThat(frequencySketch.frequency("hot")).isEqualTo(8);
+
+		for (long count = 8; count < frequencySketch.getSampleSize(); count++) {
+			frequencySketch.increment(count);
+		}
+
+		assertThat(frequencySketch.frequency("hot")).isLessThan(8);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.control.ResourceManager;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link HeapAwareAdmissionPolicy}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.HeapAwareAdmissionPolicy
+ * @since 1.2.1
+ */
+public class HeapAwareAdmissionPolicyUnitTests {
+
+	private final AtomicReference<Double> heapUsagePercentage = new AtomicReference<>(50.0d);
+
+	private HeapAwareAdmissionPolicy<Object> newAdmissionPolicy(float heapThresholdPercentage) {
+		return new HeapAwareAdmissionPolicy<>(heapThresholdPercentage, this.heapUsagePercentage::get);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructHeapAwareAdmissionPolicyWithInvalidThresholdThrowsException() {
+
+		try {
+			new HeapAwareAdmissionPolicy<>(101.0f);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Heap threshold percentage [101.0] must be between 0 and 100");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withInvalidMinimumFrequencyThrowsException() {
+
+		try {
+			newAdmissionPolicy(90.0f).withMinimumFrequency(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Minimum frequency [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void fromResourceManagerUsesEvictionHeapPercentage() {
+
+		ResourceManager mockResourceManager = mock(ResourceManager.class);
+
+		when(mockResourceManager.getEvictionHeapPercentage()).thenReturn(75.0f);
+
+		assertThat(HeapAwareAdmissionPolicy.from(mockResourceManager).getHeapThresholdPercentage()).isEqualTo(75.0f);
+	}
+
+	@Test
+	public void fromResourceManagerUsesCriticalHeapPercentageWhenEvictionIsDisabled() {
+
+		ResourceManager mockResourceManager = mock(ResourceManager.class);
+
+		when(mockResourceManager.getCriticalHeapPercentage()).thenReturn(95.0f);
+
+		assertThat(HeapAwareAdmissionPolicy.from(mockResourceManager).getHeapThresholdPercentage()).isEqualTo(95.0f);
+	}
+
+	@Test
+	public void fromResourceManagerUsesDefaultThresholdWhenHeapPercentagesAreDisabled() {
+
+		assertThat(HeapAwareAdmissionPolicy.from(mock(ResourceManager.class)).getHeapThresholdPercentage())
+			.isEqualTo(HeapAwareAdmissionPolicy.DEFAULT_HEAP_THRESHOLD_PERCENTAGE);
+	}
+
+	@Test
+	public void admitsAllKeysBelowThreshold() {
+
+		HeapAwareAdmissionPolicy<Object> admissionPolicy = newAdmissionPolicy(80.0f);
+
+		assertThat(admissionPolicy.isUnderMemoryPressure()).isFalse();
+		assertThat(admissionPolicy.test("one")).isTrue();
+		assertThat(admissionPolicy.getRejectedAdmissionCount()).isZero();
+	}
+
+	@Test
+	public void rejectsAllKeysAboveThresholdWithoutFrequencySketch() {
+
+		HeapAwareAdmissionPolicy<Object> admissionPolicy = newAdmissionPolicy(80.0f);
+
+		this.heapUsagePercentage.set(85.0d);
+
+		assertThat(admissionPolicy.isUnderMemoryPressure()).isTrue();
+		assertThat(admissionPolicy.test("one")).isFalse();
+		assertThat(admissionPolicy.test("one")).isFalse();
+		assertThat(admissionPolicy.getRejectedAdmissionCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void admitsRepeatedKeysAboveThresholdWithFrequencySketch() {
+
+		HeapAwareAdmissionPolicy<Object> admissionPolicy = newAdmissionPolicy(80.0f)
+			.withFrequencySketch(new FrequencySketch<>());
+
+		assertThat(admissionPolicy.getMinimumFrequency()).isEqualTo(HeapAwareAdmissionPolicy.DEFAULT_MINIMUM_FREQUENCY);
+		assertThat(admissionPolicy.test("hot")).isTrue();
+
+		this.heapUsagePercentage.set(90.0d);
+
+		assertThat(admissionPolicy.test("hot")).isTrue();
+		assertThat(admissionPolicy.test("cold")).isFalse();
+		assertThat(admissionPolicy.test("cold")).isTrue();
+		assertThat(admissionPolicy.getRejectedAdmissionCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void zeroThresholdAlwaysAppliesFrequencyBasedAdmission() {
+
+		HeapAwareAdmissionPolicy<Object> admissionPolicy = newAdmissionPolicy(0.0f)
+			.withFrequencySketch(new FrequencySketch<>())
+			.withMinimumFrequency(3);
+
+		this.heapUsagePercentage.set(0.0d);
+
+		assertThat(admissionPolicy.test("one")).isFalse();
+		assertThat(admissionPolicy.test("one")).isFalse();
+		assertThat(admissionPolicy.test("one")).isTrue();
+	}
+
+	@Test
+	public void currentHeapUsagePercentageIsMeasuredAfterCollection() {
+
+		assertThat(HeapAwareAdmissionPolicy.currentHeapUsagePercentage()).isBetween(0.0d, 100.0d);
+	}
+}
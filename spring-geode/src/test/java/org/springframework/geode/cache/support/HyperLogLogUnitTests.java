@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link HyperLogLog}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.HyperLogLog
+ * @since 1.2.1
+ */
+public class HyperLogLogUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructHyperLogLogWithInvalidPrecisionThrowsException() {
+
+		try {
+			new HyperLogLog(3);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Precision [3] must be between 4 and 18");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void emptySketchEstimatesZero() {
+		assertThat(new HyperLogLog().estimate()).isZero();
+	}
+
+	@Test
+	public void estimateIgnoresDuplicatesAndNulls() {
+
+		HyperLogLog sketch = new HyperLogLog();
+
+		for (int count = 0; count < 10; count++) {
+			for (int value = 0; value < 100; value++) {
+				sketch.add("value-" + value);
+			}
+		}
+
+		sketch.add(null);
+
+		assertThat(sketch.estimate()).isCloseTo(100L, within(3L));
+	}
+
+	@Test
+	public void estimateOfLargeCardinalityIsWithinExpectedError() {
+
+		HyperLogLog sketch = new HyperLogLog();
+
+		for (int count = 0; count < 100000; count++) {
+			sketch.add(UUID.randomUUID());
+		}
+
+		assertThat(sketch.estimate()).isCloseTo(100000L, within(6500L));
+	}
+
+	@Test
+	public void mergeEstimatesUnionWithoutModifyingSketches() {
+
+		HyperLogLog one = new HyperLogLog();
+		HyperLogLog two = new HyperLogLog();
+
+		for (long value = 0; value < 6000; value++) {
+			one.add(value);
+			two.add(value + 4000L);
+		}
+
+		long estimateOne = one.estimate();
+
+		HyperLogLog union = one.merge(two);
+
+		assertThat(union).isNotSameAs(one).isNotSameAs(two);
+		assertThat(union.estimate()).isCloseTo(10000L, within(650L));
+		assertThat(one.estimate()).isEqualTo(estimateOne);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void mergeWithDifferentPrecisionThrowsException() {
+
+		try {
+			new HyperLogLog(10).merge(new HyperLogLog(12));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Precision [12] must be equal to [10]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
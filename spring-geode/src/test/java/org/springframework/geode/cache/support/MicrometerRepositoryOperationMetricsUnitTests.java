@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link MicrometerRepositoryOperationMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.geode.cache.support.MicrometerRepositoryOperationMetrics
+ * @since 1.2.1
+ */
+public class MicrometerRepositoryOperationMetricsUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoRegionNameThrowsException() {
+
+		try {
+			new MicrometerRepositoryOperationMetrics(this.meterRegistry, "  ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region name [  ] must be specified");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void recordsSuccessfulOperationsByRegionAndOperation() {
+
+		MicrometerRepositoryOperationMetrics metrics =
+			new MicrometerRepositoryOperationMetrics(this.meterRegistry, "Example");
+
+		Gauge inFlight = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.IN_FLIGHT_METER_NAME)
+			.tag("region", "Example")
+			.gauge();
+
+		assertThat(metrics.record(RepositoryOperationMetrics.LOAD_OPERATION, () -> {
+			assertThat(inFlight.value()).isEqualTo(1.0d);
+			return "test";
+		})).isEqualTo("test");
+
+		metrics.record(RepositoryOperationMetrics.LOAD_OPERATION, () -> null);
+		metrics.record(RepositoryOperationMetrics.SAVE_OPERATION, () -> null);
+
+		Timer loadTimer = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.OPERATIONS_METER_NAME)
+			.tags("region", "Example", "operation", "load", "outcome", "success")
+			.timer();
+
+		Timer saveTimer = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.OPERATIONS_METER_NAME)
+			.tags("region", "Example", "operation", "save", "outcome", "success")
+			.timer();
+
+		assertThat(loadTimer.count()).isEqualTo(2L);
+		assertThat(saveTimer.count()).isEqualTo(1L);
+		assertThat(inFlight.value()).isZero();
+		assertThat(metrics.getInFlightCount()).isZero();
+		assertThat(this.meterRegistry.find(MicrometerRepositoryOperationMetrics.FAILURES_METER_NAME).counter())
+			.isNull();
+	}
+
+	@Test
+	public void recordsFailedOperationsAndRethrowsException() {
+
+		MicrometerRepositoryOperationMetrics metrics =
+			new MicrometerRepositoryOperationMetrics(this.meterRegistry, "Example");
+
+		IllegalStateException failure = new IllegalStateException("TEST");
+
+		try {
+			metrics.record(RepositoryOperationMetrics.DELETE_OPERATION, () -> { throw failure; });
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).isSameAs(failure);
+		}
+
+		Timer deleteTimer = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.OPERATIONS_METER_NAME)
+			.tags("region", "Example", "operation", "delete", "outcome", "failure")
+			.timer();
+
+		Counter deleteFailures = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.FAILURES_METER_NAME)
+			.tags("region", "Example", "operation", "delete")
+			.counter();
+
+		assertThat(deleteTimer.count()).isEqualTo(1L);
+		assertThat(deleteFailures.count()).isEqualTo(1.0d);
+		assertThat(metrics.getInFlightCount()).isZero();
+	}
+
+	@Test
+	public void resolverReturnsSameMetricsPerRegion() {
+
+		Function<String, RepositoryOperationMetrics> resolver =
+			MicrometerRepositoryOperationMetrics.resolver(this.meterRegistry);
+
+		RepositoryOperationMetrics exampleMetrics = resolver.apply("Example");
+
+		assertThat(exampleMetrics).isInstanceOf(MicrometerRepositoryOperationMetrics.class);
+		assertThat(((MicrometerRepositoryOperationMetrics) exampleMetrics).getRegionName()).isEqualTo("Example");
+		assertThat(resolver.apply("Example")).isSameAs(exampleMetrics);
+		assertThat(resolver.apply("Other")).isNotSameAs(exampleMetrics);
+	}
+
+	@Test
+	public void recordsRejectionsAndCircuitBreakerTransitions() {
+
+		MicrometerRepositoryOperationMetrics metrics =
+			new MicrometerRepositoryOperationMetrics(this.meterRegistry, "Example");
+
+		CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+
+		metrics.register(circuitBreaker);
+		metrics.register(circuitBreaker);
+		metrics.recordRejection(RepositoryOperationMetrics.LOAD_OPERATION,
+			RepositoryOperationMetrics.CIRCUIT_OPEN_REJECTION);
+
+		circuitBreaker.onFailure();
+
+		Counter rejections = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.REJECTIONS_METER_NAME)
+			.tags("region", "Example", "operation", "load", "reason", "circuit-open")
+			.counter();
+
+		FunctionCounter openTransitions =
+			this.meterRegistry.get(MicrometerRepositoryOperationMetrics.CIRCUIT_BREAKER_TRANSITIONS_METER_NAME)
+				.tags("region", "Example", "state", "open")
+				.functionCounter();
+
+		Gauge state = this.meterRegistry.get(MicrometerRepositoryOperationMetrics.CIRCUIT_BREAKER_STATE_METER_NAME)
+			.tags("region", "Example")
+			.gauge();
+
+		assertThat(rejections.count()).isEqualTo(1.0d);
+		assertThat(openTransitions.count()).isEqualTo(1.0d);
+		assertThat(state.value()).isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+	}
+}
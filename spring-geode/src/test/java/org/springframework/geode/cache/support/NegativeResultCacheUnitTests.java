@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link NegativeResultCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.NegativeResultCache
+ * @since 1.2.1
+ */
+public class NegativeResultCacheUnitTests {
+
+	private final AtomicLong clock = new AtomicLong(0L);
+
+	@Test
+	public void constructDefaultNegativeResultCache() {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>();
+
+		assertThat(negativeResultCache.getMaximumSize()).isEqualTo(NegativeResultCache.DEFAULT_MAXIMUM_SIZE);
+		assertThat(negativeResultCache.getTimeToLive()).isEqualTo(NegativeResultCache.DEFAULT_TIME_TO_LIVE);
+		assertThat(negativeResultCache.getHitCount()).isZero();
+		assertThat(negativeResultCache.size()).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructNegativeResultCacheWithInvalidMaximumSizeThrowsException() {
+
+		try {
+			new NegativeResultCache<>(0, Duration.ofSeconds(1));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructNegativeResultCacheWithZeroTimeToLiveThrowsException() {
+
+		try {
+			new NegativeResultCache<>(10, Duration.ZERO);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Time-to-live [PT0S] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void putContainsAndEvict() {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(10, Duration.ofSeconds(1));
+
+		assertThat(negativeResultCache.contains("one")).isFalse();
+
+		negativeResultCache.put("one");
+
+		assertThat(negativeResultCache.contains("one")).isTrue();
+		assertThat(negativeResultCache.contains("two")).isFalse();
+		assertThat(negativeResultCache.contains(null)).isFalse();
+		assertThat(negativeResultCache.getHitCount()).isEqualTo(1L);
+
+		negativeResultCache.evict("one");
+
+		assertThat(negativeResultCache.contains("one")).isFalse();
+		assertThat(negativeResultCache.size()).isZero();
+	}
+
+	@Test
+	public void keysExpireAfterTimeToLive() {
+
+		NegativeResultCache<Object> negativeResultCache =
+			new NegativeResultCache<>(10, Duration.ofSeconds(1), this.clock::get);
+
+		negativeResultCache.put("one");
+
+		this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+
+		assertThat(negativeResultCache.contains("one")).isTrue();
+
+		this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+		assertThat(negativeResultCache.contains("one")).isFalse();
+		assertThat(negativeResultCache.size()).isZero();
+	}
+
+	@Test
+	public void leastRecentlyUsedKeysAreEvictedWhenFull() {
+
+		NegativeResultCache<Object> negativeResultCache =
+			new NegativeResultCache<>(2, Duration.ofMinutes(1), this.clock::incrementAndGet);
+
+		negativeResultCache.put("one");
+		negativeResultCache.put("two");
+
+		assertThat(negativeResultCache.contains("one")).isTrue();
+
+		negativeResultCache.put("three");
+
+		assertThat(negativeResultCache.size()).isEqualTo(2);
+		assertThat(negativeResultCache.contains("one")).isTrue();
+		assertThat(negativeResultCache.contains("two")).isFalse();
+		assertThat(negativeResultCache.contains("three")).isTrue();
+	}
+
+	@Test
+	public void expiredKeysAreEvictedFirstWhenFull() {
+
+		NegativeResultCache<Object> negativeResultCache =
+			new NegativeResultCache<>(2, Duration.ofNanos(10), this.clock::get);
+
+		negativeResultCache.put("one");
+
+		this.clock.addAndGet(5L);
+
+		negativeResultCache.put("two");
+
+		this.clock.addAndGet(5L);
+
+		// "one" has expired, while "two" was used less recently than the new key
+		negativeResultCache.put("three");
+
+		assertThat(negativeResultCache.size()).isEqualTo(2);
+		assertThat(negativeResultCache.contains("two")).isTrue();
+		assertThat(negativeResultCache.contains("three")).isTrue();
+	}
+
+	@Test
+	public void sizeRemainsBoundedUnderConcurrentPuts() throws Exception {
+
+		NegativeResultCache<Object> negativeResultCache = new NegativeResultCache<>(100, Duration.ofMinutes(1));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int thread = 0; thread < 4; thread++) {
+
+				int offset = thread * 10000;
+
+				futures.add(executorService.submit(() -> {
+					for (int key = offset; key < offset + 10000; key++) {
+						negativeResultCache.put(key);
+						negativeResultCache.contains(key);
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(negativeResultCache.size()).isLessThanOrEqualTo(100);
+	}
+}
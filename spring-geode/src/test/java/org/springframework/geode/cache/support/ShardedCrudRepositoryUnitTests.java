@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit Tests for {@link ShardedCrudRepository}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.repository.CrudRepository
+ * @see org.springframework.geode.cache.support.ShardedCrudRepository
+ * @since 1.2.1
+ */
+@SuppressWarnings("unchecked")
+public class ShardedCrudRepositoryUnitTests {
+
+	private CrudRepository<Integer, Integer> mockShardZero;
+	private CrudRepository<Integer, Integer> mockShardOne;
+
+	private ShardedCrudRepository<Integer, Integer> repository;
+
+	@Before
+	public void setup() {
+
+		this.mockShardZero = mock(CrudRepository.class);
+		this.mockShardOne = mock(CrudRepository.class);
+
+		// even entities on shard 0 and odd entities on shard 1
+		this.repository = new ShardedCrudRepository<>(Arrays.asList(this.mockShardZero, this.mockShardOne),
+			Function.identity(), id -> id % 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructShardedCrudRepositoryWithNoShardsThrowsException() {
+
+		try {
+			new ShardedCrudRepository<>(Collections.<CrudRepository<Object, Object>>emptyList(), Function.identity());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Shards are required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void singleEntityOperationsAreRoutedToShard() {
+
+		when(this.mockShardOne.findById(eq(3))).thenReturn(Optional.of(3));
+		when(this.mockShardZero.save(eq(4))).thenReturn(4);
+
+		assertThat(this.repository.findById(3)).contains(3);
+		assertThat(this.repository.save(4)).isEqualTo(4);
+
+		this.repository.deleteById(5);
+
+		verify(this.mockShardOne).deleteById(eq(5));
+		verify(this.mockShardZero, never()).findById(any());
+		verify(this.mockShardZero, never()).deleteById(any());
+		verify(this.mockShardOne, never()).save(any());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void invalidShardThrowsException() {
+
+		ShardedCrudRepository<Integer, Integer> repository =
+			new ShardedCrudRepository<>(Collections.singletonList(this.mockShardZero), Function.identity(), id -> id);
+
+		try {
+			repository.findById(1);
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Shard [1] of ID [1] must be greater than or equal to 0 and less than 1");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void batchedOperationsAreGroupedByShard() {
+
+		when(this.mockShardZero.saveAll(eq(Arrays.asList(2, 4)))).thenReturn(Arrays.asList(2, 4));
+		when(this.mockShardOne.saveAll(eq(Arrays.asList(1, 3)))).thenReturn(Arrays.asList(1, 3));
+		when(this.mockShardZero.findAllById(eq(Collections.singletonList(2)))).thenReturn(Collections.singletonList(2));
+		when(this.mockShardOne.findAllById(eq(Collections.singletonList(1)))).thenReturn(Collections.emptyList());
+
+		assertThat(this.repository.saveAll(Arrays.asList(1, 2, 3, 4))).containsExactly(2, 4, 1, 3);
+		assertThat(this.repository.findAllById(Arrays.asList(1, 2))).containsExactly(2);
+
+		this.repository.deleteAll(Collections.singletonList(3));
+
+		verify(this.mockShardOne).deleteAll(eq(Collections.singletonList(3)));
+		verify(this.mockShardZero, never()).deleteAll(any());
+	}
+
+	@Test
+	public void operationsOnAllShardsAreCombined() {
+
+		when(this.mockShardZero.count()).thenReturn(2L);
+		when(this.mockShardOne.count()).thenReturn(3L);
+		when(this.mockShardZero.findAll()).thenReturn(Collections.singletonList(2));
+		when(this.mockShardOne.findAll()).thenReturn(Arrays.asList(1, 3));
+
+		assertThat(this.repository.count()).isEqualTo(5L);
+		assertThat(this.repository.findAll()).containsExactly(2, 1, 3);
+
+		this.repository.deleteAll();
+
+		verify(this.mockShardZero).deleteAll();
+		verify(this.mockShardOne).deleteAll();
+	}
+
+	@Test(expected = DataAccessResourceFailureException.class)
+	public void failedShardFailsOperation() {
+
+		doThrow(new DataAccessResourceFailureException("TEST")).when(this.mockShardOne).saveAll(any());
+
+		List<Integer> entities = Arrays.asList(1, 2);
+
+		try {
+			this.repository.saveAll(entities);
+		}
+		finally {
+			verify(this.mockShardZero).saveAll(eq(Collections.singletonList(2)));
+		}
+	}
+}
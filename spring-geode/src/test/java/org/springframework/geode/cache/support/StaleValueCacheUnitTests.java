@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link StaleValueCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.cache.support.StaleValueCache
+ * @since 1.2.1
+ */
+public class StaleValueCacheUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructStaleValueCacheWithInvalidMaximumSizeThrowsException() {
+
+		try {
+			new StaleValueCache<>(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void putGetAndEvict() {
+
+		StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>();
+
+		assertThat(staleValueCache.getMaximumSize()).isEqualTo(StaleValueCache.DEFAULT_MAXIMUM_SIZE);
+
+		staleValueCache.put("one", 1);
+		staleValueCache.put("two", null);
+		staleValueCache.put(null, 3);
+
+		assertThat(staleValueCache.get("one")).isEqualTo(1);
+		assertThat(staleValueCache.get("two")).isNull();
+		assertThat(staleValueCache.get(null)).isNull();
+		assertThat(staleValueCache.size()).isEqualTo(1);
+
+		staleValueCache.evict("one");
+
+		assertThat(staleValueCache.get("one")).isNull();
+		assertThat(staleValueCache.size()).isZero();
+	}
+
+	@Test
+	public void leastRecentlyUsedValuesAreEvictedWhenFull() {
+
+		AtomicLong clock = new AtomicLong(0L);
+
+		StaleValueCache<Object, Object> staleValueCache = new StaleValueCache<>(2, clock::incrementAndGet);
+
+		staleValueCache.put("one", 1);
+		staleValueCache.put("two", 2);
+
+		assertThat(staleValueCache.get("one")).isEqualTo(1);
+
+		staleValueCache.put("three", 3);
+
+		assertThat(staleValueCache.size()).isEqualTo(2);
+		assertThat(staleValueCache.get("one")).isEqualTo(1);
+		assertThat(staleValueCache.get("two")).isNull();
+		assertThat(staleValueCache.get("three")).isEqualTo(3);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit Tests for {@link WriteAheadJournal}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.junit.rules.TemporaryFolder
+ * @see org.springframework.geode.cache.support.WriteAheadJournal
+ * @since 1.2.1
+ */
+public class WriteAheadJournalUnitTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static List<String> payloads(List<WriteAheadJournal.Record> records) {
+
+		return records.stream()
+			.map(record -> new String(record.getPayload(), StandardCharsets.UTF_8))
+			.collect(Collectors.toList());
+	}
+
+	private static List<Path> segmentFiles(Path directory) throws IOException {
+
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(file -> file.getFileName().toString().endsWith(WriteAheadJournal.SEGMENT_FILE_NAME_SUFFIX))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWriteAheadJournalWithInvalidSegmentSizeThrowsException() throws IOException {
+
+		try {
+			new WriteAheadJournal(this.temporaryFolder.getRoot().toPath(), 16, WriteAheadJournal.FsyncPolicy.NEVER);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Segment size [16] must be greater than 16");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void recoversUnacknowledgedRecordsWhenReopened() throws IOException {
+
+		Path directory = this.temporaryFolder.getRoot().toPath();
+
+		WriteAheadJournal journal = new WriteAheadJournal(directory, 64, WriteAheadJournal.FsyncPolicy.ALWAYS);
+
+		assertThat(journal.recover()).isEmpty();
+		assertThat(journal.append(bytes("one"))).isEqualTo(1L);
+		assertThat(journal.append(bytes("two"))).isEqualTo(2L);
+		assertThat(journal.append(bytes("three"))).isEqualTo(3L);
+
+		journal.acknowledge(1L);
+
+		// simulate a JVM crash by not closing the journal
+		WriteAheadJournal reopenedJournal =
+			new WriteAheadJournal(directory, 64, WriteAheadJournal.FsyncPolicy.ALWAYS);
+
+		List<WriteAheadJournal.Record> records = reopenedJournal.recover();
+
+		assertThat(payloads(records)).containsExactly("two", "three");
+		assertThat(records.get(0).getSequence()).isEqualTo(2L);
+		assertThat(reopenedJournal.recover()).isEmpty();
+		assertThat(reopenedJournal.getAcknowledgedSequence()).isEqualTo(1L);
+		assertThat(reopenedJournal.append(bytes("four"))).isEqualTo(4L);
+
+		reopenedJournal.close();
+		journal.close();
+	}
+
+	@Test
+	public void acknowledgeDeletesAcknowledgedSegments() throws IOException {
+
+		Path directory = this.temporaryFolder.getRoot().toPath();
+
+		// each segment holds 2 records of 3 bytes
+		WriteAheadJournal journal = new WriteAheadJournal(directory, 40, WriteAheadJournal.FsyncPolicy.PERIODIC);
+
+		for (int count = 0; count < 5; count++) {
+			journal.append(bytes("abc"));
+		}
+
+		assertThat(journal.getSegmentCount()).isEqualTo(3);
+		assertThat(segmentFiles(directory)).hasSize(3);
+
+		journal.acknowledge(3L);
+
+		assertThat(journal.getSegmentCount()).isEqualTo(2);
+		assertThat(segmentFiles(directory)).hasSize(2);
+
+		journal.acknowledge(5L);
+
+		assertThat(journal.getSegmentCount()).isEqualTo(1);
+		assertThat(journal.getAcknowledgedSequence()).isEqualTo(5L);
+
+		journal.close();
+	}
+
+	@Test
+	public void recoveryDiscardsTornRecord() throws IOException {
+
+		Path directory = this.temporaryFolder.getRoot().toPath();
+
+		WriteAheadJournal journal = new WriteAheadJournal(directory, 1024, WriteAheadJournal.FsyncPolicy.ALWAYS);
+
+		journal.append(bytes("one"));
+		journal.append(bytes("two"));
+		journal.close();
+
+		Path segmentFile = segmentFiles(directory).get(0);
+
+		// corrupt the last byte of the second record's payload
+		try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0 }), 2 * WriteAheadJournal.RECORD_HEADER_SIZE + 3 + 2);
+		}
+
+		WriteAheadJournal reopenedJournal =
+			new WriteAheadJournal(directory, 1024, WriteAheadJournal.FsyncPolicy.ALWAYS);
+
+		assertThat(payloads(reopenedJournal.recover())).containsExactly("one");
+		assertThat(reopenedJournal.append(bytes("three"))).isEqualTo(2L);
+
+		reopenedJournal.close();
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.junit.Test;
+import org.springframework.geode.cache.support.HyperLogLog;
+
+/**
+ * Unit Tests for the aggregate {@link Function Functions} and the {@link AggregateFunctionRegistrar}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.aggregate.AbstractAggregateFunction
+ * @see org.springframework.geode.function.aggregate.AggregateFunctionRegistrar
+ * @since 1.2.1
+ */
+public class AggregateFunctionsUnitTests {
+
+	static final List<Order> ORDERS = Arrays.asList(
+		new Order("jonDoe", "books", 20),
+		new Order("janeDoe", "books", 50),
+		new Order("jonDoe", "music", 10),
+		new Order("pieDoe", "games", null),
+		new Order("jonDoe", "books", 40)
+	);
+
+	@SuppressWarnings("unchecked")
+	static <T> T execute(Function<Object> function, Collection<?> values, Object arguments) {
+
+		AtomicReference<Object> result = new AtomicReference<>();
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		RegionFunctionContext mockContext = mock(RegionFunctionContext.class);
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		when(mockRegion.values()).thenReturn((Collection<Object>) values);
+		when(mockContext.getDataSet()).thenReturn(mockRegion);
+		when(mockContext.getArguments()).thenReturn(arguments);
+		when(mockContext.getResultSender()).thenReturn(mockResultSender);
+
+		doAnswer(invocation -> {
+			result.set(invocation.getArgument(0));
+			return null;
+		}).when(mockResultSender).lastResult(any());
+
+		function.execute(mockContext);
+
+		return (T) result.get();
+	}
+
+	@Test
+	public void aggregateFunctionsRunOnPrimaries() {
+
+		for (Function<?> function : AggregateFunctionRegistrar.aggregateFunctions()) {
+			assertThat(function.hasResult()).isTrue();
+			assertThat(function.isHA()).isTrue();
+			assertThat(function.optimizeForWrite()).isTrue();
+		}
+	}
+
+	@Test
+	public void countFunctionCountsLocalValues() {
+		assertThat(AggregateFunctionsUnitTests.<Long>execute(new CountFunction(), ORDERS, new Object[0])).isEqualTo(5L);
+	}
+
+	@Test
+	public void summarizingFunctionSummarizesNumericProperty() {
+
+		NumericSummary summary = execute(new SummarizingFunction(), ORDERS, new Object[] { "amount" });
+
+		assertThat(summary.getCount()).isEqualTo(4L);
+		assertThat(summary.getSum()).isEqualTo(120.0d);
+		assertThat(summary.getMinimum()).hasValue(10.0d);
+		assertThat(summary.getMaximum()).hasValue(50.0d);
+	}
+
+	@Test(expected = FunctionException.class)
+	public void summarizingFunctionWithNonNumericPropertyThrowsException() {
+
+		try {
+			execute(new SummarizingFunction(), ORDERS, new Object[] { "customer" });
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Value [jonDoe] of property [customer] is not a Number");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void groupingFunctionSummarizesEachGroup() {
+
+		Map<Object, NumericSummary> groups =
+			execute(new GroupingFunction(), ORDERS, new Object[] { "category", "amount" });
+
+		assertThat(groups).containsOnlyKeys("books", "music", "games");
+		assertThat(groups.get("books").getSum()).isEqualTo(110.0d);
+		assertThat(groups.get("books").getCount()).isEqualTo(3L);
+		assertThat(groups.get("games")).isEqualTo(NumericSummary.EMPTY);
+	}
+
+	@Test
+	public void groupingFunctionWithoutValuePropertyCountsEachGroup() {
+
+		Map<Object, NumericSummary> groups = execute(new GroupingFunction(), ORDERS, new Object[] { "customer" });
+
+		assertThat(groups).containsOnly(entry("jonDoe", NumericSummary.of(1).with(1).with(1)),
+			entry("janeDoe", NumericSummary.of(1)), entry("pieDoe", NumericSummary.of(1)));
+	}
+
+	@Test
+	public void topKFunctionSelectsGreatestValues() {
+
+		List<Order> topOrders = execute(new TopKFunction(), ORDERS, new Object[] { "amount", 2 });
+
+		assertThat(topOrders).containsExactly(ORDERS.get(1), ORDERS.get(4));
+	}
+
+	@Test(expected = FunctionException.class)
+	public void topKFunctionWithInvalidSizeThrowsException() {
+
+		try {
+			execute(new TopKFunction(), ORDERS, new Object[] { "amount", 0 });
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void distinctCountFunctionSketchesProperty() {
+
+		HyperLogLog sketch = execute(new DistinctCountFunction(), ORDERS, new Object[] { "customer", 10 });
+
+		assertThat(sketch.getPrecision()).isEqualTo(10);
+		assertThat(sketch.estimate()).isEqualTo(3L);
+	}
+
+	@Test(expected = FunctionException.class)
+	public void aggregateFunctionWithMissingArgumentThrowsException() {
+
+		try {
+			execute(new SummarizingFunction(), ORDERS, null);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Argument [0] of Function [%s] must be a String", SummarizingFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	@SuppressWarnings("unchecked")
+	public void aggregateFunctionNotExecutedOnRegionThrowsException() {
+
+		try {
+			new CountFunction().execute(mock(FunctionContext.class));
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("Function [%s] must be executed on a Region", CountFunction.ID);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void registrarRegistersAggregateFunctionsForPeerCacheOnly() {
+
+		AggregateFunctionRegistrar registrar = new AggregateFunctionRegistrar();
+
+		try {
+
+			Object bean = new Object();
+
+			assertThat(registrar.postProcessAfterInitialization(bean, "test")).isSameAs(bean);
+			assertThat(FunctionService.isRegistered(CountFunction.ID)).isFalse();
+
+			ClientCache mockClientCache = mock(ClientCache.class);
+
+			assertThat(registrar.postProcessAfterInitialization(mockClientCache, "gemfireCache"))
+				.isSameAs(mockClientCache);
+			assertThat(FunctionService.isRegistered(CountFunction.ID)).isFalse();
+
+			GemFireCacheImpl mockClientCacheImpl = mock(GemFireCacheImpl.class);
+
+			when(mockClientCacheImpl.isClient()).thenReturn(true);
+
+			assertThat(registrar.postProcessAfterInitialization(mockClientCacheImpl, "gemfireCache"))
+				.isSameAs(mockClientCacheImpl);
+			assertThat(FunctionService.isRegistered(CountFunction.ID)).isFalse();
+
+			Cache mockCache = mock(Cache.class);
+
+			assertThat(registrar.postProcessAfterInitialization(mockCache, "gemfireCache")).isSameAs(mockCache);
+
+			AggregateFunctionRegistrar.aggregateFunctions().forEach(function ->
+				assertThat(FunctionService.isRegistered(function.getId())).isTrue());
+		}
+		finally {
+			AggregateFunctionRegistrar.aggregateFunctions().forEach(function ->
+				FunctionService.unregisterFunction(function.getId()));
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Order {
+
+		private final Integer amount;
+
+		private final String category;
+		private final String customer;
+
+		Order(String customer, String category, Integer amount) {
+			this.customer = customer;
+			this.category = category;
+			this.amount = amount;
+		}
+	}
+}
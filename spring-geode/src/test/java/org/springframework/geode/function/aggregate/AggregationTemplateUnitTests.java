@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+import org.springframework.geode.function.aggregate.AggregateFunctionsUnitTests.Order;
+
+/**
+ * Unit Tests for {@link AggregationTemplate}.
+ *
+ * The aggregate {@link Function Functions} are executed on the data of two simulated members and their partial
+ * aggregates combined by the {@link ResultCollector} of the {@link AggregationTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.aggregate.AggregationTemplate
+ * @since 1.2.1
+ */
+public class AggregationTemplateUnitTests {
+
+	private final AggregationTemplate template = new TwoMemberAggregationTemplate(mock(Region.class));
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructAggregationTemplateWithNullRegionThrowsException() {
+
+		try {
+			new AggregationTemplate(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Region is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void countCombinesCountsOfAllMembers() {
+		assertThat(this.template.count()).isEqualTo(5L);
+	}
+
+	@Test
+	public void sumAndAverageCombineSummariesOfAllMembers() {
+
+		assertThat(this.template.sum("amount")).isEqualTo(120.0d);
+		assertThat(this.template.average("amount")).hasValue(30.0d);
+		assertThat(this.template.summarize("amount").getMaximum()).hasValue(50.0d);
+	}
+
+	@Test
+	public void groupByCombinesGroupsOfAllMembers() {
+
+		Map<Object, NumericSummary> groups = this.template.groupBy("category", "amount");
+
+		assertThat(groups).containsOnlyKeys("books", "music", "games");
+		assertThat(groups.get("books").getSum()).isEqualTo(110.0d);
+		assertThat(groups.get("books").getAverage()).hasValue(110.0d / 3.0d);
+		assertThat(this.template.groupBy("customer").get("jonDoe").getCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void topKMergesTopValuesOfAllMembers() {
+
+		List<Order> topOrders = this.template.topK("amount", 2);
+
+		assertThat(topOrders).containsExactly(AggregateFunctionsUnitTests.ORDERS.get(1),
+			AggregateFunctionsUnitTests.ORDERS.get(4));
+	}
+
+	@Test
+	public void distinctCountMergesSketchesOfAllMembers() {
+		assertThat(this.template.distinctCount("customer")).isEqualTo(3L);
+		assertThat(this.template.distinctCount("category", 8)).isEqualTo(3L);
+	}
+
+	@SuppressWarnings("unchecked")
+	static class TwoMemberAggregationTemplate extends AggregationTemplate {
+
+		private static final Map<String, Function<Object>> FUNCTIONS = new HashMap<>();
+
+		static {
+			AggregateFunctionRegistrar.aggregateFunctions().forEach(function ->
+				FUNCTIONS.put(function.getId(), (Function<Object>) function));
+		}
+
+		TwoMemberAggregationTemplate(Region<?, ?> region) {
+			super(region);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected <R> R execute(String functionId, Object[] arguments, ResultCollector<?, R> resultCollector) {
+
+			List<Order> orders = AggregateFunctionsUnitTests.ORDERS;
+
+			for (List<Order> memberData : Arrays.asList(orders.subList(0, 2), orders.subList(2, orders.size()))) {
+
+				Object partialResult = AggregateFunctionsUnitTests.execute(FUNCTIONS.get(functionId),
+					new ArrayList<>(memberData), arguments);
+
+				((ResultCollector<Object, R>) resultCollector).addResult(mock(DistributedMember.class), partialResult);
+			}
+
+			resultCollector.endResults();
+
+			return resultCollector.getResult();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link NumericSummary}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.aggregate.NumericSummary
+ * @since 1.2.1
+ */
+public class NumericSummaryUnitTests {
+
+	@Test
+	public void emptySummary() {
+
+		assertThat(NumericSummary.EMPTY.getCount()).isZero();
+		assertThat(NumericSummary.EMPTY.getSum()).isZero();
+		assertThat(NumericSummary.EMPTY.getAverage()).isEmpty();
+		assertThat(NumericSummary.EMPTY.getMaximum()).isEmpty();
+		assertThat(NumericSummary.EMPTY.getMinimum()).isEmpty();
+		assertThat(NumericSummary.of(null)).isSameAs(NumericSummary.EMPTY);
+	}
+
+	@Test
+	public void combineSummaries() {
+
+		NumericSummary one = NumericSummary.of(2).with(8L).with(null);
+		NumericSummary two = NumericSummary.of(5.0d);
+
+		NumericSummary summary = one.combine(two);
+
+		assertThat(summary.getCount()).isEqualTo(3L);
+		assertThat(summary.getSum()).isEqualTo(15.0d);
+		assertThat(summary.getAverage()).hasValue(5.0d);
+		assertThat(summary.getMinimum()).hasValue(2.0d);
+		assertThat(summary.getMaximum()).hasValue(8.0d);
+		assertThat(one.getCount()).isEqualTo(2L);
+		assertThat(summary.combine(NumericSummary.EMPTY)).isSameAs(summary);
+		assertThat(NumericSummary.EMPTY.combine(summary)).isSameAs(summary);
+		assertThat(summary).isEqualTo(two.combine(one));
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link PropertyPathResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.aggregate.PropertyPathResolver
+ * @since 1.2.1
+ */
+public class PropertyPathResolverUnitTests {
+
+	@Test
+	public void resolvesNestedFields() {
+
+		Customer customer = new Customer("jonDoe", new Address("Portland"));
+
+		assertThat(new PropertyPathResolver("name").resolve(customer)).isEqualTo("jonDoe");
+		assertThat(new PropertyPathResolver("address.city").resolve(customer)).isEqualTo("Portland");
+	}
+
+	@Test
+	public void resolvesPdxInstanceFieldsAndMapEntries() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getField("address")).thenReturn(Collections.singletonMap("city", "Seattle"));
+
+		assertThat(new PropertyPathResolver("address.city").resolve(mockPdxInstance)).isEqualTo("Seattle");
+	}
+
+	@Test
+	public void resolvesNullAlongPath() {
+
+		assertThat(new PropertyPathResolver("address.city").resolve(new Customer("jonDoe", null))).isNull();
+		assertThat(new PropertyPathResolver("name").resolve(null)).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void resolveUnknownPropertyThrowsException() {
+
+		try {
+			new PropertyPathResolver("address.zip").resolve(new Customer("jonDoe", new Address("Portland")));
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Property [zip] of path [address.zip] not found in type [%s]",
+				Address.class.getName());
+
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructResolverWithEmptyPropertyPathThrowsException() {
+
+		try {
+			new PropertyPathResolver(" ");
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Property path is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Address {
+
+		private final String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Customer {
+
+		private final Address address;
+
+		private final String name;
+
+		Customer(String name, Address address) {
+			this.name = name;
+			this.address = address;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionProxyFactoryBean;
+import org.springframework.data.gemfire.function.execution.OnRegionFunctionProxyFactoryBean;
+import org.springframework.geode.function.execution.AsyncFunctionProxyFactoryBean;
+import org.springframework.geode.function.execution.AsyncOnRegionFunctionProxyFactoryBean;
+
+/**
+ * Unit Tests for {@link AbstractFunctionExecutionAutoConfigurationExtension}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.config.AbstractFunctionExecutionAutoConfigurationExtension
+ * @since 1.2.1
+ */
+public class AbstractFunctionExecutionAutoConfigurationExtensionUnitTests {
+
+	private final AbstractFunctionExecutionAutoConfigurationExtension registrar =
+		new GemFireFunctionExecutionAutoConfigurationRegistrar();
+
+	private BeanDefinition newBeanDefinition(Class<?> beanClass) {
+		return BeanDefinitionBuilder.rootBeanDefinition(beanClass).getBeanDefinition();
+	}
+
+	@Test
+	public void enableAsyncFunctionExecutionReplacesFunctionProxyFactoryBeans() {
+
+		BeanDefinition functionProxyFactoryBeanDefinition = newBeanDefinition(GemfireFunctionProxyFactoryBean.class);
+		BeanDefinition onRegionFunctionProxyFactoryBeanDefinition =
+			newBeanDefinition(OnRegionFunctionProxyFactoryBean.class);
+
+		this.registrar.enableAsyncFunctionExecution(functionProxyFactoryBeanDefinition);
+		this.registrar.enableAsyncFunctionExecution(onRegionFunctionProxyFactoryBeanDefinition);
+
+		assertThat(functionProxyFactoryBeanDefinition.getBeanClassName())
+			.isEqualTo(AsyncFunctionProxyFactoryBean.class.getName());
+
+		assertThat(onRegionFunctionProxyFactoryBeanDefinition.getBeanClassName())
+			.isEqualTo(AsyncOnRegionFunctionProxyFactoryBean.class.getName());
+	}
+
+	@Test
+	public void enableAsyncFunctionExecutionIgnoresOtherBeans() {
+
+		BeanDefinition beanDefinition = newBeanDefinition(Object.class);
+
+		this.registrar.enableAsyncFunctionExecution(beanDefinition);
+
+		assertThat(beanDefinition.getBeanClassName()).isEqualTo(Object.class.getName());
+	}
+}
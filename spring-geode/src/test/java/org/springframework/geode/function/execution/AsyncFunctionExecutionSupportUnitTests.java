@@ -0,0 +1,261 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link AsyncFunctionExecutionSupport}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.execution.AsyncFunctionExecutionSupport
+ * @since 1.2.1
+ */
+public class AsyncFunctionExecutionSupportUnitTests {
+
+	private static Method method(String name) throws NoSuchMethodException {
+		return TestFunctionExecutions.class.getMethod(name);
+	}
+
+	@Test
+	public void isAsynchronousWithFutureReturnTypes() throws Exception {
+
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("completableFuture"))).isTrue();
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("completionStage"))).isTrue();
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("future"))).isTrue();
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("mono"))).isTrue();
+	}
+
+	@Test
+	public void isAsynchronousWithOtherReturnTypesIsFalse() throws Exception {
+
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(null)).isFalse();
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("list"))).isFalse();
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("object"))).isFalse();
+		assertThat(AsyncFunctionExecutionSupport.isAsynchronous(method("voidMethod"))).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExecutorResolvesExecutorBeanLazily() {
+
+		BeanFactory mockBeanFactory = mock(BeanFactory.class);
+
+		Executor mockExecutor = mock(Executor.class);
+
+		when(mockBeanFactory.containsBean(AsyncFunctionExecutionSupport.FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME))
+			.thenReturn(true);
+
+		when(mockBeanFactory.getBean(AsyncFunctionExecutionSupport.FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME, Executor.class))
+			.thenReturn(mockExecutor);
+
+		AsyncFunctionExecutionSupport asyncFunctionExecutionSupport = new AsyncFunctionExecutionSupport();
+
+		asyncFunctionExecutionSupport.setBeanFactory(mockBeanFactory);
+
+		verify(mockBeanFactory, never()).getBean(any(String.class), any(Class.class));
+
+		assertThat(asyncFunctionExecutionSupport.getExecutor()).isSameAs(mockExecutor);
+		assertThat(asyncFunctionExecutionSupport.getExecutor()).isSameAs(mockExecutor);
+
+		verify(mockBeanFactory).getBean(AsyncFunctionExecutionSupport.FUNCTION_EXECUTION_EXECUTOR_BEAN_NAME,
+			Executor.class);
+	}
+
+	@Test
+	public void getExecutorWithoutExecutorBeanReturnsDefaultExecutor() {
+
+		AsyncFunctionExecutionSupport asyncFunctionExecutionSupport = new AsyncFunctionExecutionSupport();
+
+		asyncFunctionExecutionSupport.setBeanFactory(mock(BeanFactory.class));
+
+		assertThat(asyncFunctionExecutionSupport.getExecutor()).isSameAs(AsyncFunctionExecutionSupport.getDefaultExecutor());
+	}
+
+	@Test
+	public void boundedExecutorRejectsExecutionsBeyondItsThreadsAndQueue() throws Exception {
+
+		ThreadPoolExecutor executor = AsyncFunctionExecutionSupport.newBoundedExecutor(1, 1);
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		try {
+			executor.execute(() -> {
+				try {
+					latch.await();
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			});
+
+			executor.execute(() -> {});
+
+			try {
+				executor.execute(() -> {});
+				fail("Expected RejectedExecutionException");
+			}
+			catch (RejectedExecutionException expected) {
+				assertThat(executor.getQueue()).hasSize(1);
+			}
+		}
+		finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(executor.getMaximumPoolSize()).isEqualTo(1);
+		assertThat(executor.allowsCoreThreadTimeOut()).isTrue();
+	}
+
+	@Test
+	public void executeReturnsCompletableFutureCompletingWithResultOnExecutorThread() throws Exception {
+
+		AsyncFunctionExecutionSupport asyncFunctionExecutionSupport = new AsyncFunctionExecutionSupport();
+
+		CountDownLatch functionExecuted = new CountDownLatch(1);
+
+		Thread callingThread = Thread.currentThread();
+
+		Object result = asyncFunctionExecutionSupport.execute(method("completableFuture"), () -> {
+
+			try {
+				functionExecuted.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+
+			return Thread.currentThread() != callingThread ? "test" : "calling thread";
+		});
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat((CompletableFuture<?>) result).isNotDone();
+
+		functionExecuted.countDown();
+
+		assertThat(((CompletableFuture<?>) result).get(5, TimeUnit.SECONDS)).isEqualTo("test");
+	}
+
+	@Test
+	public void executeCompletesExceptionallyWhenFunctionExecutionFails() throws Exception {
+
+		AsyncFunctionExecutionSupport asyncFunctionExecutionSupport = new AsyncFunctionExecutionSupport();
+
+		asyncFunctionExecutionSupport.setExecutor(Runnable::run);
+
+		CompletableFuture<?> future = (CompletableFuture<?>) asyncFunctionExecutionSupport.execute(method("future"), () -> {
+			throw new IllegalStateException("TEST");
+		});
+
+		assertThat(future).isCompletedExceptionally();
+
+		try {
+			future.get();
+			fail("Expected ExecutionException");
+		}
+		catch (ExecutionException expected) {
+			assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+			assertThat(expected.getCause()).hasMessage("TEST");
+		}
+	}
+
+	@Test
+	public void executeReturnsLazyMono() throws Exception {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any(Runnable.class));
+
+		AsyncFunctionExecutionSupport asyncFunctionExecutionSupport = new AsyncFunctionExecutionSupport();
+
+		asyncFunctionExecutionSupport.setExecutor(mockExecutor);
+
+		Object result = asyncFunctionExecutionSupport.execute(method("mono"), () -> "test");
+
+		assertThat(result).isInstanceOf(Mono.class);
+
+		verify(mockExecutor, never()).execute(any(Runnable.class));
+
+		assertThat(((Mono<?>) result).block()).isEqualTo("test");
+		assertThat(asyncFunctionExecutionSupport.execute(method("mono"), () -> null)).isInstanceOf(Mono.class)
+			.satisfies(mono -> assertThat(((Mono<?>) mono).blockOptional()).isNotPresent());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void executeSynchronousMethodThrowsException() throws Exception {
+
+		try {
+			new AsyncFunctionExecutionSupport().execute(method("list"), () -> null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Method [list] must return a CompletableFuture or Mono");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	interface TestFunctionExecutions {
+
+		CompletableFuture<Object> completableFuture();
+
+		CompletionStage<Object> completionStage();
+
+		Future<Object> future();
+
+		Mono<Object> mono();
+
+		List<Object> list();
+
+		Object object();
+
+		void voidMethod();
+
+	}
+}
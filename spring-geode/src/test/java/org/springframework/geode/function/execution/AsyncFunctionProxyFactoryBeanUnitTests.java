@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.springframework.data.gemfire.function.annotation.Filter;
+import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.OnRegion;
+import org.springframework.data.gemfire.function.annotation.OnServer;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionOperations;
+import org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations;
+import org.springframework.geode.function.annotation.Coalesced;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit Tests for {@link AsyncFunctionProxyFactoryBean} and {@link AsyncOnRegionFunctionProxyFactoryBean}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.execution.AsyncFunctionProxyFactoryBean
+ * @see org.springframework.geode.function.execution.AsyncOnRegionFunctionProxyFactoryBean
+ * @since 1.2.1
+ */
+public class AsyncFunctionProxyFactoryBeanUnitTests {
+
+	@Test
+	public void asyncFunctionProxyCompletesFutureWithFunctionResult() throws Exception {
+
+		GemfireFunctionOperations mockFunctionOperations = mock(GemfireFunctionOperations.class);
+
+		when(mockFunctionOperations.executeAndExtract(eq("countCustomers"), eq("active"))).thenReturn(42L);
+
+		AsyncFunctionProxyFactoryBean factoryBean =
+			new AsyncFunctionProxyFactoryBean(CustomerFunctions.class, mockFunctionOperations);
+
+		CustomerFunctions customerFunctions = (CustomerFunctions) factoryBean.getObject();
+
+		CompletableFuture<Long> count = customerFunctions.countAsync("active");
+
+		assertThat(count.get(5, TimeUnit.SECONDS)).isEqualTo(42L);
+		assertThat(customerFunctions.count("active")).isEqualTo(42L);
+	}
+
+	@Test
+	public void asyncFunctionProxyReturnsLazyMono() throws Exception {
+
+		GemfireFunctionOperations mockFunctionOperations = mock(GemfireFunctionOperations.class);
+
+		when(mockFunctionOperations.executeAndExtract(eq("countCustomers"), eq("active"))).thenReturn(42L);
+
+		AsyncFunctionProxyFactoryBean factoryBean =
+			new AsyncFunctionProxyFactoryBean(CustomerFunctions.class, mockFunctionOperations);
+
+		factoryBean.setExecutor(Runnable::run);
+
+		Mono<Long> count = ((CustomerFunctions) factoryBean.getObject()).countMono("active");
+
+		verify(mockFunctionOperations, never()).executeAndExtract(eq("countCustomers"), eq("active"));
+
+		assertThat(count.block()).isEqualTo(42L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncOnRegionFunctionProxyCompletesFutureWithFunctionResults() throws Exception {
+
+		GemfireOnRegionOperations mockFunctionOperations = mock(GemfireOnRegionOperations.class);
+
+		when(mockFunctionOperations.execute(eq("findCustomers"), eq("active")))
+			.thenReturn((Iterable) Arrays.asList("jonDoe", "janeDoe"));
+
+		AsyncOnRegionFunctionProxyFactoryBean factoryBean =
+			new AsyncOnRegionFunctionProxyFactoryBean(CustomerRegionFunctions.class, mockFunctionOperations);
+
+		CompletableFuture<List<String>> customers =
+			((CustomerRegionFunctions) factoryBean.getObject()).findAsync("active");
+
+		assertThat(customers.get(5, TimeUnit.SECONDS)).containsExactly("jonDoe", "janeDoe");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void coalescedOnRegionFunctionProxyReturnsResultsForFilterKeys() throws Exception {
+
+		GemfireOnRegionOperations mockFunctionOperations = mock(GemfireOnRegionOperations.class);
+
+		Map<String, Integer> results = new HashMap<>();
+
+		results.put("jonDoe", 1);
+		results.put("janeDoe", 2);
+		results.put("pieDoe", 3);
+
+		when(mockFunctionOperations.execute(eq("customerScores"), any(Set.class), eq("gold")))
+			.thenReturn((Iterable) Collections.singletonList(results));
+
+		AsyncOnRegionFunctionProxyFactoryBean factoryBean =
+			new AsyncOnRegionFunctionProxyFactoryBean(CustomerRegionFunctions.class, mockFunctionOperations);
+
+		factoryBean.setExecutor(Runnable::run);
+
+		CustomerRegionFunctions customerRegionFunctions = (CustomerRegionFunctions) factoryBean.getObject();
+
+		assertThat(customerRegionFunctions.scores(asSet("jonDoe", "pieDoe"), "gold"))
+			.containsOnly(entry("jonDoe", 1), entry("pieDoe", 3));
+
+		assertThat(customerRegionFunctions.scoresAsync("gold", asSet("janeDoe")).get(5, TimeUnit.SECONDS))
+			.containsOnly(entry("janeDoe", 2));
+
+		Method scores = CustomerRegionFunctions.class.getMethod("scores", Set.class, String.class);
+
+		assertThat(factoryBean.getCoalescer(scores)).hasValueSatisfying(coalescer -> {
+			assertThat(coalescer.getMaximumBatchSize()).isEqualTo(100);
+			assertThat(coalescer.getWindow(TimeUnit.MILLISECONDS)).isZero();
+			assertThat(coalescer.getExecutionCount()).isEqualTo(1L);
+		});
+
+		assertThat(factoryBean.getCoalescer(CustomerRegionFunctions.class.getMethod("findAsync", String.class)))
+			.isNotPresent();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void coalescedMethodWithoutFilterThrowsException() {
+
+		try {
+			new AsyncOnRegionFunctionProxyFactoryBean(InvalidCoalescedFunctions.class,
+				mock(GemfireOnRegionOperations.class));
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected)
+				.hasMessage("Method [withoutFilter] annotated with @Coalesced must declare a @Filter parameter");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	private static Set<String> asSet(String... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	@OnServer
+	interface CustomerFunctions {
+
+		@FunctionId("countCustomers")
+		Long count(String status);
+
+		@FunctionId("countCustomers")
+		CompletableFuture<Long> countAsync(String status);
+
+		@FunctionId("countCustomers")
+		Mono<Long> countMono(String status);
+
+	}
+
+	@OnRegion(region = "Customers")
+	interface CustomerRegionFunctions {
+
+		@FunctionId("findCustomers")
+		CompletableFuture<List<String>> findAsync(String status);
+
+		@Coalesced(windowMillis = 0, maximumBatchSize = 100)
+		@FunctionId("customerScores")
+		Map<String, Integer> scores(@Filter Set<String> customers, String tier);
+
+		@Coalesced
+		@FunctionId("customerScores")
+		CompletableFuture<Map<String, Integer>> scoresAsync(String tier, @Filter Set<String> customers);
+
+	}
+
+	@OnRegion(region = "Customers")
+	interface InvalidCoalescedFunctions {
+
+		@Coalesced
+		Map<String, Integer> withoutFilter(Set<String> customers);
+
+	}
+}
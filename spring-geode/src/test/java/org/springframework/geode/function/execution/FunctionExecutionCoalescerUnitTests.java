@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link FunctionExecutionCoalescer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.execution.FunctionExecutionCoalescer
+ * @since 1.2.1
+ */
+public class FunctionExecutionCoalescerUnitTests {
+
+	private final List<Set<Object>> executedFilters = new CopyOnWriteArrayList<>();
+
+	private final Function<Set<Object>, Object> squares = filter -> {
+
+		this.executedFilters.add(filter);
+
+		Map<Object, Object> results = new HashMap<>();
+
+		filter.forEach(key -> results.put(key, ((Integer) key) * ((Integer) key)));
+
+		// results from two members, one holding the odd keys, the other the even keys
+		Map<Object, Object> odd = new HashMap<>();
+		Map<Object, Object> even = new HashMap<>();
+
+		results.forEach((key, value) -> (((Integer) key) % 2 == 0 ? even : odd).put(key, value));
+
+		return Arrays.asList(odd, Collections.singletonList(even));
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructCoalescerWithInvalidMaximumBatchSizeThrowsException() {
+
+		try {
+			new FunctionExecutionCoalescer(1L, TimeUnit.MILLISECONDS, 0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Maximum batch size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructCoalescerWithNegativeWindowThrowsException() {
+
+		try {
+			new FunctionExecutionCoalescer(-1L, TimeUnit.MILLISECONDS, 10);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Window [-1] must be greater than or equal to 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void executeRoutesResultsForKeysOfInvocation() {
+
+		FunctionExecutionCoalescer coalescer = new FunctionExecutionCoalescer(0L, TimeUnit.MILLISECONDS, 10);
+
+		assertThat(coalescer.getWindow(TimeUnit.MILLISECONDS)).isZero();
+		assertThat(coalescer.getMaximumBatchSize()).isEqualTo(10);
+
+		assertThat(coalescer.execute("test", Arrays.asList(2, 3, 5), this.squares))
+			.containsExactly(entry(2, 4), entry(3, 9), entry(5, 25));
+
+		assertThat(coalescer.getExecutionCount()).isEqualTo(1L);
+		assertThat(coalescer.getInvocationCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void executeWithNullFilterIsNotCoalesced() {
+
+		FunctionExecutionCoalescer coalescer = new FunctionExecutionCoalescer(0L, TimeUnit.MILLISECONDS, 10);
+
+		assertThat(coalescer.execute("test", null, filter -> Collections.singletonMap("key", "value")))
+			.containsOnly(entry("key", "value"));
+
+		assertThat(coalescer.getExecutionCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void concurrentInvocationsAreMergedIntoSingleExecution() throws Exception {
+
+		FunctionExecutionCoalescer coalescer = new FunctionExecutionCoalescer(30L, TimeUnit.SECONDS, 6);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+		try {
+
+			List<Future<Map<Object, Object>>> results = new ArrayList<>();
+
+			results.add(executorService.submit(() -> coalescer.execute("test", Arrays.asList(1, 2), this.squares)));
+			results.add(executorService.submit(() -> coalescer.execute("test", Arrays.asList(2, 3), this.squares)));
+			results.add(executorService.submit(() -> coalescer.execute("test", Arrays.asList(4, 5, 6), this.squares)));
+
+			assertThat(results.get(0).get(10, TimeUnit.SECONDS)).containsExactly(entry(1, 1), entry(2, 4));
+			assertThat(results.get(1).get(10, TimeUnit.SECONDS)).containsExactly(entry(2, 4), entry(3, 9));
+			assertThat(results.get(2).get(10, TimeUnit.SECONDS))
+				.containsExactly(entry(4, 16), entry(5, 25), entry(6, 36));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(coalescer.getExecutionCount()).isEqualTo(1L);
+		assertThat(coalescer.getInvocationCount()).isEqualTo(3L);
+		assertThat(this.executedFilters).hasSize(1);
+		assertThat(this.executedFilters.get(0)).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6);
+	}
+
+	@Test
+	public void invocationsWithDifferentCoalescingKeysAreNotMerged() {
+
+		FunctionExecutionCoalescer coalescer = new FunctionExecutionCoalescer(0L, TimeUnit.MILLISECONDS, 10);
+
+		coalescer.execute("one", Collections.singleton(1), this.squares);
+		coalescer.execute("two", Collections.singleton(1), this.squares);
+
+		assertThat(coalescer.getExecutionCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void failedExecutionFailsAllMergedInvocations() throws Exception {
+
+		FunctionExecutionCoalescer coalescer = new FunctionExecutionCoalescer(30L, TimeUnit.SECONDS, 2);
+
+		Function<Set<Object>, Object> failingExecution = filter -> {
+			throw new IllegalStateException("TEST");
+		};
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+
+			List<Future<?>> results = Arrays.asList(
+				executorService.submit(() -> coalescer.execute("test", Collections.singleton(1), failingExecution)),
+				executorService.submit(() -> coalescer.execute("test", Collections.singleton(2), failingExecution)));
+
+			for (Future<?> result : results) {
+				try {
+					result.get(10, TimeUnit.SECONDS);
+					fail("Expected ExecutionException");
+				}
+				catch (ExecutionException expected) {
+					assertThat(expected).hasCauseInstanceOf(IllegalStateException.class);
+					assertThat(expected.getCause()).hasMessage("TEST");
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(coalescer.getExecutionCount()).isEqualTo(1L);
+	}
+}
@@ -92,6 +92,22 @@ public class AbstractResultCollectorUnitTests {
 		TestFramework.runOnce(new ReturnsResultWithinTimeoutMultithreadedTestCase());
 	}
 
+	@Test
+	public void getResultReturnsNullWithoutWaitingForTimeoutWhenResultsEnd() throws Exception {
+
+		long startTime = System.nanoTime();
+
+		new Thread(this.resultCollector::endResults).start();
+
+		assertThat(this.resultCollector.getResult(30, TimeUnit.SECONDS)).isNull();
+		assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(10));
+	}
+
+	@Test
+	public void getResultReturnsNullAfterTimeout() throws Exception {
+		assertThat(this.resultCollector.getResult(20, TimeUnit.MILLISECONDS)).isNull();
+	}
+
 	@Test
 	public void resultsHaveEnded() {
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+import reactor.core.Disposable;
+
+/**
+ * Unit Tests for {@link ReactiveStreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.ReactiveStreamingResultCollector
+ * @since 1.2.1
+ */
+public class ReactiveStreamingResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	private final ReactiveStreamingResultCollector<Object> resultCollector = new ReactiveStreamingResultCollector<>();
+
+	@Test
+	public void fluxEmitsResultsAsTheyArriveAndCompletesOnEndResults() {
+
+		List<Object> results = new ArrayList<>();
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+
+		Disposable subscription = this.resultCollector.toFlux().subscribe(results::add);
+
+		assertThat(results).containsExactly("one");
+
+		this.resultCollector.addResult(this.mockDistributedMember, null);
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+
+		assertThat(results).containsExactly("one", "two");
+		assertThat(subscription.isDisposed()).isFalse();
+
+		this.resultCollector.endResults();
+
+		assertThat(subscription.isDisposed()).isTrue();
+	}
+
+	@Test
+	public void fluxSubscribedAfterEndResultsReplaysAllResults() {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+		this.resultCollector.endResults();
+
+		assertThat(this.resultCollector.toFlux().collectList().block(Duration.ofSeconds(5)))
+			.containsExactly("one", "two");
+	}
+
+	@Test
+	public void fluxFailsWhenResultsAreCleared() {
+
+		List<Object> results = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+
+		Disposable subscription = this.resultCollector.toFlux().subscribe(results::add, failures::add);
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.clearResults();
+
+		assertThat(results).containsExactly("one");
+		assertThat(failures).hasSize(1);
+		assertThat(failures.get(0)).isInstanceOf(FunctionException.class)
+			.hasMessage(StreamingResultCollector.RESULTS_CLEARED_MESSAGE);
+		assertThat(subscription.isDisposed()).isTrue();
+	}
+
+	@Test
+	public void cancelledFluxIsNoLongerNotified() {
+
+		List<Object> results = new ArrayList<>();
+
+		this.resultCollector.toFlux().take(1).subscribe(results::add);
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+
+		assertThat(results).containsExactly("one");
+	}
+}
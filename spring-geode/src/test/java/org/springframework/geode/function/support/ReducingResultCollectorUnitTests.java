@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link ReducingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.ReducingResultCollector
+ * @since 1.2.1
+ */
+public class ReducingResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructReducingResultCollectorWithNullCombinerThrowsException() {
+
+		try {
+			new ReducingResultCollector<Object, Object>(result -> result, null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Combiner is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void summingLongReducesResultsAsTheyArrive() {
+
+		ReducingResultCollector<Number, Long> resultCollector = ReducingResultCollector.summingLong();
+
+		assertThat(resultCollector.getPartialResult()).isZero();
+
+		resultCollector.addResult(this.mockDistributedMember, 1);
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.addResult(this.mockDistributedMember, 2L);
+
+		assertThat(resultCollector.getPartialResult()).isEqualTo(3L);
+
+		resultCollector.addResult(this.mockDistributedMember, 3.9d);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(6L);
+	}
+
+	@Test
+	public void summingLongReducesConcurrentResults() throws Exception {
+
+		ReducingResultCollector<Number, Long> resultCollector = ReducingResultCollector.summingLong();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int member = 0; member < 60; member++) {
+				futures.add(executorService.submit(() -> {
+					for (int count = 0; count < 1000; count++) {
+						resultCollector.addResult(this.mockDistributedMember, 1);
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult(1, TimeUnit.SECONDS)).isEqualTo(60000L);
+	}
+
+	@Test
+	public void minimumAndMaximumReduceToLeastAndGreatestResults() {
+
+		ReducingResultCollector<Integer, Integer> minimum = ReducingResultCollector.minimum(Comparator.naturalOrder());
+		ReducingResultCollector<Integer, Integer> maximum = ReducingResultCollector.maximum(Comparator.naturalOrder());
+
+		Arrays.asList(3, 1, 2).forEach(result -> {
+			minimum.addResult(this.mockDistributedMember, result);
+			maximum.addResult(this.mockDistributedMember, result);
+		});
+
+		assertThat(minimum.getPartialResult()).isEqualTo(1);
+		assertThat(maximum.getPartialResult()).isEqualTo(3);
+	}
+
+	@Test
+	public void minimumIsNullWithoutResults() {
+
+		ReducingResultCollector<Integer, Integer> resultCollector =
+			ReducingResultCollector.minimum(Comparator.naturalOrder());
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isNull();
+	}
+
+	@Test
+	public void mergingMapsCombinesValuesOfSameKey() {
+
+		ReducingResultCollector<Map<String, Integer>, Map<String, Integer>> resultCollector =
+			ReducingResultCollector.mergingMaps(Integer::sum);
+
+		Map<String, Integer> one = new HashMap<>();
+
+		one.put("a", 1);
+		one.put("b", 2);
+
+		resultCollector.addResult(this.mockDistributedMember, one);
+		resultCollector.addResult(this.mockDistributedMember, Collections.singletonMap("b", 3));
+		resultCollector.addResult(this.mockDistributedMember, Collections.singletonMap("c", 4));
+
+		assertThat(resultCollector.getPartialResult()).containsOnly(entry("a", 1), entry("b", 5), entry("c", 4));
+		assertThat(one).containsOnly(entry("a", 1), entry("b", 2));
+	}
+
+	@Test
+	public void topKKeepsGreatestElementsInDescendingOrder() {
+
+		ReducingResultCollector<Object, List<Integer>> resultCollector =
+			ReducingResultCollector.topK(3, Comparator.<Integer>naturalOrder());
+
+		assertThat(resultCollector.getPartialResult()).isEmpty();
+
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(5, 1, 9, 7));
+		resultCollector.addResult(this.mockDistributedMember, 8);
+		resultCollector.addResult(this.mockDistributedMember, Arrays.asList(2, null, 6));
+
+		assertThat(resultCollector.getPartialResult()).containsExactly(9, 8, 7);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void topKWithInvalidSizeThrowsException() {
+
+		try {
+			ReducingResultCollector.topK(0, Comparator.<Integer>naturalOrder());
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void clearResultsResetsToIdentity() {
+
+		ReducingResultCollector<Number, Long> resultCollector = ReducingResultCollector.summingLong();
+
+		resultCollector.addResult(this.mockDistributedMember, 5);
+		resultCollector.clearResults();
+		resultCollector.addResult(this.mockDistributedMember, 2);
+
+		assertThat(resultCollector.getPartialResult()).isEqualTo(2L);
+	}
+
+	@Test(expected = FunctionException.class)
+	public void getResultWithTimeoutThrowsExceptionWhenResultsHaveNotEnded() throws Exception {
+
+		try {
+			ReducingResultCollector.summingLong().getResult(20, TimeUnit.MILLISECONDS);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("All results were not received within 20 MILLISECONDS");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 1.2.1
+ */
+public class StreamingResultCollectorUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	private final StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+	@Test
+	public void getResultReturnsAllResultsAfterEndResults() throws Exception {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.addResult(this.mockDistributedMember, null);
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+		this.resultCollector.endResults();
+
+		assertThat(this.resultCollector.getResult()).containsExactly("one", null, "two");
+		assertThat(this.resultCollector.getResult(1, TimeUnit.MILLISECONDS)).containsExactly("one", null, "two");
+	}
+
+	@Test(expected = FunctionException.class)
+	public void getResultWithTimeoutThrowsExceptionWhenResultsHaveNotEnded() throws Exception {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+
+		try {
+			this.resultCollector.getResult(20, TimeUnit.MILLISECONDS);
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("All results were not received within 20 MILLISECONDS");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void iteratorAndStreamReturnResultsReceivedBeforeEndResults() {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+		this.resultCollector.endResults();
+
+		Iterator<Object> iterator = this.resultCollector.iterator();
+
+		assertThat(iterator.next()).isEqualTo("one");
+		assertThat(iterator.next()).isEqualTo("two");
+		assertThat(iterator.hasNext()).isFalse();
+
+		assertThat(this.resultCollector.stream().collect(Collectors.toList())).containsExactly("one", "two");
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iteratorNextThrowsExceptionAfterLastResult() {
+
+		this.resultCollector.endResults();
+
+		this.resultCollector.iterator().next();
+	}
+
+	@Test(expected = FunctionException.class)
+	public void iteratorWithTimeoutThrowsExceptionWhenResultsHaveNotEnded() {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+
+		Iterator<Object> iterator = this.resultCollector.iterator(20, TimeUnit.MILLISECONDS);
+
+		assertThat(iterator.next()).isEqualTo("one");
+
+		try {
+			iterator.hasNext();
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage("All results were not received within 20 MILLISECONDS");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = FunctionException.class)
+	public void iteratorThrowsExceptionWhenResultsAreCleared() {
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+
+		Iterator<Object> iterator = this.resultCollector.iterator();
+
+		assertThat(iterator.next()).isEqualTo("one");
+
+		this.resultCollector.clearResults();
+
+		try {
+			iterator.hasNext();
+		}
+		catch (FunctionException expected) {
+
+			assertThat(expected).hasMessage(StreamingResultCollector.RESULTS_CLEARED_MESSAGE);
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void registeredCallbacksReceiveEarlierAndLaterResults() {
+
+		List<Object> results = new ArrayList<>();
+		List<Boolean> resultsEnded = new ArrayList<>();
+
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.register(results::add, () -> resultsEnded.add(true), cause -> fail("Results cleared"));
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+		this.resultCollector.endResults();
+
+		assertThat(results).containsExactly("one", "two");
+		assertThat(resultsEnded).containsExactly(true);
+	}
+
+	@Test
+	public void registeredCallbacksAreNotifiedWhenResultsAreCleared() {
+
+		List<Object> results = new ArrayList<>();
+		List<FunctionException> failures = new ArrayList<>();
+
+		this.resultCollector.register(results::add, () -> fail("Results ended"), failures::add);
+		this.resultCollector.addResult(this.mockDistributedMember, "one");
+		this.resultCollector.clearResults();
+		this.resultCollector.addResult(this.mockDistributedMember, "two");
+		this.resultCollector.endResults();
+
+		assertThat(results).containsExactly("one");
+		assertThat(failures).hasSize(1);
+		assertThat(failures.get(0)).hasMessage(StreamingResultCollector.RESULTS_CLEARED_MESSAGE);
+	}
+
+	@Test
+	public void iteratorStreamsResultsWhileMembersAreResponding() throws Throwable {
+		TestFramework.runOnce(new StreamsResultsWhileMembersAreRespondingMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	static class StreamsResultsWhileMembersAreRespondingMultithreadedTestCase extends MultithreadedTestCase {
+
+		private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+		private final StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Result Consumer");
+
+			Iterator<Object> iterator = this.resultCollector.iterator();
+
+			assertThat(iterator.next()).isEqualTo("one");
+			assertThat(iterator.next()).isEqualTo("two");
+			assertTick(1);
+			assertThat(iterator.hasNext()).isFalse();
+			assertTick(2);
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Function Execution");
+
+			this.resultCollector.addResult(this.mockDistributedMember, "one");
+			waitForTick(1);
+			this.resultCollector.addResult(this.mockDistributedMember, "two");
+			waitForTick(2);
+			this.resultCollector.endResults();
+		}
+
+		@Override
+		public void finish() {
+			assertThat(this.resultCollector.getResult()).isEqualTo(Arrays.asList("one", "two"));
+		}
+	}
+}